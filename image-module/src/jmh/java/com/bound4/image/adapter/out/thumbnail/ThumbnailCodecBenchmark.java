@@ -0,0 +1,86 @@
+package com.bound4.image.adapter.out.thumbnail;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 썸네일 1건당 처리 시간과 할당량 비교
+ * gc 프로파일러의 gc.alloc.rate.norm 값이 썸네일 1건당 할당 바이트
+ *
+ * - imageIo: ImageIO.read/write로 매번 새 스트림, 이미지, 그래픽스를 만드는 기존 방식
+ * - pooledCodec: 스레드별 리더/라이터, 버퍼를 재사용하는 ThumbnailCodec
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ThumbnailCodecBenchmark {
+
+    @Param({"jpg", "png"})
+    private String format;
+
+    @Param({"1024"})
+    private int size;
+
+    private byte[] original;
+    private ThumbnailCodec codec;
+
+    @Setup
+    public void setUp() throws IOException {
+        BufferedImage image = new BufferedImage(size, size * 3 / 4, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        Graphics2D graphics = image.createGraphics();
+        for (int i = 0; i < 200; i++) {
+            graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+            graphics.fillOval(random.nextInt(size), random.nextInt(size), 40 + random.nextInt(200), 40 + random.nextInt(200));
+        }
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        original = out.toByteArray();
+        codec = new ThumbnailCodec(0.85f, true, 4_194_304L,
+                new DecodeGuard(250_000_000L, 16_777_216L, 100_000_000, 30_000L));
+    }
+
+    @Benchmark
+    public byte[] imageIo() throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(original));
+
+        double ratio = Math.min((double) ThumbnailCodec.THUMBNAIL_WIDTH / source.getWidth(),
+                (double) ThumbnailCodec.THUMBNAIL_HEIGHT / source.getHeight());
+        int width = (int) (source.getWidth() * ratio);
+        int height = (int) (source.getHeight() * ratio);
+
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(thumbnail, "jpg", out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] pooledCodec() throws IOException {
+        try (ThumbnailCodec.DecodedImage decoded = codec.decode(original)) {
+            return codec.encode(codec.resize(decoded.image()));
+        }
+    }
+}
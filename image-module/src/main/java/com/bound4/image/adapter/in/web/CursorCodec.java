@@ -0,0 +1,81 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.domain.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 커서 토큰 서명/인코딩
+ * 토큰은 [커서 바이너리][HMAC-SHA256 앞 12바이트]를 URL-safe Base64(패딩 없음)로 인코딩한 값
+ *
+ * - 서명 키는 image.cursor.secret (모든 노드가 같은 값을 써야 다른 노드가 발급한 커서를 받을 수 있음)
+ * - 키가 없거나 MIN_SECRET_BYTES보다 짧으면 시작 실패 (기본값 없음, local 프로필만 application-local.yml의 개발용 키 사용)
+ */
+@Component
+public class CursorCodec {
+
+    static final int MIN_SECRET_BYTES = 32;
+    private static final int MAC_LENGTH = 12;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec signingKey;
+
+    public CursorCodec(@Value("${image.cursor.secret:}") String secret) {
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("image.cursor.secret (IMAGE_CURSOR_SECRET) must be set to at least "
+                    + MIN_SECRET_BYTES + " bytes");
+        }
+        this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+    }
+
+    public String encode(Cursor cursor) {
+        byte[] payload = cursor.toBytes();
+        byte[] token = Arrays.copyOf(payload, payload.length + MAC_LENGTH);
+        System.arraycopy(mac(payload), 0, token, payload.length, MAC_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못되었거나 서명이 일치하지 않는 토큰
+     */
+    public Cursor decode(String encodedCursor) {
+        if (encodedCursor == null || encodedCursor.trim().isEmpty()) {
+            throw new IllegalArgumentException("Encoded cursor cannot be null or empty");
+        }
+
+        byte[] token;
+        try {
+            token = Base64.getUrlDecoder().decode(encodedCursor.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor format: " + e.getMessage(), e);
+        }
+        if (token.length < 2 + MAC_LENGTH) {
+            throw new IllegalArgumentException("Invalid cursor format: too short");
+        }
+
+        byte[] payload = Arrays.copyOf(token, token.length - MAC_LENGTH);
+        byte[] signature = Arrays.copyOfRange(token, payload.length, token.length);
+        if (!MessageDigest.isEqual(mac(payload), signature)) {
+            throw new IllegalArgumentException("Invalid cursor signature");
+        }
+        return Cursor.fromBytes(payload);
+    }
+
+    private byte[] mac(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(signingKey);
+            return Arrays.copyOf(mac.doFinal(payload), MAC_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cursor signing failed", e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.adapter.out.persistence.ProjectWriteVersions;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 첫 페이지 응답 캐시
+ * 직렬화한 응답을 (프로젝트, 쓰기 버전, 조회 조건)으로 보관하므로 프로젝트에 쓰기가 있으면 버전 증가만으로 무효화되고
+ * 이전 버전 항목은 다시 조회되지 않다가 오래 쓰지 않은 순서로 제거됨
+ *
+ * - ETag는 응답 본문의 MD5 (weak)이므로 캐시를 거치지 않은 응답/다른 노드의 응답과도 비교 가능하며 일치하면 304
+ * - 쓰기 버전은 모든 노드가 공유하는 DB 값이므로 다른 노드의 쓰기도 다음 조회에서 반영 (ttl-ms는 메모리 보관 기간)
+ */
+@Component
+public class FirstPageCache {
+
+    private final ProjectWriteVersions writeVersions;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Map<PageKey, CachedPage> pages;
+
+    public FirstPageCache(ProjectWriteVersions writeVersions, ObjectMapper objectMapper,
+                          @Value("${image.first-page-cache.enabled:true}") boolean enabled,
+                          @Value("${image.first-page-cache.ttl-ms:30000}") long ttlMs,
+                          @Value("${image.first-page-cache.max-entries:500}") int maxEntries) {
+        this.writeVersions = writeVersions;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.pages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PageKey, CachedPage> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 첫 페이지 또는 loader 응답 (성공 응답만 캐시)
+     * If-None-Match가 ETag와 일치하면 Spring MVC가 본문 없이 304로 응답
+     * @param variant 조회 조건 (variant(...)로 생성)
+     */
+    public ResponseEntity<?> respond(Long projectId, String variant, Supplier<? extends ResponseEntity<?>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        // 조회 전 버전으로 저장해야 조회 중 커밋된 쓰기가 있으면 이 항목이 다시 쓰이지 않음
+        PageKey key = new PageKey(projectId, writeVersions.current(projectId).version(), variant);
+        CachedPage cached = get(key);
+        if (cached != null) {
+            return toResponse(cached);
+        }
+
+        ResponseEntity<?> response = loader.get();
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            return response;
+        }
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(response.getBody());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize first page response", e);
+        }
+        CachedPage page = new CachedPage(body, etag(body), System.nanoTime());
+        put(key, page);
+        return toResponse(page);
+    }
+
+    /**
+     * 조회 조건 문자열 (null은 빈 값)
+     */
+    public static String variant(Object... parts) {
+        return Arrays.stream(parts)
+                .map(part -> part != null ? String.valueOf(part) : "")
+                .collect(Collectors.joining("|"));
+    }
+
+    static String etag(byte[] body) {
+        return "W/\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    synchronized int size() {
+        return pages.size();
+    }
+
+    private synchronized CachedPage get(PageKey key) {
+        CachedPage cached = pages.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (System.nanoTime() - cached.createdNanos() > ttlNanos) {
+            pages.remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    private synchronized void put(PageKey key, CachedPage page) {
+        pages.put(key, page);
+    }
+
+    private ResponseEntity<byte[]> toResponse(CachedPage page) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(page.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(page.body());
+    }
+
+    private record PageKey(Long projectId, long version, String variant) {
+    }
+
+    private record CachedPage(byte[] body, String etag, long createdNanos) {
+    }
+}
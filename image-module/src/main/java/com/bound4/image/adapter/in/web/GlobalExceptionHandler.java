@@ -4,6 +4,9 @@ import com.bound4.image.adapter.in.web.exception.DuplicateImageException;
 import com.bound4.image.adapter.in.web.exception.ImageAlreadyDeletedException;
 import com.bound4.image.adapter.in.web.exception.ImageNotFoundException;
 import com.bound4.image.adapter.in.web.exception.OptimisticLockException;
+import com.bound4.image.adapter.in.web.exception.SpriteSheetNotFoundException;
+import com.bound4.image.adapter.in.web.exception.ThumbnailBackfillConflictException;
+import com.bound4.image.adapter.in.web.exception.ThumbnailBackfillJobNotFoundException;
 import com.bound4.image.adapter.in.web.exception.ThumbnailGenerationException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
@@ -29,6 +32,24 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error(e.getMessage()));
     }
     
+    @ExceptionHandler(SpriteSheetNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSpriteSheetNotFoundException(SpriteSheetNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(ApiResponse.error(e.getMessage()));
+    }
+    
+    @ExceptionHandler(ThumbnailBackfillJobNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleThumbnailBackfillJobNotFoundException(ThumbnailBackfillJobNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(ApiResponse.error(e.getMessage()));
+    }
+    
+    @ExceptionHandler(ThumbnailBackfillConflictException.class)
+    public ResponseEntity<ApiResponse<Void>> handleThumbnailBackfillConflictException(ThumbnailBackfillConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(ApiResponse.error(e.getMessage()));
+    }
+    
     @ExceptionHandler(ThumbnailGenerationException.class)
     public ResponseEntity<ApiResponse<Void>> handleThumbnailGenerationException(ThumbnailGenerationException e) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
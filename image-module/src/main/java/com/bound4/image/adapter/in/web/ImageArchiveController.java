@@ -0,0 +1,45 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.application.port.in.ImageArchiveQuery;
+import com.bound4.image.application.port.in.ImageArchiveUseCase;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * 원본 이미지 압축 파일 다운로드 API
+ * 이미지마다 원본을 따로 요청하지 않고 프로젝트 전체 또는 선택한 이미지를 ZIP 하나로 받음
+ */
+@RestController
+@RequestMapping("/api/v2/images")
+public class ImageArchiveController {
+
+    static final MediaType ZIP = MediaType.parseMediaType("application/zip");
+
+    private final ImageArchiveUseCase imageArchiveUseCase;
+
+    public ImageArchiveController(ImageArchiveUseCase imageArchiveUseCase) {
+        this.imageArchiveUseCase = imageArchiveUseCase;
+    }
+
+    @GetMapping("/projects/{projectId}/archive")
+    public ResponseEntity<StreamingResponseBody> downloadArchive(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) List<Long> ids) {
+
+        // 스트리밍 시작 후에는 상태 코드를 바꿀 수 없으므로 응답 전에 검증 (400)
+        ImageArchiveQuery query = new ImageArchiveQuery(projectId, ids);
+
+        return ResponseEntity.ok()
+                .contentType(ZIP)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("project-" + projectId + "-images.zip")
+                        .build().toString())
+                .body(out -> imageArchiveUseCase.writeArchive(query, out));
+    }
+}
@@ -5,7 +5,9 @@ import com.bound4.image.application.port.in.ImageListQuery;
 import com.bound4.image.application.port.in.ImageListUseCase;
 import com.bound4.image.application.port.in.ImageUploadUseCase;
 import com.bound4.image.application.port.in.UploadImageCommand;
+import com.bound4.image.domain.CountMode;
 import com.bound4.image.domain.Image;
+import com.bound4.image.domain.TagMatchMode;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -22,10 +24,13 @@ public class ImageController {
     
     private final ImageUploadUseCase imageUploadUseCase;
     private final ImageListUseCase imageListUseCase;
+    private final FirstPageCache firstPageCache;
     
-    public ImageController(ImageUploadUseCase imageUploadUseCase, ImageListUseCase imageListUseCase) {
+    public ImageController(ImageUploadUseCase imageUploadUseCase, ImageListUseCase imageListUseCase,
+                           FirstPageCache firstPageCache) {
         this.imageUploadUseCase = imageUploadUseCase;
         this.imageListUseCase = imageListUseCase;
+        this.firstPageCache = firstPageCache;
     }
     
     @PostMapping
@@ -53,7 +58,7 @@ public class ImageController {
     }
     
     @GetMapping
-    public ResponseEntity<ImageListResponse> getImages(
+    public ResponseEntity<?> getImages(
             @PathVariable Long projectId,
             @ModelAttribute ImageListRequest request) {
         
@@ -71,10 +76,22 @@ public class ImageController {
             validatedSize,
             request.getStatus(),
             tags,
+            TagMatchMode.fromString(request.getTagMatch()),
+            CountMode.fromString(request.getCount()),
             request.getSort(),
             request.getDirection()
         );
         
+        // 첫 페이지는 프로젝트 쓰기 버전 기준으로 캐시 (ETag 일치 시 304)
+        if (validatedPage == 0) {
+            return firstPageCache.respond(projectId, FirstPageCache.variant("offset", validatedSize,
+                    query.getSort(), query.getDirection(), query.getStatus(), query.getTags(),
+                    query.getTagMatch(), query.getCountMode()), () -> listImages(query));
+        }
+        return listImages(query);
+    }
+    
+    private ResponseEntity<ImageListResponse> listImages(ImageListQuery query) {
         Page<ImageQueryRepository.ImageListProjection> page = imageListUseCase.getImageList(query);
         
         List<ImageListResponse.ImageItem> imageItems = page.getContent().stream()
@@ -87,6 +104,8 @@ public class ImageController {
                 projection.getStatus(),
                 projection.getTags(),
                 projection.getMemo(),
+                projection.getMetadata(),
+                projection.getPlaceholder(),
                 projection.getCreatedAt()
             ))
             .toList();
@@ -95,7 +114,8 @@ public class ImageController {
             page.getNumber(),
             page.getSize(),
             page.getTotalElements(),
-            page.getTotalPages()
+            page.getTotalPages(),
+            !(page instanceof ImageQueryRepository.ImageListPage listPage) || listPage.isTotalExact()
         );
         
         ImageListResponse.Data data = new ImageListResponse.Data(imageItems, pageable);
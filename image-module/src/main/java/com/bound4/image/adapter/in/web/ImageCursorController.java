@@ -4,9 +4,10 @@ import com.bound4.image.application.port.in.ImageCursorListQuery;
 import com.bound4.image.application.port.in.ImageCursorListUseCase;
 import com.bound4.image.application.port.in.ImageListQuery;
 import com.bound4.image.domain.Cursor;
-import com.bound4.image.domain.Image;
+import com.bound4.image.domain.ImageSummary;
 import com.bound4.image.domain.ImageStatus;
 import com.bound4.image.domain.SortDirection;
+import com.bound4.image.domain.TagMatchMode;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.slf4j.Logger;
@@ -24,21 +25,39 @@ public class ImageCursorController {
     private static final Logger logger = LoggerFactory.getLogger(ImageCursorController.class);
     
     private final ImageCursorListUseCase imageCursorListUseCase;
+    private final FirstPageCache firstPageCache;
+    private final CursorCodec cursorCodec;
     
-    public ImageCursorController(ImageCursorListUseCase imageCursorListUseCase) {
+    public ImageCursorController(ImageCursorListUseCase imageCursorListUseCase, FirstPageCache firstPageCache,
+                                 CursorCodec cursorCodec) {
         this.imageCursorListUseCase = imageCursorListUseCase;
+        this.firstPageCache = firstPageCache;
+        this.cursorCodec = cursorCodec;
     }
     
     @GetMapping("/projects/{projectId}")
-    public ResponseEntity<ImageCursorListResponse> getImagesCursorBased(
+    public ResponseEntity<?> getImagesCursorBased(
             @PathVariable Long projectId,
             @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(defaultValue = "desc") String direction,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) String tags) {
+            @RequestParam(required = false) String tags,
+            @RequestParam(defaultValue = "any") String tagMatch) {
         
+        // 커서 없는 첫 페이지는 프로젝트 쓰기 버전 기준으로 캐시 (ETag 일치 시 304)
+        if (cursor == null || cursor.trim().isEmpty()) {
+            return firstPageCache.respond(projectId,
+                    FirstPageCache.variant("cursor", size, direction, sortBy, status, tags, tagMatch),
+                    () -> listImages(projectId, null, size, direction, sortBy, status, tags, tagMatch));
+        }
+        return listImages(projectId, cursor, size, direction, sortBy, status, tags, tagMatch);
+    }
+    
+    private ResponseEntity<ImageCursorListResponse> listImages(Long projectId, String cursor, int size,
+                                                               String direction, String sortBy, String status,
+                                                               String tags, String tagMatch) {
         try {
             logger.info("Cursor-based image list request for project: {}, cursor: {}, size: {}", 
                        projectId, cursor, size);
@@ -51,7 +70,7 @@ public class ImageCursorController {
             
             if (cursor != null && !cursor.trim().isEmpty()) {
                 try {
-                    Cursor parsedCursor = Cursor.fromEncoded(cursor);
+                    Cursor parsedCursor = cursorCodec.decode(cursor);
                     queryBuilder.cursor(parsedCursor);
                 } catch (IllegalArgumentException e) {
                     logger.warn("Invalid cursor format: {}", cursor, e);
@@ -73,12 +92,20 @@ public class ImageCursorController {
             if (tags != null && !tags.trim().isEmpty()) {
                 List<String> tagList = Arrays.asList(tags.split(","));
                 queryBuilder.tags(tagList);
+                queryBuilder.tagMatch(TagMatchMode.fromString(tagMatch));
             }
             
             ImageCursorListQuery query = queryBuilder.build();
-            ImageCursorListUseCase.CursorPageResult<Image> result = imageCursorListUseCase.getImagesCursorBased(query);
+            try {
+                query.verifyCursor();
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest()
+                        .body(ImageCursorListResponse.error(e.getMessage()));
+            }
+            
+            ImageCursorListUseCase.CursorPageResult<ImageSummary> result = imageCursorListUseCase.getImagesCursorBased(query);
             
-            return ResponseEntity.ok(ImageCursorListResponse.success(result));
+            return ResponseEntity.ok(ImageCursorListResponse.success(result, query, cursorCodec));
             
         } catch (IllegalArgumentException e) {
             logger.warn("Invalid request parameters for project: {}", projectId, e);
@@ -120,7 +147,7 @@ public class ImageCursorController {
                     .tags(request.getTags());
             
             if (request.getCursor() != null && !request.getCursor().trim().isEmpty()) {
-                Cursor cursor = Cursor.fromEncoded(request.getCursor());
+                Cursor cursor = cursorCodec.decode(request.getCursor());
                 cursorBuilder.cursor(cursor);
             }
             
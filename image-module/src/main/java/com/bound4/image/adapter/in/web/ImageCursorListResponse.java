@@ -1,9 +1,11 @@
 package com.bound4.image.adapter.in.web;
 
+import com.bound4.image.application.port.in.ImageCursorListQuery;
 import com.bound4.image.application.port.in.ImageCursorListUseCase;
 import com.bound4.image.domain.Cursor;
-import com.bound4.image.domain.Image;
+import com.bound4.image.domain.ImageMetadata;
 import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.ImageSummary;
 import com.bound4.image.domain.PageInfo;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
@@ -23,17 +25,20 @@ public class ImageCursorListResponse {
         this.message = message;
     }
     
-    public static ImageCursorListResponse success(ImageCursorListUseCase.CursorPageResult<Image> result) {
+    public static ImageCursorListResponse success(ImageCursorListUseCase.CursorPageResult<ImageSummary> result,
+                                                  ImageCursorListQuery query, CursorCodec cursorCodec) {
+        long filterFingerprint = query.filterFingerprint();
         List<ImageItem> items = result.getContent().stream()
-                .map(ImageItem::from)
+                .map(image -> ImageItem.from(image, cursorCodec.encode(
+                        Cursor.of(image, query.getSortKey(), query.getDirection(), filterFingerprint))))
                 .toList();
                 
         PageInfo pageInfo = result.getPageInfo();
         CursorPageable pageable = new CursorPageable(
             pageInfo.hasNext(),
             pageInfo.hasPrevious(),
-            pageInfo.getNextCursor() != null ? pageInfo.getNextCursor().getEncodedValue() : null,
-            pageInfo.getPreviousCursor() != null ? pageInfo.getPreviousCursor().getEncodedValue() : null,
+            pageInfo.getNextCursor() != null ? cursorCodec.encode(pageInfo.getNextCursor()) : null,
+            pageInfo.getPreviousCursor() != null ? cursorCodec.encode(pageInfo.getPreviousCursor()) : null,
             pageInfo.getSize(),
             pageInfo.getActualSize()
         );
@@ -86,6 +91,11 @@ public class ImageCursorListResponse {
         private List<String> tags;
         private String memo;
         private String cursor;
+        private Integer width;
+        private Integer height;
+        private Integer orientation;
+        private Integer frameCount;
+        private String placeholder;
         
         @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
         private LocalDateTime createdAt;
@@ -95,7 +105,8 @@ public class ImageCursorListResponse {
         
         public ImageItem(Long id, Long projectId, String filename, Long fileSize, 
                         String mimeType, ImageStatus status, List<String> tags, 
-                        String memo, String cursor, LocalDateTime createdAt, LocalDateTime updatedAt) {
+                        String memo, String cursor, ImageMetadata metadata, String placeholder,
+                        LocalDateTime createdAt, LocalDateTime updatedAt) {
             this.id = id;
             this.projectId = projectId;
             this.filename = filename;
@@ -105,28 +116,35 @@ public class ImageCursorListResponse {
             this.tags = tags;
             this.memo = memo;
             this.cursor = cursor;
+            if (metadata != null) {
+                this.width = metadata.displayWidth();
+                this.height = metadata.displayHeight();
+                this.orientation = metadata.orientation();
+                this.frameCount = metadata.frameCount();
+            }
+            this.placeholder = placeholder;
             this.createdAt = createdAt;
             this.updatedAt = updatedAt;
         }
         
-        public static ImageItem from(Image image) {
-            Cursor cursor = Cursor.of(image.getId().value(), image.getCreatedAt());
-            
-            List<String> tags = image.getTags() != null ? 
-                    image.getTags().keySet().stream().toList() : null;
-            
+        /**
+         * @param cursor 이 항목 다음부터 이어 조회하는 커서 토큰 (같은 정렬/필터)
+         */
+        public static ImageItem from(ImageSummary image, String cursor) {
             return new ImageItem(
-                image.getId().value(),
-                image.getProjectId().value(),
-                image.getOriginalFilename(),
-                image.getFileSize(),
-                image.getMimeType(),
-                image.getStatus(),
-                tags,
-                image.getMemo(),
-                cursor.getEncodedValue(),
-                image.getCreatedAt(),
-                image.getUpdatedAt()
+                image.id().value(),
+                image.projectId().value(),
+                image.originalFilename(),
+                image.fileSize(),
+                image.mimeType(),
+                image.status(),
+                image.tags(),
+                image.memo(),
+                cursor,
+                image.metadata(),
+                image.placeholder(),
+                image.createdAt(),
+                image.updatedAt()
             );
         }
         
@@ -140,6 +158,11 @@ public class ImageCursorListResponse {
         public List<String> getTags() { return tags; }
         public String getMemo() { return memo; }
         public String getCursor() { return cursor; }
+        public Integer getWidth() { return width; }
+        public Integer getHeight() { return height; }
+        public Integer getOrientation() { return orientation; }
+        public Integer getFrameCount() { return frameCount; }
+        public String getPlaceholder() { return placeholder; }
         public LocalDateTime getCreatedAt() { return createdAt; }
         public LocalDateTime getUpdatedAt() { return updatedAt; }
     }
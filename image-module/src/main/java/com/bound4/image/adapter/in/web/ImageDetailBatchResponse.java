@@ -0,0 +1,57 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.domain.Image;
+
+import java.util.List;
+import java.util.Map;
+
+public class ImageDetailBatchResponse {
+    
+    private final List<ImageDetailItem> items;
+    
+    public ImageDetailBatchResponse(List<ImageDetailItem> items) {
+        this.items = items;
+    }
+    
+    /**
+     * 요청한 ID 순서대로 응답 (없거나 삭제된 이미지는 found=false)
+     */
+    public static ImageDetailBatchResponse from(List<Long> imageIds, Map<Long, Image> images) {
+        List<ImageDetailItem> items = imageIds.stream()
+            .map(id -> {
+                Image image = images.get(id);
+                return new ImageDetailItem(id, image != null, image != null ? ImageDetailResponse.from(image) : null);
+            })
+            .toList();
+        
+        return new ImageDetailBatchResponse(items);
+    }
+    
+    public List<ImageDetailItem> getItems() {
+        return items;
+    }
+    
+    public static class ImageDetailItem {
+        private final Long id;
+        private final boolean found;
+        private final ImageDetailResponse image;
+        
+        public ImageDetailItem(Long id, boolean found, ImageDetailResponse image) {
+            this.id = id;
+            this.found = found;
+            this.image = image;
+        }
+        
+        public Long getId() {
+            return id;
+        }
+        
+        public boolean isFound() {
+            return found;
+        }
+        
+        public ImageDetailResponse getImage() {
+            return image;
+        }
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/images")
@@ -30,6 +32,18 @@ public class ImageDetailController {
         this.imageDeleteUseCase = imageDeleteUseCase;
     }
     
+    /**
+     * 여러 이미지 상세 일괄 조회 (한 번의 IN 조회, 요청 순서대로 응답)
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<ImageDetailBatchResponse>> getImageDetails(@RequestParam("ids") List<Long> ids) {
+        ImageBatchQuery query = new ImageBatchQuery(ids);
+        Map<Long, Image> images = imageDetailUseCase.getImageDetails(query);
+        
+        return ResponseEntity.ok()
+                .body(ApiResponse.success(ImageDetailBatchResponse.from(query.getImageIds(), images)));
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ImageDetailResponse>> getImageDetail(@PathVariable Long id) {
         ImageDetailQuery query = new ImageDetailQuery(id);
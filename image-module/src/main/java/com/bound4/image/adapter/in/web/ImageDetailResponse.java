@@ -1,6 +1,7 @@
 package com.bound4.image.adapter.in.web;
 
 import com.bound4.image.domain.Image;
+import com.bound4.image.domain.ImageMetadata;
 import com.bound4.image.domain.ImageStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
@@ -21,6 +22,10 @@ public class ImageDetailResponse {
     private final String memo;
     private final String originalImageUrl;
     private final String thumbnailUrl;
+    private final Integer width;
+    private final Integer height;
+    private final Integer orientation;
+    private final Integer frameCount;
     
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
     private final LocalDateTime createdAt;
@@ -31,7 +36,7 @@ public class ImageDetailResponse {
     public ImageDetailResponse(Long id, Long projectId, String filename, Long fileSize, 
                               String mimeType, ImageStatus status, List<String> tags, 
                               String memo, String originalImageUrl, String thumbnailUrl,
-                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+                              ImageMetadata metadata, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.projectId = projectId;
         this.filename = filename;
@@ -42,6 +47,11 @@ public class ImageDetailResponse {
         this.memo = memo;
         this.originalImageUrl = originalImageUrl;
         this.thumbnailUrl = thumbnailUrl;
+        // 레이아웃에 바로 쓰도록 EXIF 방향을 적용한 표시 크기로 응답
+        this.width = metadata != null ? metadata.displayWidth() : null;
+        this.height = metadata != null ? metadata.displayHeight() : null;
+        this.orientation = metadata != null ? metadata.orientation() : null;
+        this.frameCount = metadata != null ? metadata.frameCount() : null;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -62,6 +72,7 @@ public class ImageDetailResponse {
             image.getMemo(),
             originalImageUrl,
             thumbnailUrl,
+            image.getMetadata(),
             image.getCreatedAt(),
             image.getUpdatedAt()
         );
@@ -116,6 +127,22 @@ public class ImageDetailResponse {
         return thumbnailUrl;
     }
     
+    public Integer getWidth() {
+        return width;
+    }
+    
+    public Integer getHeight() {
+        return height;
+    }
+    
+    public Integer getOrientation() {
+        return orientation;
+    }
+    
+    public Integer getFrameCount() {
+        return frameCount;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
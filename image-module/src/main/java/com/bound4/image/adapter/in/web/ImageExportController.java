@@ -0,0 +1,229 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.application.port.in.ImageExportQuery;
+import com.bound4.image.application.port.in.ImageExportUseCase;
+import com.bound4.image.domain.ImageMetadata;
+import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.ImageSummary;
+import com.bound4.image.domain.TagMatchMode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 프로젝트 이미지 메타데이터 내보내기 API
+ * 조회 결과를 목록으로 모으지 않고 한 건씩 응답 스트림에 기록하므로 이미지 수와 관계없이 메모리 사용량이 일정
+ */
+@RestController
+@RequestMapping("/api/v2/images")
+public class ImageExportController {
+
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    static final MediaType CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private static final String CSV_HEADER = "id,projectId,filename,fileSize,mimeType,status,tags,memo," +
+            "width,height,orientation,frameCount,placeholder,createdAt,updatedAt";
+
+    // 지정한 건수마다 flush하여 클라이언트가 받는 대로 처리할 수 있게 함
+    private static final int FLUSH_INTERVAL = 200;
+
+    private final ImageExportUseCase imageExportUseCase;
+    private final ObjectMapper objectMapper;
+
+    public ImageExportController(ImageExportUseCase imageExportUseCase, ObjectMapper objectMapper) {
+        this.imageExportUseCase = imageExportUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/projects/{projectId}/export")
+    public ResponseEntity<StreamingResponseBody> exportImages(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String tags,
+            @RequestParam(defaultValue = "any") String tagMatch) {
+
+        // 스트리밍 시작 후에는 상태 코드를 바꿀 수 없으므로 파라미터는 응답 전에 검증 (400)
+        boolean csv = parseFormat(format);
+        ImageExportQuery query = new ImageExportQuery(projectId, parseStatus(status), parseTags(tags),
+                TagMatchMode.fromString(tagMatch));
+
+        StreamingResponseBody body = csv
+                ? out -> writeCsv(query, out)
+                : out -> writeNdjson(query, out);
+
+        return ResponseEntity.ok()
+                .contentType(csv ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("project-" + projectId + "-images." + (csv ? "csv" : "ndjson"))
+                        .build().toString())
+                .body(body);
+    }
+
+    private void writeNdjson(ImageExportQuery query, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 응답 스트림은 컨테이너가 닫음
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            long[] written = {0};
+            export(query, image -> {
+                writeJson(generator, image);
+                generator.writeRaw('\n');
+                if (++written[0] % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            });
+        }
+    }
+
+    private void writeCsv(ImageExportQuery query, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        long[] written = {0};
+        export(query, image -> {
+            writeCsvRow(writer, image);
+            if (++written[0] % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        });
+        writer.flush();
+    }
+
+    private void export(ImageExportQuery query, ImageWriter writer) throws IOException {
+        try {
+            imageExportUseCase.exportImages(query, image -> {
+                try {
+                    writer.write(image);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 쓰기 실패는 조회를 중단하고 그대로 전달
+            throw e.getCause();
+        }
+    }
+
+    private static void writeJson(JsonGenerator generator, ImageSummary image) throws IOException {
+        ImageMetadata metadata = image.metadata();
+
+        generator.writeStartObject();
+        generator.writeNumberField("id", image.id().value());
+        generator.writeNumberField("projectId", image.projectId().value());
+        generator.writeStringField("filename", image.originalFilename());
+        generator.writeNumberField("fileSize", image.fileSize());
+        generator.writeStringField("mimeType", image.mimeType());
+        generator.writeStringField("status", image.status() != null ? image.status().name() : null);
+        generator.writeArrayFieldStart("tags");
+        if (image.tags() != null) {
+            for (String tag : image.tags()) {
+                generator.writeString(tag);
+            }
+        }
+        generator.writeEndArray();
+        generator.writeStringField("memo", image.memo());
+        if (metadata != null) {
+            generator.writeNumberField("width", metadata.width());
+            generator.writeNumberField("height", metadata.height());
+            generator.writeNumberField("orientation", metadata.orientation());
+            generator.writeNumberField("frameCount", metadata.frameCount());
+        }
+        generator.writeStringField("placeholder", image.placeholder());
+        generator.writeStringField("createdAt", format(image.createdAt()));
+        generator.writeStringField("updatedAt", format(image.updatedAt()));
+        generator.writeEndObject();
+    }
+
+    private static void writeCsvRow(Writer writer, ImageSummary image) throws IOException {
+        ImageMetadata metadata = image.metadata();
+        Object[] values = {
+            image.id().value(),
+            image.projectId().value(),
+            image.originalFilename(),
+            image.fileSize(),
+            image.mimeType(),
+            image.status() != null ? image.status().name() : null,
+            image.tags() != null ? String.join(";", image.tags()) : null,
+            image.memo(),
+            metadata != null ? metadata.width() : null,
+            metadata != null ? metadata.height() : null,
+            metadata != null ? metadata.orientation() : null,
+            metadata != null ? metadata.frameCount() : null,
+            image.placeholder(),
+            format(image.createdAt()),
+            format(image.updatedAt())
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 필드 (쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번)
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = String.valueOf(value);
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+
+    private static boolean parseFormat(String format) {
+        if ("csv".equalsIgnoreCase(format.trim())) {
+            return true;
+        }
+        if ("ndjson".equalsIgnoreCase(format.trim())) {
+            return false;
+        }
+        throw new IllegalArgumentException("Invalid export format: " + format);
+    }
+
+    private static ImageStatus parseStatus(String status) {
+        if (status == null || status.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return ImageStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+    }
+
+    private static List<String> parseTags(String tags) {
+        return tags != null && !tags.trim().isEmpty() ? Arrays.asList(tags.split(",")) : null;
+    }
+
+    @FunctionalInterface
+    private interface ImageWriter {
+        void write(ImageSummary image) throws IOException;
+    }
+}
@@ -17,6 +17,10 @@ public class ImageListRequest {
     
     private String tags;
     
+    private String tagMatch = "any";
+    
+    private String count = "exact";
+    
     private String sort = "createdAt";
     
     private String direction = "desc";
@@ -37,6 +41,14 @@ public class ImageListRequest {
         return tags;
     }
     
+    public String getTagMatch() {
+        return tagMatch;
+    }
+    
+    public String getCount() {
+        return count;
+    }
+    
     public String getSort() {
         return sort;
     }
@@ -1,5 +1,6 @@
 package com.bound4.image.adapter.in.web;
 
+import com.bound4.image.domain.ImageMetadata;
 import com.bound4.image.domain.ImageStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
@@ -51,13 +52,18 @@ public class ImageListResponse {
         private ImageStatus status;
         private List<String> tags;
         private String memo;
+        private Integer width;
+        private Integer height;
+        private Integer orientation;
+        private Integer frameCount;
+        private String placeholder;
         
         @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
         private LocalDateTime createdAt;
         
         public ImageItem(Long id, Long projectId, String filename, Long fileSize, 
                         String mimeType, ImageStatus status, List<String> tags, 
-                        String memo, LocalDateTime createdAt) {
+                        String memo, ImageMetadata metadata, String placeholder, LocalDateTime createdAt) {
             this.id = id;
             this.projectId = projectId;
             this.filename = filename;
@@ -66,6 +72,13 @@ public class ImageListResponse {
             this.status = status;
             this.tags = tags;
             this.memo = memo;
+            if (metadata != null) {
+                this.width = metadata.displayWidth();
+                this.height = metadata.displayHeight();
+                this.orientation = metadata.orientation();
+                this.frameCount = metadata.frameCount();
+            }
+            this.placeholder = placeholder;
             this.createdAt = createdAt;
         }
         
@@ -101,6 +114,26 @@ public class ImageListResponse {
             return memo;
         }
         
+        public Integer getWidth() {
+            return width;
+        }
+        
+        public Integer getHeight() {
+            return height;
+        }
+        
+        public Integer getOrientation() {
+            return orientation;
+        }
+        
+        public Integer getFrameCount() {
+            return frameCount;
+        }
+        
+        public String getPlaceholder() {
+            return placeholder;
+        }
+        
         public LocalDateTime getCreatedAt() {
             return createdAt;
         }
@@ -111,12 +144,21 @@ public class ImageListResponse {
         private int size;
         private long totalElements;
         private int totalPages;
+        private boolean totalExact;
         
         public Pageable(int page, int size, long totalElements, int totalPages) {
+            this(page, size, totalElements, totalPages, true);
+        }
+        
+        /**
+         * @param totalExact 전체 개수가 정확한지 (count=estimate의 추정치나 count=none의 하한이면 false)
+         */
+        public Pageable(int page, int size, long totalElements, int totalPages, boolean totalExact) {
             this.page = page;
             this.size = size;
             this.totalElements = totalElements;
             this.totalPages = totalPages;
+            this.totalExact = totalExact;
         }
         
         public int getPage() {
@@ -134,5 +176,9 @@ public class ImageListResponse {
         public int getTotalPages() {
             return totalPages;
         }
+        
+        public boolean isTotalExact() {
+            return totalExact;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.application.port.in.ImageSpriteQuery;
+import com.bound4.image.application.port.in.ImageSpriteUseCase;
+import com.bound4.image.domain.SpriteSheet;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 갤러리 그리드용 스프라이트 시트 API
+ * 좌표 맵을 조회한 뒤 스프라이트 이미지 한 장만 받으면 되므로 페이지당 썸네일 요청이 2회로 줄어듦
+ */
+@RestController
+@RequestMapping("/images/sprites")
+public class ImageSpriteController {
+    
+    private final ImageSpriteUseCase imageSpriteUseCase;
+    
+    public ImageSpriteController(ImageSpriteUseCase imageSpriteUseCase) {
+        this.imageSpriteUseCase = imageSpriteUseCase;
+    }
+    
+    @GetMapping
+    public ResponseEntity<ApiResponse<ImageSpriteResponse>> getSpriteSheet(
+            @RequestParam("ids") List<Long> ids,
+            @RequestParam(defaultValue = "100") int tileSize) {
+        
+        SpriteSheet sheet = imageSpriteUseCase.getSpriteSheet(new ImageSpriteQuery(ids, tileSize));
+        
+        return ResponseEntity.ok(ApiResponse.success(ImageSpriteResponse.from(sheet)));
+    }
+    
+    /**
+     * 스프라이트 이미지 (키가 내용에서 결정되므로 변경되지 않는 리소스로 캐시)
+     */
+    @GetMapping("/{spriteKey}")
+    public ResponseEntity<byte[]> getSpriteImage(@PathVariable String spriteKey) {
+        byte[] sprite = imageSpriteUseCase.getSpriteImage(spriteKey);
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_JPEG)
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic())
+                .eTag(spriteKey)
+                .body(sprite);
+    }
+}
@@ -0,0 +1,107 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.domain.SpriteSheet;
+
+import java.util.List;
+
+public class ImageSpriteResponse {
+    
+    private final String spriteKey;
+    private final String spriteUrl;
+    private final int width;
+    private final int height;
+    private final int tileSize;
+    private final List<TileItem> tiles;
+    private final List<Long> missingImageIds;
+    
+    public ImageSpriteResponse(String spriteKey, String spriteUrl, int width, int height, int tileSize,
+                               List<TileItem> tiles, List<Long> missingImageIds) {
+        this.spriteKey = spriteKey;
+        this.spriteUrl = spriteUrl;
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.tiles = tiles;
+        this.missingImageIds = missingImageIds;
+    }
+    
+    public static ImageSpriteResponse from(SpriteSheet sheet) {
+        List<TileItem> tiles = sheet.tiles().stream()
+            .map(tile -> new TileItem(tile.imageId(), tile.x(), tile.y(), tile.width(), tile.height()))
+            .toList();
+        
+        return new ImageSpriteResponse(
+            sheet.spriteKey(),
+            sheet.spriteKey() != null ? "/images/sprites/" + sheet.spriteKey() : null,
+            sheet.width(),
+            sheet.height(),
+            sheet.tileSize(),
+            tiles,
+            sheet.missingImageIds()
+        );
+    }
+    
+    public String getSpriteKey() {
+        return spriteKey;
+    }
+    
+    public String getSpriteUrl() {
+        return spriteUrl;
+    }
+    
+    public int getWidth() {
+        return width;
+    }
+    
+    public int getHeight() {
+        return height;
+    }
+    
+    public int getTileSize() {
+        return tileSize;
+    }
+    
+    public List<TileItem> getTiles() {
+        return tiles;
+    }
+    
+    public List<Long> getMissingImageIds() {
+        return missingImageIds;
+    }
+    
+    public static class TileItem {
+        private final Long imageId;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+        
+        public TileItem(Long imageId, int x, int y, int width, int height) {
+            this.imageId = imageId;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+        
+        public Long getImageId() {
+            return imageId;
+        }
+        
+        public int getX() {
+            return x;
+        }
+        
+        public int getY() {
+            return y;
+        }
+        
+        public int getWidth() {
+            return width;
+        }
+        
+        public int getHeight() {
+            return height;
+        }
+    }
+}
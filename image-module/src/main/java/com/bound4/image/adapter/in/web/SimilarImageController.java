@@ -0,0 +1,35 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.application.port.in.SimilarImageQuery;
+import com.bound4.image.application.port.in.SimilarImageUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 유사 이미지 조회 API (크기 변경/재인코딩된 사본 탐지)
+ */
+@RestController
+@RequestMapping("/images")
+public class SimilarImageController {
+    
+    private final SimilarImageUseCase similarImageUseCase;
+    
+    public SimilarImageController(SimilarImageUseCase similarImageUseCase) {
+        this.similarImageUseCase = similarImageUseCase;
+    }
+    
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<ApiResponse<SimilarImageResponse>> getSimilarImages(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int maxDistance,
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        List<SimilarImageUseCase.SimilarImageMatch> matches = similarImageUseCase.findSimilarImages(
+            new SimilarImageQuery(id, maxDistance, limit));
+        
+        return ResponseEntity.ok(ApiResponse.success(
+            SimilarImageResponse.of(id, matches, similarImageUseCase.isIndexComplete())));
+    }
+}
@@ -0,0 +1,86 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.application.port.in.SimilarImageUseCase;
+import com.bound4.image.domain.Image;
+
+import java.util.List;
+
+public class SimilarImageResponse {
+    
+    private final Long imageId;
+    private final List<SimilarImageItem> items;
+    private final boolean indexComplete;
+    
+    public SimilarImageResponse(Long imageId, List<SimilarImageItem> items, boolean indexComplete) {
+        this.imageId = imageId;
+        this.items = items;
+        this.indexComplete = indexComplete;
+    }
+    
+    public static SimilarImageResponse of(Long imageId, List<SimilarImageUseCase.SimilarImageMatch> matches,
+                                          boolean indexComplete) {
+        List<SimilarImageItem> items = matches.stream()
+            .map(SimilarImageItem::from)
+            .toList();
+        return new SimilarImageResponse(imageId, items, indexComplete);
+    }
+    
+    public Long getImageId() {
+        return imageId;
+    }
+    
+    public List<SimilarImageItem> getItems() {
+        return items;
+    }
+    
+    public boolean isIndexComplete() {
+        return indexComplete;
+    }
+    
+    public static class SimilarImageItem {
+        private final Long id;
+        private final String filename;
+        private final int distance;
+        private final String thumbnailUrl;
+        private final String placeholder;
+        
+        public SimilarImageItem(Long id, String filename, int distance, String thumbnailUrl, String placeholder) {
+            this.id = id;
+            this.filename = filename;
+            this.distance = distance;
+            this.thumbnailUrl = thumbnailUrl;
+            this.placeholder = placeholder;
+        }
+        
+        public static SimilarImageItem from(SimilarImageUseCase.SimilarImageMatch match) {
+            Image image = match.getImage();
+            return new SimilarImageItem(
+                image.getId().value(),
+                image.getOriginalFilename(),
+                match.getDistance(),
+                "/images/" + image.getId().value() + "/thumbnail",
+                image.getPlaceholder()
+            );
+        }
+        
+        public Long getId() {
+            return id;
+        }
+        
+        public String getFilename() {
+            return filename;
+        }
+        
+        public int getDistance() {
+            return distance;
+        }
+        
+        public String getThumbnailUrl() {
+            return thumbnailUrl;
+        }
+        
+        public String getPlaceholder() {
+            return placeholder;
+        }
+    }
+}
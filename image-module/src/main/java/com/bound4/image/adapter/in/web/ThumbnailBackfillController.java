@@ -0,0 +1,48 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.application.port.in.ThumbnailBackfillUseCase;
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.ThumbnailBackfillJob;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 썸네일 백필 작업 REST API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/thumbnails/backfills")
+public class ThumbnailBackfillController {
+    
+    private final ThumbnailBackfillUseCase thumbnailBackfillUseCase;
+    
+    public ThumbnailBackfillController(ThumbnailBackfillUseCase thumbnailBackfillUseCase) {
+        this.thumbnailBackfillUseCase = thumbnailBackfillUseCase;
+    }
+    
+    @PostMapping
+    public ResponseEntity<ApiResponse<ThumbnailBackfillResponse>> startBackfill(
+            @Valid @RequestBody ThumbnailBackfillRequest request) {
+        ThumbnailBackfillJob job = thumbnailBackfillUseCase.start(ProjectId.of(request.getProjectId()));
+        return ResponseEntity.accepted()
+                .body(ApiResponse.success(ThumbnailBackfillResponse.from(job), "Thumbnail backfill started"));
+    }
+    
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ThumbnailBackfillResponse>> getBackfill(@PathVariable Long jobId) {
+        ThumbnailBackfillJob job = thumbnailBackfillUseCase.getJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success(ThumbnailBackfillResponse.from(job)));
+    }
+    
+    @PostMapping("/{jobId}/pause")
+    public ResponseEntity<ApiResponse<ThumbnailBackfillResponse>> pauseBackfill(@PathVariable Long jobId) {
+        ThumbnailBackfillJob job = thumbnailBackfillUseCase.pause(jobId);
+        return ResponseEntity.ok(ApiResponse.success(ThumbnailBackfillResponse.from(job), "Thumbnail backfill paused"));
+    }
+    
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<ApiResponse<ThumbnailBackfillResponse>> resumeBackfill(@PathVariable Long jobId) {
+        ThumbnailBackfillJob job = thumbnailBackfillUseCase.resume(jobId);
+        return ResponseEntity.ok(ApiResponse.success(ThumbnailBackfillResponse.from(job), "Thumbnail backfill resumed"));
+    }
+}
@@ -0,0 +1,26 @@
+package com.bound4.image.adapter.in.web;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public class ThumbnailBackfillRequest {
+    
+    @NotNull(message = "Project id is required")
+    @Positive(message = "Project id must be positive")
+    private Long projectId;
+    
+    public ThumbnailBackfillRequest() {
+    }
+    
+    public ThumbnailBackfillRequest(Long projectId) {
+        this.projectId = projectId;
+    }
+    
+    public Long getProjectId() {
+        return projectId;
+    }
+    
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+}
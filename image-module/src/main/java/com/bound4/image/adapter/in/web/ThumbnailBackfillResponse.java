@@ -0,0 +1,123 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.domain.ThumbnailBackfillJob;
+import com.bound4.image.domain.ThumbnailBackfillStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class ThumbnailBackfillResponse {
+    
+    private final Long jobId;
+    private final Long projectId;
+    private final ThumbnailBackfillStatus status;
+    private final long processedCount;
+    private final long completedCount;
+    private final long totalCount;
+    private final double progressPercent;
+    private final long lastImageId;
+    private final double throughputPerSecond;
+    private final Long estimatedSecondsRemaining;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
+    private final LocalDateTime createdAt;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
+    private final LocalDateTime updatedAt;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
+    private final LocalDateTime completedAt;
+    
+    public ThumbnailBackfillResponse(Long jobId, Long projectId, ThumbnailBackfillStatus status,
+                                     long processedCount, long completedCount, long totalCount, double progressPercent,
+                                     long lastImageId, double throughputPerSecond, Long estimatedSecondsRemaining,
+                                     LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime completedAt) {
+        this.jobId = jobId;
+        this.projectId = projectId;
+        this.status = status;
+        this.processedCount = processedCount;
+        this.completedCount = completedCount;
+        this.totalCount = totalCount;
+        this.progressPercent = progressPercent;
+        this.lastImageId = lastImageId;
+        this.throughputPerSecond = throughputPerSecond;
+        this.estimatedSecondsRemaining = estimatedSecondsRemaining;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.completedAt = completedAt;
+    }
+    
+    public static ThumbnailBackfillResponse from(ThumbnailBackfillJob job) {
+        LocalDateTime now = LocalDateTime.now();
+        Duration eta = job.getEstimatedRemaining(now);
+        
+        return new ThumbnailBackfillResponse(
+            job.getId(),
+            job.getProjectId().value(),
+            job.getStatus(),
+            job.getProcessedCount(),
+            job.getCompletedCount(),
+            job.getTotalCount(),
+            Math.round(job.getProgressPercent() * 10) / 10.0,
+            job.getLastImageId(),
+            Math.round(job.getThroughputPerSecond(now) * 10) / 10.0,
+            eta != null ? eta.toSeconds() : null,
+            job.getCreatedAt(),
+            job.getUpdatedAt(),
+            job.getCompletedAt()
+        );
+    }
+    
+    public Long getJobId() {
+        return jobId;
+    }
+    
+    public Long getProjectId() {
+        return projectId;
+    }
+    
+    public ThumbnailBackfillStatus getStatus() {
+        return status;
+    }
+    
+    public long getProcessedCount() {
+        return processedCount;
+    }
+    
+    public long getCompletedCount() {
+        return completedCount;
+    }
+    
+    public long getTotalCount() {
+        return totalCount;
+    }
+    
+    public double getProgressPercent() {
+        return progressPercent;
+    }
+    
+    public long getLastImageId() {
+        return lastImageId;
+    }
+    
+    public double getThroughputPerSecond() {
+        return throughputPerSecond;
+    }
+    
+    public Long getEstimatedSecondsRemaining() {
+        return estimatedSecondsRemaining;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
@@ -1,13 +1,21 @@
 package com.bound4.image.adapter.in.web;
 
+import com.bound4.image.application.port.in.ImageBatchQuery;
 import com.bound4.image.application.port.in.ThumbnailProcessingUseCase;
+import com.bound4.image.application.port.in.ThumbnailRecoveryUseCase;
+import com.bound4.image.domain.Image;
 import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.ProjectId;
 import com.bound4.image.domain.ThumbnailProcessingStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 썸네일 처리 관련 REST API 컨트롤러
  */
@@ -18,9 +26,12 @@ public class ThumbnailController {
     private static final Logger logger = LoggerFactory.getLogger(ThumbnailController.class);
     
     private final ThumbnailProcessingUseCase thumbnailProcessingUseCase;
+    private final ThumbnailRecoveryUseCase thumbnailRecoveryUseCase;
     
-    public ThumbnailController(ThumbnailProcessingUseCase thumbnailProcessingUseCase) {
+    public ThumbnailController(ThumbnailProcessingUseCase thumbnailProcessingUseCase,
+                               ThumbnailRecoveryUseCase thumbnailRecoveryUseCase) {
         this.thumbnailProcessingUseCase = thumbnailProcessingUseCase;
+        this.thumbnailRecoveryUseCase = thumbnailRecoveryUseCase;
     }
     
     /**
@@ -76,6 +87,30 @@ public class ThumbnailController {
         }
     }
     
+    /**
+     * 여러 이미지의 썸네일 처리 상태 일괄 조회 (한 번의 IN 조회, 요청 순서대로 응답)
+     */
+    @GetMapping("/images/status")
+    public ResponseEntity<ThumbnailStatusBatchResponse> getThumbnailStatuses(@RequestParam("ids") List<Long> ids) {
+        try {
+            logger.debug("Thumbnail status batch request for {} images", ids.size());
+            
+            ImageBatchQuery query = new ImageBatchQuery(ids);
+            Map<Long, ThumbnailProcessingStatus> statuses = thumbnailProcessingUseCase.getThumbnailProcessingStatuses(query);
+            
+            return ResponseEntity.ok(ThumbnailStatusBatchResponse.success(query.getImageIds(), statuses));
+            
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid thumbnail status batch request", e);
+            return ResponseEntity.badRequest()
+                    .body(ThumbnailStatusBatchResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error retrieving thumbnail statuses", e);
+            return ResponseEntity.internalServerError()
+                    .body(ThumbnailStatusBatchResponse.error("Internal server error"));
+        }
+    }
+    
     /**
      * 썸네일 생성 재시도
      */
@@ -103,6 +138,34 @@ public class ThumbnailController {
         }
     }
     
+    /**
+     * 재시도 횟수를 모두 소진한 썸네일 작업(데드레터) 목록 조회
+     */
+    @GetMapping("/dead-letters")
+    public ResponseEntity<DeadLetterListResponse> getDeadLetters(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            logger.debug("Thumbnail dead letter list request - projectId: {}, cursor: {}, size: {}", 
+                        projectId, cursor, size);
+            
+            ThumbnailRecoveryUseCase.DeadLetterPage page = thumbnailRecoveryUseCase.getDeadLetters(
+                    projectId != null ? ProjectId.of(projectId) : null, cursor, size);
+            
+            return ResponseEntity.ok(DeadLetterListResponse.success(page));
+            
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid thumbnail dead letter list request", e);
+            return ResponseEntity.badRequest()
+                    .body(DeadLetterListResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error retrieving thumbnail dead letters", e);
+            return ResponseEntity.internalServerError()
+                    .body(DeadLetterListResponse.error("Internal server error"));
+        }
+    }
+    
     /**
      * 썸네일 처리 응답 DTO
      */
@@ -142,15 +205,7 @@ public class ThumbnailController {
         }
         
         public static ThumbnailStatusResponse success(ThumbnailProcessingStatus status) {
-            ThumbnailStatusData data = new ThumbnailStatusData(
-                status.getValue(),
-                status.getDescription(),
-                status.canRetry(),
-                status.isCompleted(),
-                status.isFailed(),
-                status.isInProgress()
-            );
-            return new ThumbnailStatusResponse(true, data, null);
+            return new ThumbnailStatusResponse(true, ThumbnailStatusData.from(status), null);
         }
         
         public static ThumbnailStatusResponse error(String message) {
@@ -179,6 +234,17 @@ public class ThumbnailController {
                 this.isInProgress = isInProgress;
             }
             
+            public static ThumbnailStatusData from(ThumbnailProcessingStatus status) {
+                return new ThumbnailStatusData(
+                    status.getValue(),
+                    status.getDescription(),
+                    status.canRetry(),
+                    status.isCompleted(),
+                    status.isFailed(),
+                    status.isInProgress()
+                );
+            }
+            
             public String getStatus() { return status; }
             public String getDescription() { return description; }
             public boolean isCanRetry() { return canRetry; }
@@ -187,4 +253,142 @@ public class ThumbnailController {
             public boolean isInProgress() { return isInProgress; }
         }
     }
+    
+    /**
+     * 썸네일 상태 일괄 조회 응답 DTO
+     */
+    public static class ThumbnailStatusBatchResponse {
+        private boolean success;
+        private List<ThumbnailStatusItem> data;
+        private String message;
+        
+        public ThumbnailStatusBatchResponse(boolean success, List<ThumbnailStatusItem> data, String message) {
+            this.success = success;
+            this.data = data;
+            this.message = message;
+        }
+        
+        /**
+         * 요청한 ID 순서대로 응답 (없거나 삭제된 이미지는 found=false)
+         */
+        public static ThumbnailStatusBatchResponse success(List<Long> imageIds,
+                                                           Map<Long, ThumbnailProcessingStatus> statuses) {
+            List<ThumbnailStatusItem> items = imageIds.stream()
+                    .map(imageId -> {
+                        ThumbnailProcessingStatus status = statuses.get(imageId);
+                        return new ThumbnailStatusItem(imageId, status != null,
+                                status != null ? ThumbnailStatusResponse.ThumbnailStatusData.from(status) : null);
+                    })
+                    .toList();
+            return new ThumbnailStatusBatchResponse(true, items, null);
+        }
+        
+        public static ThumbnailStatusBatchResponse error(String message) {
+            return new ThumbnailStatusBatchResponse(false, null, message);
+        }
+        
+        public boolean isSuccess() { return success; }
+        public List<ThumbnailStatusItem> getData() { return data; }
+        public String getMessage() { return message; }
+        
+        public static class ThumbnailStatusItem {
+            private Long imageId;
+            private boolean found;
+            private ThumbnailStatusResponse.ThumbnailStatusData status;
+            
+            public ThumbnailStatusItem(Long imageId, boolean found, ThumbnailStatusResponse.ThumbnailStatusData status) {
+                this.imageId = imageId;
+                this.found = found;
+                this.status = status;
+            }
+            
+            public Long getImageId() { return imageId; }
+            public boolean isFound() { return found; }
+            public ThumbnailStatusResponse.ThumbnailStatusData getStatus() { return status; }
+        }
+    }
+    
+    /**
+     * 데드레터 목록 응답 DTO
+     */
+    public static class DeadLetterListResponse {
+        private boolean success;
+        private DeadLetterListData data;
+        private String message;
+        
+        public DeadLetterListResponse(boolean success, DeadLetterListData data, String message) {
+            this.success = success;
+            this.data = data;
+            this.message = message;
+        }
+        
+        public static DeadLetterListResponse success(ThumbnailRecoveryUseCase.DeadLetterPage page) {
+            List<DeadLetterItem> items = page.getContent().stream()
+                    .map(DeadLetterItem::from)
+                    .toList();
+            return new DeadLetterListResponse(true,
+                    new DeadLetterListData(items, page.hasNext(), page.getNextCursor()), null);
+        }
+        
+        public static DeadLetterListResponse error(String message) {
+            return new DeadLetterListResponse(false, null, message);
+        }
+        
+        public boolean isSuccess() { return success; }
+        public DeadLetterListData getData() { return data; }
+        public String getMessage() { return message; }
+        
+        public static class DeadLetterListData {
+            private List<DeadLetterItem> items;
+            private boolean hasNext;
+            private Long nextCursor;
+            
+            public DeadLetterListData(List<DeadLetterItem> items, boolean hasNext, Long nextCursor) {
+                this.items = items;
+                this.hasNext = hasNext;
+                this.nextCursor = nextCursor;
+            }
+            
+            public List<DeadLetterItem> getItems() { return items; }
+            public boolean isHasNext() { return hasNext; }
+            public Long getNextCursor() { return nextCursor; }
+        }
+        
+        public static class DeadLetterItem {
+            private Long imageId;
+            private Long projectId;
+            private String originalFilename;
+            private String mimeType;
+            private String status;
+            private LocalDateTime updatedAt;
+            
+            public DeadLetterItem(Long imageId, Long projectId, String originalFilename, String mimeType,
+                                  String status, LocalDateTime updatedAt) {
+                this.imageId = imageId;
+                this.projectId = projectId;
+                this.originalFilename = originalFilename;
+                this.mimeType = mimeType;
+                this.status = status;
+                this.updatedAt = updatedAt;
+            }
+            
+            public static DeadLetterItem from(Image image) {
+                return new DeadLetterItem(
+                    image.getId().value(),
+                    image.getProjectId().value(),
+                    image.getOriginalFilename(),
+                    image.getMimeType(),
+                    image.getThumbnailProcessingStatus().getValue(),
+                    image.getUpdatedAt()
+                );
+            }
+            
+            public Long getImageId() { return imageId; }
+            public Long getProjectId() { return projectId; }
+            public String getOriginalFilename() { return originalFilename; }
+            public String getMimeType() { return mimeType; }
+            public String getStatus() { return status; }
+            public LocalDateTime getUpdatedAt() { return updatedAt; }
+        }
+    }
 }
\ No newline at end of file
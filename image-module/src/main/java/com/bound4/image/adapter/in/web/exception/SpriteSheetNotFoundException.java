@@ -0,0 +1,8 @@
+package com.bound4.image.adapter.in.web.exception;
+
+public class SpriteSheetNotFoundException extends RuntimeException {
+    
+    public SpriteSheetNotFoundException(String spriteKey) {
+        super("Sprite sheet not found with key: " + spriteKey);
+    }
+}
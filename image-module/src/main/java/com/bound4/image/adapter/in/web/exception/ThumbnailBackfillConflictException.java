@@ -0,0 +1,8 @@
+package com.bound4.image.adapter.in.web.exception;
+
+public class ThumbnailBackfillConflictException extends RuntimeException {
+    
+    public ThumbnailBackfillConflictException(String message) {
+        super(message);
+    }
+}
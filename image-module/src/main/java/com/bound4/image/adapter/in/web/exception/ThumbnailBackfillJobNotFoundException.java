@@ -0,0 +1,8 @@
+package com.bound4.image.adapter.in.web.exception;
+
+public class ThumbnailBackfillJobNotFoundException extends RuntimeException {
+    
+    public ThumbnailBackfillJobNotFoundException(Long jobId) {
+        super("Thumbnail backfill job not found with id: " + jobId);
+    }
+}
@@ -3,7 +3,6 @@ package com.bound4.image.adapter.out.event;
 import com.bound4.image.application.port.out.EventPublisher;
 import com.bound4.image.domain.event.ThumbnailGenerationCompletedEvent;
 import com.bound4.image.domain.event.ThumbnailGenerationFailedEvent;
-import com.bound4.image.domain.event.ThumbnailGenerationRequestedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
@@ -23,12 +22,6 @@ public class SpringEventPublisher implements EventPublisher {
         this.applicationEventPublisher = applicationEventPublisher;
     }
     
-    @Override
-    public void publishThumbnailGenerationRequested(ThumbnailGenerationRequestedEvent event) {
-        logger.debug("Publishing thumbnail generation requested event: {}", event);
-        applicationEventPublisher.publishEvent(event);
-    }
-    
     @Override
     public void publishThumbnailGenerationCompleted(ThumbnailGenerationCompletedEvent event) {
         logger.debug("Publishing thumbnail generation completed event: {}", event);
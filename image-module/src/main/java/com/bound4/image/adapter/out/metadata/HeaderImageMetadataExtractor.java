@@ -0,0 +1,360 @@
+package com.bound4.image.adapter.out.metadata;
+
+import com.bound4.image.application.port.out.ImageMetadataExtractor;
+import com.bound4.image.domain.ImageMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * JPEG/PNG/GIF/WebP 헤더 파서
+ * 픽셀 데이터는 읽지 않고 마커/청크/블록 길이만 따라가며 크기, EXIF 방향, 프레임 수를 읽음
+ *
+ * - JPEG: SOF 마커까지의 세그먼트 (APP1 EXIF에서 방향)
+ * - PNG: IHDR 및 IDAT 이전 청크 (acTL 프레임 수, eXIf 방향)
+ * - GIF: 논리 화면 크기, 이미지 블록 수 (LZW 데이터는 서브블록 길이만 보고 건너뜀)
+ * - WebP: VP8/VP8L/VP8X 헤더, ANMF 청크 수, EXIF 청크의 방향
+ */
+@Component
+public class HeaderImageMetadataExtractor implements ImageMetadataExtractor {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeaderImageMetadataExtractor.class);
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+
+    private static final int PNG_IHDR = fourCc("IHDR");
+    private static final int PNG_IDAT = fourCc("IDAT");
+    private static final int PNG_IEND = fourCc("IEND");
+    private static final int PNG_ACTL = fourCc("acTL");
+    private static final int PNG_EXIF = fourCc("eXIf");
+
+    private static final int RIFF = fourCc("RIFF");
+    private static final int WEBP = fourCc("WEBP");
+    private static final int WEBP_VP8 = fourCc("VP8 ");
+    private static final int WEBP_VP8L = fourCc("VP8L");
+    private static final int WEBP_VP8X = fourCc("VP8X");
+    private static final int WEBP_ANMF = fourCc("ANMF");
+    private static final int WEBP_EXIF = fourCc("EXIF");
+
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    @Override
+    public Optional<ImageMetadata> extract(byte[] data) {
+        if (data == null || data.length < 12) {
+            return Optional.empty();
+        }
+        try {
+            if (u8(data, 0) == 0xFF && u8(data, 1) == 0xD8) {
+                return Optional.ofNullable(parseJpeg(data));
+            }
+            if (startsWith(data, 0, PNG_SIGNATURE)) {
+                return Optional.of(parsePng(data));
+            }
+            if (data[0] == 'G' && data[1] == 'I' && data[2] == 'F') {
+                return Optional.of(parseGif(data));
+            }
+            if (i32be(data, 0) == RIFF && i32be(data, 8) == WEBP) {
+                return Optional.ofNullable(parseWebp(data));
+            }
+            return Optional.empty();
+        } catch (HeaderFormatException | IllegalArgumentException e) {
+            logger.debug("Cannot read image header: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * JPEG: SOF 마커를 만날 때까지 세그먼트 길이만큼 건너뜀 (EXIF는 보통 SOF 앞의 APP1에 있음)
+     */
+    private ImageMetadata parseJpeg(byte[] data) {
+        int orientation = ImageMetadata.DEFAULT_ORIENTATION;
+        int pos = 2;
+        while (true) {
+            if (u8(data, pos) != 0xFF) {
+                throw new HeaderFormatException("Missing JPEG marker at " + pos);
+            }
+            // 마커 앞의 채움 바이트(0xFF) 건너뜀
+            while (u8(data, pos) == 0xFF) {
+                pos++;
+            }
+            int marker = u8(data, pos++);
+            if (marker == 0x01 || marker == 0xD8 || (marker >= 0xD0 && marker <= 0xD7)) {
+                continue;
+            }
+            if (marker == 0xD9 || marker == 0xDA) {
+                // 프레임 헤더 없이 이미지 데이터나 끝에 도달
+                return null;
+            }
+            int length = u16be(data, pos);
+            if (length < 2) {
+                throw new HeaderFormatException("Invalid JPEG segment length: " + length);
+            }
+            int segment = pos + 2;
+            if (marker == 0xE1 && startsWith(data, segment, EXIF_HEADER)) {
+                orientation = tiffOrientation(data, segment + EXIF_HEADER.length, pos + length);
+            } else if (isStartOfFrame(marker)) {
+                int height = u16be(data, segment + 1);
+                int width = u16be(data, segment + 3);
+                return new ImageMetadata(width, height, orientation, 1);
+            }
+            pos += length;
+        }
+    }
+
+    private static boolean isStartOfFrame(int marker) {
+        // C4(DHT), C8(JPG), CC(DAC)는 같은 범위에 있지만 프레임 헤더가 아님
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    /**
+     * PNG: IHDR 크기 후 첫 IDAT 전까지의 청크만 확인 (APNG acTL은 IDAT 앞에 위치해야 함)
+     */
+    private ImageMetadata parsePng(byte[] data) {
+        int pos = PNG_SIGNATURE.length;
+        if (i32be(data, pos + 4) != PNG_IHDR) {
+            throw new HeaderFormatException("PNG does not start with IHDR");
+        }
+        int width = i32be(data, pos + 8);
+        int height = i32be(data, pos + 12);
+        int orientation = ImageMetadata.DEFAULT_ORIENTATION;
+        int frameCount = 1;
+
+        // IHDR 데이터는 항상 13바이트
+        pos += 8 + 13 + 4;
+        while (pos <= data.length - 8) {
+            int length = i32be(data, pos);
+            int type = i32be(data, pos + 4);
+            if (length < 0 || type == PNG_IDAT || type == PNG_IEND) {
+                break;
+            }
+            int chunk = pos + 8;
+            if (type == PNG_ACTL) {
+                frameCount = Math.max(1, i32be(data, chunk));
+            } else if (type == PNG_EXIF) {
+                orientation = tiffOrientation(data, chunk, chunk + length);
+            }
+            long next = chunk + (long) length + 4;
+            if (next > data.length) {
+                break;
+            }
+            pos = (int) next;
+        }
+        return new ImageMetadata(width, height, orientation, frameCount);
+    }
+
+    /**
+     * GIF: 화면 크기와 이미지 디스크립터 수
+     */
+    private ImageMetadata parseGif(byte[] data) {
+        int width = u16le(data, 6);
+        int height = u16le(data, 8);
+        int flags = u8(data, 10);
+        int pos = 13;
+        if ((flags & 0x80) != 0) {
+            pos += colorTableSize(flags);
+        }
+        return new ImageMetadata(width, height, ImageMetadata.DEFAULT_ORIENTATION, countGifFrames(data, pos));
+    }
+
+    private int countGifFrames(byte[] data, int pos) {
+        int frames = 0;
+        try {
+            while (true) {
+                int block = u8(data, pos++);
+                if (block == 0x2C) {
+                    frames++;
+                    int localFlags = u8(data, pos + 8);
+                    pos += 9;
+                    if ((localFlags & 0x80) != 0) {
+                        pos += colorTableSize(localFlags);
+                    }
+                    // LZW 최소 코드 크기 다음의 이미지 데이터 서브블록
+                    pos = skipSubBlocks(data, pos + 1);
+                } else if (block == 0x21) {
+                    pos = skipSubBlocks(data, pos + 1);
+                } else {
+                    // 0x3B(트레일러) 또는 알 수 없는 블록
+                    break;
+                }
+            }
+        } catch (HeaderFormatException e) {
+            // 잘린 파일은 읽은 프레임까지만 계산
+        }
+        return Math.max(1, frames);
+    }
+
+    private static int colorTableSize(int flags) {
+        return 3 << ((flags & 0x07) + 1);
+    }
+
+    private static int skipSubBlocks(byte[] data, int pos) {
+        while (true) {
+            int size = u8(data, pos++);
+            if (size == 0) {
+                return pos;
+            }
+            pos += size;
+        }
+    }
+
+    /**
+     * WebP: 첫 청크 형식에 따라 크기를 읽고, 확장 형식(VP8X)이면 이후 청크 헤더만 따라가며 프레임과 EXIF 확인
+     */
+    private ImageMetadata parseWebp(byte[] data) {
+        int type = i32be(data, 12);
+        int size = i32le(data, 16);
+        int chunk = 20;
+
+        if (type == WEBP_VP8) {
+            if (u8(data, chunk + 3) != 0x9D || u8(data, chunk + 4) != 0x01 || u8(data, chunk + 5) != 0x2A) {
+                throw new HeaderFormatException("Invalid VP8 start code");
+            }
+            return ImageMetadata.of(u16le(data, chunk + 6) & 0x3FFF, u16le(data, chunk + 8) & 0x3FFF);
+        }
+        if (type == WEBP_VP8L) {
+            if (u8(data, chunk) != 0x2F) {
+                throw new HeaderFormatException("Invalid VP8L signature");
+            }
+            int bits = i32le(data, chunk + 1);
+            return ImageMetadata.of((bits & 0x3FFF) + 1, ((bits >>> 14) & 0x3FFF) + 1);
+        }
+        if (type != WEBP_VP8X) {
+            return null;
+        }
+
+        int width = u24le(data, chunk + 4) + 1;
+        int height = u24le(data, chunk + 7) + 1;
+        int orientation = ImageMetadata.DEFAULT_ORIENTATION;
+        int frames = 0;
+
+        long pos = chunk + (long) size + (size & 1);
+        while (size >= 0 && pos <= data.length - 8) {
+            int at = (int) pos;
+            type = i32be(data, at);
+            size = i32le(data, at + 4);
+            if (type == WEBP_ANMF) {
+                frames++;
+            } else if (type == WEBP_EXIF) {
+                int exif = at + 8;
+                if (startsWith(data, exif, EXIF_HEADER)) {
+                    exif += EXIF_HEADER.length;
+                }
+                orientation = tiffOrientation(data, exif, at + 8 + size);
+            }
+            pos = at + 8L + size + (size & 1);
+        }
+        return new ImageMetadata(width, height, orientation, Math.max(1, frames));
+    }
+
+    /**
+     * TIFF 구조(EXIF)의 IFD0에서 방향 태그 값, 읽을 수 없으면 기본 방향
+     */
+    private int tiffOrientation(byte[] data, int start, int end) {
+        try {
+            boolean littleEndian;
+            int byteOrder = u16be(data, start);
+            if (byteOrder == 0x4949) {
+                littleEndian = true;
+            } else if (byteOrder == 0x4D4D) {
+                littleEndian = false;
+            } else {
+                return ImageMetadata.DEFAULT_ORIENTATION;
+            }
+            long offset = u32(data, start + 4, littleEndian);
+            if (offset < 8 || offset > end - start) {
+                return ImageMetadata.DEFAULT_ORIENTATION;
+            }
+            int ifd = start + (int) offset;
+            int entries = u16(data, ifd, littleEndian);
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if (entry + 12 > end) {
+                    break;
+                }
+                if (u16(data, entry, littleEndian) == EXIF_ORIENTATION_TAG) {
+                    int value = u16(data, entry + 8, littleEndian);
+                    return value >= 1 && value <= 8 ? value : ImageMetadata.DEFAULT_ORIENTATION;
+                }
+            }
+        } catch (HeaderFormatException e) {
+            logger.debug("Cannot read EXIF orientation: {}", e.getMessage());
+        }
+        return ImageMetadata.DEFAULT_ORIENTATION;
+    }
+
+    private static boolean startsWith(byte[] data, int pos, byte[] prefix) {
+        if (pos < 0 || pos > data.length - prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[pos + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int fourCc(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        return i32be(bytes, 0);
+    }
+
+    private static void require(byte[] data, int pos, int length) {
+        if (pos < 0 || pos > data.length - length) {
+            throw new HeaderFormatException("Truncated header at " + pos);
+        }
+    }
+
+    private static int u8(byte[] data, int pos) {
+        require(data, pos, 1);
+        return data[pos] & 0xFF;
+    }
+
+    private static int u16be(byte[] data, int pos) {
+        require(data, pos, 2);
+        return (data[pos] & 0xFF) << 8 | (data[pos + 1] & 0xFF);
+    }
+
+    private static int u16le(byte[] data, int pos) {
+        require(data, pos, 2);
+        return (data[pos] & 0xFF) | (data[pos + 1] & 0xFF) << 8;
+    }
+
+    private static int u16(byte[] data, int pos, boolean littleEndian) {
+        return littleEndian ? u16le(data, pos) : u16be(data, pos);
+    }
+
+    private static int u24le(byte[] data, int pos) {
+        require(data, pos, 3);
+        return (data[pos] & 0xFF) | (data[pos + 1] & 0xFF) << 8 | (data[pos + 2] & 0xFF) << 16;
+    }
+
+    private static int i32be(byte[] data, int pos) {
+        require(data, pos, 4);
+        return (data[pos] & 0xFF) << 24 | (data[pos + 1] & 0xFF) << 16
+                | (data[pos + 2] & 0xFF) << 8 | (data[pos + 3] & 0xFF);
+    }
+
+    private static int i32le(byte[] data, int pos) {
+        require(data, pos, 4);
+        return (data[pos] & 0xFF) | (data[pos + 1] & 0xFF) << 8
+                | (data[pos + 2] & 0xFF) << 16 | (data[pos + 3] & 0xFF) << 24;
+    }
+
+    private static long u32(byte[] data, int pos, boolean littleEndian) {
+        return Integer.toUnsignedLong(littleEndian ? i32le(data, pos) : i32be(data, pos));
+    }
+
+    /**
+     * 헤더가 잘렸거나 형식에 맞지 않음
+     */
+    private static class HeaderFormatException extends RuntimeException {
+        HeaderFormatException(String message) {
+            super(message);
+        }
+    }
+}
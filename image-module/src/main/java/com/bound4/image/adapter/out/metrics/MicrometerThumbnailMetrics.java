@@ -0,0 +1,91 @@
+package com.bound4.image.adapter.out.metrics;
+
+import com.bound4.image.application.port.out.ThumbnailMetrics;
+import com.bound4.image.domain.ThumbnailFailureReason;
+import com.bound4.image.domain.ThumbnailOutcome;
+import com.bound4.image.domain.ThumbnailStage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Micrometer 기반 썸네일 파이프라인 지표
+ * 단계별 지연은 히스토그램 버킷을 함께 내보내므로 노드별 분위수를 모아 전체 분위수를 계산할 수 있음
+ *
+ * - thumbnail.stage.duration{stage}: 단계별 소요 시간
+ * - thumbnail.outcome{outcome}: 처리 결과 건수
+ * - thumbnail.attempts{outcome}: 결과별 재시도 횟수 분포
+ * - thumbnail.failure.permanent{reason}: 영구 실패 사유별 건수
+ * - thumbnail.source.frames: 원본 이미지의 프레임 수 분포 (애니메이션 비율 확인용)
+ */
+@Component
+public class MicrometerThumbnailMetrics implements ThumbnailMetrics {
+    
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofMinutes(5);
+    
+    private final Map<ThumbnailStage, Timer> stageTimers = new EnumMap<>(ThumbnailStage.class);
+    private final Map<ThumbnailOutcome, Counter> outcomeCounters = new EnumMap<>(ThumbnailOutcome.class);
+    private final Map<ThumbnailOutcome, DistributionSummary> attemptSummaries = new EnumMap<>(ThumbnailOutcome.class);
+    private final Map<ThumbnailFailureReason, Counter> failureCounters = new EnumMap<>(ThumbnailFailureReason.class);
+    private final DistributionSummary sourceFrames;
+    
+    public MicrometerThumbnailMetrics(MeterRegistry meterRegistry) {
+        // 모든 태그 조합을 미리 등록하여 아직 발생하지 않은 값도 0으로 노출
+        for (ThumbnailStage stage : ThumbnailStage.values()) {
+            stageTimers.put(stage, Timer.builder("thumbnail.stage.duration")
+                    .description("Thumbnail pipeline stage latency")
+                    .tag("stage", stage.getValue())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED)
+                    .maximumExpectedValue(MAX_EXPECTED)
+                    .register(meterRegistry));
+        }
+        for (ThumbnailOutcome outcome : ThumbnailOutcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("thumbnail.outcome")
+                    .description("Thumbnail generation outcomes")
+                    .tag("outcome", outcome.getValue())
+                    .register(meterRegistry));
+            attemptSummaries.put(outcome, DistributionSummary.builder("thumbnail.attempts")
+                    .description("Retry count of thumbnail requests by outcome")
+                    .tag("outcome", outcome.getValue())
+                    .register(meterRegistry));
+        }
+        for (ThumbnailFailureReason reason : ThumbnailFailureReason.values()) {
+            failureCounters.put(reason, Counter.builder("thumbnail.failure.permanent")
+                    .description("Permanent thumbnail failures by reason")
+                    .tag("reason", reason.getValue())
+                    .register(meterRegistry));
+        }
+        sourceFrames = DistributionSummary.builder("thumbnail.source.frames")
+                .description("Frame count of source images")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public void recordStage(ThumbnailStage stage, Duration duration) {
+        stageTimers.get(stage).record(duration.isNegative() ? Duration.ZERO : duration);
+    }
+    
+    @Override
+    public void recordOutcome(ThumbnailOutcome outcome, int retryCount) {
+        outcomeCounters.get(outcome).increment();
+        attemptSummaries.get(outcome).record(retryCount);
+    }
+    
+    @Override
+    public void recordPermanentFailure(ThumbnailFailureReason reason) {
+        failureCounters.get(reason).increment();
+    }
+    
+    @Override
+    public void recordSourceFrames(int frameCount) {
+        sourceFrames.record(frameCount);
+    }
+}
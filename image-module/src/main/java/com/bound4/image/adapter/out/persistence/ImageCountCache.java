@@ -0,0 +1,190 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.TagMatchMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오프셋 목록 전체 개수 캐시
+ * - 정확한 개수: (프로젝트, 상태, 태그, 일치 조건)별로 개수를 세기 전에 읽은 프로젝트 필터 버전(공유 DB 값)과 함께 보관하고
+ *   현재 버전과 같을 때만 사용 (다른 노드의 쓰기도 커밋 즉시 반영, 무효화 후 늦게 도착한 이전 버전 개수는 저장되지 않거나 쓰이지 않음)
+ * - 추정 개수: 프로젝트별 상태/태그 카운터로 계산 (상태와 태그는 독립이라고 가정)
+ *   카운터는 첫 추정 시 GROUP BY로 적재하고 새 이미지 저장 시 증가, 수정/삭제로 인한 오차는 refresh 주기마다 다시 적재해 보정
+ */
+@Component
+public class ImageCountCache {
+
+    static final String STATUS_COUNTS_SQL =
+            "SELECT status, COUNT(*) FROM images WHERE project_id = ? AND deleted_at IS NULL GROUP BY status";
+
+    static final String TAG_COUNTS_SQL =
+            "SELECT t.tag, COUNT(*) FROM image_tags t JOIN images i ON i.id = t.image_id " +
+            "WHERE t.project_id = ? AND i.deleted_at IS NULL GROUP BY t.tag";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long counterRefreshNanos;
+    private final Map<CountKey, CachedCount> exactCounts;
+    private final Map<Long, ProjectCounters> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ImageCountCache(JdbcTemplate jdbcTemplate,
+                           @Value("${image.count-cache.enabled:true}") boolean enabled,
+                           @Value("${image.count-cache.ttl-ms:60000}") long ttlMs,
+                           @Value("${image.count-cache.max-entries:10000}") int maxEntries,
+                           @Value("${image.count-cache.counter-refresh-ms:300000}") long counterRefreshMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.counterRefreshNanos = TimeUnit.MILLISECONDS.toNanos(counterRefreshMs);
+        this.exactCounts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CountKey, CachedCount> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 정확한 개수
+     * @param filterVersion 조회 직전에 읽은 프로젝트 필터 버전 (다른 버전으로 센 개수는 사용하지 않음)
+     */
+    public synchronized Optional<Long> exact(CountKey key, long filterVersion) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        CachedCount cached = exactCounts.get(key);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        if (cached.filterVersion() != filterVersion || System.nanoTime() - cached.createdNanos() > ttlNanos) {
+            exactCounts.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(cached.total());
+    }
+
+    /**
+     * @param filterVersion 개수를 세기 전에 읽은 프로젝트 필터 버전 (이미 더 새 버전의 개수가 있으면 무시)
+     */
+    public synchronized void putExact(CountKey key, long filterVersion, long total) {
+        if (!enabled) {
+            return;
+        }
+        CachedCount cached = exactCounts.get(key);
+        if (cached == null || cached.filterVersion() <= filterVersion) {
+            exactCounts.put(key, new CachedCount(total, filterVersion, System.nanoTime()));
+        }
+    }
+
+    /**
+     * 프로젝트 카운터로 추정한 개수
+     * - 태그 ANY: 태그별 개수 합 (전체 수 이하)
+     * - 태그 ALL: 태그별 개수 중 최소값
+     * - 상태 필터: 태그 추정치에 상태 비율을 곱함
+     */
+    public long estimate(CountKey key) {
+        ProjectCounters projectCounters = counters(key.projectId());
+        long live = projectCounters.live();
+        long base = key.status() != null ? projectCounters.status(key.status()) : live;
+        if (key.tags().isEmpty() || live == 0) {
+            return base;
+        }
+
+        long tagged;
+        if (key.tagMatch() == TagMatchMode.ALL) {
+            tagged = key.tags().stream().mapToLong(projectCounters::tag).min().orElse(0L);
+        } else {
+            tagged = Math.min(live, key.tags().stream().mapToLong(projectCounters::tag).sum());
+        }
+        return Math.round((double) tagged * base / live);
+    }
+
+    /**
+     * 새 이미지 저장 반영 (커밋 후)
+     */
+    public void onInserted(Long projectId, ImageStatus status, Set<String> tags) {
+        ProjectCounters projectCounters = counters.get(projectId);
+        if (projectCounters != null) {
+            projectCounters.add(status, tags);
+        }
+    }
+
+    /**
+     * 프로젝트의 정확한 개수 캐시 제거 (추정 카운터는 유지, 이 노드의 쓰기는 버전 확인 전에 바로 제거)
+     */
+    public synchronized void invalidate(Long projectId) {
+        exactCounts.keySet().removeIf(key -> key.projectId().equals(projectId));
+    }
+
+    private ProjectCounters counters(Long projectId) {
+        ProjectCounters current = counters.get(projectId);
+        if (current != null && System.nanoTime() - current.loadedNanos() <= counterRefreshNanos) {
+            return current;
+        }
+        ProjectCounters loaded = new ProjectCounters(System.nanoTime());
+        jdbcTemplate.query(STATUS_COUNTS_SQL,
+                rs -> { loaded.statusCounts.put(ImageStatus.valueOf(rs.getString(1)), rs.getLong(2)); }, projectId);
+        jdbcTemplate.query(TAG_COUNTS_SQL,
+                rs -> { loaded.tagCounts.put(rs.getString(1), rs.getLong(2)); }, projectId);
+        counters.put(projectId, loaded);
+        return loaded;
+    }
+
+    /**
+     * 개수 캐시 키
+     * @param tags 정규화된 태그
+     */
+    public record CountKey(Long projectId, ImageStatus status, Set<String> tags, TagMatchMode tagMatch) {
+    }
+
+    private record CachedCount(long total, long filterVersion, long createdNanos) {
+    }
+
+    private static final class ProjectCounters {
+
+        private final long loadedNanos;
+        private final Map<ImageStatus, Long> statusCounts = new EnumMap<>(ImageStatus.class);
+        private final Map<String, Long> tagCounts = new HashMap<>();
+
+        private ProjectCounters(long loadedNanos) {
+            this.loadedNanos = loadedNanos;
+        }
+
+        synchronized long live() {
+            return statusCounts.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        synchronized long status(ImageStatus status) {
+            return statusCounts.getOrDefault(status, 0L);
+        }
+
+        synchronized long tag(String tag) {
+            return tagCounts.getOrDefault(tag, 0L);
+        }
+
+        synchronized void add(ImageStatus status, Set<String> tags) {
+            statusCounts.merge(status, 1L, Long::sum);
+            for (String tag : tags) {
+                tagCounts.merge(tag, 1L, Long::sum);
+            }
+        }
+
+        long loadedNanos() {
+            return loadedNanos;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.bound4.image.adapter.out.persistence;
 
 import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.ThumbnailProcessingStatus;
 import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
@@ -16,13 +17,13 @@ public class ImageEntity {
     @Column(name = "project_id", nullable = false)
     private Long projectId;
     
-    @Column(name = "original_filename")
+    @Column(name = "original_filename", nullable = false)
     private String originalFilename;
     
     @Column(name = "file_hash", unique = true, length = 64)
     private String fileHash;
     
-    @Column(name = "file_size")
+    @Column(name = "file_size", nullable = false)
     private Long fileSize;
     
     @Column(name = "mime_type", length = 100)
@@ -34,10 +35,38 @@ public class ImageEntity {
     @Column(name = "thumbnail_key", length = 500)
     private String thumbnailKey;
     
+    @Column(name = "placeholder", length = 200)
+    private String placeholder;
+    
+    @Column(name = "perceptual_hash")
+    private Long perceptualHash;
+    
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 20)
     private ImageStatus status;
     
+    @Enumerated(EnumType.STRING)
+    @Column(name = "thumbnail_processing_status", length = 20)
+    private ThumbnailProcessingStatus thumbnailProcessingStatus;
+    
+    /**
+     * 스위퍼가 다시 요청한 횟수 (조건부 UPDATE로만 변경하며 엔티티 저장으로는 덮어쓰지 않음)
+     */
+    @Column(name = "thumbnail_resubmit_count", insertable = false, updatable = false)
+    private Integer thumbnailResubmitCount;
+    
+    @Column(name = "width")
+    private Integer width;
+    
+    @Column(name = "height")
+    private Integer height;
+    
+    @Column(name = "orientation")
+    private Integer orientation;
+    
+    @Column(name = "frame_count")
+    private Integer frameCount;
+    
     @Column(name = "tags", length = 1000)
     private String tags;
     
@@ -138,6 +167,22 @@ public class ImageEntity {
         this.thumbnailKey = thumbnailKey;
     }
     
+    public String getPlaceholder() {
+        return placeholder;
+    }
+    
+    public void setPlaceholder(String placeholder) {
+        this.placeholder = placeholder;
+    }
+    
+    public Long getPerceptualHash() {
+        return perceptualHash;
+    }
+    
+    public void setPerceptualHash(Long perceptualHash) {
+        this.perceptualHash = perceptualHash;
+    }
+    
     public ImageStatus getStatus() {
         return status;
     }
@@ -146,6 +191,50 @@ public class ImageEntity {
         this.status = status;
     }
     
+    public ThumbnailProcessingStatus getThumbnailProcessingStatus() {
+        return thumbnailProcessingStatus;
+    }
+    
+    public void setThumbnailProcessingStatus(ThumbnailProcessingStatus thumbnailProcessingStatus) {
+        this.thumbnailProcessingStatus = thumbnailProcessingStatus;
+    }
+    
+    public Integer getThumbnailResubmitCount() {
+        return thumbnailResubmitCount;
+    }
+    
+    public Integer getWidth() {
+        return width;
+    }
+    
+    public void setWidth(Integer width) {
+        this.width = width;
+    }
+    
+    public Integer getHeight() {
+        return height;
+    }
+    
+    public void setHeight(Integer height) {
+        this.height = height;
+    }
+    
+    public Integer getOrientation() {
+        return orientation;
+    }
+    
+    public void setOrientation(Integer orientation) {
+        this.orientation = orientation;
+    }
+    
+    public Integer getFrameCount() {
+        return frameCount;
+    }
+    
+    public void setFrameCount(Integer frameCount) {
+        this.frameCount = frameCount;
+    }
+    
     public String getTags() {
         return tags;
     }
@@ -0,0 +1,210 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ImageArchiveEntry;
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.ImageMetadata;
+import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.ImageSummary;
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.TagMatchMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 이미지 내보내기(메타데이터, 원본 압축 파일)용 조회
+ * 메타데이터는 태그를 LEFT JOIN하여 id 순으로 정방향 스크롤하고 같은 id의 행을 모아 이미지 하나씩 전달하므로
+ * 메모리에는 현재 이미지 한 건과 드라이버의 fetch-size 행만 유지
+ * (MySQL Connector/J는 useCursorFetch=true일 때 fetch-size 단위로 가져옴)
+ * 원본 압축 파일은 원본 전송 동안 연결을 잡지 않도록 id 키셋 페이지를 짧은 쿼리로 나누어 조회
+ */
+@Component
+public class ImageExportJdbcRepository {
+
+    static final String SELECT_SQL =
+            "SELECT i.id, i.project_id, i.original_filename, i.file_size, i.mime_type, i.status, i.memo, " +
+            "i.width, i.height, i.orientation, i.frame_count, i.placeholder, i.created_at, i.updated_at, t.tag " +
+            "FROM images i LEFT JOIN image_tags t ON t.image_id = i.id " +
+            "WHERE i.project_id = ? AND i.deleted_at IS NULL";
+
+    static final String SELECT_ARCHIVE_SQL =
+            "SELECT id, original_filename, mime_type, file_size, original_image_key FROM images " +
+            "WHERE project_id = ? AND id > ? AND deleted_at IS NULL AND original_image_key IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public ImageExportJdbcRepository(JdbcTemplate jdbcTemplate,
+                                     @Value("${image.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * @return 전달한 이미지 수
+     */
+    public long stream(Long projectId, ImageStatus status, List<String> tags, TagMatchMode tagMatch,
+                       Consumer<ImageSummary> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(projectId);
+
+        if (status != null) {
+            sql.append(" AND i.status = ?");
+            args.add(status.name());
+        }
+
+        // 목록 API와 같은 태그 조건 (ANY: 하나라도, ALL: 일치 태그 수 = 요청 태그 수)
+        Set<String> tagNames = ImageTagJdbcRepository.tagNames(tags);
+        if (!tagNames.isEmpty()) {
+            sql.append(" AND i.id IN (SELECT image_id FROM image_tags WHERE project_id = ? AND tag IN (")
+               .append(String.join(", ", Collections.nCopies(tagNames.size(), "?")))
+               .append(")");
+            args.add(projectId);
+            args.addAll(tagNames);
+            if (tagMatch == TagMatchMode.ALL && tagNames.size() > 1) {
+                sql.append(" GROUP BY image_id HAVING COUNT(*) = ?");
+                args.add(tagNames.size());
+            }
+            sql.append(")");
+        }
+        sql.append(" ORDER BY i.id");
+
+        SummaryAssembler assembler = new SummaryAssembler(consumer);
+        scroll(sql.toString(), args, assembler);
+        return assembler.finish();
+    }
+
+    /**
+     * 압축 파일에 담을 원본 이미지 한 페이지 (id 키셋)
+     * @param imageIds 선택한 이미지 (비어 있으면 프로젝트 전체)
+     * @param afterId 이전 페이지의 마지막 id (첫 페이지는 0)
+     */
+    public List<ImageArchiveEntry> findArchiveEntries(Long projectId, List<Long> imageIds, long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_ARCHIVE_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(projectId);
+        args.add(afterId);
+
+        if (!imageIds.isEmpty()) {
+            sql.append(" AND id IN (").append(String.join(", ", Collections.nCopies(imageIds.size(), "?"))).append(")");
+            args.addAll(imageIds);
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new ImageArchiveEntry(
+            ImageId.of(rs.getLong("id")),
+            rs.getString("original_filename"),
+            rs.getString("mime_type"),
+            rs.getLong("file_size"),
+            rs.getString("original_image_key")
+        ), args.toArray());
+    }
+
+    private void scroll(String sql, List<Object> args, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        }, handler);
+    }
+
+    /**
+     * id 순으로 들어오는 (이미지, 태그) 행을 이미지 단위로 모아 전달
+     */
+    private static final class SummaryAssembler implements RowCallbackHandler {
+
+        private final Consumer<ImageSummary> consumer;
+        private ImageSummary current;
+        private List<String> currentTags;
+        private long count;
+
+        private SummaryAssembler(Consumer<ImageSummary> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (current == null || current.id().value() != id) {
+                emit();
+                currentTags = new ArrayList<>();
+                current = toSummary(rs, id, currentTags);
+            }
+            String tag = rs.getString("tag");
+            if (tag != null) {
+                currentTags.add(tag);
+            }
+        }
+
+        long finish() {
+            emit();
+            return count;
+        }
+
+        private void emit() {
+            if (current != null) {
+                // 목록 조회와 같이 태그가 없으면 null
+                Collections.sort(currentTags);
+                consumer.accept(currentTags.isEmpty() ? withoutTags(current) : current);
+                count++;
+                current = null;
+            }
+        }
+
+        private static ImageSummary toSummary(ResultSet rs, long id, List<String> tags) throws SQLException {
+            Integer width = rs.getObject("width", Integer.class);
+            Integer height = rs.getObject("height", Integer.class);
+            Integer orientation = rs.getObject("orientation", Integer.class);
+            Integer frameCount = rs.getObject("frame_count", Integer.class);
+            ImageMetadata metadata = width != null && height != null
+                ? new ImageMetadata(width, height,
+                    orientation != null ? orientation : ImageMetadata.DEFAULT_ORIENTATION,
+                    frameCount != null ? frameCount : 1)
+                : null;
+            String status = rs.getString("status");
+
+            return new ImageSummary(
+                ImageId.of(id),
+                ProjectId.of(rs.getLong("project_id")),
+                rs.getString("original_filename"),
+                rs.getLong("file_size"),
+                rs.getString("mime_type"),
+                status != null ? ImageStatus.valueOf(status) : null,
+                tags,
+                rs.getString("memo"),
+                metadata,
+                rs.getString("placeholder"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at"))
+            );
+        }
+
+        private static ImageSummary withoutTags(ImageSummary summary) {
+            return new ImageSummary(summary.id(), summary.projectId(), summary.originalFilename(),
+                summary.fileSize(), summary.mimeType(), summary.status(), null, summary.memo(),
+                summary.metadata(), summary.placeholder(), summary.createdAt(), summary.updatedAt());
+        }
+
+        private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+            return timestamp != null ? timestamp.toLocalDateTime() : null;
+        }
+    }
+}
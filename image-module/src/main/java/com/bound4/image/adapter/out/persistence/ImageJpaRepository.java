@@ -1,11 +1,131 @@
 package com.bound4.image.adapter.out.persistence;
 
+import com.bound4.image.domain.ThumbnailProcessingStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ImageJpaRepository extends JpaRepository<ImageEntity, Long> {
     
     Optional<ImageEntity> findByFileHash(String fileHash);
     Optional<ImageEntity> findByIdAndDeletedAtIsNull(Long id);
+    List<ImageEntity> findByIdInAndDeletedAtIsNull(Collection<Long> ids);
+    
+    @Query("select i from ImageEntity i " +
+           "where i.thumbnailProcessingStatus in :statuses and i.id > :afterId " +
+           "and i.updatedAt < :staleBefore and i.deletedAt is null " +
+           "and not exists (select 1 from ThumbnailOutboxEntity o where o.imageId = i.id) " +
+           "order by i.id")
+    List<ImageEntity> findStuckThumbnails(@Param("statuses") Collection<ThumbnailProcessingStatus> statuses,
+                                          @Param("staleBefore") LocalDateTime staleBefore,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+    
+    @Modifying
+    @Query("update ImageEntity i " +
+           "set i.thumbnailProcessingStatus = :processing, i.thumbnailResubmitCount = i.thumbnailResubmitCount + 1, " +
+           "i.updatedAt = :now, i.version = i.version + 1 " +
+           "where i.id = :id and i.thumbnailProcessingStatus = :expected and i.updatedAt < :staleBefore " +
+           "and i.thumbnailResubmitCount < :maxResubmits and i.deletedAt is null")
+    int markThumbnailResubmitted(@Param("id") Long id,
+                                 @Param("expected") ThumbnailProcessingStatus expected,
+                                 @Param("staleBefore") LocalDateTime staleBefore,
+                                 @Param("maxResubmits") int maxResubmits,
+                                 @Param("now") LocalDateTime now,
+                                 @Param("processing") ThumbnailProcessingStatus processing);
+    
+    @Modifying
+    @Query("update ImageEntity i " +
+           "set i.thumbnailProcessingStatus = :failed, i.thumbnailResubmitCount = 0, " +
+           "i.updatedAt = :now, i.version = i.version + 1 " +
+           "where i.id = :id and i.thumbnailProcessingStatus = :expected and i.updatedAt < :staleBefore " +
+           "and i.thumbnailResubmitCount >= :maxResubmits and i.deletedAt is null")
+    int markThumbnailResubmitsExhausted(@Param("id") Long id,
+                                        @Param("expected") ThumbnailProcessingStatus expected,
+                                        @Param("staleBefore") LocalDateTime staleBefore,
+                                        @Param("maxResubmits") int maxResubmits,
+                                        @Param("now") LocalDateTime now,
+                                        @Param("failed") ThumbnailProcessingStatus failed);
+    
+    @Modifying
+    @Query("update ImageEntity i " +
+           "set i.thumbnailProcessingStatus = :retryable, i.updatedAt = :now, i.version = i.version + 1 " +
+           "where i.id = :id and i.thumbnailProcessingStatus in :pending and i.deletedAt is null")
+    int markThumbnailRetryable(@Param("id") Long id,
+                               @Param("pending") Collection<ThumbnailProcessingStatus> pending,
+                               @Param("now") LocalDateTime now,
+                               @Param("retryable") ThumbnailProcessingStatus retryable);
+    
+    @Query("select i from ImageEntity i " +
+           "where i.thumbnailProcessingStatus = :status and i.id > :afterId and i.deletedAt is null " +
+           "and (:projectId is null or i.projectId = :projectId) " +
+           "order by i.id")
+    List<ImageEntity> findByThumbnailStatus(@Param("status") ThumbnailProcessingStatus status,
+                                            @Param("projectId") Long projectId,
+                                            @Param("afterId") Long afterId,
+                                            Pageable pageable);
+    
+    @Query("select i from ImageEntity i " +
+           "where i.projectId = :projectId and i.id > :afterId and i.deletedAt is null " +
+           "order by i.id")
+    List<ImageEntity> findByProjectAfterId(@Param("projectId") Long projectId,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+    
+    long countByProjectIdAndDeletedAtIsNull(Long projectId);
+    
+    @Query("select distinct i.projectId from ImageEntity i " +
+           "where i.perceptualHash is not null and i.deletedAt is null")
+    List<Long> findProjectIdsWithPerceptualHash();
+    
+    @Query("select i.id as id, i.perceptualHash as perceptualHash from ImageEntity i " +
+           "where i.projectId = :projectId and i.id > :afterId " +
+           "and i.perceptualHash is not null and i.deletedAt is null " +
+           "order by i.id")
+    List<PerceptualHashRow> findPerceptualHashes(@Param("projectId") Long projectId,
+                                                 @Param("afterId") Long afterId,
+                                                 Pageable pageable);
+    
+    @Modifying
+    @Query("update ImageEntity i " +
+           "set i.thumbnailProcessingStatus = :processing, i.updatedAt = :now, i.version = i.version + 1 " +
+           "where i.id = :id and i.deletedAt is null and i.thumbnailProcessingStatus in :idle")
+    int markThumbnailProcessing(@Param("id") Long id,
+                                @Param("idle") Collection<ThumbnailProcessingStatus> idle,
+                                @Param("now") LocalDateTime now,
+                                @Param("processing") ThumbnailProcessingStatus processing);
+    
+    @Query("select count(i) from ImageEntity i " +
+           "where i.projectId = :projectId and i.id <= :upToId and i.deletedAt is null " +
+           "and i.thumbnailProcessingStatus in :finished")
+    long countThumbnailsFinished(@Param("projectId") Long projectId,
+                                 @Param("upToId") Long upToId,
+                                 @Param("finished") Collection<ThumbnailProcessingStatus> finished);
+    
+    @Query("select i.id as id, i.thumbnailProcessingStatus as thumbnailProcessingStatus from ImageEntity i " +
+           "where i.id in :ids and i.deletedAt is null")
+    List<ThumbnailStatusRow> findThumbnailStatuses(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 지각 해시 인덱스 재구성용 프로젝션 (엔티티 전체를 읽지 않음)
+     */
+    interface PerceptualHashRow {
+        Long getId();
+        Long getPerceptualHash();
+    }
+    
+    /**
+     * 썸네일 상태 일괄 조회용 프로젝션 (엔티티 전체를 읽지 않음)
+     */
+    interface ThumbnailStatusRow {
+        Long getId();
+        ThumbnailProcessingStatus getThumbnailProcessingStatus();
+    }
 }
\ No newline at end of file
@@ -19,19 +19,30 @@ public class ImageMapper {
             entity.setId(image.getId().value());
         }
         entity.setProjectId(image.getProjectId().value());
-        entity.setOriginalFilename(image.getOriginalFilename());
+        // 커서 정렬 컬럼은 NOT NULL (파일명 없는 업로드는 빈 문자열)
+        entity.setOriginalFilename(image.getOriginalFilename() != null ? image.getOriginalFilename() : "");
         entity.setFileHash(image.getFileHash().value());
         entity.setFileSize(image.getFileSize());
         entity.setMimeType(image.getMimeType());
         entity.setOriginalImageKey(image.getOriginalImageKey());
         entity.setThumbnailKey(image.getThumbnailKey());
+        entity.setPlaceholder(image.getPlaceholder());
+        entity.setPerceptualHash(image.getPerceptualHash() != null ? image.getPerceptualHash().value() : null);
         
         entity.setStatus(image.getStatus());
+        entity.setThumbnailProcessingStatus(image.getThumbnailProcessingStatus());
+        if (image.getMetadata() != null) {
+            entity.setWidth(image.getMetadata().width());
+            entity.setHeight(image.getMetadata().height());
+            entity.setOrientation(image.getMetadata().orientation());
+            entity.setFrameCount(image.getMetadata().frameCount());
+        }
         entity.setTags(mapToJson(image.getTags()));
         entity.setMemo(image.getMemo());
         entity.setCreatedAt(image.getCreatedAt());
         entity.setUpdatedAt(image.getUpdatedAt());
         entity.setDeletedAt(image.getDeletedAt());
+        entity.setVersion(image.getVersion());
         
         return entity;
     }
@@ -54,9 +65,29 @@ public class ImageMapper {
             image.setThumbnailKey(entity.getThumbnailKey());
         }
         
+        image.updatePlaceholder(entity.getPlaceholder());
+        if (entity.getPerceptualHash() != null) {
+            image.updatePerceptualHash(PerceptualHash.of(entity.getPerceptualHash()));
+        }
+        
+        // 썸네일 키 설정 시 COMPLETED로 바뀌므로 저장된 처리 상태를 마지막에 복원
+        if (entity.getThumbnailProcessingStatus() != null) {
+            image.updateThumbnailProcessingStatus(entity.getThumbnailProcessingStatus());
+        }
+        
+        if (entity.getWidth() != null && entity.getHeight() != null) {
+            image.updateMetadata(new ImageMetadata(
+                entity.getWidth(),
+                entity.getHeight(),
+                entity.getOrientation() != null ? entity.getOrientation() : ImageMetadata.DEFAULT_ORIENTATION,
+                entity.getFrameCount() != null ? entity.getFrameCount() : 1
+            ));
+        }
+        
         image.updateStatus(entity.getStatus());
         image.updateTags(jsonToMap(entity.getTags()));
         image.updateMemo(entity.getMemo());
+        image.setVersion(entity.getVersion());
         
         return image;
     }
@@ -1,14 +1,28 @@
 package com.bound4.image.adapter.out.persistence;
 
 import com.bound4.image.application.port.in.ImageCursorListQuery;
-import com.bound4.image.domain.Cursor;
+import com.bound4.image.domain.CountMode;
+import com.bound4.image.domain.CursorSortKey;
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.ImageMetadata;
 import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.ImageSummary;
+import com.bound4.image.domain.ProjectId;
 import com.bound4.image.domain.SortDirection;
+import com.bound4.image.domain.TagMatchMode;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -18,7 +32,12 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public class ImageQueryRepository {
@@ -26,32 +45,134 @@ public class ImageQueryRepository {
     public static final String UPDATED_AT = "updatedAt";
     public static final String CREATED_AT = "createdAt";
     private final JPAQueryFactory queryFactory;
+    private final ProjectBitmapIndex filterIndex;
+    private final OffsetAnchorCache anchorCache;
+    private final ImageCountCache countCache;
+    private final ProjectWriteVersions writeVersions;
+    private final int inListLimit;
     private static final QImageEntity qImage = QImageEntity.imageEntity;
+    private static final QImageTagEntity qImageTag = QImageTagEntity.imageTagEntity;
     
-    public ImageQueryRepository(JPAQueryFactory queryFactory) {
+    public ImageQueryRepository(JPAQueryFactory queryFactory, ProjectBitmapIndex filterIndex,
+                                OffsetAnchorCache anchorCache, ImageCountCache countCache,
+                                ProjectWriteVersions writeVersions,
+                                @Value("${image.filter-index.in-list-limit:1000}") int inListLimit) {
         this.queryFactory = queryFactory;
+        this.filterIndex = filterIndex;
+        this.anchorCache = anchorCache;
+        this.countCache = countCache;
+        this.writeVersions = writeVersions;
+        this.inListLimit = inListLimit;
     }
     
+    /**
+     * 오프셋 페이지 조회 (지연 조인)
+     * 먼저 인덱스에서 페이지의 id만 골라낸 뒤 그 id의 컬럼을 읽으므로 건너뛰는 행은 인덱스 항목만 읽음
+     * 생성/수정 시각 단일 정렬의 깊은 페이지는 앵커 캐시의 가장 가까운 (시각, id) 뒤부터 남은 오프셋만 건너뜀
+     * (현재 쓰기 버전으로 계산한 앵커가 없으면 OFFSET으로 조회하고 앵커는 백그라운드로 계산)
+     */
     public Page<ImageListProjection> findImagesByProjectId(Long projectId, ImageStatus status, 
-                                                          List<String> tags, Pageable pageable) {
-        BooleanBuilder predicate = new BooleanBuilder();
+                                                          List<String> tags, TagMatchMode tagMatch,
+                                                          Pageable pageable) {
+        return findImagesByProjectId(projectId, status, tags, tagMatch, CountMode.EXACT, pageable);
+    }
+    
+    /**
+     * 필터 비트맵이 현재 필터 버전이면 개수는 카디널리티를 정확한 개수로 사용 (countMode와 무관)
+     * @param countMode 전체 개수 계산 방식 (EXACT: 캐시 또는 count 쿼리, ESTIMATE: 프로젝트 카운터 추정, NONE: 계산 안 함)
+     */
+    public ImageListPage findImagesByProjectId(Long projectId, ImageStatus status, 
+                                               List<String> tags, TagMatchMode tagMatch,
+                                               CountMode countMode, Pageable pageable) {
+        FilterPlan plan = planFilter(projectId, status, tags, tagMatch);
+        if (plan.isEmpty()) {
+            return new ImageListPage(List.of(), pageable, 0, true);
+        }
+        BooleanBuilder predicate = plan.predicate();
+        List<OrderSpecifier<?>> orders = buildOrderSpecifiers(pageable.getSort());
         
-        predicate.and(qImage.projectId.eq(projectId));
-        predicate.and(qImage.deletedAt.isNull());
+        BooleanBuilder pagePredicate = new BooleanBuilder(predicate);
+        long offset = pageable.getOffset();
+        SeekKey seek = seekKey(orders);
+        if (seek != null && anchorCache.appliesTo(offset)) {
+            OffsetAnchorCache.QueryKey key = new OffsetAnchorCache.QueryKey(projectId, status,
+                ImageTagJdbcRepository.tagNames(tags), tagMatch, seek.property(), seek.ascending());
+            OffsetAnchorCache.Anchor anchor = findAnchor(key, predicate, orders, seek, offset);
+            if (anchor != null) {
+                addAnchorCondition(pagePredicate, anchor, seek);
+                offset -= anchor.offset();
+            }
+        }
         
-        if (status != null) {
-            predicate.and(qImage.status.eq(status));
+        List<Long> ids = queryFactory
+            .select(qImage.id)
+            .from(qImage)
+            .where(pagePredicate)
+            .orderBy(orders.toArray(new OrderSpecifier<?>[0]))
+            .offset(offset)
+            .limit(pageable.getPageSize() + (countMode == CountMode.NONE ? 1L : 0L))
+            .fetch();
+        
+        boolean hasMore = ids.size() > pageable.getPageSize();
+        if (hasMore) {
+            ids = ids.subList(0, pageable.getPageSize());
         }
+        List<ImageListProjection> content = findListProjections(ids);
         
-        if (tags != null && !tags.isEmpty()) {
-            BooleanBuilder tagPredicate = new BooleanBuilder();
-            for (String tag : tags) {
-                tagPredicate.or(qImage.tags.contains(tag));
-            }
-            predicate.and(tagPredicate);
+        // 첫 페이지가 덜 찼거나 마지막 페이지이면 개수를 따로 구하지 않음
+        if (!content.isEmpty() && content.size() < pageable.getPageSize()) {
+            return new ImageListPage(content, pageable, pageable.getOffset() + content.size(), true);
+        }
+        if (plan.total() != null) {
+            return new ImageListPage(content, pageable, plan.total(), true);
         }
         
-        JPAQuery<ImageListProjection> query = queryFactory
+        ImageCountCache.CountKey countKey = new ImageCountCache.CountKey(projectId, status,
+            ImageTagJdbcRepository.tagNames(tags), tagMatch);
+        switch (countMode) {
+            case NONE:
+                // 알려진 하한 (다음 페이지가 있으면 +1)
+                return new ImageListPage(content, pageable,
+                    pageable.getOffset() + content.size() + (hasMore ? 1 : 0), !hasMore);
+            case ESTIMATE:
+                Optional<Long> cached = countCache.exact(countKey, plan.filterVersion());
+                if (cached.isPresent()) {
+                    return new ImageListPage(content, pageable, cached.get(), true);
+                }
+                return new ImageListPage(content, pageable,
+                    Math.max(countCache.estimate(countKey), pageable.getOffset() + content.size()), false);
+            default:
+                return new ImageListPage(content, pageable, exactCount(countKey, plan), true);
+        }
+    }
+    
+    /**
+     * 캐시 또는 count 쿼리로 구한 정확한 개수
+     * 필터 버전을 먼저 읽고 세므로 세는 중 커밋된 쓰기가 있으면 이 개수는 다음 조회에서 쓰이지 않음
+     */
+    private long exactCount(ImageCountCache.CountKey countKey, FilterPlan plan) {
+        Optional<Long> cached = countCache.exact(countKey, plan.filterVersion());
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long total = queryFactory
+            .select(qImage.count())
+            .from(qImage)
+            .where(plan.predicate())
+            .fetchOne();
+        countCache.putExact(countKey, plan.filterVersion(), total);
+        return total;
+    }
+    
+    /**
+     * id 순서대로 목록 컬럼 조회
+     */
+    private List<ImageListProjection> findListProjections(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ImageListProjection> byId = new HashMap<>();
+        queryFactory
             .select(Projections.constructor(ImageListProjection.class,
                 qImage.id,
                 qImage.projectId,
@@ -61,125 +182,264 @@ public class ImageQueryRepository {
                 qImage.status,
                 qImage.tags,
                 qImage.memo,
-                qImage.createdAt
+                qImage.createdAt,
+                qImage.width,
+                qImage.height,
+                qImage.orientation,
+                qImage.frameCount,
+                qImage.placeholder
             ))
             .from(qImage)
-            .where(predicate);
-        
-        List<OrderSpecifier<?>> orders = buildOrderSpecifiers(pageable.getSort());
-        for (OrderSpecifier<?> order : orders) {
-            query.orderBy(order);
-        }
-        
-        long total = queryFactory
-            .select(qImage.count())
-            .from(qImage)
-            .where(predicate)
-            .fetchOne();
-        
-        List<ImageListProjection> content = query
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .fetch();
-        
-        return new PageImpl<>(content, pageable, total);
+            .where(qImage.id.in(ids))
+            .fetch()
+            .forEach(projection -> byId.put(projection.getId(), projection));
+        return ids.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .toList();
     }
     
-    public CursorPageResult<ImageEntity> findImagesByCursor(ImageCursorListQuery query) {
-        BooleanBuilder predicate = new BooleanBuilder();
-        
-        predicate.and(qImage.projectId.eq(query.getProjectId()));
-        predicate.and(qImage.deletedAt.isNull());
-        
-        if (query.getStatus() != null) {
-            predicate.and(qImage.status.eq(query.getStatus()));
+    /**
+     * offset 이하의 가장 가까운 앵커 (현재 쓰기 버전으로 계산한 앵커만 사용)
+     * interval 배수 위치의 앵커가 아직 없으면 알려진 앵커부터 채우는 계산을 백그라운드로 예약
+     * 생성 시각 정렬은 필터 결과가 바뀌는 쓰기에만, 수정 시각 정렬은 썸네일 상태를 포함한 모든 쓰기에 행 위치가 바뀜
+     */
+    private OffsetAnchorCache.Anchor findAnchor(OffsetAnchorCache.QueryKey key, BooleanBuilder predicate,
+                                                List<OrderSpecifier<?>> orders, SeekKey seek, long offset) {
+        long version = anchorVersion(key.projectId(), seek);
+        long target = offset / anchorCache.interval() * anchorCache.interval();
+        OffsetAnchorCache.Anchor known = anchorCache.floor(key, version, target).orElse(null);
+        if (known == null || known.offset() < target) {
+            anchorCache.scheduleBuild(key, version, () -> buildAnchors(key, version, known, predicate, orders, seek, target));
         }
-        
-        if (query.getTags() != null && !query.getTags().isEmpty()) {
-            BooleanBuilder tagPredicate = new BooleanBuilder();
-            for (String tag : query.getTags()) {
-                tagPredicate.or(qImage.tags.contains(tag));
+        return known;
+    }
+    
+    private long anchorVersion(Long projectId, SeekKey seek) {
+        ProjectWriteVersions.Versions versions = writeVersions.current(projectId);
+        return UPDATED_AT.equals(seek.property()) ? versions.version() : versions.filterVersion();
+    }
+    
+    /**
+     * 알려진 앵커부터 interval 행씩 건너뛰며 target까지 경계 행의 정렬 키 계산
+     * @return 계산 중 쓰기 버전이 바뀌었으면 빈 값 (이미 밀린 행 위치이므로 저장하지 않음)
+     */
+    private Optional<List<OffsetAnchorCache.Anchor>> buildAnchors(OffsetAnchorCache.QueryKey key, long version,
+                                                                  OffsetAnchorCache.Anchor from, BooleanBuilder predicate,
+                                                                  List<OrderSpecifier<?>> orders, SeekKey seek, long target) {
+        int interval = anchorCache.interval();
+        List<OffsetAnchorCache.Anchor> computed = new ArrayList<>();
+        OffsetAnchorCache.Anchor known = from;
+        while (known == null || known.offset() < target) {
+            BooleanBuilder stepPredicate = new BooleanBuilder(predicate);
+            if (known != null) {
+                addAnchorCondition(stepPredicate, known, seek);
+            }
+            Tuple boundary = queryFactory
+                .select(seek.path(), qImage.id)
+                .from(qImage)
+                .where(stepPredicate)
+                .orderBy(orders.toArray(new OrderSpecifier<?>[0]))
+                .offset(interval - 1L)
+                .limit(1)
+                .fetchOne();
+            if (boundary == null || boundary.get(seek.path()) == null) {
+                break;
             }
-            predicate.and(tagPredicate);
+            known = new OffsetAnchorCache.Anchor((known != null ? known.offset() : 0L) + interval,
+                boundary.get(seek.path()), boundary.get(qImage.id));
+            computed.add(known);
+        }
+        return anchorVersion(key.projectId(), seek) == version ? Optional.of(computed) : Optional.empty();
+    }
+    
+    private void addAnchorCondition(BooleanBuilder predicate, OffsetAnchorCache.Anchor anchor, SeekKey seek) {
+        addKeysetCondition(predicate, CursorSortKey.fromString(seek.property()), seek.ascending(),
+            anchor.timestamp(), anchor.id());
+    }
+    
+    /**
+     * 앵커를 쓸 수 있는 정렬 (생성/수정 시각 단일 정렬 + id 동률 정렬)
+     */
+    private SeekKey seekKey(List<OrderSpecifier<?>> orders) {
+        if (orders.size() != 2) {
+            return null;
+        }
+        OrderSpecifier<?> order = orders.get(0);
+        if (qImage.createdAt.equals(order.getTarget())) {
+            return new SeekKey(qImage.createdAt, CREATED_AT, order.isAscending());
         }
+        if (qImage.updatedAt.equals(order.getTarget())) {
+            return new SeekKey(qImage.updatedAt, UPDATED_AT, order.isAscending());
+        }
+        return null;
+    }
+    
+    /**
+     * 커서 페이지 조회
+     * 응답에 필요한 컬럼만 읽고 (project_id, deleted_at, 정렬 값, id) 인덱스를 따라 size + 1건에서 멈추며,
+     * 태그는 JSON 대신 페이지 이미지의 image_tags 행을 기본 키로 한 번에 조회
+     */
+    public CursorPageResult<ImageSummary> findImagesByCursor(ImageCursorListQuery query) {
+        FilterPlan plan = planFilter(query.getProjectId(), query.getStatus(), query.getTags(), query.getTagMatch());
+        if (plan.isEmpty()) {
+            return new CursorPageResult<>(List.of(), false, query.getCursor() != null, query.getSize());
+        }
+        BooleanBuilder predicate = plan.predicate();
+        CursorSortKey sortKey = query.getSortKey();
+        boolean ascending = query.getDirection() == SortDirection.ASC;
         
         // Cursor 조건 추가
         if (query.getCursor() != null) {
-            addCursorCondition(predicate, query.getCursor(), query.getDirection(), query.getSortBy());
+            query.verifyCursor();
+            addKeysetCondition(predicate, sortKey, ascending, query.getCursor().getSortValue(), query.getCursor().getId());
         }
         
-        JPAQuery<ImageEntity> mainQuery = queryFactory
-            .selectFrom(qImage)
+        JPAQuery<Tuple> mainQuery = queryFactory
+            .select(qImage.id,
+                qImage.projectId,
+                qImage.originalFilename,
+                qImage.fileSize,
+                qImage.mimeType,
+                qImage.status,
+                qImage.memo,
+                qImage.width,
+                qImage.height,
+                qImage.orientation,
+                qImage.frameCount,
+                qImage.placeholder,
+                qImage.createdAt,
+                qImage.updatedAt)
+            .from(qImage)
             .where(predicate);
         
         // 정렬 조건 추가
-        addCursorOrderBy(mainQuery, query.getDirection(), query.getSortBy());
+        ComparableExpression<?> sortPath = sortPath(sortKey);
+        mainQuery.orderBy(ascending ? sortPath.asc() : sortPath.desc(), ascending ? qImage.id.asc() : qImage.id.desc());
         
         // size + 1 조회하여 hasNext 판단
-        List<ImageEntity> content = mainQuery
+        List<Tuple> rows = mainQuery
             .limit(query.getSize() + 1L)
             .fetch();
             
-        boolean hasNext = content.size() > query.getSize();
+        boolean hasNext = rows.size() > query.getSize();
         if (hasNext) {
-            content = content.subList(0, query.getSize());
+            rows = rows.subList(0, query.getSize());
         }
         
+        Map<Long, List<String>> tagsById = findTagNames(rows.stream().map(row -> row.get(qImage.id)).toList());
+        List<ImageSummary> content = rows.stream()
+            .map(row -> toSummary(row, tagsById.get(row.get(qImage.id))))
+            .toList();
+        
         // Previous 페이지 존재 여부 확인
         boolean hasPrevious = query.getCursor() != null;
         
         return new CursorPageResult<>(content, hasNext, hasPrevious, query.getSize());
     }
     
-    private void addCursorCondition(BooleanBuilder predicate, Cursor cursor, SortDirection direction, String sortBy) {
-        LocalDateTime cursorTimestamp = cursor.getTimestamp();
-        Long cursorId = cursor.getId();
-        
-        if (CREATED_AT.equals(sortBy)) {
-            if (direction == SortDirection.DESC) {
-                // 다음 페이지: createdAt < cursor OR (createdAt = cursor AND id < cursorId)
-                predicate.and(
-                    qImage.createdAt.lt(cursorTimestamp)
-                    .or(qImage.createdAt.eq(cursorTimestamp).and(qImage.id.lt(cursorId)))
-                );
-            } else {
-                // 이전 페이지: createdAt > cursor OR (createdAt = cursor AND id > cursorId)
-                predicate.and(
-                    qImage.createdAt.gt(cursorTimestamp)
-                    .or(qImage.createdAt.eq(cursorTimestamp).and(qImage.id.gt(cursorId)))
-                );
-            }
-        } else if (UPDATED_AT.equals(sortBy)) {
-            if (direction == SortDirection.DESC) {
-                predicate.and(
-                    qImage.updatedAt.lt(cursorTimestamp)
-                    .or(qImage.updatedAt.eq(cursorTimestamp).and(qImage.id.lt(cursorId)))
-                );
-            } else {
-                predicate.and(
-                    qImage.updatedAt.gt(cursorTimestamp)
-                    .or(qImage.updatedAt.eq(cursorTimestamp).and(qImage.id.gt(cursorId)))
-                );
-            }
+    /**
+     * 이미지별 태그 이름 (image_tags 기본 키 (image_id, tag) 순서)
+     */
+    private Map<Long, List<String>> findTagNames(List<Long> imageIds) {
+        if (imageIds.isEmpty()) {
+            return Map.of();
         }
+        Map<Long, List<String>> tagsById = new HashMap<>();
+        queryFactory
+            .select(qImageTag.id.imageId, qImageTag.id.tag)
+            .from(qImageTag)
+            .where(qImageTag.id.imageId.in(imageIds))
+            .orderBy(qImageTag.id.imageId.asc(), qImageTag.id.tag.asc())
+            .fetch()
+            .forEach(row -> tagsById.computeIfAbsent(row.get(qImageTag.id.imageId), id -> new ArrayList<>())
+                .add(row.get(qImageTag.id.tag)));
+        return tagsById;
     }
     
-    private void addCursorOrderBy(JPAQuery<ImageEntity> query, SortDirection direction, String sortBy) {
-        boolean isAsc = direction == SortDirection.ASC;
-        
-        if (UPDATED_AT.equals(sortBy)) {
-            query.orderBy(isAsc ? qImage.updatedAt.asc() : qImage.updatedAt.desc());
-            query.orderBy(isAsc ? qImage.id.asc() : qImage.id.desc());
+    private ImageSummary toSummary(Tuple row, List<String> tags) {
+        Integer width = row.get(qImage.width);
+        Integer height = row.get(qImage.height);
+        Integer orientation = row.get(qImage.orientation);
+        Integer frameCount = row.get(qImage.frameCount);
+        ImageMetadata metadata = width != null && height != null
+            ? new ImageMetadata(width, height,
+                orientation != null ? orientation : ImageMetadata.DEFAULT_ORIENTATION,
+                frameCount != null ? frameCount : 1)
+            : null;
+        Long fileSize = row.get(qImage.fileSize);
+        
+        return new ImageSummary(
+            ImageId.of(row.get(qImage.id)),
+            ProjectId.of(row.get(qImage.projectId)),
+            row.get(qImage.originalFilename),
+            fileSize != null ? fileSize : 0L,
+            row.get(qImage.mimeType),
+            row.get(qImage.status),
+            tags,
+            row.get(qImage.memo),
+            metadata,
+            row.get(qImage.placeholder),
+            row.get(qImage.createdAt),
+            row.get(qImage.updatedAt)
+        );
+    }
+    
+    /**
+     * 키셋 이후 조건
+     * (key < value OR (key = value AND id < cursorId))와 같은 뜻이지만 앞에 key <= value를 두어
+     * 인덱스의 세 번째 컬럼까지 범위 조건으로 쓰고 OR는 범위 안의 행에만 적용
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void addKeysetCondition(BooleanBuilder predicate, CursorSortKey sortKey, boolean ascending,
+                                    Comparable value, Long id) {
+        ComparableExpression key = sortPath(sortKey);
+        
+        if (ascending) {
+            // key >= value AND (key > value OR id > cursorId)
+            predicate.and(key.goe(value));
+            predicate.and(key.gt(value).or(qImage.id.gt(id)));
         } else {
-            // 기본값은 createdAt
-            query.orderBy(isAsc ? qImage.createdAt.asc() : qImage.createdAt.desc());
-            query.orderBy(isAsc ? qImage.id.asc() : qImage.id.desc());
+            // key <= value AND (key < value OR id < cursorId)
+            predicate.and(key.loe(value));
+            predicate.and(key.lt(value).or(qImage.id.lt(id)));
         }
     }
     
-    public long countImagesByProjectId(Long projectId, ImageStatus status, List<String> tags) {
-        BooleanBuilder predicate = new BooleanBuilder();
+    /**
+     * 정렬 기준 컬럼 (schema.sql의 idx_images_cursor_* 인덱스 세 번째 컬럼)
+     */
+    private ComparableExpression<?> sortPath(CursorSortKey sortKey) {
+        return switch (sortKey) {
+            case CREATED_AT -> qImage.createdAt;
+            case UPDATED_AT -> qImage.updatedAt;
+            case FILENAME -> qImage.originalFilename;
+            case FILE_SIZE -> Expressions.asComparable(qImage.fileSize);
+        };
+    }
+    
+    public long countImagesByProjectId(Long projectId, ImageStatus status, List<String> tags, TagMatchMode tagMatch) {
+        FilterPlan plan = planFilter(projectId, status, tags, tagMatch);
+        if (plan.total() != null) {
+            return plan.total();
+        }
         
+        return exactCount(new ImageCountCache.CountKey(projectId, status, ImageTagJdbcRepository.tagNames(tags), tagMatch),
+            plan);
+    }
+    
+    /**
+     * 필터 조건 구성
+     * 프로젝트 필터 버전을 먼저 읽고, 비트맵 색인이 그 버전을 반영하고 있으면 개수는 카디널리티로 대신하며 (0건이면 DB 조회 생략)
+     * 태그 필터 결과가 in-list-limit 이하이면 image_tags 서브쿼리 대신 기본 키 IN 목록으로 조회
+     * 색인이 없거나 버전이 다르거나 결과가 크면 DB 조건 그대로 사용
+     */
+    private FilterPlan planFilter(Long projectId, ImageStatus status, List<String> tags, TagMatchMode tagMatch) {
+        Set<String> tagNames = ImageTagJdbcRepository.tagNames(tags);
+        long filterVersion = writeVersions.current(projectId).filterVersion();
+        Optional<ProjectBitmapIndex.Match> match = filterIndex.match(projectId, status, tagNames, tagMatch, filterVersion);
+        
+        BooleanBuilder predicate = new BooleanBuilder();
         predicate.and(qImage.projectId.eq(projectId));
         predicate.and(qImage.deletedAt.isNull());
         
@@ -187,19 +447,38 @@ public class ImageQueryRepository {
             predicate.and(qImage.status.eq(status));
         }
         
-        if (tags != null && !tags.isEmpty()) {
-            BooleanBuilder tagPredicate = new BooleanBuilder();
-            for (String tag : tags) {
-                tagPredicate.or(qImage.tags.contains(tag));
-            }
-            predicate.and(tagPredicate);
+        if (match.isPresent() && !tagNames.isEmpty() && match.get().count() <= inListLimit) {
+            predicate.and(match.get().isEmpty() ? null : qImage.id.in(match.get().imageIds()));
+        } else {
+            predicate.and(tagCondition(projectId, tags, tagMatch));
+        }
+        return new FilterPlan(predicate, filterVersion, match.map(ProjectBitmapIndex.Match::count).orElse(null));
+    }
+    
+    /**
+     * 태그 조건 (태그가 없으면 null)
+     * image_tags의 (project_id, tag, image_id) 인덱스에서 이미지 ID를 찾아 images 기본 키와 세미 조인하므로
+     * 태그 JSON을 LIKE로 훑지 않고, 'cat'이 'category'에 일치하는 오탐도 없음
+     * - ANY: 태그 중 하나라도 있는 이미지
+     * - ALL: 모든 태그가 있는 이미지 (이미지별 일치 태그 수 = 요청 태그 수)
+     */
+    private BooleanExpression tagCondition(Long projectId, List<String> tags, TagMatchMode tagMatch) {
+        Set<String> tagNames = ImageTagJdbcRepository.tagNames(tags);
+        if (tagNames.isEmpty()) {
+            return null;
         }
         
-        return queryFactory
-            .select(qImage.count())
-            .from(qImage)
-            .where(predicate)
-            .fetchOne();
+        JPQLQuery<Long> matchingImageIds = JPAExpressions
+            .select(qImageTag.id.imageId)
+            .from(qImageTag)
+            .where(qImageTag.projectId.eq(projectId), qImageTag.id.tag.in(tagNames));
+        
+        if (tagMatch == TagMatchMode.ALL && tagNames.size() > 1) {
+            matchingImageIds
+                .groupBy(qImageTag.id.imageId)
+                .having(qImageTag.id.tag.count().eq((long) tagNames.size()));
+        }
+        return qImage.id.in(matchingImageIds);
     }
     
     private List<OrderSpecifier<?>> buildOrderSpecifiers(Sort sort) {
@@ -207,7 +486,6 @@ public class ImageQueryRepository {
         
         if (sort.isEmpty()) {
             orders.add(qImage.createdAt.desc());
-            return orders;
         }
         
         for (Sort.Order order : sort) {
@@ -221,15 +499,33 @@ public class ImageQueryRepository {
                 case "filename":
                     orders.add(order.isAscending() ? qImage.originalFilename.asc() : qImage.originalFilename.desc());
                     break;
+                case "fileSize":
+                    orders.add(order.isAscending() ? qImage.fileSize.asc() : qImage.fileSize.desc());
+                    break;
                 default:
                     orders.add(qImage.createdAt.desc());
                     break;
             }
         }
         
+        // 같은 정렬 값끼리 페이지 경계가 흔들리지 않도록 id로 동률 정렬
+        orders.add(orders.get(orders.size() - 1).isAscending() ? qImage.id.asc() : qImage.id.desc());
         return orders;
     }
     
+    private record SeekKey(DateTimePath<LocalDateTime> path, String property, boolean ascending) {
+    }
+    
+    /**
+     * @param total 필터 비트맵으로 구한 정확한 개수 (색인을 쓸 수 없으면 null)
+     */
+    private record FilterPlan(BooleanBuilder predicate, long filterVersion, Long total) {
+        
+        boolean isEmpty() {
+            return total != null && total == 0;
+        }
+    }
+    
     public static class ImageListProjection {
         private final Long id;
         private final Long projectId;
@@ -240,10 +536,16 @@ public class ImageQueryRepository {
         private final String tags;
         private final String memo;
         private final java.time.LocalDateTime createdAt;
+        private final Integer width;
+        private final Integer height;
+        private final Integer orientation;
+        private final Integer frameCount;
+        private final String placeholder;
         
         public ImageListProjection(Long id, Long projectId, String filename, Long fileSize, 
                                  String mimeType, ImageStatus status, String tags, String memo, 
-                                 java.time.LocalDateTime createdAt) {
+                                 java.time.LocalDateTime createdAt, Integer width, Integer height,
+                                 Integer orientation, Integer frameCount, String placeholder) {
             this.id = id;
             this.projectId = projectId;
             this.filename = filename;
@@ -253,6 +555,11 @@ public class ImageQueryRepository {
             this.tags = tags;
             this.memo = memo;
             this.createdAt = createdAt;
+            this.width = width;
+            this.height = height;
+            this.orientation = orientation;
+            this.frameCount = frameCount;
+            this.placeholder = placeholder;
         }
         
         public Long getId() {
@@ -293,6 +600,39 @@ public class ImageQueryRepository {
         public java.time.LocalDateTime getCreatedAt() {
             return createdAt;
         }
+        
+        public String getPlaceholder() {
+            return placeholder;
+        }
+        
+        /**
+         * 헤더 메타데이터 (업로드 시 추출되지 않았으면 null)
+         */
+        public ImageMetadata getMetadata() {
+            if (width == null || height == null) {
+                return null;
+            }
+            return new ImageMetadata(width, height,
+                orientation != null ? orientation : ImageMetadata.DEFAULT_ORIENTATION,
+                frameCount != null ? frameCount : 1);
+        }
+    }
+    
+    /**
+     * 오프셋 목록 페이지 (전체 개수가 정확한지 함께 전달)
+     */
+    public static class ImageListPage extends PageImpl<ImageListProjection> {
+        
+        private final boolean totalExact;
+        
+        public ImageListPage(List<ImageListProjection> content, Pageable pageable, long total, boolean totalExact) {
+            super(content, pageable, total);
+            this.totalExact = totalExact;
+        }
+        
+        public boolean isTotalExact() {
+            return totalExact;
+        }
     }
     
     public static class CursorPageResult<T> {
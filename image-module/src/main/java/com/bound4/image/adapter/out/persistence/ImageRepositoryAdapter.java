@@ -1,33 +1,100 @@
 package com.bound4.image.adapter.out.persistence;
 
+import com.bound4.image.application.port.in.ImageArchiveQuery;
 import com.bound4.image.application.port.in.ImageCursorListQuery;
 import com.bound4.image.application.port.in.ImageCursorListUseCase;
+import com.bound4.image.application.port.in.ImageExportQuery;
 import com.bound4.image.application.port.out.ImageRepository;
 import com.bound4.image.domain.*;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Repository
 public class ImageRepositoryAdapter implements ImageRepository {
     
+    private static final List<ThumbnailProcessingStatus> IDLE_THUMBNAIL_STATUSES = List.of(
+        ThumbnailProcessingStatus.PENDING, ThumbnailProcessingStatus.COMPLETED, ThumbnailProcessingStatus.FAILED_PERMANENT);
+    private static final List<ThumbnailProcessingStatus> FINISHED_THUMBNAIL_STATUSES = List.of(
+        ThumbnailProcessingStatus.COMPLETED, ThumbnailProcessingStatus.FAILED_PERMANENT);
+    
     private final ImageJpaRepository jpaRepository;
     private final ImageMapper mapper;
     private final ImageQueryRepository queryRepository;
+    private final ImageTagJdbcRepository imageTagRepository;
+    private final ProjectBitmapIndex filterIndex;
+    private final OffsetAnchorCache anchorCache;
+    private final ImageCountCache countCache;
+    private final ProjectWriteVersions writeVersions;
+    private final ImageExportJdbcRepository exportRepository;
     
-    public ImageRepositoryAdapter(ImageJpaRepository jpaRepository, ImageMapper mapper, ImageQueryRepository queryRepository) {
+    public ImageRepositoryAdapter(ImageJpaRepository jpaRepository, ImageMapper mapper, ImageQueryRepository queryRepository,
+                                  ImageTagJdbcRepository imageTagRepository, ProjectBitmapIndex filterIndex,
+                                  OffsetAnchorCache anchorCache, ImageCountCache countCache,
+                                  ProjectWriteVersions writeVersions, ImageExportJdbcRepository exportRepository) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
         this.queryRepository = queryRepository;
+        this.imageTagRepository = imageTagRepository;
+        this.filterIndex = filterIndex;
+        this.anchorCache = anchorCache;
+        this.countCache = countCache;
+        this.writeVersions = writeVersions;
+        this.exportRepository = exportRepository;
     }
     
     @Override
     public Image save(Image image) {
         ImageEntity entity = mapper.toEntity(image);
         ImageEntity savedEntity = jpaRepository.save(entity);
+        
+        // 태그 필터용 image_tags 행 동기화 (태그 없는 새 이미지는 조회도 생략)
+        Set<String> tags = ImageTagJdbcRepository.tagNames(image.getTags());
+        if (image.getId() != null || !tags.isEmpty()) {
+            imageTagRepository.replaceTags(savedEntity.getId(), savedEntity.getProjectId(), tags);
+        }
+        
+        // 공유 쓰기 버전은 같은 트랜잭션에서 증가 (다른 노드의 캐시도 커밋과 함께 무효화)
+        Long projectId = savedEntity.getProjectId();
+        long filterVersion = writeVersions.bump(projectId, true).filterVersion();
+        
+        // 필터 색인/개수 카운터 갱신, 오프셋 앵커/개수 캐시 무효화 (커밋 후 반영)
+        Long imageId = savedEntity.getId();
+        boolean inserted = image.getId() == null;
+        afterCommit(() -> {
+            filterIndex.onSaved(projectId, imageId, image.getStatus(), tags, image.isDeleted(), filterVersion);
+            anchorCache.invalidate(projectId);
+            countCache.invalidate(projectId);
+            if (inserted) {
+                countCache.onInserted(projectId, image.getStatus(), tags);
+            }
+        });
         return mapper.toDomain(savedEntity);
     }
+    
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 
     @Override
     public Optional<Image> findByHash(FileHash fileHash) {
@@ -42,24 +109,49 @@ public class ImageRepositoryAdapter implements ImageRepository {
     }
     
     @Override
-    public ImageCursorListUseCase.CursorPageResult<Image> findImagesByCursor(ImageCursorListQuery query) {
-        ImageQueryRepository.CursorPageResult<ImageEntity> entityResult = queryRepository.findImagesByCursor(query);
-        
-        List<Image> images = entityResult.getContent().stream()
+    public List<Image> findAllByIds(Collection<ImageId> imageIds) {
+        if (imageIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = imageIds.stream().map(ImageId::value).toList();
+        return jpaRepository.findByIdInAndDeletedAtIsNull(ids).stream()
                 .map(mapper::toDomain)
                 .toList();
+    }
+    
+    @Override
+    public Map<ImageId, ThumbnailProcessingStatus> findThumbnailStatuses(Collection<ImageId> imageIds) {
+        if (imageIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = imageIds.stream().map(ImageId::value).toList();
+        Map<ImageId, ThumbnailProcessingStatus> statuses = new HashMap<>();
+        for (ImageJpaRepository.ThumbnailStatusRow row : jpaRepository.findThumbnailStatuses(ids)) {
+            statuses.put(ImageId.of(row.getId()), row.getThumbnailProcessingStatus());
+        }
+        return statuses;
+    }
+    
+    @Override
+    public ImageCursorListUseCase.CursorPageResult<ImageSummary> findImagesByCursor(ImageCursorListQuery query) {
+        ImageQueryRepository.CursorPageResult<ImageSummary> entityResult = queryRepository.findImagesByCursor(query);
+        
+        List<ImageSummary> images = entityResult.getContent();
         
         Cursor nextCursor = null;
         Cursor previousCursor = null;
+        long filterFingerprint = query.filterFingerprint();
         
         if (entityResult.hasNext() && !images.isEmpty()) {
-            Image lastImage = images.get(images.size() - 1);
-            nextCursor = Cursor.of(lastImage.getId().value(), getTimestampForSort(lastImage, query.getSortBy()));
+            ImageSummary lastImage = images.get(images.size() - 1);
+            nextCursor = Cursor.of(lastImage, query.getSortKey(), query.getDirection(), filterFingerprint);
         }
         
+        // 이전 페이지는 반대 방향으로 첫 항목 이전을 조회
         if (entityResult.hasPrevious() && !images.isEmpty()) {
-            Image firstImage = images.get(0);
-            previousCursor = Cursor.of(firstImage.getId().value(), getTimestampForSort(firstImage, query.getSortBy()));
+            ImageSummary firstImage = images.get(0);
+            SortDirection reverse = query.getDirection() == SortDirection.ASC ? SortDirection.DESC : SortDirection.ASC;
+            previousCursor = Cursor.of(firstImage, query.getSortKey(), reverse, filterFingerprint);
         }
         
         PageInfo pageInfo = PageInfo.of(
@@ -74,10 +166,111 @@ public class ImageRepositoryAdapter implements ImageRepository {
         return new ImageCursorListUseCase.CursorPageResult<>(images, pageInfo);
     }
     
-    private java.time.LocalDateTime getTimestampForSort(Image image, String sortBy) {
-        if ("updatedAt".equals(sortBy)) {
-            return image.getUpdatedAt();
+    @Override
+    public long streamImages(ImageExportQuery query, Consumer<ImageSummary> consumer) {
+        return exportRepository.stream(query.getProjectId(), query.getStatus(), query.getTags(),
+                query.getTagMatch(), consumer);
+    }
+    
+    @Override
+    public List<ImageArchiveEntry> findArchiveEntries(ImageArchiveQuery query, Long afterId, int limit) {
+        return exportRepository.findArchiveEntries(query.getProjectId(), query.getImageIds(), afterId, limit);
+    }
+    
+    @Override
+    public List<Image> findStuckThumbnails(Collection<ThumbnailProcessingStatus> statuses, LocalDateTime staleBefore,
+                                           Long afterId, int limit) {
+        return jpaRepository.findStuckThumbnails(statuses, staleBefore, afterId, PageRequest.of(0, limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+    
+    @Override
+    public boolean markThumbnailResubmitted(ImageId imageId, ThumbnailProcessingStatus expected, LocalDateTime staleBefore,
+                                            int maxResubmits) {
+        boolean marked = jpaRepository.markThumbnailResubmitted(imageId.value(), expected, staleBefore, maxResubmits,
+            LocalDateTime.now(), ThumbnailProcessingStatus.PROCESSING) == 1;
+        if (marked) {
+            writeVersions.bumpForImages(List.of(imageId.value()));
+        }
+        return marked;
+    }
+    
+    @Override
+    public boolean markThumbnailResubmitsExhausted(ImageId imageId, ThumbnailProcessingStatus expected,
+                                                   LocalDateTime staleBefore, int maxResubmits) {
+        boolean marked = jpaRepository.markThumbnailResubmitsExhausted(imageId.value(), expected, staleBefore, maxResubmits,
+            LocalDateTime.now(), ThumbnailProcessingStatus.FAILED_PERMANENT) == 1;
+        if (marked) {
+            writeVersions.bumpForImages(List.of(imageId.value()));
+        }
+        return marked;
+    }
+    
+    @Override
+    public boolean markThumbnailRetryable(ImageId imageId) {
+        boolean marked = jpaRepository.markThumbnailRetryable(
+            imageId.value(), List.of(ThumbnailProcessingStatus.PROCESSING, ThumbnailProcessingStatus.FAILED_RETRYABLE),
+            LocalDateTime.now(), ThumbnailProcessingStatus.FAILED_RETRYABLE) == 1;
+        if (marked) {
+            writeVersions.bumpForImages(List.of(imageId.value()));
+        }
+        return marked;
+    }
+    
+    @Override
+    public List<Image> findByThumbnailStatus(ThumbnailProcessingStatus status, ProjectId projectId, Long afterId, int limit) {
+        Long projectIdValue = projectId != null ? projectId.value() : null;
+        return jpaRepository.findByThumbnailStatus(status, projectIdValue, afterId, PageRequest.of(0, limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+    
+    @Override
+    public List<Image> findByProjectAfterId(ProjectId projectId, Long afterId, int limit) {
+        return jpaRepository.findByProjectAfterId(projectId.value(), afterId, PageRequest.of(0, limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+    
+    @Override
+    public long countByProject(ProjectId projectId) {
+        return jpaRepository.countByProjectIdAndDeletedAtIsNull(projectId.value());
+    }
+    
+    @Override
+    public List<ProjectId> findProjectIdsWithPerceptualHash() {
+        return jpaRepository.findProjectIdsWithPerceptualHash().stream()
+                .map(ProjectId::of)
+                .toList();
+    }
+    
+    @Override
+    public List<PerceptualHashEntry> findPerceptualHashes(ProjectId projectId, Long afterId, int limit) {
+        return jpaRepository.findPerceptualHashes(projectId.value(), afterId, PageRequest.of(0, limit)).stream()
+                .map(row -> new PerceptualHashEntry(ImageId.of(row.getId()), PerceptualHash.of(row.getPerceptualHash())))
+                .toList();
+    }
+    
+    @Override
+    public List<ImageId> markThumbnailProcessing(Collection<ImageId> imageIds) {
+        // 이미지별 조건부 UPDATE로 실제 변경된 ID만 모음 (일괄 UPDATE는 어느 행이 변경되었는지 알 수 없음)
+        LocalDateTime now = LocalDateTime.now();
+        List<ImageId> marked = new ArrayList<>();
+        for (ImageId imageId : imageIds) {
+            if (jpaRepository.markThumbnailProcessing(
+                    imageId.value(), IDLE_THUMBNAIL_STATUSES, now, ThumbnailProcessingStatus.PROCESSING) == 1) {
+                marked.add(imageId);
+            }
         }
-        return image.getCreatedAt(); // 기본값
+        if (!marked.isEmpty()) {
+            writeVersions.bumpForImages(marked.stream().map(ImageId::value).toList());
+        }
+        return marked;
+    }
+    
+    @Override
+    public long countThumbnailsFinished(ProjectId projectId, long upToImageId) {
+        return jpaRepository.countThumbnailsFinished(projectId.value(), upToImageId, FINISHED_THUMBNAIL_STATUSES);
     }
-}
\ No newline at end of file
+}
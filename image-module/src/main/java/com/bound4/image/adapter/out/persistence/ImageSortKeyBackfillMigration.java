@@ -0,0 +1,62 @@
+package com.bound4.image.adapter.out.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 커서 정렬 컬럼(original_filename, file_size)의 NULL을 빈 문자열/0으로 채우는 마이그레이션
+ * 키셋 조건 (key >= v AND (key > v OR id > k))은 NULL 행과 일치하지 않아 페이지 경계 뒤의 NULL 행이 빠지므로
+ * schema.sql은 두 컬럼을 NOT NULL로 두고, 그 전에 만든 DB는 이 백필이 끝난 뒤 NOT NULL 제약을 추가
+ * 끝나면 data_migrations에 완료 표시를 남기고 이후 시작 시에는 그 행 조회 한 번으로 끝남
+ */
+@Component
+public class ImageSortKeyBackfillMigration {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ImageSortKeyBackfillMigration.class);
+    
+    static final String MIGRATION_NAME = "image_sort_keys_not_null";
+    
+    static final String FILENAME_SQL = "UPDATE images SET original_filename = '' WHERE original_filename IS NULL";
+    
+    static final String FILE_SIZE_SQL = "UPDATE images SET file_size = 0 WHERE file_size IS NULL";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public ImageSortKeyBackfillMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        migrate();
+    }
+    
+    /**
+     * @return 채운 행 수
+     */
+    public long migrate() {
+        Integer completed = jdbcTemplate.queryForObject(ImageTagBackfillMigration.COMPLETED_SQL, Integer.class,
+                MIGRATION_NAME);
+        if (completed != null && completed > 0) {
+            return 0;
+        }
+        
+        long updated = jdbcTemplate.update(FILENAME_SQL) + jdbcTemplate.update(FILE_SIZE_SQL);
+        try {
+            jdbcTemplate.update(ImageTagBackfillMigration.MARK_COMPLETED_SQL, MIGRATION_NAME,
+                    Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 동시에 완료한 경우
+        }
+        logger.info("Image sort key backfill completed - rows: {}", updated);
+        return updated;
+    }
+}
@@ -0,0 +1,158 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * images.tags JSON 컬럼에서 image_tags 행을 채우는 마이그레이션
+ * 태그 JSON은 있지만 태그 행이 하나도 없는 이미지만 키셋 순서로 읽으므로 여러 번 실행해도 안전함
+ * 빈 JSON이나 색인할 수 없는 태그만 있는 이미지는 태그 행이 생기지 않아 매번 다시 읽히므로,
+ * 끝까지 읽으면 data_migrations에 완료 표시를 남기고 이후 시작 시에는 그 행 조회 한 번으로 끝남
+ * (완료 후의 태그 변경은 이미지 저장 시 image_tags에 함께 기록됨)
+ * 태그 행을 추가한 프로젝트는 필터 버전을 올려 다른 노드의 개수 캐시도 다시 세도록 함
+ */
+@Component
+public class ImageTagBackfillMigration {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ImageTagBackfillMigration.class);
+    
+    static final String MIGRATION_NAME = "image_tags_backfill";
+    
+    static final String COMPLETED_SQL = "SELECT COUNT(*) FROM data_migrations WHERE name = ?";
+    
+    static final String MARK_COMPLETED_SQL = "INSERT INTO data_migrations (name, completed_at) VALUES (?, ?)";
+    
+    static final String SELECT_SQL =
+            "SELECT i.id, i.project_id, i.tags FROM images i " +
+            "WHERE i.id > ? AND i.tags IS NOT NULL AND i.tags <> '{}' " +
+            "AND NOT EXISTS (SELECT 1 FROM image_tags t WHERE t.image_id = i.id) " +
+            "ORDER BY i.id LIMIT ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageTagJdbcRepository imageTagRepository;
+    private final ProjectWriteVersions writeVersions;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final boolean enabled;
+    private final int batchSize;
+    
+    public ImageTagBackfillMigration(JdbcTemplate jdbcTemplate,
+                                     ImageTagJdbcRepository imageTagRepository,
+                                     ProjectWriteVersions writeVersions,
+                                     @Value("${image.tags.backfill.enabled:true}") boolean enabled,
+                                     @Value("${image.tags.backfill.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageTagRepository = imageTagRepository;
+        this.writeVersions = writeVersions;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            migrate();
+        }
+    }
+    
+    /**
+     * @return 추가한 태그 행 수
+     */
+    public long migrate() {
+        if (isCompleted()) {
+            return 0;
+        }
+        long startTime = System.currentTimeMillis();
+        long afterId = 0L;
+        long images = 0;
+        long inserted = 0;
+        
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(SELECT_SQL,
+                    (rs, rowNum) -> new Row(rs.getLong(1), rs.getLong(2), rs.getString(3)),
+                    afterId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            
+            List<ImageTagJdbcRepository.TaggedImage> tagged = new ArrayList<>();
+            for (Row row : rows) {
+                Set<String> tags = parse(row);
+                if (!tags.isEmpty()) {
+                    tagged.add(new ImageTagJdbcRepository.TaggedImage(row.imageId(), row.projectId(), tags));
+                }
+            }
+            inserted += insert(tagged);
+            images += tagged.size();
+            tagged.stream()
+                    .map(ImageTagJdbcRepository.TaggedImage::projectId)
+                    .collect(Collectors.toCollection(LinkedHashSet::new))
+                    .forEach(projectId -> writeVersions.bump(projectId, true));
+            afterId = rows.get(rows.size() - 1).imageId();
+            
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+        
+        markCompleted();
+        logger.info("Image tag backfill completed - images: {}, tags: {}, {}ms", 
+                   images, inserted, System.currentTimeMillis() - startTime);
+        return inserted;
+    }
+    
+    private boolean isCompleted() {
+        Integer count = jdbcTemplate.queryForObject(COMPLETED_SQL, Integer.class, MIGRATION_NAME);
+        return count != null && count > 0;
+    }
+    
+    private void markCompleted() {
+        try {
+            jdbcTemplate.update(MARK_COMPLETED_SQL, MIGRATION_NAME, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 동시에 완료한 경우
+        }
+    }
+    
+    private long insert(List<ImageTagJdbcRepository.TaggedImage> tagged) {
+        try {
+            return imageTagRepository.insertTags(tagged);
+        } catch (DuplicateKeyException e) {
+            // 조회와 추가 사이에 이미지가 수정되어 태그 행이 먼저 생긴 경우 이미지별로 맞춤
+            for (ImageTagJdbcRepository.TaggedImage image : tagged) {
+                imageTagRepository.replaceTags(image.imageId(), image.projectId(), image.tags());
+            }
+            return tagged.stream().mapToLong(image -> image.tags().size()).sum();
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Set<String> parse(Row row) {
+        try {
+            Map<String, Object> tags = objectMapper.readValue(row.tagsJson(), Map.class);
+            return ImageTagJdbcRepository.tagNames(tags);
+        } catch (JsonProcessingException e) {
+            logger.warn("Skipping unreadable tags of image: {}", row.imageId());
+            return Set.of();
+        }
+    }
+    
+    private record Row(Long imageId, Long projectId, String tagsJson) {
+    }
+}
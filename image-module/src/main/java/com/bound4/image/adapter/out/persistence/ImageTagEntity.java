@@ -0,0 +1,36 @@
+package com.bound4.image.adapter.out.persistence;
+
+import jakarta.persistence.*;
+
+/**
+ * 이미지 태그 (이미지당 태그 하나에 한 행)
+ * 목록 필터는 (project_id, tag, image_id) 인덱스에서 이미지 ID를 찾아 images 기본 키로 조인
+ * 쓰기는 ImageTagJdbcRepository가 담당하며 이 엔티티는 QueryDSL 조회용
+ */
+@Entity
+@Table(name = "image_tags")
+public class ImageTagEntity {
+    
+    public static final int MAX_TAG_LENGTH = 100;
+    
+    @EmbeddedId
+    private ImageTagId id;
+    
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+    
+    protected ImageTagEntity() {}
+    
+    public ImageTagEntity(ImageTagId id, Long projectId) {
+        this.id = id;
+        this.projectId = projectId;
+    }
+    
+    public ImageTagId getId() {
+        return id;
+    }
+    
+    public Long getProjectId() {
+        return projectId;
+    }
+}
@@ -0,0 +1,44 @@
+package com.bound4.image.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class ImageTagId implements Serializable {
+    
+    @Column(name = "image_id", nullable = false)
+    private Long imageId;
+    
+    @Column(name = "tag", nullable = false, length = ImageTagEntity.MAX_TAG_LENGTH)
+    private String tag;
+    
+    protected ImageTagId() {}
+    
+    public ImageTagId(Long imageId, String tag) {
+        this.imageId = imageId;
+        this.tag = tag;
+    }
+    
+    public Long getImageId() {
+        return imageId;
+    }
+    
+    public String getTag() {
+        return tag;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImageTagId that)) return false;
+        return Objects.equals(imageId, that.imageId) && Objects.equals(tag, that.tag);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(imageId, tag);
+    }
+}
@@ -0,0 +1,117 @@
+package com.bound4.image.adapter.out.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * image_tags 쓰기 (이미지 태그 맵의 키를 행 단위로 동기화)
+ * 저장할 때마다 전체를 지우고 다시 넣지 않고 현재 행과 비교해 바뀐 태그만 삭제/추가
+ */
+@Component
+public class ImageTagJdbcRepository {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ImageTagJdbcRepository.class);
+    
+    static final String SELECT_SQL = "SELECT tag FROM image_tags WHERE image_id = ?";
+    static final String INSERT_SQL = "INSERT INTO image_tags (image_id, project_id, tag) VALUES (?, ?, ?)";
+    static final String DELETE_SQL = "DELETE FROM image_tags WHERE image_id = ? AND tag = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public ImageTagJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    /**
+     * 이미지의 태그 행을 주어진 태그 집합과 같게 맞춤
+     */
+    public void replaceTags(Long imageId, Long projectId, Set<String> tags) {
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(SELECT_SQL, String.class, imageId));
+        
+        List<Object[]> deletes = new ArrayList<>();
+        for (String tag : existing) {
+            if (!tags.contains(tag)) {
+                deletes.add(new Object[]{imageId, tag});
+            }
+        }
+        List<Object[]> inserts = new ArrayList<>();
+        for (String tag : tags) {
+            if (!existing.contains(tag)) {
+                inserts.add(new Object[]{imageId, projectId, tag});
+            }
+        }
+        
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+    
+    /**
+     * 태그 행이 없는 이미지들에 태그 일괄 추가 (마이그레이션용)
+     */
+    public int insertTags(List<TaggedImage> images) {
+        List<Object[]> inserts = new ArrayList<>();
+        for (TaggedImage image : images) {
+            for (String tag : image.tags()) {
+                inserts.add(new Object[]{image.imageId(), image.projectId(), tag});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+        return inserts.size();
+    }
+    
+    /**
+     * 태그 맵의 키를 정규화한 태그 집합
+     */
+    public static Set<String> tagNames(Map<String, Object> tags) {
+        return tags != null ? tagNames(tags.keySet()) : Set.of();
+    }
+    
+    /**
+     * 앞뒤 공백을 제거하고 빈 값과 중복을 뺀 태그 집합 (입력 순서 유지)
+     * 컬럼 길이를 넘는 태그는 색인할 수 없으므로 제외
+     */
+    public static Set<String> tagNames(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String tag : tags) {
+            if (tag == null) {
+                continue;
+            }
+            String name = tag.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (name.length() > ImageTagEntity.MAX_TAG_LENGTH) {
+                logger.warn("Tag longer than {} characters is not indexed: {}...", 
+                           ImageTagEntity.MAX_TAG_LENGTH, name.substring(0, 20));
+                continue;
+            }
+            names.add(name);
+        }
+        return names;
+    }
+    
+    /**
+     * 태그를 추가할 이미지
+     */
+    public record TaggedImage(Long imageId, Long projectId, Set<String> tags) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.application.port.out.ThumbnailStatusSink;
+import com.bound4.image.domain.ThumbnailStatusUpdate;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * 썸네일 상태 변경을 모아 JDBC 배치로 기록하는 싱크
+ * 첫 요청이 도착한 뒤 최대 window-ms 동안(또는 max-batch-size 만큼) 모아서 한 번에 실행하며,
+ * 엔티티 조회/병합 없이 현재 상태를 조건으로 하는 UPDATE만 사용
+ * 적용된 행이 있으면 배치 실행 후 해당 프로젝트의 쓰기 버전을 증가시켜 첫 페이지 캐시에 반영
+ */
+@Component
+public class JdbcThumbnailStatusSink implements ThumbnailStatusSink {
+    
+    private static final Logger logger = LoggerFactory.getLogger(JdbcThumbnailStatusSink.class);
+    
+    static final String COMPLETE_SQL =
+            "UPDATE images SET thumbnail_key = ?, placeholder = ?, perceptual_hash = ?, thumbnail_processing_status = 'COMPLETED', " +
+            "thumbnail_resubmit_count = 0, updated_at = ?, version = COALESCE(version, 0) + 1 " +
+            "WHERE id = ? AND thumbnail_processing_status IN ('PROCESSING', 'FAILED_RETRYABLE') " +
+            "AND deleted_at IS NULL";
+    
+    static final String FAIL_SQL =
+            "UPDATE images SET thumbnail_processing_status = ?, " +
+            "updated_at = ?, version = COALESCE(version, 0) + 1 " +
+            "WHERE id = ? AND thumbnail_processing_status IN ('PROCESSING', 'FAILED_RETRYABLE') " +
+            "AND deleted_at IS NULL";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectWriteVersions writeVersions;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingUpdate> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "thumbnail-status-sink");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running = true;
+    
+    public JdbcThumbnailStatusSink(JdbcTemplate jdbcTemplate, ProjectWriteVersions writeVersions,
+                                   @Value("${thumbnail.status-sink.window-ms:20}") long windowMs,
+                                   @Value("${thumbnail.status-sink.max-batch-size:200}") int maxBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeVersions = writeVersions;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxBatchSize = maxBatchSize;
+    }
+    
+    @PostConstruct
+    public void start() {
+        flusher.submit(this::flushLoop);
+    }
+    
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.shutdown();
+        if (!flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+            flusher.shutdownNow();
+        }
+    }
+    
+    @Override
+    public CompletableFuture<Boolean> submit(ThumbnailStatusUpdate update) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Thumbnail status sink is stopped"));
+        }
+        PendingUpdate pending = new PendingUpdate(update, new CompletableFuture<>());
+        queue.add(pending);
+        return pending.result();
+    }
+    
+    private void flushLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingUpdate first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                flush(collectBatch(first));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        
+        // 종료 중 남은 요청은 실패 처리하여 아웃박스 메시지가 다시 전달되도록 함
+        PendingUpdate pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result().completeExceptionally(new IllegalStateException("Thumbnail status sink is stopped"));
+        }
+    }
+    
+    private List<PendingUpdate> collectBatch(PendingUpdate first) throws InterruptedException {
+        List<PendingUpdate> batch = new ArrayList<>();
+        batch.add(first);
+        long deadline = System.nanoTime() + windowNanos;
+        
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingUpdate next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+    
+    void flush(List<PendingUpdate> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<PendingUpdate> completed = new ArrayList<>();
+        List<PendingUpdate> failed = new ArrayList<>();
+        for (PendingUpdate pending : batch) {
+            (pending.update().isCompleted() ? completed : failed).add(pending);
+        }
+        
+        List<Long> applied = new ArrayList<>();
+        execute(COMPLETE_SQL, completed, applied, pending -> new Object[]{
+            pending.update().thumbnailKey(), pending.update().placeholder(),
+            pending.update().perceptualHash() != null ? pending.update().perceptualHash().value() : null,
+            now, pending.update().imageId().value()
+        });
+        execute(FAIL_SQL, failed, applied, pending -> new Object[]{
+            pending.update().status().name(), now, pending.update().imageId().value()
+        });
+        
+        if (!applied.isEmpty()) {
+            try {
+                writeVersions.bumpForImages(applied);
+            } catch (RuntimeException e) {
+                // 상태는 이미 기록되었으므로 캐시는 ttl 후 반영
+                logger.warn("Failed to bump write versions for {} thumbnail status updates", applied.size(), e);
+            }
+        }
+    }
+    
+    private void execute(String sql, List<PendingUpdate> updates, List<Long> applied,
+                         Function<PendingUpdate, Object[]> argumentsMapper) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        try {
+            int[] counts = jdbcTemplate.batchUpdate(sql, updates.stream().map(argumentsMapper).toList());
+            for (int i = 0; i < updates.size(); i++) {
+                int count = i < counts.length ? counts[i] : Statement.SUCCESS_NO_INFO;
+                boolean matched = count > 0 || count == Statement.SUCCESS_NO_INFO;
+                if (matched) {
+                    applied.add(updates.get(i).update().imageId().value());
+                }
+                updates.get(i).result().complete(matched);
+            }
+            logger.debug("Flushed {} thumbnail status updates in one batch", updates.size());
+        } catch (RuntimeException e) {
+            logger.error("Failed to flush {} thumbnail status updates", updates.size(), e);
+            updates.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+    
+    record PendingUpdate(ThumbnailStatusUpdate update, CompletableFuture<Boolean> result) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.TagMatchMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 오프셋 목록 조회의 키셋 앵커 캐시
+ * 같은 필터/정렬 조회에 대해 interval 행마다 직전 행의 정렬 키 (시각, id)를 기억하여
+ * 깊은 페이지는 가장 가까운 앵커 뒤부터 남은 오프셋만 건너뜀 (page 5000 = 앵커 이후 최대 interval 행)
+ *
+ * - 앵커는 계산할 때의 프로젝트 쓰기 버전(공유 DB 값)과 함께 보관하고, 조회 시 현재 버전과 다르면 버리고 OFFSET으로 조회
+ *   (다른 노드의 쓰기로 행 위치가 밀린 앵커를 쓰지 않음)
+ * - 없는 앵커는 요청 스레드에서 계산하지 않고 백그라운드로 채우며, 계산 중 버전이 바뀌면 결과를 버림
+ * - 조회 수는 max-queries로 제한하고 오래 쓰지 않은 조회부터 제거, ttl이 지난 앵커도 제거
+ */
+@Component
+public class OffsetAnchorCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(OffsetAnchorCache.class);
+
+    private final boolean enabled;
+    private final int interval;
+    private final long ttlNanos;
+    private final Executor builder;
+    private final Map<QueryKey, Anchors> anchors;
+    private final Set<QueryKey> building = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public OffsetAnchorCache(@Value("${image.offset-anchor.enabled:true}") boolean enabled,
+                             @Value("${image.offset-anchor.interval-rows:1000}") int interval,
+                             @Value("${image.offset-anchor.ttl-ms:60000}") long ttlMs,
+                             @Value("${image.offset-anchor.max-queries:1000}") int maxQueries) {
+        this(enabled, interval, ttlMs, maxQueries, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "offset-anchor-builder");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    OffsetAnchorCache(boolean enabled, int interval, long ttlMs, int maxQueries, Executor builder) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Anchor interval must be positive");
+        }
+        this.enabled = enabled;
+        this.interval = interval;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.builder = builder;
+        this.anchors = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryKey, Anchors> eldest) {
+                return size() > maxQueries;
+            }
+        };
+    }
+
+    /**
+     * 앵커를 쓸 만큼 깊은 오프셋인지
+     */
+    public boolean appliesTo(long offset) {
+        return enabled && offset >= interval;
+    }
+
+    /**
+     * 앵커 간격 (행)
+     */
+    public int interval() {
+        return interval;
+    }
+
+    /**
+     * offset 이하에서 가장 가까운 앵커
+     * @param version 조회 직전에 읽은 프로젝트 쓰기 버전 (다른 버전으로 계산한 앵커는 사용하지 않음)
+     */
+    public synchronized Optional<Anchor> floor(QueryKey key, long version, long offset) {
+        Anchors entry = anchors.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.version != version || System.nanoTime() - entry.createdNanos > ttlNanos) {
+            anchors.remove(key);
+            return Optional.empty();
+        }
+        Map.Entry<Long, Anchor> floor = entry.byOffset.floorEntry(offset);
+        return floor != null ? Optional.of(floor.getValue()) : Optional.empty();
+    }
+
+    /**
+     * version으로 계산한 앵커 저장 (이미 더 새 버전의 앵커가 있으면 무시)
+     */
+    public synchronized void put(QueryKey key, long version, List<Anchor> computed) {
+        Anchors entry = anchors.get(key);
+        if (entry != null && entry.version > version) {
+            return;
+        }
+        if (entry == null || entry.version != version || System.nanoTime() - entry.createdNanos > ttlNanos) {
+            entry = new Anchors(version, System.nanoTime());
+            anchors.put(key, entry);
+        }
+        for (Anchor anchor : computed) {
+            entry.byOffset.put(anchor.offset(), anchor);
+        }
+    }
+
+    /**
+     * 백그라운드로 앵커 계산 (같은 조회는 한 번에 하나만)
+     * @param build 계산한 앵커 (계산 중 버전이 바뀌었으면 빈 값)
+     */
+    public void scheduleBuild(QueryKey key, long version, Supplier<Optional<List<Anchor>>> build) {
+        if (!building.add(key)) {
+            return;
+        }
+        try {
+            builder.execute(() -> {
+                try {
+                    build.get().ifPresent(computed -> put(key, version, computed));
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to build offset anchors for project: {}", key.projectId(), e);
+                } finally {
+                    building.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            building.remove(key);
+        }
+    }
+
+    /**
+     * 프로젝트의 모든 조회 앵커 제거 (이 노드의 쓰기는 버전 확인 전에 바로 제거)
+     */
+    public synchronized void invalidate(Long projectId) {
+        anchors.keySet().removeIf(key -> key.projectId().equals(projectId));
+    }
+
+    synchronized int size() {
+        return anchors.size();
+    }
+
+    /**
+     * 앵커를 공유하는 조회 (필터 + 정렬)
+     * @param tags 정규화된 태그
+     */
+    public record QueryKey(Long projectId, ImageStatus status, Set<String> tags, TagMatchMode tagMatch,
+                           String sortProperty, boolean ascending) {
+    }
+
+    /**
+     * 정렬 순서에서 offset번째 행 직전 행의 정렬 키 (앵커 뒤 첫 행이 offset번째 행)
+     */
+    public record Anchor(long offset, LocalDateTime timestamp, Long id) {
+    }
+
+    private static final class Anchors {
+
+        private final long version;
+        private final long createdNanos;
+        private final TreeMap<Long, Anchor> byOffset = new TreeMap<>();
+
+        private Anchors(long version, long createdNanos) {
+            this.version = version;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
@@ -0,0 +1,450 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.TagMatchMode;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로젝트별 메모리 태그/상태 비트맵 색인
+ * 프로젝트 안의 이미지에 ID 순서대로 촘촘한 순번을 매기고 태그와 ImageStatus마다 순번의 압축 비트맵(Roaring)을 유지하여
+ * 태그 ANY/ALL + 상태 필터는 비트맵 합/교집합, 개수는 카디널리티로 DB 조회 없이 계산
+ *
+ * - 색인은 반영한 프로젝트 필터 버전(공유 DB 값)을 함께 유지하고, 조회 시 전달한 현재 버전과 같을 때만 결과를 반환
+ *   (다른 노드의 쓰기나 놓친 변경이 있으면 빈 값을 반환하여 DB 조건으로 처리하고 백그라운드로 다시 적재)
+ * - 적재는 필터 버전을 먼저 읽고 행을 읽으므로, 그 사이 커밋된 쓰기가 있으면 색인 버전이 뒤처져 사용되지 않음
+ * - 이미지 저장이 커밋되면 해당 이미지의 비트만 갱신하고 버전을 올림 (저장이 올린 버전이 색인 버전의 바로 다음일 때만)
+ * - 유휴 프로젝트는 idle-timeout 후 제거하고, 전체 추정 크기가 max-bytes를 넘으면 오래 쓰지 않은 프로젝트부터 제거
+ */
+@Component
+public class ProjectBitmapIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectBitmapIndex.class);
+
+    static final String LOAD_IMAGES_SQL =
+            "SELECT id, status FROM images WHERE project_id = ? AND deleted_at IS NULL ORDER BY id";
+
+    static final String LOAD_TAGS_SQL =
+            "SELECT t.image_id, t.tag FROM image_tags t JOIN images i ON i.id = t.image_id " +
+            "WHERE t.project_id = ? AND i.deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectWriteVersions writeVersions;
+    private final Executor loader;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long idleTimeoutNanos;
+    private final long maxAgeNanos;
+    private final Map<Long, ProjectBitmaps> projects = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ProjectBitmapIndex(JdbcTemplate jdbcTemplate, ProjectWriteVersions writeVersions,
+                              @Value("${image.filter-index.enabled:true}") boolean enabled,
+                              @Value("${image.filter-index.max-bytes:268435456}") long maxBytes,
+                              @Value("${image.filter-index.idle-timeout-ms:600000}") long idleTimeoutMs,
+                              @Value("${image.filter-index.max-age-ms:300000}") long maxAgeMs) {
+        this(jdbcTemplate, writeVersions, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "filter-index-loader");
+            thread.setDaemon(true);
+            return thread;
+        }), enabled, maxBytes, idleTimeoutMs, maxAgeMs);
+    }
+
+    ProjectBitmapIndex(JdbcTemplate jdbcTemplate, ProjectWriteVersions writeVersions, Executor loader, boolean enabled,
+                       long maxBytes, long idleTimeoutMs, long maxAgeMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeVersions = writeVersions;
+        this.loader = loader;
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs);
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+    }
+
+    /**
+     * 필터에 일치하는 이미지
+     * @param tags 정규화된 태그 (비어 있으면 태그 조건 없음)
+     * @param filterVersion 조회 직전에 읽은 프로젝트 필터 버전
+     * @return 색인이 준비되지 않았거나 색인 버전이 filterVersion과 다르면 빈 값 (DB 조건으로 처리)
+     */
+    public Optional<Match> match(Long projectId, ImageStatus status, Set<String> tags, TagMatchMode tagMatch,
+                                 long filterVersion) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        ProjectBitmaps bitmaps = projects.get(projectId);
+        if (bitmaps == null) {
+            scheduleLoad(projectId);
+            return Optional.empty();
+        }
+        if (bitmaps.isReady() && bitmaps.filterVersion() < filterVersion) {
+            // 다른 노드의 쓰기 또는 놓친 변경, 다시 적재할 때까지 DB 조건으로 처리
+            projects.remove(projectId, bitmaps);
+            scheduleLoad(projectId);
+            return Optional.empty();
+        }
+        return bitmaps.match(status, tags, tagMatch, filterVersion);
+    }
+
+    /**
+     * 이미지 저장 반영 (커밋된 변경만 전달)
+     * @param filterVersion 저장 트랜잭션이 올린 프로젝트 필터 버전
+     */
+    public void onSaved(Long projectId, Long imageId, ImageStatus status, Set<String> tags, boolean deleted,
+                        long filterVersion) {
+        if (!enabled) {
+            return;
+        }
+        ProjectBitmaps bitmaps = projects.get(projectId);
+        if (bitmaps != null && !bitmaps.apply(imageId, status, tags, deleted, filterVersion)) {
+            // 순번 순서를 지킬 수 없는 ID (늦게 커밋된 이전 ID) 또는 건너뛴 버전, 다음 조회 시 다시 적재
+            projects.remove(projectId, bitmaps);
+        }
+    }
+
+    private void scheduleLoad(Long projectId) {
+        ProjectBitmaps created = new ProjectBitmaps(System.nanoTime());
+        if (projects.putIfAbsent(projectId, created) != null) {
+            return;
+        }
+        try {
+            loader.execute(() -> load(projectId, created));
+        } catch (RejectedExecutionException e) {
+            projects.remove(projectId, created);
+        }
+    }
+
+    private void load(Long projectId, ProjectBitmaps bitmaps) {
+        long startTime = System.currentTimeMillis();
+        try {
+            // 행보다 먼저 읽어야 그 사이 커밋된 쓰기가 있을 때 색인 버전이 뒤처짐 (앞서지 않음)
+            long filterVersion = writeVersions.current(projectId).filterVersion();
+            List<Long> ids = new ArrayList<>();
+            List<ImageStatus> statuses = new ArrayList<>();
+            jdbcTemplate.query(LOAD_IMAGES_SQL, rs -> {
+                ids.add(rs.getLong(1));
+                statuses.add(ImageStatus.valueOf(rs.getString(2)));
+            }, projectId);
+
+            Map<Long, List<String>> tagsById = new HashMap<>();
+            jdbcTemplate.query(LOAD_TAGS_SQL, rs -> {
+                tagsById.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getString(2));
+            }, projectId);
+
+            if (!bitmaps.load(ids, statuses, tagsById, filterVersion)) {
+                projects.remove(projectId, bitmaps);
+                return;
+            }
+            logger.debug("Filter index loaded for project: {}, images: {}, tags: {}, {} bytes, {}ms",
+                        projectId, ids.size(), bitmaps.tagCount(), bitmaps.estimatedBytes(),
+                        System.currentTimeMillis() - startTime);
+            enforceMemoryLimit();
+        } catch (RuntimeException e) {
+            projects.remove(projectId, bitmaps);
+            logger.warn("Failed to load filter index for project: {}", projectId, e);
+        }
+    }
+
+    /**
+     * 유휴/만료 프로젝트 제거 후 메모리 한도 적용
+     */
+    @Scheduled(fixedDelayString = "${image.filter-index.sweep-interval-ms:30000}")
+    public void evictIdleProjects() {
+        long now = System.nanoTime();
+        projects.entrySet().removeIf(entry -> entry.getValue().isReady()
+                && (now - entry.getValue().lastAccessNanos() > idleTimeoutNanos
+                    || now - entry.getValue().createdNanos() > maxAgeNanos));
+        enforceMemoryLimit();
+    }
+
+    private void enforceMemoryLimit() {
+        long total = estimatedBytes();
+        if (total <= maxBytes) {
+            return;
+        }
+        List<Map.Entry<Long, ProjectBitmaps>> byLastAccess = new ArrayList<>(projects.entrySet());
+        byLastAccess.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccessNanos()));
+        Iterator<Map.Entry<Long, ProjectBitmaps>> iterator = byLastAccess.iterator();
+        while (total > maxBytes && iterator.hasNext()) {
+            Map.Entry<Long, ProjectBitmaps> entry = iterator.next();
+            if (projects.remove(entry.getKey(), entry.getValue())) {
+                total -= entry.getValue().estimatedBytes();
+                logger.debug("Filter index evicted for project: {}", entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * 적재된 색인의 추정 메모리 합계
+     */
+    public long estimatedBytes() {
+        return projects.values().stream().mapToLong(ProjectBitmaps::estimatedBytes).sum();
+    }
+
+    int projectCount() {
+        return projects.size();
+    }
+
+    /**
+     * 필터 결과 (순번 비트맵과 순번 → 이미지 ID 표)
+     */
+    public static final class Match {
+
+        private final RoaringBitmap ordinals;
+        private final long[] imageIds;
+
+        private Match(RoaringBitmap ordinals, long[] imageIds) {
+            this.ordinals = ordinals;
+            this.imageIds = imageIds;
+        }
+
+        public long count() {
+            return ordinals.getLongCardinality();
+        }
+
+        public boolean isEmpty() {
+            return ordinals.isEmpty();
+        }
+
+        /**
+         * 일치하는 이미지 ID (ID 오름차순)
+         */
+        public List<Long> imageIds() {
+            List<Long> ids = new ArrayList<>(ordinals.getCardinality());
+            IntIterator iterator = ordinals.getIntIterator();
+            while (iterator.hasNext()) {
+                ids.add(imageIds[iterator.next()]);
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * 한 프로젝트의 비트맵 (모든 접근은 인스턴스 잠금으로 직렬화)
+     * 순번은 이미지 ID 오름차순으로 매기며 삭제된 이미지의 순번은 재사용하지 않음
+     */
+    static final class ProjectBitmaps {
+
+        private final long createdNanos;
+        private volatile long lastAccessNanos;
+        private boolean ready;
+        private long filterVersion;
+        private List<Mutation> pending = new ArrayList<>();
+
+        private long[] ids = new long[16];
+        private int size;
+        private final RoaringBitmap live = new RoaringBitmap();
+        private final Map<ImageStatus, RoaringBitmap> byStatus = new EnumMap<>(ImageStatus.class);
+        private final Map<String, RoaringBitmap> byTag = new HashMap<>();
+        private long estimatedBytes;
+
+        ProjectBitmaps(long createdNanos) {
+            this.createdNanos = createdNanos;
+            this.lastAccessNanos = createdNanos;
+            for (ImageStatus status : ImageStatus.values()) {
+                byStatus.put(status, new RoaringBitmap());
+            }
+        }
+
+        /**
+         * DB에서 읽은 프로젝트 이미지로 초기화하고 적재 중 들어온 변경 중 읽은 버전 이후의 것만 재적용
+         * @param ids 이미지 ID (오름차순)
+         * @param filterVersion 행을 읽기 전에 읽은 필터 버전
+         * @return 재적용 중 순번 순서를 지킬 수 없거나 버전이 이어지지 않는 변경이 있으면 false
+         */
+        synchronized boolean load(List<Long> ids, List<ImageStatus> statuses, Map<Long, List<String>> tagsById,
+                                  long filterVersion) {
+            this.ids = new long[Math.max(16, ids.size())];
+            for (int ordinal = 0; ordinal < ids.size(); ordinal++) {
+                this.ids[ordinal] = ids.get(ordinal);
+                live.add(ordinal);
+                byStatus.get(statuses.get(ordinal)).add(ordinal);
+                List<String> tags = tagsById.get(ids.get(ordinal));
+                if (tags != null) {
+                    for (String tag : tags) {
+                        byTag.computeIfAbsent(tag, key -> new RoaringBitmap()).add(ordinal);
+                    }
+                }
+            }
+            size = ids.size();
+            this.filterVersion = filterVersion;
+
+            boolean consistent = true;
+            pending.sort(Comparator.comparingLong(Mutation::filterVersion));
+            for (Mutation mutation : pending) {
+                if (mutation.filterVersion() <= this.filterVersion) {
+                    // 읽은 버전 이전에 커밋된 변경은 행에 이미 반영됨
+                    continue;
+                }
+                consistent &= mutation.filterVersion() == this.filterVersion + 1
+                        && applyNow(mutation.imageId(), mutation.status(), mutation.tags(), mutation.deleted());
+                this.filterVersion = mutation.filterVersion();
+            }
+            pending = null;
+            live.runOptimize();
+            byStatus.values().forEach(RoaringBitmap::runOptimize);
+            byTag.values().forEach(RoaringBitmap::runOptimize);
+            estimatedBytes = computeBytes();
+            ready = true;
+            return consistent;
+        }
+
+        /**
+         * @return 순번 순서를 지킬 수 없거나 색인 버전의 바로 다음 버전이 아니면 false
+         */
+        synchronized boolean apply(Long imageId, ImageStatus status, Set<String> tags, boolean deleted,
+                                   long mutationVersion) {
+            if (!ready) {
+                pending.add(new Mutation(imageId, status, tags, deleted, mutationVersion));
+                return true;
+            }
+            if (mutationVersion <= filterVersion) {
+                // 이 변경 이후에 적재됨
+                return true;
+            }
+            if (mutationVersion != filterVersion + 1) {
+                return false;
+            }
+            boolean consistent = applyNow(imageId, status, tags, deleted);
+            filterVersion = mutationVersion;
+            estimatedBytes = computeBytes();
+            return consistent;
+        }
+
+        private boolean applyNow(Long imageId, ImageStatus status, Set<String> tags, boolean deleted) {
+            int ordinal = Arrays.binarySearch(ids, 0, size, imageId);
+            if (ordinal < 0) {
+                if (deleted) {
+                    return true;
+                }
+                if (size > 0 && imageId < ids[size - 1]) {
+                    return false;
+                }
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                }
+                ordinal = size;
+                ids[size++] = imageId;
+            } else {
+                clear(ordinal);
+            }
+
+            if (!deleted) {
+                live.add(ordinal);
+                byStatus.get(status).add(ordinal);
+                for (String tag : tags) {
+                    byTag.computeIfAbsent(tag, key -> new RoaringBitmap()).add(ordinal);
+                }
+            }
+            return true;
+        }
+
+        private void clear(int ordinal) {
+            live.remove(ordinal);
+            byStatus.values().forEach(bitmap -> bitmap.remove(ordinal));
+            byTag.values().removeIf(bitmap -> {
+                bitmap.remove(ordinal);
+                return bitmap.isEmpty();
+            });
+        }
+
+        synchronized Optional<Match> match(ImageStatus status, Set<String> tags, TagMatchMode tagMatch,
+                                           long expectedVersion) {
+            if (!ready || filterVersion != expectedVersion) {
+                return Optional.empty();
+            }
+            lastAccessNanos = System.nanoTime();
+
+            RoaringBitmap base = status != null ? byStatus.get(status) : live;
+            RoaringBitmap result;
+            if (tags.isEmpty()) {
+                result = base.clone();
+            } else if (tagMatch == TagMatchMode.ALL) {
+                RoaringBitmap[] bitmaps = tagBitmaps(tags);
+                result = bitmaps.length < tags.size()
+                        ? new RoaringBitmap()
+                        : RoaringBitmap.and(FastAggregation.and(bitmaps), base);
+            } else {
+                result = RoaringBitmap.and(FastAggregation.or(tagBitmaps(tags)), base);
+            }
+            return Optional.of(new Match(result, ids));
+        }
+
+        private RoaringBitmap[] tagBitmaps(Collection<String> tags) {
+            List<RoaringBitmap> bitmaps = new ArrayList<>(tags.size());
+            for (String tag : tags) {
+                RoaringBitmap bitmap = byTag.get(tag);
+                if (bitmap != null) {
+                    bitmaps.add(bitmap);
+                }
+            }
+            return bitmaps.toArray(new RoaringBitmap[0]);
+        }
+
+        /**
+         * 순번 표 + 비트맵 + 태그 키의 대략적인 크기
+         */
+        private long computeBytes() {
+            long bytes = (long) ids.length * Long.BYTES + live.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : byStatus.values()) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            for (Map.Entry<String, RoaringBitmap> entry : byTag.entrySet()) {
+                bytes += 64 + 2L * entry.getKey().length() + entry.getValue().getLongSizeInBytes();
+            }
+            return bytes;
+        }
+
+        synchronized long estimatedBytes() {
+            return estimatedBytes;
+        }
+
+        synchronized int tagCount() {
+            return byTag.size();
+        }
+
+        synchronized boolean isReady() {
+            return ready;
+        }
+
+        synchronized long filterVersion() {
+            return filterVersion;
+        }
+
+        long lastAccessNanos() {
+            return lastAccessNanos;
+        }
+
+        long createdNanos() {
+            return createdNanos;
+        }
+    }
+
+    private record Mutation(Long imageId, ImageStatus status, Set<String> tags, boolean deleted, long filterVersion) {
+    }
+}
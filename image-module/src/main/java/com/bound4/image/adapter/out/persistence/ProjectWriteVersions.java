@@ -0,0 +1,81 @@
+package com.bound4.image.adapter.out.persistence;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 프로젝트별 쓰기 버전 (project_write_versions 테이블, 모든 노드가 공유)
+ * 버전을 키에 포함한 노드 메모리 캐시는 조회마다 기본 키 한 건으로 현재 버전을 확인하므로
+ * 다른 노드의 쓰기도 커밋되는 즉시 무효화됨
+ *
+ * - version: 목록 응답에 보이는 모든 쓰기 (업로드/수정/삭제, 썸네일 상태 변경)
+ * - filterVersion: 필터 결과와 개수가 바뀌는 쓰기만 (업로드/수정/삭제, 썸네일 상태 변경은 제외)
+ * - 증가는 데이터 변경과 같은 트랜잭션 또는 커밋 후에 실행 (커밋 전에 증가하면 이전 데이터가 새 버전으로 캐시될 수 있음)
+ */
+@Component
+public class ProjectWriteVersions {
+
+    static final String SELECT_SQL =
+            "SELECT version, filter_version FROM project_write_versions WHERE project_id = ?";
+
+    static final String BUMP_SQL =
+            "UPDATE project_write_versions SET version = version + 1, filter_version = filter_version + ? " +
+            "WHERE project_id = ?";
+
+    static final String INSERT_SQL =
+            "INSERT INTO project_write_versions (project_id, version, filter_version) VALUES (?, 1, ?)";
+
+    static final String PROJECTS_OF_IMAGES_SQL = "SELECT DISTINCT project_id FROM images WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProjectWriteVersions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Versions current(Long projectId) {
+        List<Versions> rows = jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new Versions(rs.getLong(1), rs.getLong(2)), projectId);
+        return rows.isEmpty() ? Versions.INITIAL : rows.get(0);
+    }
+
+    /**
+     * @param filterChanged 필터 결과/개수가 바뀌는 쓰기이면 filterVersion도 증가
+     * @return 증가 후 버전 (호출한 트랜잭션 안에서 읽은 값)
+     */
+    public Versions bump(Long projectId, boolean filterChanged) {
+        int filterIncrement = filterChanged ? 1 : 0;
+        if (jdbcTemplate.update(BUMP_SQL, filterIncrement, projectId) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, projectId, filterIncrement);
+            } catch (DuplicateKeyException e) {
+                // 다른 트랜잭션이 먼저 행을 만든 경우
+                jdbcTemplate.update(BUMP_SQL, filterIncrement, projectId);
+            }
+        }
+        return current(projectId);
+    }
+
+    /**
+     * 이미지가 속한 프로젝트의 version 증가 (썸네일 상태처럼 필터 결과가 바뀌지 않는 쓰기)
+     */
+    public void bumpForImages(Collection<Long> imageIds) {
+        if (imageIds.isEmpty()) {
+            return;
+        }
+        String sql = String.format(PROJECTS_OF_IMAGES_SQL, String.join(", ", Collections.nCopies(imageIds.size(), "?")));
+        for (Long projectId : jdbcTemplate.queryForList(sql, Long.class, imageIds.toArray())) {
+            bump(projectId, false);
+        }
+    }
+
+    public record Versions(long version, long filterVersion) {
+
+        static final Versions INITIAL = new Versions(0L, 0L);
+    }
+}
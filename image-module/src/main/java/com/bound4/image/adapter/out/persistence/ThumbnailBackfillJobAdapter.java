@@ -0,0 +1,82 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.application.port.out.ThumbnailBackfillJobRepository;
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.ThumbnailBackfillJob;
+import com.bound4.image.domain.ThumbnailBackfillStatus;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+public class ThumbnailBackfillJobAdapter implements ThumbnailBackfillJobRepository {
+    
+    private static final Set<ThumbnailBackfillStatus> ACTIVE_STATUSES =
+            Set.of(ThumbnailBackfillStatus.RUNNING, ThumbnailBackfillStatus.PAUSED);
+    
+    private final ThumbnailBackfillJobJpaRepository jpaRepository;
+    
+    public ThumbnailBackfillJobAdapter(ThumbnailBackfillJobJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+    
+    @Override
+    public ThumbnailBackfillJob save(ThumbnailBackfillJob job) {
+        ThumbnailBackfillJobEntity saved = jpaRepository.save(toEntity(job));
+        return toDomain(saved);
+    }
+    
+    @Override
+    public Optional<ThumbnailBackfillJob> findById(Long jobId) {
+        return jpaRepository.findById(jobId).map(this::toDomain);
+    }
+    
+    @Override
+    public Optional<ThumbnailBackfillJob> findActiveByProject(ProjectId projectId) {
+        return jpaRepository.findFirstByProjectIdAndStatusIn(projectId.value(), ACTIVE_STATUSES)
+                .map(this::toDomain);
+    }
+    
+    @Override
+    public List<Long> findRunningJobIds() {
+        return jpaRepository.findIdsByStatus(ThumbnailBackfillStatus.RUNNING);
+    }
+    
+    private ThumbnailBackfillJobEntity toEntity(ThumbnailBackfillJob job) {
+        ThumbnailBackfillJobEntity entity = new ThumbnailBackfillJobEntity();
+        entity.setId(job.getId());
+        entity.setProjectId(job.getProjectId().value());
+        entity.setStatus(job.getStatus());
+        entity.setLastImageId(job.getLastImageId());
+        entity.setProcessedCount(job.getProcessedCount());
+        entity.setTotalCount(job.getTotalCount());
+        entity.setResumedAt(job.getResumedAt());
+        entity.setProcessedAtResume(job.getProcessedAtResume());
+        entity.setCompletedAtResume(job.getCompletedAtResume());
+        entity.setCreatedAt(job.getCreatedAt());
+        entity.setUpdatedAt(job.getUpdatedAt());
+        entity.setCompletedAt(job.getCompletedAt());
+        entity.setVersion(job.getVersion());
+        return entity;
+    }
+    
+    private ThumbnailBackfillJob toDomain(ThumbnailBackfillJobEntity entity) {
+        return new ThumbnailBackfillJob(
+            entity.getId(),
+            ProjectId.of(entity.getProjectId()),
+            entity.getStatus(),
+            entity.getLastImageId(),
+            entity.getProcessedCount(),
+            entity.getTotalCount(),
+            entity.getResumedAt(),
+            entity.getProcessedAtResume(),
+            entity.getCompletedAtResume(),
+            entity.getCreatedAt(),
+            entity.getUpdatedAt(),
+            entity.getCompletedAt(),
+            entity.getVersion()
+        );
+    }
+}
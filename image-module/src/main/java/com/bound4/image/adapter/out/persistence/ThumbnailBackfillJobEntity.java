@@ -0,0 +1,158 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ThumbnailBackfillStatus;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "thumbnail_backfill_jobs")
+public class ThumbnailBackfillJobEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private ThumbnailBackfillStatus status;
+    
+    @Column(name = "last_image_id", nullable = false)
+    private long lastImageId;
+    
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+    
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+    
+    @Column(name = "resumed_at")
+    private LocalDateTime resumedAt;
+    
+    @Column(name = "processed_at_resume", nullable = false)
+    private long processedAtResume;
+    
+    @Column(name = "completed_at_resume", nullable = false)
+    private long completedAtResume;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    @Version
+    @Column(name = "version")
+    private Long version;
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getProjectId() {
+        return projectId;
+    }
+    
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+    
+    public ThumbnailBackfillStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ThumbnailBackfillStatus status) {
+        this.status = status;
+    }
+    
+    public long getLastImageId() {
+        return lastImageId;
+    }
+    
+    public void setLastImageId(long lastImageId) {
+        this.lastImageId = lastImageId;
+    }
+    
+    public long getProcessedCount() {
+        return processedCount;
+    }
+    
+    public void setProcessedCount(long processedCount) {
+        this.processedCount = processedCount;
+    }
+    
+    public long getTotalCount() {
+        return totalCount;
+    }
+    
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+    
+    public LocalDateTime getResumedAt() {
+        return resumedAt;
+    }
+    
+    public void setResumedAt(LocalDateTime resumedAt) {
+        this.resumedAt = resumedAt;
+    }
+    
+    public long getProcessedAtResume() {
+        return processedAtResume;
+    }
+    
+    public void setProcessedAtResume(long processedAtResume) {
+        this.processedAtResume = processedAtResume;
+    }
+    
+    public long getCompletedAtResume() {
+        return completedAtResume;
+    }
+    
+    public void setCompletedAtResume(long completedAtResume) {
+        this.completedAtResume = completedAtResume;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+    
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,19 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ThumbnailBackfillStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ThumbnailBackfillJobJpaRepository extends JpaRepository<ThumbnailBackfillJobEntity, Long> {
+    
+    Optional<ThumbnailBackfillJobEntity> findFirstByProjectIdAndStatusIn(Long projectId,
+                                                                         Collection<ThumbnailBackfillStatus> statuses);
+    
+    @Query("select j.id from ThumbnailBackfillJobEntity j where j.status = :status order by j.id")
+    List<Long> findIdsByStatus(@Param("status") ThumbnailBackfillStatus status);
+}
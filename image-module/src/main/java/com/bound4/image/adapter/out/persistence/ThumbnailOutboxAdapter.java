@@ -0,0 +1,141 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.application.port.out.ThumbnailOutbox;
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.ThumbnailOutboxMessage;
+import com.bound4.image.domain.ThumbnailPriority;
+import com.bound4.image.domain.event.ThumbnailGenerationRequestedEvent;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+public class ThumbnailOutboxAdapter implements ThumbnailOutbox {
+    
+    private final ThumbnailOutboxJpaRepository jpaRepository;
+    
+    public ThumbnailOutboxAdapter(ThumbnailOutboxJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+    
+    @Override
+    @Transactional
+    public void enqueue(ThumbnailGenerationRequestedEvent event) {
+        save(event, ThumbnailPriority.NORMAL, Duration.ZERO);
+    }
+    
+    @Override
+    @Transactional
+    public void enqueue(ThumbnailGenerationRequestedEvent event, ThumbnailPriority priority) {
+        save(event, priority, Duration.ZERO);
+    }
+    
+    @Override
+    @Transactional
+    public void schedule(ThumbnailGenerationRequestedEvent event, Duration delay) {
+        save(event, ThumbnailPriority.NORMAL, delay);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long countPending(ThumbnailPriority priority) {
+        return jpaRepository.countByStatusAndPriority(ThumbnailOutboxStatus.PENDING, priority);
+    }
+    
+    private void save(ThumbnailGenerationRequestedEvent event, ThumbnailPriority priority, Duration delay) {
+        ThumbnailOutboxEntity entity = new ThumbnailOutboxEntity();
+        entity.setImageId(event.getImageId().value());
+        entity.setProjectId(event.getProjectId().value());
+        entity.setOriginalImageKey(event.getOriginalImageKey());
+        entity.setOriginalFilename(event.getOriginalFilename());
+        entity.setMimeType(event.getMimeType());
+        entity.setRetryCount(event.getRetryCount());
+        entity.setRequestedAt(event.getRequestedAt());
+        entity.setStatus(ThumbnailOutboxStatus.PENDING);
+        entity.setPriority(priority);
+        entity.setAvailableAt(LocalDateTime.now().plus(delay));
+        
+        jpaRepository.save(entity);
+    }
+    
+    @Override
+    @Transactional
+    public List<ThumbnailOutboxMessage> claimBatch(String owner, int batchSize, Duration leaseDuration) {
+        if (batchSize <= 0) {
+            return List.of();
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        
+        // 리스가 만료된(죽은 노드가 잡고 있던) 메시지를 먼저 회수하고, 남은 자리는 우선순위 순으로 대기 메시지로 채움
+        Set<Long> candidateIds = new LinkedHashSet<>(jpaRepository.findExpiredLeaseIds(
+            ThumbnailOutboxStatus.IN_FLIGHT, now, PageRequest.of(0, batchSize)));
+        for (ThumbnailPriority priority : ThumbnailPriority.values()) {
+            if (candidateIds.size() >= batchSize) {
+                break;
+            }
+            candidateIds.addAll(jpaRepository.findDispatchableIds(
+                ThumbnailOutboxStatus.PENDING, priority, now, PageRequest.of(0, batchSize - candidateIds.size())));
+        }
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        
+        // 조건부 UPDATE로 선점하고, 토큰으로 실제 선점에 성공한 행만 다시 조회
+        String claimToken = UUID.randomUUID().toString();
+        int claimed = jpaRepository.claim(
+            candidateIds, claimToken, owner, now, now.plus(leaseDuration),
+            ThumbnailOutboxStatus.PENDING, ThumbnailOutboxStatus.IN_FLIGHT);
+        if (claimed == 0) {
+            return List.of();
+        }
+        
+        return jpaRepository.findByClaimToken(claimToken).stream()
+                .map(this::toMessage)
+                .toList();
+    }
+    
+    @Override
+    @Transactional
+    public int renewLeases(String owner, Collection<Long> messageIds, Duration leaseDuration) {
+        if (messageIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime leaseUntil = LocalDateTime.now().plus(leaseDuration);
+        return jpaRepository.renewLeases(messageIds, owner, leaseUntil, ThumbnailOutboxStatus.IN_FLIGHT);
+    }
+    
+    @Override
+    @Transactional
+    public void acknowledge(String owner, Long messageId) {
+        jpaRepository.deleteOwned(messageId, owner);
+    }
+    
+    @Override
+    @Transactional
+    public void release(String owner, Long messageId) {
+        jpaRepository.releaseOwned(messageId, owner, ThumbnailOutboxStatus.PENDING);
+    }
+    
+    private ThumbnailOutboxMessage toMessage(ThumbnailOutboxEntity entity) {
+        ThumbnailGenerationRequestedEvent event = new ThumbnailGenerationRequestedEvent(
+            ImageId.of(entity.getImageId()),
+            ProjectId.of(entity.getProjectId()),
+            entity.getOriginalImageKey(),
+            entity.getOriginalFilename(),
+            entity.getMimeType(),
+            entity.getRequestedAt(),
+            entity.getRetryCount()
+        );
+        return new ThumbnailOutboxMessage(entity.getId(), event, entity.getAvailableAt());
+    }
+}
@@ -0,0 +1,197 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ThumbnailPriority;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "thumbnail_outbox")
+public class ThumbnailOutboxEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "image_id", nullable = false)
+    private Long imageId;
+    
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+    
+    @Column(name = "original_image_key", length = 500)
+    private String originalImageKey;
+    
+    @Column(name = "original_filename")
+    private String originalFilename;
+    
+    @Column(name = "mime_type", length = 100)
+    private String mimeType;
+    
+    @Column(name = "retry_count", nullable = false)
+    private int retryCount;
+    
+    @Column(name = "requested_at")
+    private LocalDateTime requestedAt;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private ThumbnailOutboxStatus status;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", length = 10, nullable = false)
+    private ThumbnailPriority priority;
+    
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+    
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+    
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+    
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    public void prePersist() {
+        LocalDateTime now = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        if (availableAt == null) {
+            availableAt = now;
+        }
+        if (status == null) {
+            status = ThumbnailOutboxStatus.PENDING;
+        }
+        if (priority == null) {
+            priority = ThumbnailPriority.NORMAL;
+        }
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getImageId() {
+        return imageId;
+    }
+    
+    public void setImageId(Long imageId) {
+        this.imageId = imageId;
+    }
+    
+    public Long getProjectId() {
+        return projectId;
+    }
+    
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+    
+    public String getOriginalImageKey() {
+        return originalImageKey;
+    }
+    
+    public void setOriginalImageKey(String originalImageKey) {
+        this.originalImageKey = originalImageKey;
+    }
+    
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+    
+    public void setOriginalFilename(String originalFilename) {
+        this.originalFilename = originalFilename;
+    }
+    
+    public String getMimeType() {
+        return mimeType;
+    }
+    
+    public void setMimeType(String mimeType) {
+        this.mimeType = mimeType;
+    }
+    
+    public int getRetryCount() {
+        return retryCount;
+    }
+    
+    public void setRetryCount(int retryCount) {
+        this.retryCount = retryCount;
+    }
+    
+    public LocalDateTime getRequestedAt() {
+        return requestedAt;
+    }
+    
+    public void setRequestedAt(LocalDateTime requestedAt) {
+        this.requestedAt = requestedAt;
+    }
+    
+    public ThumbnailOutboxStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ThumbnailOutboxStatus status) {
+        this.status = status;
+    }
+    
+    public ThumbnailPriority getPriority() {
+        return priority;
+    }
+    
+    public void setPriority(ThumbnailPriority priority) {
+        this.priority = priority;
+    }
+    
+    public String getClaimToken() {
+        return claimToken;
+    }
+    
+    public void setClaimToken(String claimToken) {
+        this.claimToken = claimToken;
+    }
+    
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+    
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+    
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+    
+    public void setLeaseUntil(LocalDateTime leaseUntil) {
+        this.leaseUntil = leaseUntil;
+    }
+    
+    public LocalDateTime getAvailableAt() {
+        return availableAt;
+    }
+    
+    public void setAvailableAt(LocalDateTime availableAt) {
+        this.availableAt = availableAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
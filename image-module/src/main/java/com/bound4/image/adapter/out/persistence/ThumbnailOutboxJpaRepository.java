@@ -0,0 +1,66 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ThumbnailPriority;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ThumbnailOutboxJpaRepository extends JpaRepository<ThumbnailOutboxEntity, Long> {
+    
+    @Query("select o.id from ThumbnailOutboxEntity o " +
+           "where o.status = :status and o.priority = :priority and o.availableAt <= :now order by o.id")
+    List<Long> findDispatchableIds(@Param("status") ThumbnailOutboxStatus status,
+                                   @Param("priority") ThumbnailPriority priority,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+    
+    long countByStatusAndPriority(ThumbnailOutboxStatus status, ThumbnailPriority priority);
+    
+    @Query("select o.id from ThumbnailOutboxEntity o " +
+           "where o.status = :status and o.leaseUntil < :now order by o.leaseUntil")
+    List<Long> findExpiredLeaseIds(@Param("status") ThumbnailOutboxStatus status,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+    
+    @Modifying
+    @Query("update ThumbnailOutboxEntity o " +
+           "set o.status = :inFlight, o.claimToken = :token, o.leaseOwner = :owner, o.leaseUntil = :leaseUntil " +
+           "where o.id in :ids " +
+           "and ((o.status = :pending and o.availableAt <= :now) " +
+           "  or (o.status = :inFlight and o.leaseUntil < :now))")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("token") String token,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("pending") ThumbnailOutboxStatus pending,
+              @Param("inFlight") ThumbnailOutboxStatus inFlight);
+    
+    List<ThumbnailOutboxEntity> findByClaimToken(String claimToken);
+    
+    @Modifying
+    @Query("update ThumbnailOutboxEntity o set o.leaseUntil = :leaseUntil " +
+           "where o.id in :ids and o.leaseOwner = :owner and o.status = :inFlight")
+    int renewLeases(@Param("ids") Collection<Long> ids,
+                    @Param("owner") String owner,
+                    @Param("leaseUntil") LocalDateTime leaseUntil,
+                    @Param("inFlight") ThumbnailOutboxStatus inFlight);
+    
+    @Modifying
+    @Query("delete from ThumbnailOutboxEntity o where o.id = :id and o.leaseOwner = :owner")
+    int deleteOwned(@Param("id") Long id, @Param("owner") String owner);
+    
+    @Modifying
+    @Query("update ThumbnailOutboxEntity o " +
+           "set o.status = :pending, o.claimToken = null, o.leaseOwner = null, o.leaseUntil = null " +
+           "where o.id = :id and o.leaseOwner = :owner")
+    int releaseOwned(@Param("id") Long id,
+                     @Param("owner") String owner,
+                     @Param("pending") ThumbnailOutboxStatus pending);
+}
@@ -0,0 +1,9 @@
+package com.bound4.image.adapter.out.persistence;
+
+/**
+ * 썸네일 아웃박스 메시지 상태
+ */
+public enum ThumbnailOutboxStatus {
+    PENDING,
+    IN_FLIGHT
+}
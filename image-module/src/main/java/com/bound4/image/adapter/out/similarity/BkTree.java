@@ -0,0 +1,149 @@
+package com.bound4.image.adapter.out.similarity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 64비트 해시의 해밍 거리 BK-트리
+ * 자식 노드를 부모와의 거리로 구분하고, 검색 시 삼각 부등식으로 |d - r| ~ d + r 범위의 자식만 방문하므로
+ * 작은 반경 검색은 전체 항목을 훑지 않음
+ *
+ * 같은 해시의 이미지는 한 노드에 모으며, 삭제는 노드의 이미지 ID만 제거(노드는 경로로 유지)
+ * 동기화는 호출하는 쪽에서 담당
+ */
+class BkTree {
+    
+    private Node root;
+    private int size;
+    
+    void add(long hash, long imageId) {
+        size++;
+        if (root == null) {
+            root = new Node(hash, imageId);
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = Long.bitCount(node.hash ^ hash);
+            if (distance == 0) {
+                node.addImage(imageId);
+                return;
+            }
+            Node child = node.child(distance);
+            if (child == null) {
+                node.addChild(distance, new Node(hash, imageId));
+                return;
+            }
+            node = child;
+        }
+    }
+    
+    boolean remove(long hash, long imageId) {
+        Node node = root;
+        while (node != null) {
+            int distance = Long.bitCount(node.hash ^ hash);
+            if (distance == 0) {
+                boolean removed = node.removeImage(imageId);
+                if (removed) {
+                    size--;
+                }
+                return removed;
+            }
+            node = node.child(distance);
+        }
+        return false;
+    }
+    
+    /**
+     * 반경 안의 모든 (이미지 ID, 거리) 쌍
+     */
+    List<long[]> search(long hash, int maxDistance) {
+        List<long[]> results = new ArrayList<>();
+        if (root == null) {
+            return results;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = Long.bitCount(node.hash ^ hash);
+            if (distance <= maxDistance) {
+                for (int i = 0; i < node.imageCount; i++) {
+                    results.add(new long[]{node.imageIds[i], distance});
+                }
+            }
+            int low = distance - maxDistance;
+            int high = distance + maxDistance;
+            for (int i = 0; i < node.childCount; i++) {
+                int childDistance = node.childDistances[i];
+                if (childDistance >= low && childDistance <= high) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+        return results;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    /**
+     * 자식과 이미지 ID는 작은 배열로 보관 (64비트 해시의 자식 거리는 최대 64가지)
+     */
+    private static final class Node {
+        
+        private final long hash;
+        private long[] imageIds;
+        private int imageCount;
+        private byte[] childDistances = new byte[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+        
+        private Node(long hash, long imageId) {
+            this.hash = hash;
+            this.imageIds = new long[]{imageId};
+            this.imageCount = 1;
+        }
+        
+        private Node child(int distance) {
+            for (int i = 0; i < childCount; i++) {
+                if (childDistances[i] == distance) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+        
+        private void addChild(int distance, Node child) {
+            if (childCount == children.length) {
+                int capacity = Math.max(2, childCount * 2);
+                childDistances = Arrays.copyOf(childDistances, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            childDistances[childCount] = (byte) distance;
+            children[childCount] = child;
+            childCount++;
+        }
+        
+        private void addImage(long imageId) {
+            if (imageCount == imageIds.length) {
+                imageIds = Arrays.copyOf(imageIds, imageCount * 2);
+            }
+            imageIds[imageCount++] = imageId;
+        }
+        
+        private boolean removeImage(long imageId) {
+            for (int i = 0; i < imageCount; i++) {
+                if (imageIds[i] == imageId) {
+                    imageIds[i] = imageIds[--imageCount];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
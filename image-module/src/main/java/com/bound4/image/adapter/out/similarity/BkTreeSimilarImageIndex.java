@@ -0,0 +1,129 @@
+package com.bound4.image.adapter.out.similarity;
+
+import com.bound4.image.application.port.out.SimilarImageIndex;
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.PerceptualHash;
+import com.bound4.image.domain.PerceptualHashEntry;
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.SimilarImage;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로젝트별 BK-트리 기반 메모리 인덱스
+ * 프로젝트마다 트리와 읽기/쓰기 잠금을 따로 두어 서로 다른 프로젝트의 등록과 검색이 경합하지 않음
+ */
+@Component
+public class BkTreeSimilarImageIndex implements SimilarImageIndex {
+    
+    private static final Comparator<SimilarImage> BY_DISTANCE = Comparator
+            .comparingInt(SimilarImage::distance)
+            .thenComparing(similar -> similar.imageId().value());
+    
+    private final Map<Long, ProjectIndex> projects = new ConcurrentHashMap<>();
+    
+    @Override
+    public void put(ProjectId projectId, ImageId imageId, PerceptualHash hash) {
+        ProjectIndex index = projects.computeIfAbsent(projectId.value(), id -> new ProjectIndex());
+        index.lock.writeLock().lock();
+        try {
+            index.put(imageId.value(), hash.value(), true);
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(ProjectId projectId, ImageId imageId) {
+        ProjectIndex index = projects.get(projectId.value());
+        if (index == null) {
+            return;
+        }
+        index.lock.writeLock().lock();
+        try {
+            Long hash = index.hashes.remove(imageId.value());
+            if (hash != null) {
+                index.tree.remove(hash, imageId.value());
+            }
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public List<SimilarImage> findSimilar(ProjectId projectId, PerceptualHash hash, int maxDistance, int limit) {
+        ProjectIndex index = projects.get(projectId.value());
+        if (index == null) {
+            return List.of();
+        }
+        List<long[]> matches;
+        index.lock.readLock().lock();
+        try {
+            matches = index.tree.search(hash.value(), maxDistance);
+        } finally {
+            index.lock.readLock().unlock();
+        }
+        return matches.stream()
+                .map(match -> new SimilarImage(ImageId.of(match[0]), (int) match[1]))
+                .sorted(BY_DISTANCE)
+                .limit(limit)
+                .toList();
+    }
+    
+    @Override
+    public void load(ProjectId projectId, List<PerceptualHashEntry> entries) {
+        ProjectIndex index = projects.computeIfAbsent(projectId.value(), id -> new ProjectIndex());
+        index.lock.writeLock().lock();
+        try {
+            for (PerceptualHashEntry entry : entries) {
+                index.put(entry.imageId().value(), entry.hash().value(), false);
+            }
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public int size(ProjectId projectId) {
+        ProjectIndex index = projects.get(projectId.value());
+        if (index == null) {
+            return 0;
+        }
+        index.lock.readLock().lock();
+        try {
+            return index.tree.size();
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+    
+    private static final class ProjectIndex {
+        
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final BkTree tree = new BkTree();
+        private final Map<Long, Long> hashes = new HashMap<>();
+        
+        /**
+         * 쓰기 잠금 안에서 호출
+         * @param replace 이미 등록된 이미지의 해시를 교체할지 여부
+         */
+        private void put(long imageId, long hash, boolean replace) {
+            Long previous = hashes.get(imageId);
+            if (previous != null) {
+                if (!replace || previous == hash) {
+                    return;
+                }
+                tree.remove(previous, imageId);
+            }
+            hashes.put(imageId, hash);
+            tree.add(hash, imageId);
+        }
+    }
+}
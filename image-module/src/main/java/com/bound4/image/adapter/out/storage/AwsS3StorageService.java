@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
 import java.time.Duration;
 
 @Service
@@ -36,6 +37,17 @@ public class AwsS3StorageService implements FileStorageService {
         throw new UnsupportedOperationException("AWS S3 implementation not yet available");
     }
     
+    @Override
+    public InputStream openStream(String key) {
+        logger.info("AWS S3: Opening stream with key: {}", key);
+        
+        // TODO: AWS S3 SDK를 사용한 실제 구현
+        // S3Client.getObject(GetObjectRequest)의 ResponseInputStream을 그대로 반환
+        // 구현 전까지 prod 프로필에서는 원본 압축 파일 다운로드(ImageArchiveService)의 모든 항목이 제외됨
+        
+        throw new UnsupportedOperationException("AWS S3 implementation not yet available");
+    }
+    
     @Override
     public void deleteFile(String key) {
         logger.info("AWS S3: Deleting file with key: {}", key);
@@ -6,6 +6,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.concurrent.ConcurrentHashMap;
@@ -50,6 +52,18 @@ public class MockS3StorageService implements FileStorageService {
         return s3Object.getData();
     }
     
+    @Override
+    public InputStream openStream(String key) {
+        logger.info("Mock S3: Opening stream for key: {}", key);
+        
+        MockS3Object s3Object = storage.get(key);
+        if (s3Object == null) {
+            throw new RuntimeException("File not found: " + key);
+        }
+        
+        return new ByteArrayInputStream(s3Object.getData());
+    }
+    
     @Override
     public void deleteFile(String key) {
         logger.info("Mock S3: Deleting file with key: {}", key);
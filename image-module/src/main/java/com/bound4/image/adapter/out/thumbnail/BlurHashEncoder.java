@@ -0,0 +1,181 @@
+package com.bound4.image.adapter.out.thumbnail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.util.Arrays;
+
+/**
+ * BlurHash 자리표시자 인코더
+ * 축소가 끝난 썸네일에서 선형 RGB의 저주파 코사인 성분만 남겨 30자 내외의 문자열로 인코딩
+ * (4x3 성분 기준 28자, 클라이언트가 썸네일을 받기 전에 흐린 미리보기로 복원)
+ *
+ * 코사인 기저는 가로/세로로 분리해 행마다 가로 성분 합을 먼저 구하므로 200x200 썸네일에서 1ms 미만
+ */
+@Component
+public class BlurHashEncoder {
+
+    private static final String BASE83 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    private static final double[] SRGB_TO_LINEAR = new double[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            double value = i / 255.0;
+            SRGB_TO_LINEAR[i] = value <= 0.04045 ? value / 12.92 : Math.pow((value + 0.055) / 1.055, 2.4);
+        }
+    }
+
+    private final int componentsX;
+    private final int componentsY;
+
+    public BlurHashEncoder(@Value("${thumbnail.placeholder.components-x:4}") int componentsX,
+                           @Value("${thumbnail.placeholder.components-y:3}") int componentsY) {
+        if (componentsX < 1 || componentsX > 9 || componentsY < 1 || componentsY > 9) {
+            throw new IllegalArgumentException("BlurHash components must be between 1 and 9");
+        }
+        this.componentsX = componentsX;
+        this.componentsY = componentsY;
+    }
+
+    /**
+     * 이미지의 BlurHash 문자열
+     */
+    public String encode(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        double[][] cosX = cosineTable(componentsX, width);
+        double[][] cosY = cosineTable(componentsY, height);
+        double[] factors = new double[componentsX * componentsY * 3];
+        double[] rowSums = new double[componentsX * 3];
+        int[] row = new int[width];
+
+        for (int y = 0; y < height; y++) {
+            readRow(image, y, row);
+            Arrays.fill(rowSums, 0.0);
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                double r = SRGB_TO_LINEAR[(rgb >> 16) & 0xFF];
+                double g = SRGB_TO_LINEAR[(rgb >> 8) & 0xFF];
+                double b = SRGB_TO_LINEAR[rgb & 0xFF];
+                for (int i = 0; i < componentsX; i++) {
+                    double basis = cosX[i][x];
+                    rowSums[i * 3] += basis * r;
+                    rowSums[i * 3 + 1] += basis * g;
+                    rowSums[i * 3 + 2] += basis * b;
+                }
+            }
+            for (int j = 0; j < componentsY; j++) {
+                double basis = cosY[j][y];
+                int base = j * componentsX * 3;
+                for (int k = 0; k < componentsX * 3; k++) {
+                    factors[base + k] += basis * rowSums[k];
+                }
+            }
+        }
+
+        // 정규화: DC는 평균, AC는 2배
+        double pixels = (double) width * height;
+        for (int component = 0; component < componentsX * componentsY; component++) {
+            double scale = (component == 0 ? 1.0 : 2.0) / pixels;
+            for (int c = 0; c < 3; c++) {
+                factors[component * 3 + c] *= scale;
+            }
+        }
+        return toHash(factors);
+    }
+
+    private String toHash(double[] factors) {
+        int components = componentsX * componentsY;
+        StringBuilder hash = new StringBuilder(4 + 2 * components);
+        appendBase83(hash, (componentsX - 1) + (componentsY - 1) * 9, 1);
+
+        double maxValue;
+        if (components > 1) {
+            double actualMax = 0.0;
+            for (int k = 3; k < factors.length; k++) {
+                actualMax = Math.max(actualMax, Math.abs(factors[k]));
+            }
+            int quantisedMax = (int) Math.max(0, Math.min(82, Math.floor(actualMax * 166 - 0.5)));
+            maxValue = (quantisedMax + 1) / 166.0;
+            appendBase83(hash, quantisedMax, 1);
+        } else {
+            maxValue = 1.0;
+            appendBase83(hash, 0, 1);
+        }
+
+        int dc = (linearToSrgb(factors[0]) << 16) | (linearToSrgb(factors[1]) << 8) | linearToSrgb(factors[2]);
+        appendBase83(hash, dc, 4);
+
+        for (int component = 1; component < components; component++) {
+            int r = quantiseAc(factors[component * 3], maxValue);
+            int g = quantiseAc(factors[component * 3 + 1], maxValue);
+            int b = quantiseAc(factors[component * 3 + 2], maxValue);
+            appendBase83(hash, r * 19 * 19 + g * 19 + b, 2);
+        }
+        return hash.toString();
+    }
+
+    private static double[][] cosineTable(int components, int size) {
+        double[][] table = new double[components][size];
+        for (int i = 0; i < components; i++) {
+            for (int p = 0; p < size; p++) {
+                table[i][p] = Math.cos(Math.PI * i * p / size);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * 한 행의 RGB (정수 RGB 래스터는 배열에서 직접 복사)
+     */
+    private static void readRow(BufferedImage image, int y, int[] row) {
+        Raster raster = image.getRaster();
+        if (raster.getDataBuffer() instanceof DataBufferInt buffer
+                && raster.getSampleModel() instanceof SinglePixelPackedSampleModel model
+                && (image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_INT_ARGB)) {
+            int stride = model.getScanlineStride();
+            int offset = buffer.getOffset()
+                    + (y - raster.getSampleModelTranslateY()) * stride
+                    - raster.getSampleModelTranslateX();
+            System.arraycopy(buffer.getData(), offset, row, 0, row.length);
+            return;
+        }
+        image.getRGB(0, y, row.length, 1, row, 0, row.length);
+    }
+
+    private static int linearToSrgb(double value) {
+        double v = Math.max(0.0, Math.min(1.0, value));
+        if (v <= 0.0031308) {
+            return (int) (v * 12.92 * 255 + 0.5);
+        }
+        return (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+    }
+
+    private static int quantiseAc(double value, double maxValue) {
+        double normalized = value / maxValue;
+        double signPow = Math.copySign(Math.sqrt(Math.abs(normalized)), normalized);
+        return (int) Math.max(0, Math.min(18, Math.floor(signPow * 9 + 9.5)));
+    }
+
+    private static void appendBase83(StringBuilder hash, int value, int length) {
+        for (int i = 1; i <= length; i++) {
+            int digit = (value / pow83(length - i)) % 83;
+            hash.append(BASE83.charAt(digit));
+        }
+    }
+
+    private static int pow83(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 83;
+        }
+        return result;
+    }
+}
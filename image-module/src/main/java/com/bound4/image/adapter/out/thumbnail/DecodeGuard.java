@@ -0,0 +1,135 @@
+package com.bound4.image.adapter.out.thumbnail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 디코딩 픽셀 예산 관리 (압축 폭탄 방어)
+ * 헤더에서 읽은 크기로 디코딩 전에 허용 여부와 서브샘플링 배율을 정하고,
+ * 모든 워커가 동시에 디코딩 중인 픽셀 합계를 세마포어로 제한하여 메모리 사용량 상한을 보장
+ *
+ * - max-pixels 초과: 디코딩하지 않고 거부
+ * - subsample-above-pixels 초과: 디코딩 결과가 이 값 이하가 되도록 정수 배 서브샘플링
+ * - in-flight-pixels: 동시에 디코딩된 상태로 존재할 수 있는 픽셀 합계
+ */
+@Component
+public class DecodeGuard {
+
+    private final long maxPixels;
+    private final long subsampleAbovePixels;
+    private final int inFlightPixels;
+    private final long acquireTimeoutMs;
+    private final Semaphore budget;
+
+    public DecodeGuard(@Value("${thumbnail.decode.max-pixels:250000000}") long maxPixels,
+                       @Value("${thumbnail.decode.subsample-above-pixels:16777216}") long subsampleAbovePixels,
+                       @Value("${thumbnail.decode.in-flight-pixels:100000000}") int inFlightPixels,
+                       @Value("${thumbnail.decode.acquire-timeout-ms:30000}") long acquireTimeoutMs) {
+        if (subsampleAbovePixels > inFlightPixels) {
+            throw new IllegalArgumentException("subsample-above-pixels must not exceed in-flight-pixels");
+        }
+        this.maxPixels = maxPixels;
+        this.subsampleAbovePixels = subsampleAbovePixels;
+        this.inFlightPixels = inFlightPixels;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.budget = new Semaphore(inFlightPixels, true);
+    }
+
+    /**
+     * 헤더 크기로 서브샘플링 배율 결정
+     * @return 가로/세로 공통 샘플링 간격 (1이면 원본 크기로 디코딩)
+     * @throws ImageTooLargeException 픽셀 수가 허용 한도를 넘는 경우
+     */
+    public int subsamplingFor(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new ImageTooLargeException("Invalid image dimensions: " + width + "x" + height);
+        }
+        long pixels = (long) width * height;
+        if (pixels > maxPixels) {
+            throw new ImageTooLargeException("Image exceeds decode limit: " + width + "x" + height
+                    + " (" + pixels + " > " + maxPixels + " pixels)");
+        }
+
+        int period = 1;
+        while (decodedPixels(width, height, period) > subsampleAbovePixels) {
+            period++;
+        }
+        return period;
+    }
+
+    /**
+     * 서브샘플링 후 디코딩될 픽셀 수
+     */
+    public static long decodedPixels(int width, int height, int period) {
+        long decodedWidth = (width + period - 1) / period;
+        long decodedHeight = (height + period - 1) / period;
+        return decodedWidth * decodedHeight;
+    }
+
+    /**
+     * 디코딩할 픽셀 수만큼 예산 확보 (반환된 허가는 디코딩 이미지를 다 쓴 뒤 닫아야 함)
+     * @throws BudgetTimeoutException 제한 시간 안에 예산을 확보하지 못한 경우 (재시도 가능)
+     */
+    public Permit acquire(long pixels) {
+        int permits = (int) Math.min(pixels, inFlightPixels);
+        try {
+            if (!budget.tryAcquire(permits, acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new BudgetTimeoutException("Decode budget unavailable for " + pixels + " pixels, in flight: "
+                        + getInFlightPixels());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BudgetTimeoutException("Interrupted while waiting for decode budget");
+        }
+        return new Permit(permits);
+    }
+
+    /**
+     * 현재 디코딩 중인 픽셀 합계
+     */
+    public long getInFlightPixels() {
+        return inFlightPixels - budget.availablePermits();
+    }
+
+    /**
+     * 디코딩 예산 허가 (한 번만 반환됨)
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final int permits;
+        private boolean released;
+
+        private Permit(int permits) {
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                budget.release(permits);
+            }
+        }
+    }
+
+    /**
+     * 허용 한도를 넘는 이미지 (재시도해도 같은 결과)
+     */
+    public static class ImageTooLargeException extends RuntimeException {
+        public ImageTooLargeException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 디코딩 예산 대기 시간 초과 (잠시 후 재시도 가능)
+     */
+    public static class BudgetTimeoutException extends RuntimeException {
+        public BudgetTimeoutException(String message) {
+            super(message);
+        }
+    }
+}
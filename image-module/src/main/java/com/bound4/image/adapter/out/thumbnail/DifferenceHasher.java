@@ -0,0 +1,59 @@
+package com.bound4.image.adapter.out.thumbnail;
+
+import com.bound4.image.domain.PerceptualHash;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 차이 해시(dHash) 계산기
+ * 축소가 끝난 썸네일을 9x8 회색조 격자로 면적 평균한 뒤 행마다 이웃한 칸의 밝기 비교 결과 64개를 비트로 기록
+ * 밝기 기울기만 남기므로 크기 변경, 재인코딩, 약한 색 보정에 강하고 썸네일 1건당 수십 마이크로초 수준
+ */
+@Component
+public class DifferenceHasher {
+    
+    private static final int GRID_WIDTH = 9;
+    private static final int GRID_HEIGHT = 8;
+    
+    public PerceptualHash hash(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double[] sums = new double[GRID_WIDTH * GRID_HEIGHT];
+        double[] weights = new double[GRID_WIDTH * GRID_HEIGHT];
+        int[] row = new int[width];
+        
+        // 각 픽셀을 좌표가 속한 격자 칸에 더해 칸별 평균 밝기 계산
+        for (int y = 0; y < height; y++) {
+            int gy = Math.min(GRID_HEIGHT - 1, y * GRID_HEIGHT / height);
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                int gx = Math.min(GRID_WIDTH - 1, x * GRID_WIDTH / width);
+                int rgb = row[x];
+                // ITU-R BT.601 휘도
+                double luma = 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF) + 0.114 * (rgb & 0xFF);
+                int cell = gy * GRID_WIDTH + gx;
+                sums[cell] += luma;
+                weights[cell] += 1.0;
+            }
+        }
+        
+        long bits = 0L;
+        int bit = 0;
+        for (int gy = 0; gy < GRID_HEIGHT; gy++) {
+            for (int gx = 0; gx < GRID_WIDTH - 1; gx++) {
+                double left = average(sums, weights, gy * GRID_WIDTH + gx);
+                double right = average(sums, weights, gy * GRID_WIDTH + gx + 1);
+                if (left < right) {
+                    bits |= 1L << bit;
+                }
+                bit++;
+            }
+        }
+        return PerceptualHash.of(bits);
+    }
+    
+    private static double average(double[] sums, double[] weights, int cell) {
+        return weights[cell] == 0.0 ? 0.0 : sums[cell] / weights[cell];
+    }
+}
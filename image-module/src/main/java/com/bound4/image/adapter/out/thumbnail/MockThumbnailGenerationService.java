@@ -1,6 +1,7 @@
 package com.bound4.image.adapter.out.thumbnail;
 
 import com.bound4.image.application.port.out.ThumbnailGenerationService;
+import com.bound4.image.domain.GeneratedThumbnail;
 import com.bound4.image.domain.ImageId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,7 +29,7 @@ public class MockThumbnailGenerationService implements ThumbnailGenerationServic
     );
     
     @Override
-    public String generateThumbnail(ImageId imageId, String originalImageKey, String mimeType) 
+    public GeneratedThumbnail generateThumbnail(ImageId imageId, String originalImageKey, String mimeType) 
             throws ThumbnailGenerationException {
         
         logger.info("Mock thumbnail generation for image: {}, originalKey: {}, mimeType: {}", 
@@ -60,7 +61,7 @@ public class MockThumbnailGenerationService implements ThumbnailGenerationServic
             String thumbnailKey = "thumbnails/" + imageId.value() + "_" + UUID.randomUUID() + "_thumb.jpg";
             
             logger.info("Mock thumbnail generated successfully: {}", thumbnailKey);
-            return thumbnailKey;
+            return GeneratedThumbnail.of(thumbnailKey);
             
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -0,0 +1,178 @@
+package com.bound4.image.adapter.out.thumbnail;
+
+import com.bound4.image.application.port.out.FileStorageService;
+import com.bound4.image.application.port.out.ImageMetadataExtractor;
+import com.bound4.image.application.port.out.ThumbnailGenerationService;
+import com.bound4.image.application.port.out.ThumbnailMetrics;
+import com.bound4.image.domain.GeneratedThumbnail;
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.ImageMetadata;
+import com.bound4.image.domain.PerceptualHash;
+import com.bound4.image.domain.ThumbnailFailureReason;
+import com.bound4.image.domain.ThumbnailStage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 저장소 기반 썸네일 생성 서비스
+ * 원본 읽기 → 디코딩 → 축소 → 인코딩 → 썸네일 쓰기 순으로 처리하며 단계별 소요 시간을 기록
+ * 인코딩 단계에서 축소된 썸네일로 BlurHash 자리표시자와 지각 해시(dHash)도 함께 계산
+ *
+ * 애니메이션 GIF/WebP는 헤더에서 프레임 수를 읽고 포스터 프레임 하나만 디코딩하므로 정지 이미지와 비슷한 비용
+ * WebP는 JDK 기본 리더가 없으므로 ImageIO 플러그인이 등록된 경우에만 지원
+ */
+@Service
+@Profile("prod")
+public class StorageThumbnailGenerationService implements ThumbnailGenerationService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StorageThumbnailGenerationService.class);
+    
+    private static final Set<String> BUILT_IN_MIME_TYPES = Set.of(
+        "image/jpeg",
+        "image/jpg",
+        "image/png",
+        "image/gif"
+    );
+    
+    private static final String WEBP_MIME_TYPE = "image/webp";
+    
+    private final FileStorageService fileStorageService;
+    private final ThumbnailCodec thumbnailCodec;
+    private final BlurHashEncoder blurHashEncoder;
+    private final DifferenceHasher differenceHasher;
+    private final ImageMetadataExtractor metadataExtractor;
+    private final ThumbnailMetrics thumbnailMetrics;
+    private final int posterFrame;
+    private final Set<String> supportedMimeTypes;
+    
+    public StorageThumbnailGenerationService(FileStorageService fileStorageService,
+                                             ThumbnailCodec thumbnailCodec,
+                                             BlurHashEncoder blurHashEncoder,
+                                             DifferenceHasher differenceHasher,
+                                             ImageMetadataExtractor metadataExtractor,
+                                             ThumbnailMetrics thumbnailMetrics,
+                                             @Value("${thumbnail.animation.poster-frame:0}") int posterFrame) {
+        if (posterFrame < 0) {
+            throw new IllegalArgumentException("Poster frame must not be negative");
+        }
+        this.fileStorageService = fileStorageService;
+        this.thumbnailCodec = thumbnailCodec;
+        this.blurHashEncoder = blurHashEncoder;
+        this.differenceHasher = differenceHasher;
+        this.metadataExtractor = metadataExtractor;
+        this.thumbnailMetrics = thumbnailMetrics;
+        this.posterFrame = posterFrame;
+        
+        Set<String> mimeTypes = new HashSet<>(BUILT_IN_MIME_TYPES);
+        if (ImageIO.getImageReadersByMIMEType(WEBP_MIME_TYPE).hasNext()) {
+            mimeTypes.add(WEBP_MIME_TYPE);
+        }
+        this.supportedMimeTypes = Set.copyOf(mimeTypes);
+    }
+    
+    @Override
+    public GeneratedThumbnail generateThumbnail(ImageId imageId, String originalImageKey, String mimeType) 
+            throws ThumbnailGenerationException {
+        
+        long stageStart = System.nanoTime();
+        byte[] originalBytes;
+        try {
+            originalBytes = fileStorageService.downloadFile(originalImageKey);
+        } catch (RuntimeException e) {
+            throw new ThumbnailGenerationException("Failed to read original image: " + originalImageKey, e, true);
+        }
+        stageStart = record(ThumbnailStage.STORAGE_READ, stageStart);
+        
+        // 디코딩 예산은 축소가 끝나 원본 픽셀이 더 이상 필요 없을 때 반환
+        BufferedImage thumbnail;
+        int frameIndex = frameIndexFor(imageId, originalBytes);
+        try (ThumbnailCodec.DecodedImage decoded = decode(originalBytes, frameIndex, originalImageKey)) {
+            stageStart = record(ThumbnailStage.DECODE, stageStart);
+            if (decoded.frameIndex() != frameIndex) {
+                logger.debug("Poster frame {} is a partial frame, used first frame instead, image: {}", 
+                            frameIndex, imageId.value());
+            }
+            if (decoded.subsampling() > 1) {
+                logger.info("Large image subsampled by {} while decoding, image: {}", 
+                           decoded.subsampling(), imageId.value());
+            }
+            thumbnail = thumbnailCodec.resize(decoded.image());
+        }
+        stageStart = record(ThumbnailStage.RESIZE, stageStart);
+        
+        // 캔버스는 다음 축소에서 재사용되므로 같은 스레드에서 인코딩 전에 계산
+        String placeholder = blurHashEncoder.encode(thumbnail);
+        PerceptualHash perceptualHash = differenceHasher.hash(thumbnail);
+        byte[] thumbnailBytes;
+        try {
+            thumbnailBytes = thumbnailCodec.encode(thumbnail);
+        } catch (IOException e) {
+            throw new ThumbnailGenerationException("Failed to encode thumbnail", e, true);
+        }
+        stageStart = record(ThumbnailStage.ENCODE, stageStart);
+        
+        String thumbnailKey = "thumbnails/" + imageId.value() + "_thumb.jpg";
+        try {
+            fileStorageService.uploadFile(thumbnailKey, thumbnailBytes, "image/jpeg");
+        } catch (RuntimeException e) {
+            throw new ThumbnailGenerationException("Failed to write thumbnail: " + thumbnailKey, e, true);
+        }
+        record(ThumbnailStage.STORAGE_WRITE, stageStart);
+        
+        logger.debug("Thumbnail generated for image: {}, {} -> {} bytes", 
+                    imageId.value(), originalBytes.length, thumbnailBytes.length);
+        return new GeneratedThumbnail(thumbnailKey, placeholder, perceptualHash);
+    }
+    
+    @Override
+    public boolean isSupported(String mimeType) {
+        return mimeType != null && supportedMimeTypes.contains(mimeType.toLowerCase());
+    }
+    
+    /**
+     * 디코딩할 프레임 (헤더의 프레임 수 기준, 애니메이션이 아니면 첫 프레임)
+     */
+    private int frameIndexFor(ImageId imageId, byte[] originalBytes) {
+        int frameCount = metadataExtractor.extract(originalBytes)
+                .map(ImageMetadata::frameCount)
+                .orElse(1);
+        thumbnailMetrics.recordSourceFrames(frameCount);
+        if (frameCount <= 1) {
+            return 0;
+        }
+        int frameIndex = Math.min(posterFrame, frameCount - 1);
+        logger.debug("Animated image with {} frames, decoding frame {} only, image: {}", 
+                    frameCount, frameIndex, imageId.value());
+        return frameIndex;
+    }
+    
+    private ThumbnailCodec.DecodedImage decode(byte[] originalBytes, int frameIndex, String originalImageKey) 
+            throws ThumbnailGenerationException {
+        try {
+            return thumbnailCodec.decode(originalBytes, frameIndex);
+        } catch (DecodeGuard.ImageTooLargeException e) {
+            throw new ThumbnailGenerationException(e.getMessage(), e, false, ThumbnailFailureReason.IMAGE_TOO_LARGE);
+        } catch (DecodeGuard.BudgetTimeoutException e) {
+            throw new ThumbnailGenerationException(e.getMessage(), e, true);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new ThumbnailGenerationException("Cannot decode original image: " + originalImageKey, e, false,
+                    ThumbnailFailureReason.UNREADABLE_IMAGE);
+        }
+    }
+    
+    private long record(ThumbnailStage stage, long stageStart) {
+        long now = System.nanoTime();
+        thumbnailMetrics.recordStage(stage, Duration.ofNanos(now - stageStart));
+        return now;
+    }
+}
@@ -0,0 +1,291 @@
+package com.bound4.image.adapter.out.thumbnail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 스레드별로 재사용하는 썸네일 코덱
+ * ImageReader/ImageWriter, 디코딩 대상 버퍼, 축소용 캔버스, 출력 버퍼를 워커 스레드마다 한 번만 만들고 재사용하여
+ * 정상 상태에서 썸네일 1건당 할당을 최소화
+ *
+ * resize가 반환하는 이미지는 스레드 로컬 캔버스를 공유하므로 같은 스레드에서 다음 resize 전에 encode해야 함
+ */
+@Component
+public class ThumbnailCodec {
+
+    static final int THUMBNAIL_WIDTH = 200;
+    static final int THUMBNAIL_HEIGHT = 200;
+    private static final String THUMBNAIL_FORMAT = "jpeg";
+
+    private final float jpegQuality;
+    private final boolean progressive;
+    private final long maxRetainedPixels;
+    private final DecodeGuard decodeGuard;
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+
+    public ThumbnailCodec(@Value("${thumbnail.codec.jpeg-quality:0.85}") float jpegQuality,
+                          @Value("${thumbnail.codec.progressive:true}") boolean progressive,
+                          @Value("${thumbnail.codec.max-retained-pixels:4194304}") long maxRetainedPixels,
+                          DecodeGuard decodeGuard) {
+        if (jpegQuality <= 0f || jpegQuality > 1f) {
+            throw new IllegalArgumentException("JPEG quality must be in (0, 1]");
+        }
+        this.jpegQuality = jpegQuality;
+        this.progressive = progressive;
+        this.maxRetainedPixels = maxRetainedPixels;
+        this.decodeGuard = decodeGuard;
+        ImageIO.setUseCache(false);
+    }
+
+    /**
+     * 원본 이미지의 첫 프레임 디코딩
+     * @see #decode(byte[], int)
+     */
+    public DecodedImage decode(byte[] data) throws IOException {
+        return decode(data, 0);
+    }
+
+    /**
+     * 원본 이미지의 한 프레임만 디코딩
+     * 헤더의 크기로 먼저 허용 여부와 서브샘플링 배율을 정하고 디코딩 예산을 확보한 뒤 읽음
+     * 애니메이션 GIF는 앞 프레임의 압축 데이터를 디코딩하지 않고 건너뛰므로 프레임 수와 무관하게 정지 이미지 한 장 비용
+     * 직전과 같은 크기/형식이면 디코딩 대상 버퍼를 재사용
+     * @param frameIndex 디코딩할 프레임 (없거나 부분 프레임이면 첫 프레임)
+     * @return 디코딩 결과 (사용 후 닫아서 예산을 반환해야 함)
+     * @throws DecodeGuard.ImageTooLargeException 픽셀 수가 허용 한도를 넘는 경우
+     * @throws DecodeGuard.BudgetTimeoutException 디코딩 예산을 확보하지 못한 경우
+     */
+    public DecodedImage decode(byte[] data, int frameIndex) throws IOException {
+        Worker worker = workers.get();
+        try (ImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(data))) {
+            ImageReader reader = worker.readerFor(input);
+            if (reader == null) {
+                throw new IllegalArgumentException("Cannot read image data");
+            }
+            try {
+                // 첫 프레임이 아니면 부분 프레임 확인 후 첫 프레임으로 되돌아갈 수 있도록 역방향 탐색 허용
+                reader.setInput(input, frameIndex <= 0, true);
+                int frame = frameFor(reader, frameIndex);
+                int width = reader.getWidth(frame);
+                int height = reader.getHeight(frame);
+                int period = decodeGuard.subsamplingFor(width, height);
+                ImageTypeSpecifier type = reader.getImageTypes(frame).next();
+
+                DecodeGuard.Permit permit = decodeGuard.acquire(DecodeGuard.decodedPixels(width, height, period));
+                try {
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    if (period > 1) {
+                        param.setSourceSubsampling(period, period, 0, 0);
+                    }
+                    int decodedWidth = (width + period - 1) / period;
+                    int decodedHeight = (height + period - 1) / period;
+                    param.setDestination(worker.decodeTarget(type, decodedWidth, decodedHeight, maxRetainedPixels));
+                    return new DecodedImage(reader.read(frame, param), period, frame, permit);
+                } catch (IOException | RuntimeException e) {
+                    permit.close();
+                    throw e;
+                }
+            } finally {
+                reader.setInput(null);
+            }
+        }
+    }
+
+    /**
+     * 실제로 디코딩할 프레임
+     * 요청한 프레임이 없거나 첫 프레임과 크기가 다르면(이전 프레임 위에 덮는 변경 영역만 담긴 경우) 첫 프레임
+     */
+    private static int frameFor(ImageReader reader, int frameIndex) throws IOException {
+        if (frameIndex <= 0) {
+            return 0;
+        }
+        try {
+            if (reader.getWidth(frameIndex) == reader.getWidth(0)
+                    && reader.getHeight(frameIndex) == reader.getHeight(0)) {
+                return frameIndex;
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // 단일 프레임 형식이거나 프레임 수보다 큰 인덱스
+        }
+        return 0;
+    }
+
+    /**
+     * 비율을 유지하며 썸네일 크기로 축소 (스레드 로컬 캔버스에 그림)
+     */
+    public BufferedImage resize(BufferedImage original) {
+        int originalWidth = original.getWidth();
+        int originalHeight = original.getHeight();
+
+        double widthRatio = (double) THUMBNAIL_WIDTH / originalWidth;
+        double heightRatio = (double) THUMBNAIL_HEIGHT / originalHeight;
+        double ratio = Math.min(widthRatio, heightRatio);
+
+        int newWidth = Math.max(1, (int) (originalWidth * ratio));
+        int newHeight = Math.max(1, (int) (originalHeight * ratio));
+
+        Worker worker = workers.get();
+        Graphics2D graphics = worker.canvasGraphics;
+        // 이전 썸네일이 남지 않도록 새 이미지와 같은 배경으로 지움
+        graphics.clearRect(0, 0, newWidth, newHeight);
+        graphics.drawImage(original, 0, 0, newWidth, newHeight, null);
+
+        return worker.canvas.getSubimage(0, 0, newWidth, newHeight);
+    }
+
+    /**
+     * JPEG 인코딩 (품질/프로그레시브 설정 적용)
+     */
+    public byte[] encode(BufferedImage image) throws IOException {
+        Worker worker = workers.get();
+        worker.output.reset();
+        try (ImageOutputStream output = new MemoryCacheImageOutputStream(worker.output)) {
+            worker.writer.setOutput(output);
+            worker.writer.write(null, new IIOImage(image, null, null), worker.writeParam);
+        } finally {
+            worker.writer.setOutput(null);
+        }
+        return worker.output.toByteArray();
+    }
+
+    /**
+     * 디코딩된 원본 이미지와 그 디코딩 예산
+     */
+    public static final class DecodedImage implements AutoCloseable {
+
+        private final BufferedImage image;
+        private final int subsampling;
+        private final int frameIndex;
+        private final DecodeGuard.Permit permit;
+
+        private DecodedImage(BufferedImage image, int subsampling, int frameIndex, DecodeGuard.Permit permit) {
+            this.image = image;
+            this.subsampling = subsampling;
+            this.frameIndex = frameIndex;
+            this.permit = permit;
+        }
+
+        public BufferedImage image() {
+            return image;
+        }
+
+        /**
+         * 디코딩 시 적용된 샘플링 간격 (1이면 원본 크기)
+         */
+        public int subsampling() {
+            return subsampling;
+        }
+
+        /**
+         * 디코딩한 프레임 (0이면 첫 프레임)
+         */
+        public int frameIndex() {
+            return frameIndex;
+        }
+
+        @Override
+        public void close() {
+            permit.close();
+        }
+    }
+
+    float getJpegQuality() {
+        return jpegQuality;
+    }
+
+    boolean isProgressive() {
+        return progressive;
+    }
+
+    /**
+     * 워커 스레드별 코덱 상태
+     */
+    private final class Worker {
+
+        private final List<ImageReader> readers = new ArrayList<>();
+        private final ImageWriter writer;
+        private final ImageWriteParam writeParam;
+        private final BufferedImage canvas;
+        private final Graphics2D canvasGraphics;
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream(32 * 1024);
+        private BufferedImage decodeTarget;
+
+        private Worker() {
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(THUMBNAIL_FORMAT);
+            if (!writers.hasNext()) {
+                throw new IllegalStateException("No JPEG writer available");
+            }
+            this.writer = writers.next();
+            this.writeParam = writer.getDefaultWriteParam();
+            writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            writeParam.setCompressionQuality(jpegQuality);
+            writeParam.setProgressiveMode(progressive
+                    ? ImageWriteParam.MODE_DEFAULT
+                    : ImageWriteParam.MODE_DISABLED);
+
+            this.canvas = new BufferedImage(THUMBNAIL_WIDTH, THUMBNAIL_HEIGHT, BufferedImage.TYPE_INT_RGB);
+            this.canvasGraphics = canvas.createGraphics();
+            canvasGraphics.setBackground(Color.BLACK);
+            canvasGraphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            canvasGraphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            canvasGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        }
+
+        /**
+         * 입력 형식에 맞는 리더
+         * 이미 만든 리더가 헤더를 읽을 수 있으면 재사용하고, 처음 보는 형식만 서비스 레지스트리에서 조회
+         */
+        private ImageReader readerFor(ImageInputStream input) throws IOException {
+            for (ImageReader reader : readers) {
+                if (reader.getOriginatingProvider().canDecodeInput(input)) {
+                    return reader;
+                }
+            }
+            Iterator<ImageReader> candidates = ImageIO.getImageReaders(input);
+            if (!candidates.hasNext()) {
+                return null;
+            }
+            ImageReader reader = candidates.next();
+            readers.add(reader);
+            return reader;
+        }
+
+        /**
+         * 디코딩 대상 버퍼 (크기와 형식이 같으면 재사용, 큰 이미지는 보관하지 않음)
+         */
+        private BufferedImage decodeTarget(ImageTypeSpecifier type, int width, int height, long maxRetainedPixels) {
+            if (decodeTarget != null
+                    && decodeTarget.getWidth() == width
+                    && decodeTarget.getHeight() == height
+                    && decodeTarget.getType() == type.getBufferedImageType()
+                    && decodeTarget.getColorModel().equals(type.getColorModel())) {
+                return decodeTarget;
+            }
+            BufferedImage target = type.createBufferedImage(width, height);
+            decodeTarget = (long) width * height <= maxRetainedPixels ? target : null;
+            return target;
+        }
+    }
+}
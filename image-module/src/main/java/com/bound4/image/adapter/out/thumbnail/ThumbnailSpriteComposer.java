@@ -0,0 +1,80 @@
+package com.bound4.image.adapter.out.thumbnail;
+
+import com.bound4.image.application.port.out.SpriteComposer;
+import com.bound4.image.domain.SpriteSheet;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * 썸네일 코덱 기반 스프라이트 합성기
+ * 각 썸네일의 가운데 정사각형 영역을 타일 크기로 축소해 그리며 (object-fit: cover와 같은 결과),
+ * 디코딩/인코딩은 썸네일 워커와 같은 스레드별 코덱을 사용
+ */
+@Component
+public class ThumbnailSpriteComposer implements SpriteComposer {
+    
+    private static final Color BACKGROUND = Color.WHITE;
+    
+    private final ThumbnailCodec thumbnailCodec;
+    
+    public ThumbnailSpriteComposer(ThumbnailCodec thumbnailCodec) {
+        this.thumbnailCodec = thumbnailCodec;
+    }
+    
+    @Override
+    public byte[] compose(SpriteSheet sheet, List<byte[]> thumbnails) {
+        if (thumbnails.size() != sheet.tiles().size()) {
+            throw new IllegalArgumentException("Thumbnail count does not match sprite tiles");
+        }
+        if (sheet.isEmpty()) {
+            throw new IllegalArgumentException("Sprite sheet has no tiles");
+        }
+        
+        BufferedImage sprite = new BufferedImage(sheet.width(), sheet.height(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = sprite.createGraphics();
+        try {
+            graphics.setColor(BACKGROUND);
+            graphics.fillRect(0, 0, sprite.getWidth(), sprite.getHeight());
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            
+            for (int i = 0; i < thumbnails.size(); i++) {
+                drawTile(graphics, sheet.tiles().get(i), thumbnails.get(i));
+            }
+        } finally {
+            graphics.dispose();
+        }
+        
+        try {
+            return thumbnailCodec.encode(sprite);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode sprite sheet", e);
+        }
+    }
+    
+    /**
+     * 썸네일의 가운데 정사각형 영역을 타일에 그림
+     * 디코딩 버퍼는 다음 디코딩에서 재사용되므로 그린 직후 예산을 반환
+     */
+    private void drawTile(Graphics2D graphics, SpriteSheet.Tile tile, byte[] thumbnail) {
+        try (ThumbnailCodec.DecodedImage decoded = thumbnailCodec.decode(thumbnail)) {
+            BufferedImage image = decoded.image();
+            int side = Math.min(image.getWidth(), image.getHeight());
+            int sx = (image.getWidth() - side) / 2;
+            int sy = (image.getHeight() - side) / 2;
+            graphics.drawImage(image,
+                    tile.x(), tile.y(), tile.x() + tile.width(), tile.y() + tile.height(),
+                    sx, sy, sx + side, sy + side,
+                    null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode thumbnail for image: " + tile.imageId(), e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.bound4.image.application.port.in;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+public class ImageArchiveQuery {
+    
+    public static final int MAX_IMAGES = 1000;
+    
+    private final Long projectId;
+    private final List<Long> imageIds;
+    
+    /**
+     * @param imageIds 담을 이미지 (비어 있으면 프로젝트 전체)
+     */
+    public ImageArchiveQuery(Long projectId, List<Long> imageIds) {
+        if (projectId == null) {
+            throw new IllegalArgumentException("ProjectId is required");
+        }
+        List<Long> distinct = imageIds != null ? new ArrayList<>(new LinkedHashSet<>(imageIds)) : List.of();
+        if (distinct.contains(null)) {
+            throw new IllegalArgumentException("Image id cannot be null");
+        }
+        if (distinct.size() > MAX_IMAGES) {
+            throw new IllegalArgumentException("Archive cannot contain more than " + MAX_IMAGES + " selected images");
+        }
+        this.projectId = projectId;
+        this.imageIds = List.copyOf(distinct);
+    }
+    
+    public Long getProjectId() {
+        return projectId;
+    }
+    
+    public List<Long> getImageIds() {
+        return imageIds;
+    }
+    
+    public boolean isWholeProject() {
+        return imageIds.isEmpty();
+    }
+}
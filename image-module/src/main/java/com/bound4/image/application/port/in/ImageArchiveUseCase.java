@@ -0,0 +1,17 @@
+package com.bound4.image.application.port.in;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 원본 이미지 압축 파일 다운로드 UseCase
+ * 압축 파일을 메모리/디스크에 만들지 않고 응답 스트림에 바로 기록
+ */
+public interface ImageArchiveUseCase {
+    
+    /**
+     * 원본 이미지를 ZIP으로 기록 (저장소에 없는 원본은 제외)
+     * @return 기록한 이미지 수
+     */
+    long writeArchive(ImageArchiveQuery query, OutputStream out) throws IOException;
+}
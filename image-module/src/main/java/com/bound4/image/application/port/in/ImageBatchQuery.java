@@ -0,0 +1,34 @@
+package com.bound4.image.application.port.in;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 여러 이미지를 한 번에 조회하는 요청 (상세, 썸네일 상태)
+ */
+public class ImageBatchQuery {
+    
+    public static final int MAX_IMAGES = 200;
+    
+    private final List<Long> imageIds;
+    
+    public ImageBatchQuery(List<Long> imageIds) {
+        if (imageIds == null || imageIds.isEmpty()) {
+            throw new IllegalArgumentException("Image ids cannot be empty");
+        }
+        // 요청 순서를 유지하며 중복 제거
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(imageIds));
+        if (distinct.contains(null)) {
+            throw new IllegalArgumentException("Image id cannot be null");
+        }
+        if (distinct.size() > MAX_IMAGES) {
+            throw new IllegalArgumentException("Cannot request more than " + MAX_IMAGES + " images at once");
+        }
+        this.imageIds = List.copyOf(distinct);
+    }
+    
+    public List<Long> getImageIds() {
+        return imageIds;
+    }
+}
@@ -1,8 +1,10 @@
 package com.bound4.image.application.port.in;
 
 import com.bound4.image.domain.Cursor;
+import com.bound4.image.domain.CursorSortKey;
 import com.bound4.image.domain.ImageStatus;
 import com.bound4.image.domain.SortDirection;
+import com.bound4.image.domain.TagMatchMode;
 
 import java.util.List;
 
@@ -14,16 +16,23 @@ public class ImageCursorListQuery {
     private final SortDirection direction;
     private final ImageStatus status;
     private final List<String> tags;
+    private final TagMatchMode tagMatch;
     private final String sortBy;
     
     public ImageCursorListQuery(Long projectId, Cursor cursor, int size, SortDirection direction,
                                ImageStatus status, List<String> tags, String sortBy) {
+        this(projectId, cursor, size, direction, status, tags, TagMatchMode.ANY, sortBy);
+    }
+    
+    public ImageCursorListQuery(Long projectId, Cursor cursor, int size, SortDirection direction,
+                               ImageStatus status, List<String> tags, TagMatchMode tagMatch, String sortBy) {
         this.projectId = projectId;
         this.cursor = cursor;
         this.size = size;
         this.direction = direction != null ? direction : SortDirection.DESC;
         this.status = status;
         this.tags = tags;
+        this.tagMatch = tagMatch != null ? tagMatch : TagMatchMode.ANY;
         this.sortBy = sortBy != null ? sortBy : "createdAt";
     }
     
@@ -55,10 +64,41 @@ public class ImageCursorListQuery {
         return tags;
     }
     
+    public TagMatchMode getTagMatch() {
+        return tagMatch;
+    }
+    
     public String getSortBy() {
         return sortBy;
     }
     
+    public CursorSortKey getSortKey() {
+        return CursorSortKey.fromString(sortBy);
+    }
+    
+    /**
+     * 커서에 기록하는 필터 지문 (다른 필터로 발급된 커서 거부용)
+     */
+    public long filterFingerprint() {
+        return Cursor.filterFingerprint(projectId, status, tags, tagMatch);
+    }
+    
+    /**
+     * 커서가 같은 정렬/필터의 조회에서 발급되었는지 확인
+     * 다른 정렬 기준의 값으로 범위를 잡거나 다른 필터의 위치에서 이어가면 행이 빠지거나 겹치므로 거부
+     */
+    public void verifyCursor() {
+        if (cursor == null) {
+            return;
+        }
+        if (cursor.getSortKey() != getSortKey() || cursor.getDirection() != direction) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort order");
+        }
+        if (cursor.getFilterFingerprint() != null && cursor.getFilterFingerprint() != filterFingerprint()) {
+            throw new IllegalArgumentException("Cursor was issued for different filters");
+        }
+    }
+    
     public boolean hasAfterCursor() {
         return cursor != null && direction == SortDirection.DESC;
     }
@@ -74,6 +114,7 @@ public class ImageCursorListQuery {
         private SortDirection direction = SortDirection.DESC;
         private ImageStatus status;
         private List<String> tags;
+        private TagMatchMode tagMatch = TagMatchMode.ANY;
         private String sortBy = "createdAt";
         
         public Builder projectId(Long projectId) {
@@ -109,6 +150,11 @@ public class ImageCursorListQuery {
             return this;
         }
         
+        public Builder tagMatch(TagMatchMode tagMatch) {
+            this.tagMatch = tagMatch;
+            return this;
+        }
+        
         public Builder sortBy(String sortBy) {
             this.sortBy = sortBy;
             return this;
@@ -118,7 +164,7 @@ public class ImageCursorListQuery {
             if (projectId == null) {
                 throw new IllegalArgumentException("ProjectId is required");
             }
-            return new ImageCursorListQuery(projectId, cursor, size, direction, status, tags, sortBy);
+            return new ImageCursorListQuery(projectId, cursor, size, direction, status, tags, tagMatch, sortBy);
         }
     }
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
 package com.bound4.image.application.port.in;
 
-import com.bound4.image.domain.Image;
+import com.bound4.image.domain.ImageSummary;
 import com.bound4.image.domain.PageInfo;
 
 import java.time.Duration;
@@ -8,7 +8,7 @@ import java.util.List;
 
 public interface ImageCursorListUseCase {
     
-    CursorPageResult<Image> getImagesCursorBased(ImageCursorListQuery query);
+    CursorPageResult<ImageSummary> getImagesCursorBased(ImageCursorListQuery query);
     
     PagingPerformanceMetrics comparePerformance(ImageListQuery offsetQuery, ImageCursorListQuery cursorQuery);
     
@@ -2,7 +2,15 @@ package com.bound4.image.application.port.in;
 
 import com.bound4.image.domain.Image;
 
+import java.util.Map;
+
 public interface ImageDetailUseCase {
     
     Image getImageDetail(ImageDetailQuery query);
+    
+    /**
+     * 여러 이미지 상세를 한 번의 IN 조회로 조회
+     * @return 이미지 ID별 이미지 (없거나 삭제된 이미지는 포함하지 않음)
+     */
+    Map<Long, Image> getImageDetails(ImageBatchQuery query);
 }
\ No newline at end of file
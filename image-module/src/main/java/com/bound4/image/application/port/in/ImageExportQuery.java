@@ -0,0 +1,40 @@
+package com.bound4.image.application.port.in;
+
+import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.TagMatchMode;
+
+import java.util.List;
+
+public class ImageExportQuery {
+    
+    private final Long projectId;
+    private final ImageStatus status;
+    private final List<String> tags;
+    private final TagMatchMode tagMatch;
+    
+    public ImageExportQuery(Long projectId, ImageStatus status, List<String> tags, TagMatchMode tagMatch) {
+        if (projectId == null) {
+            throw new IllegalArgumentException("ProjectId is required");
+        }
+        this.projectId = projectId;
+        this.status = status;
+        this.tags = tags;
+        this.tagMatch = tagMatch != null ? tagMatch : TagMatchMode.ANY;
+    }
+    
+    public Long getProjectId() {
+        return projectId;
+    }
+    
+    public ImageStatus getStatus() {
+        return status;
+    }
+    
+    public List<String> getTags() {
+        return tags;
+    }
+    
+    public TagMatchMode getTagMatch() {
+        return tagMatch;
+    }
+}
@@ -0,0 +1,17 @@
+package com.bound4.image.application.port.in;
+
+import com.bound4.image.domain.ImageSummary;
+
+import java.util.function.Consumer;
+
+/**
+ * 프로젝트 이미지 메타데이터 내보내기 UseCase
+ */
+public interface ImageExportUseCase {
+    
+    /**
+     * 조건에 맞는 이미지를 ID 순으로 하나씩 consumer에 전달 (전체 목록을 메모리에 올리지 않음)
+     * @return 전달한 이미지 수
+     */
+    long exportImages(ImageExportQuery query, Consumer<ImageSummary> consumer);
+}
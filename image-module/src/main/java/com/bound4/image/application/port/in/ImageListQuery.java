@@ -1,6 +1,8 @@
 package com.bound4.image.application.port.in;
 
+import com.bound4.image.domain.CountMode;
 import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.TagMatchMode;
 
 import java.util.List;
 
@@ -11,16 +13,31 @@ public class ImageListQuery {
     private final int size;
     private final ImageStatus status;
     private final List<String> tags;
+    private final TagMatchMode tagMatch;
+    private final CountMode countMode;
     private final String sort;
     private final String direction;
     
     public ImageListQuery(Long projectId, int page, int size, ImageStatus status, 
                          List<String> tags, String sort, String direction) {
+        this(projectId, page, size, status, tags, TagMatchMode.ANY, sort, direction);
+    }
+    
+    public ImageListQuery(Long projectId, int page, int size, ImageStatus status, 
+                         List<String> tags, TagMatchMode tagMatch, String sort, String direction) {
+        this(projectId, page, size, status, tags, tagMatch, CountMode.EXACT, sort, direction);
+    }
+    
+    public ImageListQuery(Long projectId, int page, int size, ImageStatus status, 
+                         List<String> tags, TagMatchMode tagMatch, CountMode countMode,
+                         String sort, String direction) {
         this.projectId = projectId;
         this.page = page;
         this.size = size;
         this.status = status;
         this.tags = tags;
+        this.tagMatch = tagMatch != null ? tagMatch : TagMatchMode.ANY;
+        this.countMode = countMode != null ? countMode : CountMode.EXACT;
         this.sort = sort;
         this.direction = direction;
     }
@@ -45,6 +62,14 @@ public class ImageListQuery {
         return tags;
     }
     
+    public TagMatchMode getTagMatch() {
+        return tagMatch;
+    }
+    
+    public CountMode getCountMode() {
+        return countMode;
+    }
+    
     public String getSort() {
         return sort;
     }
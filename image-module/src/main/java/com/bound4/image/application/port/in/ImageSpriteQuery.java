@@ -0,0 +1,43 @@
+package com.bound4.image.application.port.in;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+public class ImageSpriteQuery {
+    
+    public static final int MAX_IMAGES = 100;
+    public static final int MIN_TILE_SIZE = 16;
+    public static final int MAX_TILE_SIZE = 200;
+    
+    private final List<Long> imageIds;
+    private final int tileSize;
+    
+    public ImageSpriteQuery(List<Long> imageIds, int tileSize) {
+        if (imageIds == null || imageIds.isEmpty()) {
+            throw new IllegalArgumentException("Image ids cannot be empty");
+        }
+        // 요청 순서를 유지하며 중복 제거
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(imageIds));
+        if (distinct.contains(null)) {
+            throw new IllegalArgumentException("Image id cannot be null");
+        }
+        if (distinct.size() > MAX_IMAGES) {
+            throw new IllegalArgumentException("Sprite cannot contain more than " + MAX_IMAGES + " images");
+        }
+        if (tileSize < MIN_TILE_SIZE || tileSize > MAX_TILE_SIZE) {
+            throw new IllegalArgumentException(
+                "Tile size must be between " + MIN_TILE_SIZE + " and " + MAX_TILE_SIZE);
+        }
+        this.imageIds = List.copyOf(distinct);
+        this.tileSize = tileSize;
+    }
+    
+    public List<Long> getImageIds() {
+        return imageIds;
+    }
+    
+    public int getTileSize() {
+        return tileSize;
+    }
+}
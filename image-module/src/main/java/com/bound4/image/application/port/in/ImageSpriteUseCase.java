@@ -0,0 +1,21 @@
+package com.bound4.image.application.port.in;
+
+import com.bound4.image.domain.SpriteSheet;
+
+/**
+ * 갤러리 그리드용 스프라이트 시트 UseCase
+ * 한 페이지의 썸네일을 한 장의 이미지로 합쳐 그리드당 요청 수를 줄임
+ */
+public interface ImageSpriteUseCase {
+    
+    /**
+     * 이미지 목록의 스프라이트 배치 조회 (스프라이트가 없으면 저장된 썸네일로 합성해 저장)
+     */
+    SpriteSheet getSpriteSheet(ImageSpriteQuery query);
+    
+    /**
+     * 합성된 스프라이트 이미지 (JPEG)
+     * @param spriteKey 스프라이트 키
+     */
+    byte[] getSpriteImage(String spriteKey);
+}
@@ -8,6 +8,8 @@ import java.util.stream.Collectors;
 
 public class ImageUpdateCommand {
     
+    public static final int MAX_TAG_LENGTH = 100;
+    
     private final Long imageId;
     private final Map<String, Object> tags;
     private final String memo;
@@ -16,9 +18,12 @@ public class ImageUpdateCommand {
     
     public ImageUpdateCommand(Long imageId, List<String> tags, String memo, 
                              ImageStatus status, Long version) {
+        if (tags != null && tags.stream().anyMatch(tag -> tag != null && tag.trim().length() > MAX_TAG_LENGTH)) {
+            throw new IllegalArgumentException("Tag must be at most " + MAX_TAG_LENGTH + " characters");
+        }
         this.imageId = imageId;
         this.tags = tags != null ? tags.stream()
-                .collect(Collectors.toMap(tag -> tag, tag -> true)) : null;
+                .collect(Collectors.toMap(tag -> tag, tag -> true, (first, second) -> first)) : null;
         this.memo = memo;
         this.status = status;
         this.version = version;
@@ -0,0 +1,38 @@
+package com.bound4.image.application.port.in;
+
+public class SimilarImageQuery {
+    
+    public static final int MAX_DISTANCE = 32;
+    public static final int MAX_LIMIT = 100;
+    
+    private final Long imageId;
+    private final int maxDistance;
+    private final int limit;
+    
+    public SimilarImageQuery(Long imageId, int maxDistance, int limit) {
+        if (imageId == null) {
+            throw new IllegalArgumentException("Image id cannot be null");
+        }
+        if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("Max distance must be between 0 and " + MAX_DISTANCE);
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        this.imageId = imageId;
+        this.maxDistance = maxDistance;
+        this.limit = limit;
+    }
+    
+    public Long getImageId() {
+        return imageId;
+    }
+    
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+}
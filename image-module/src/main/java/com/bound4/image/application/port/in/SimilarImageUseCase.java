@@ -0,0 +1,40 @@
+package com.bound4.image.application.port.in;
+
+import com.bound4.image.domain.Image;
+
+import java.util.List;
+
+/**
+ * 지각 해시 기반 유사 이미지 조회 UseCase
+ */
+public interface SimilarImageUseCase {
+    
+    /**
+     * 같은 프로젝트에서 기준 이미지와 지각 해시가 가까운 이미지를 거리 순으로 조회
+     * 기준 이미지의 썸네일이 아직 생성되지 않았으면 빈 목록
+     */
+    List<SimilarImageMatch> findSimilarImages(SimilarImageQuery query);
+    
+    /**
+     * 시작 시 인덱스 재구성이 끝났는지 여부 (false이면 조회 결과에 일부 이미지가 빠질 수 있음)
+     */
+    boolean isIndexComplete();
+    
+    class SimilarImageMatch {
+        private final Image image;
+        private final int distance;
+        
+        public SimilarImageMatch(Image image, int distance) {
+            this.image = image;
+            this.distance = distance;
+        }
+        
+        public Image getImage() {
+            return image;
+        }
+        
+        public int getDistance() {
+            return distance;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.bound4.image.application.port.in;
+
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.ThumbnailBackfillJob;
+
+/**
+ * 프로젝트 단위 썸네일 백필 작업 UseCase
+ */
+public interface ThumbnailBackfillUseCase {
+    
+    /**
+     * 프로젝트의 모든 이미지에 대한 썸네일 재생성 작업 시작
+     * @param projectId 프로젝트 ID
+     * @return 생성된 백필 작업
+     */
+    ThumbnailBackfillJob start(ProjectId projectId);
+    
+    /**
+     * 백필 작업 일시 정지 (체크포인트 유지)
+     * @param jobId 백필 작업 ID
+     */
+    ThumbnailBackfillJob pause(Long jobId);
+    
+    /**
+     * 일시 정지된 백필 작업을 체크포인트부터 재개
+     * @param jobId 백필 작업 ID
+     */
+    ThumbnailBackfillJob resume(Long jobId);
+    
+    /**
+     * 백필 작업 진행 상황 조회
+     * @param jobId 백필 작업 ID
+     */
+    ThumbnailBackfillJob getJob(Long jobId);
+}
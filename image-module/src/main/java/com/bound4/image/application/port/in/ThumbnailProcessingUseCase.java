@@ -3,6 +3,8 @@ package com.bound4.image.application.port.in;
 import com.bound4.image.domain.ImageId;
 import com.bound4.image.domain.ThumbnailProcessingStatus;
 
+import java.util.Map;
+
 /**
  * 썸네일 처리 관련 UseCase
  */
@@ -21,6 +23,12 @@ public interface ThumbnailProcessingUseCase {
      */
     ThumbnailProcessingStatus getThumbnailProcessingStatus(ImageId imageId);
     
+    /**
+     * 여러 이미지의 썸네일 처리 상태를 한 번의 IN 조회로 조회
+     * @return 이미지 ID별 상태 (없거나 삭제된 이미지는 포함하지 않음)
+     */
+    Map<Long, ThumbnailProcessingStatus> getThumbnailProcessingStatuses(ImageBatchQuery query);
+    
     /**
      * 썸네일 생성 재시도
      * @param imageId 이미지 ID
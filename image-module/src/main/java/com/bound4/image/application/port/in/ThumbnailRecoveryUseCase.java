@@ -0,0 +1,51 @@
+package com.bound4.image.application.port.in;
+
+import com.bound4.image.domain.Image;
+import com.bound4.image.domain.ProjectId;
+
+import java.util.List;
+
+/**
+ * 멈춘 썸네일 작업 복구 및 데드레터 조회 UseCase
+ */
+public interface ThumbnailRecoveryUseCase {
+    
+    /**
+     * 재시도 가능한 실패(FAILED_RETRYABLE) 또는 오래된 PROCESSING 상태로 멈춘 이미지를 다시 요청
+     * @return 다시 요청한 이미지 수
+     */
+    int sweepStuckThumbnails();
+    
+    /**
+     * 재시도 횟수를 모두 소진한 이미지 목록 조회
+     * @param projectId 프로젝트 ID (null이면 전체)
+     * @param afterId 이전 페이지의 마지막 이미지 ID (null이면 처음부터)
+     * @param size 페이지 크기
+     * @return 데드레터 페이지
+     */
+    DeadLetterPage getDeadLetters(ProjectId projectId, Long afterId, int size);
+    
+    class DeadLetterPage {
+        private final List<Image> content;
+        private final boolean hasNext;
+        private final Long nextCursor;
+        
+        public DeadLetterPage(List<Image> content, boolean hasNext, Long nextCursor) {
+            this.content = content;
+            this.hasNext = hasNext;
+            this.nextCursor = nextCursor;
+        }
+        
+        public List<Image> getContent() {
+            return content;
+        }
+        
+        public boolean hasNext() {
+            return hasNext;
+        }
+        
+        public Long getNextCursor() {
+            return nextCursor;
+        }
+    }
+}
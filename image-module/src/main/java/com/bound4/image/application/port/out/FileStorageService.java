@@ -1,5 +1,6 @@
 package com.bound4.image.application.port.out;
 
+import java.io.InputStream;
 import java.time.Duration;
 
 public interface FileStorageService {
@@ -8,6 +9,11 @@ public interface FileStorageService {
     
     byte[] downloadFile(String key);
     
+    /**
+     * 파일을 스트림으로 읽기 (전체를 메모리에 올리지 않음, 호출자가 닫아야 함)
+     */
+    InputStream openStream(String key);
+    
     void deleteFile(String key);
     
     String generatePresignedUrl(String key, Duration expiration);
@@ -0,0 +1,16 @@
+package com.bound4.image.application.port.out;
+
+import com.bound4.image.domain.ImageMetadata;
+
+import java.util.Optional;
+
+/**
+ * 픽셀을 디코딩하지 않고 이미지 헤더만으로 메타데이터를 추출
+ */
+public interface ImageMetadataExtractor {
+    
+    /**
+     * @return 지원하지 않는 형식이거나 헤더가 손상된 경우 빈 값
+     */
+    Optional<ImageMetadata> extract(byte[] data);
+}
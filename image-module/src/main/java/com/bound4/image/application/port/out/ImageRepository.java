@@ -1,17 +1,114 @@
 package com.bound4.image.application.port.out;
 
+import com.bound4.image.application.port.in.ImageArchiveQuery;
 import com.bound4.image.application.port.in.ImageCursorListQuery;
+import com.bound4.image.application.port.in.ImageExportQuery;
 import com.bound4.image.application.port.in.ImageCursorListUseCase;
 import com.bound4.image.domain.FileHash;
 import com.bound4.image.domain.Image;
+import com.bound4.image.domain.ImageArchiveEntry;
 import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.ImageSummary;
+import com.bound4.image.domain.PerceptualHashEntry;
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.ThumbnailProcessingStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ImageRepository {
     Image save(Image image);
     Optional<Image> findByHash(FileHash fileHash);
     Optional<Image> findById(ImageId imageId);
+    
+    /**
+     * ID 목록으로 한 번에 조회 (삭제된 이미지 제외, 순서 보장 없음)
+     */
+    List<Image> findAllByIds(Collection<ImageId> imageIds);
+    
+    /**
+     * ID 목록의 썸네일 처리 상태만 한 번에 조회 (삭제된 이미지 제외)
+     */
+    Map<ImageId, ThumbnailProcessingStatus> findThumbnailStatuses(Collection<ImageId> imageIds);
 
-    ImageCursorListUseCase.CursorPageResult<Image> findImagesByCursor(ImageCursorListQuery query);
+    ImageCursorListUseCase.CursorPageResult<ImageSummary> findImagesByCursor(ImageCursorListQuery query);
+    
+    /**
+     * 조건에 맞는 이미지를 ID 순으로 읽는 대로 consumer에 전달 (정방향 스크롤, 삭제된 이미지 제외)
+     * @return 전달한 이미지 수
+     */
+    long streamImages(ImageExportQuery query, Consumer<ImageSummary> consumer);
+    
+    /**
+     * 압축 파일에 담을 이미지를 ID 순으로 조회 (키셋 페이지네이션, 원본 저장 키가 없는 이미지와 삭제된 이미지 제외)
+     * @param afterId 이전 페이지의 마지막 ID (첫 페이지는 0)
+     */
+    List<ImageArchiveEntry> findArchiveEntries(ImageArchiveQuery query, Long afterId, int limit);
+    
+    /**
+     * 썸네일 처리가 멈춘 이미지를 ID 순으로 조회 (키셋 페이지네이션)
+     * 아웃박스에 대기 중이거나 처리 중인 요청이 있는 이미지는 제외
+     */
+    List<Image> findStuckThumbnails(Collection<ThumbnailProcessingStatus> statuses, LocalDateTime staleBefore,
+                                    Long afterId, int limit);
+    
+    /**
+     * 상태가 바뀌지 않았고 재요청 횟수가 maxResubmits 미만인 경우에만 썸네일 처리 상태를 PROCESSING으로 변경하고 재요청 횟수 증가
+     * (여러 노드의 중복 재처리 방지)
+     * @return 변경에 성공한 경우 true
+     */
+    boolean markThumbnailResubmitted(ImageId imageId, ThumbnailProcessingStatus expected, LocalDateTime staleBefore,
+                                     int maxResubmits);
+    
+    /**
+     * 상태가 바뀌지 않았고 재요청 횟수가 maxResubmits 이상인 경우 FAILED_PERMANENT로 변경 (재요청 횟수는 초기화)
+     * @return 변경에 성공한 경우 true
+     */
+    boolean markThumbnailResubmitsExhausted(ImageId imageId, ThumbnailProcessingStatus expected,
+                                            LocalDateTime staleBefore, int maxResubmits);
+    
+    /**
+     * 처리 중(PROCESSING 또는 FAILED_RETRYABLE)이고 삭제되지 않은 경우에만 썸네일 처리 상태를 FAILED_RETRYABLE로 변경
+     * @return 변경에 성공한 경우 true (이미 완료/영구 실패했거나 삭제된 이미지는 false)
+     */
+    boolean markThumbnailRetryable(ImageId imageId);
+    
+    /**
+     * 썸네일 처리 상태별 이미지를 ID 순으로 조회 (키셋 페이지네이션)
+     * @param projectId 프로젝트 ID (null이면 전체)
+     */
+    List<Image> findByThumbnailStatus(ThumbnailProcessingStatus status, ProjectId projectId, Long afterId, int limit);
+    
+    /**
+     * 프로젝트의 이미지를 ID 순으로 조회 (키셋 페이지네이션, 삭제된 이미지 제외)
+     */
+    List<Image> findByProjectAfterId(ProjectId projectId, Long afterId, int limit);
+    
+    long countByProject(ProjectId projectId);
+    
+    /**
+     * 지각 해시가 계산된 이미지가 있는 프로젝트 ID 목록
+     */
+    List<ProjectId> findProjectIdsWithPerceptualHash();
+    
+    /**
+     * 프로젝트 이미지의 지각 해시를 ID 순으로 조회 (키셋 페이지네이션, 삭제된 이미지 제외)
+     */
+    List<PerceptualHashEntry> findPerceptualHashes(ProjectId projectId, Long afterId, int limit);
+    
+    /**
+     * 처리 중이 아니고(PENDING, COMPLETED, FAILED_PERMANENT) 삭제되지 않은 이미지만 썸네일 처리 상태를 PROCESSING으로 변경
+     * (이미 생성 중이거나 재시도 대기 중인 이미지에 요청을 중복 기록하지 않도록 함)
+     * @return 변경된 이미지 ID
+     */
+    List<ImageId> markThumbnailProcessing(Collection<ImageId> imageIds);
+    
+    /**
+     * 프로젝트에서 upToImageId 이하이고 썸네일 생성이 끝난(COMPLETED 또는 FAILED_PERMANENT) 이미지 수
+     */
+    long countThumbnailsFinished(ProjectId projectId, long upToImageId);
 }
\ No newline at end of file
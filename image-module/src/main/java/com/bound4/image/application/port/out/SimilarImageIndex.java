@@ -0,0 +1,34 @@
+package com.bound4.image.application.port.out;
+
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.PerceptualHash;
+import com.bound4.image.domain.PerceptualHashEntry;
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.SimilarImage;
+
+import java.util.List;
+
+/**
+ * 프로젝트별 지각 해시 인덱스
+ */
+public interface SimilarImageIndex {
+    
+    /**
+     * 이미지의 지각 해시 등록 (이미 있으면 교체)
+     */
+    void put(ProjectId projectId, ImageId imageId, PerceptualHash hash);
+    
+    void remove(ProjectId projectId, ImageId imageId);
+    
+    /**
+     * 해밍 거리가 maxDistance 이하인 이미지를 거리, ID 순으로 조회
+     */
+    List<SimilarImage> findSimilar(ProjectId projectId, PerceptualHash hash, int maxDistance, int limit);
+    
+    /**
+     * DB에서 읽은 항목을 일괄 등록 (이미 등록된 이미지는 건너뛰어 재구성 중 완료된 썸네일의 최신 해시를 유지)
+     */
+    void load(ProjectId projectId, List<PerceptualHashEntry> entries);
+    
+    int size(ProjectId projectId);
+}
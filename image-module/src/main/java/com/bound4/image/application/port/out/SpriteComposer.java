@@ -0,0 +1,16 @@
+package com.bound4.image.application.port.out;
+
+import com.bound4.image.domain.SpriteSheet;
+
+import java.util.List;
+
+public interface SpriteComposer {
+    
+    /**
+     * 썸네일을 스프라이트 배치대로 타일에 맞춰 합성
+     * @param sheet 스프라이트 배치
+     * @param thumbnails 타일 순서와 같은 순서의 썸네일 이미지 데이터
+     * @return 합성된 스프라이트 이미지 (JPEG)
+     */
+    byte[] compose(SpriteSheet sheet, List<byte[]> thumbnails);
+}
@@ -0,0 +1,22 @@
+package com.bound4.image.application.port.out;
+
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.ThumbnailBackfillJob;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ThumbnailBackfillJobRepository {
+    ThumbnailBackfillJob save(ThumbnailBackfillJob job);
+    Optional<ThumbnailBackfillJob> findById(Long jobId);
+    
+    /**
+     * 프로젝트의 실행 중 또는 일시 정지된 백필 작업 조회
+     */
+    Optional<ThumbnailBackfillJob> findActiveByProject(ProjectId projectId);
+    
+    /**
+     * 실행 중인 백필 작업 ID 목록 (오래된 작업 순)
+     */
+    List<Long> findRunningJobIds();
+}
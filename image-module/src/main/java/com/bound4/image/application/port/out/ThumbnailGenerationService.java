@@ -1,6 +1,8 @@
 package com.bound4.image.application.port.out;
 
+import com.bound4.image.domain.GeneratedThumbnail;
 import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.ThumbnailFailureReason;
 
 /**
  * 썸네일 생성을 위한 외부 서비스 포트
@@ -12,10 +14,10 @@ public interface ThumbnailGenerationService {
      * @param imageId 이미지 ID
      * @param originalImageKey 원본 이미지 키
      * @param mimeType MIME 타입
-     * @return 생성된 썸네일의 저장소 키
+     * @return 생성된 썸네일의 저장소 키와 자리표시자
      * @throws ThumbnailGenerationException 썸네일 생성 실패 시
      */
-    String generateThumbnail(ImageId imageId, String originalImageKey, String mimeType) 
+    GeneratedThumbnail generateThumbnail(ImageId imageId, String originalImageKey, String mimeType) 
             throws ThumbnailGenerationException;
     
     /**
@@ -30,19 +32,32 @@ public interface ThumbnailGenerationService {
      */
     class ThumbnailGenerationException extends Exception {
         private final boolean retryable;
+        private final ThumbnailFailureReason failureReason;
         
         public ThumbnailGenerationException(String message, boolean retryable) {
-            super(message);
-            this.retryable = retryable;
+            this(message, null, retryable, ThumbnailFailureReason.NON_RETRYABLE_ERROR);
         }
         
         public ThumbnailGenerationException(String message, Throwable cause, boolean retryable) {
+            this(message, cause, retryable, ThumbnailFailureReason.NON_RETRYABLE_ERROR);
+        }
+        
+        public ThumbnailGenerationException(String message, Throwable cause, boolean retryable,
+                                            ThumbnailFailureReason failureReason) {
             super(message, cause);
             this.retryable = retryable;
+            this.failureReason = failureReason;
         }
         
         public boolean isRetryable() {
             return retryable;
         }
+        
+        /**
+         * 재시도 불가능한 실패의 사유
+         */
+        public ThumbnailFailureReason getFailureReason() {
+            return failureReason;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.bound4.image.application.port.out;
+
+import com.bound4.image.domain.ThumbnailFailureReason;
+import com.bound4.image.domain.ThumbnailOutcome;
+import com.bound4.image.domain.ThumbnailStage;
+
+import java.time.Duration;
+
+/**
+ * 썸네일 파이프라인 지표 기록 포트
+ */
+public interface ThumbnailMetrics {
+    
+    /**
+     * 단계별 소요 시간 기록
+     */
+    void recordStage(ThumbnailStage stage, Duration duration);
+    
+    /**
+     * 요청 처리 결과 기록
+     * @param outcome 처리 결과
+     * @param retryCount 해당 요청의 재시도 횟수
+     */
+    void recordOutcome(ThumbnailOutcome outcome, int retryCount);
+    
+    /**
+     * 영구 실패 사유 기록
+     */
+    void recordPermanentFailure(ThumbnailFailureReason reason);
+    
+    /**
+     * 원본 이미지의 프레임 수 기록 (헤더 기준, 디코딩은 한 프레임만)
+     */
+    void recordSourceFrames(int frameCount);
+}
@@ -0,0 +1,77 @@
+package com.bound4.image.application.port.out;
+
+import com.bound4.image.domain.ThumbnailOutboxMessage;
+import com.bound4.image.domain.ThumbnailPriority;
+import com.bound4.image.domain.event.ThumbnailGenerationRequestedEvent;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 썸네일 생성 요청을 위한 트랜잭셔널 아웃박스 포트
+ * 이미지 상태 변경과 같은 트랜잭션에서 요청을 기록하고, 커밋 이후 워커 노드가 리스(lease)를 잡고 배치 단위로 처리
+ */
+public interface ThumbnailOutbox {
+    
+    /**
+     * 썸네일 생성 요청 기록 (호출자의 트랜잭션에 참여)
+     * @param event 썸네일 생성 요청 이벤트
+     */
+    void enqueue(ThumbnailGenerationRequestedEvent event);
+    
+    /**
+     * 우선순위를 지정하여 썸네일 생성 요청 기록 (호출자의 트랜잭션에 참여)
+     * @param event 썸네일 생성 요청 이벤트
+     * @param priority 선점 우선순위
+     */
+    void enqueue(ThumbnailGenerationRequestedEvent event, ThumbnailPriority priority);
+    
+    /**
+     * 지연 후 처리할 썸네일 생성 요청 기록 (호출자의 트랜잭션에 참여)
+     * 지연 시간이 지날 때까지 선점 대상에서 제외되며, 재시작 후에도 유지됨
+     * @param event 썸네일 생성 요청 이벤트
+     * @param delay 처리 가능해질 때까지의 지연 시간
+     */
+    void schedule(ThumbnailGenerationRequestedEvent event, Duration delay);
+    
+    /**
+     * 아직 선점되지 않은 요청 수 조회
+     * @param priority 우선순위
+     * @return 대기 중인 요청 수
+     */
+    long countPending(ThumbnailPriority priority);
+    
+    /**
+     * 처리 가능한 요청과 리스가 만료된 요청을 조건부 UPDATE로 선점
+     * 리스 만료 요청, NORMAL, LOW 순으로 채움
+     * @param owner 리스를 잡는 워커 ID
+     * @param batchSize 최대 선점 개수
+     * @param leaseDuration 리스 유지 시간
+     * @return 선점에 성공한 메시지 목록
+     */
+    List<ThumbnailOutboxMessage> claimBatch(String owner, int batchSize, Duration leaseDuration);
+    
+    /**
+     * 처리 중인 메시지의 리스 연장
+     * @param owner 리스를 보유한 워커 ID
+     * @param messageIds 처리 중인 메시지 ID 목록
+     * @param leaseDuration 연장할 리스 유지 시간
+     * @return 연장에 성공한 메시지 수 (다른 워커가 회수한 메시지는 제외)
+     */
+    int renewLeases(String owner, Collection<Long> messageIds, Duration leaseDuration);
+    
+    /**
+     * 처리 완료된 메시지 제거 (리스를 보유한 경우에만)
+     * @param owner 리스를 보유한 워커 ID
+     * @param messageId 아웃박스 메시지 ID
+     */
+    void acknowledge(String owner, Long messageId);
+    
+    /**
+     * 선점한 메시지를 다시 대기 상태로 되돌림 (리스를 보유한 경우에만)
+     * @param owner 리스를 보유한 워커 ID
+     * @param messageId 아웃박스 메시지 ID
+     */
+    void release(String owner, Long messageId);
+}
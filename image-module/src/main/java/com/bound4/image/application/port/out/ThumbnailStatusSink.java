@@ -0,0 +1,19 @@
+package com.bound4.image.application.port.out;
+
+import com.bound4.image.domain.ThumbnailStatusUpdate;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 썸네일 생성 결과를 이미지 상태에 반영하는 포트
+ * 여러 작업의 결과를 짧은 구간 동안 모아 조건부 UPDATE 배치로 기록
+ */
+public interface ThumbnailStatusSink {
+    
+    /**
+     * 상태 변경 요청 (배치 기록 후 완료되는 Future 반환)
+     * @param update 상태 변경 내용
+     * @return 적용 여부 (이미지가 삭제되었거나 이미 완료/영구 실패한 경우 false)
+     */
+    CompletableFuture<Boolean> submit(ThumbnailStatusUpdate update);
+}
@@ -1,117 +1,115 @@
 package com.bound4.image.application.service;
 
 import com.bound4.image.application.port.out.EventPublisher;
-import com.bound4.image.application.port.out.ImageRepository;
 import com.bound4.image.application.port.out.ThumbnailGenerationService;
-import com.bound4.image.domain.Image;
+import com.bound4.image.application.port.out.ThumbnailMetrics;
+import com.bound4.image.application.port.out.ThumbnailStatusSink;
+import com.bound4.image.domain.GeneratedThumbnail;
 import com.bound4.image.domain.RetryStrategy;
-import com.bound4.image.domain.ThumbnailProcessingStatus;
+import com.bound4.image.domain.ThumbnailFailureReason;
+import com.bound4.image.domain.ThumbnailOutcome;
+import com.bound4.image.domain.ThumbnailStage;
+import com.bound4.image.domain.ThumbnailStatusUpdate;
 import com.bound4.image.domain.event.ThumbnailGenerationCompletedEvent;
 import com.bound4.image.domain.event.ThumbnailGenerationFailedEvent;
 import com.bound4.image.domain.event.ThumbnailGenerationRequestedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * 비동기 썸네일 생성 서비스
- * 이벤트를 수신하여 실제 썸네일 생성 작업을 수행하고 결과를 처리
+ * 아웃박스 릴레이가 전달한 요청으로 실제 썸네일 생성 작업을 수행하고 결과를 처리
+ * 결과는 이미지를 다시 조회하지 않고 상태 싱크의 조건부 UPDATE로만 반영하므로,
+ * 중복 전달(at-least-once)된 요청이나 삭제된 이미지에 대한 결과는 적용되지 않고 무시됨
+ * 재시도 가능한 실패는 FAILED_RETRYABLE 반영과 재시도 요청 기록을 한 트랜잭션으로 처리
  */
 @Service
 public class AsyncThumbnailGenerationService {
     
     private static final Logger logger = LoggerFactory.getLogger(AsyncThumbnailGenerationService.class);
     
-    private final ImageRepository imageRepository;
     private final ThumbnailGenerationService thumbnailGenerationService;
     private final EventPublisher eventPublisher;
+    private final ThumbnailProcessingService thumbnailProcessingService;
+    private final ThumbnailStatusSink thumbnailStatusSink;
+    private final ThumbnailMetrics thumbnailMetrics;
     private final RetryStrategy retryStrategy;
     
-    public AsyncThumbnailGenerationService(ImageRepository imageRepository,
-                                         ThumbnailGenerationService thumbnailGenerationService,
-                                         EventPublisher eventPublisher) {
-        this.imageRepository = imageRepository;
+    public AsyncThumbnailGenerationService(ThumbnailGenerationService thumbnailGenerationService,
+                                         EventPublisher eventPublisher,
+                                         ThumbnailProcessingService thumbnailProcessingService,
+                                         ThumbnailStatusSink thumbnailStatusSink,
+                                         ThumbnailMetrics thumbnailMetrics) {
         this.thumbnailGenerationService = thumbnailGenerationService;
         this.eventPublisher = eventPublisher;
+        this.thumbnailProcessingService = thumbnailProcessingService;
+        this.thumbnailStatusSink = thumbnailStatusSink;
+        this.thumbnailMetrics = thumbnailMetrics;
         this.retryStrategy = new RetryStrategy();
     }
     
     /**
-     * 썸네일 생성 요청 이벤트 처리
+     * 썸네일 생성 요청 처리
+     * 상태 반영이 실패하면 예외로 완료되어 릴레이가 메시지를 다시 전달하도록 함
      */
     @Async("thumbnailTaskExecutor")
-    @EventListener
-    @Transactional
     public CompletableFuture<Void> handleThumbnailGenerationRequested(ThumbnailGenerationRequestedEvent event) {
+        return process(event, event.getRequestedAt());
+    }
+    
+    /**
+     * 썸네일 생성 요청 처리 (아웃박스에서 처리 가능해진 시각 기준으로 대기 시간 기록)
+     */
+    @Async("thumbnailTaskExecutor")
+    public CompletableFuture<Void> handleThumbnailGenerationRequested(ThumbnailGenerationRequestedEvent event,
+                                                                      LocalDateTime availableAt) {
+        return process(event, availableAt);
+    }
+    
+    private CompletableFuture<Void> process(ThumbnailGenerationRequestedEvent event, LocalDateTime availableAt) {
+        if (availableAt != null) {
+            thumbnailMetrics.recordStage(ThumbnailStage.QUEUE_WAIT, Duration.between(availableAt, LocalDateTime.now()));
+        }
+        
         logger.info("Processing thumbnail generation request for image: {}, retry count: {}", 
                    event.getImageId().value(), event.getRetryCount());
         
         long startTime = System.currentTimeMillis();
         
+        // 썸네일 생성 지원 여부 확인
+        if (!thumbnailGenerationService.isSupported(event.getMimeType())) {
+            logger.warn("Thumbnail generation not supported for MIME type: {} for image: {}", 
+                       event.getMimeType(), event.getImageId().value());
+            
+            handleThumbnailGenerationFailure(event, new ThumbnailGenerationService.ThumbnailGenerationException(
+                "Unsupported MIME type: " + event.getMimeType(),
+                new UnsupportedOperationException("Unsupported MIME type: " + event.getMimeType()),
+                false,
+                ThumbnailFailureReason.UNSUPPORTED_MIME_TYPE));
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        GeneratedThumbnail thumbnail;
         try {
-            // 이미지 존재 여부 확인
-            Optional<Image> imageOpt = imageRepository.findById(event.getImageId());
-            if (imageOpt.isEmpty()) {
-                logger.warn("Image not found for thumbnail generation: {}", event.getImageId().value());
-                return CompletableFuture.completedFuture(null);
-            }
-            
-            Image image = imageOpt.get();
-            
-            // 썸네일 생성 지원 여부 확인
-            if (!thumbnailGenerationService.isSupported(event.getMimeType())) {
-                logger.warn("Thumbnail generation not supported for MIME type: {} for image: {}", 
-                           event.getMimeType(), event.getImageId().value());
-                
-                image.updateThumbnailProcessingStatus(ThumbnailProcessingStatus.FAILED_PERMANENT);
-                imageRepository.save(image);
-                
-                ThumbnailGenerationFailedEvent failedEvent = ThumbnailGenerationFailedEvent.of(
-                    event.getImageId(),
-                    new UnsupportedOperationException("Unsupported MIME type: " + event.getMimeType()),
-                    event.getRetryCount(),
-                    false
-                );
-                eventPublisher.publishThumbnailGenerationFailed(failedEvent);
-                return CompletableFuture.completedFuture(null);
-            }
-            
             // 썸네일 생성 실행
-            String thumbnailKey = thumbnailGenerationService.generateThumbnail(
+            thumbnail = thumbnailGenerationService.generateThumbnail(
                 event.getImageId(),
                 event.getOriginalImageKey(),
                 event.getMimeType()
             );
             
-            // 성공 시 이미지 업데이트
-            image.setThumbnailKey(thumbnailKey); // 이미 COMPLETED 상태로 변경됨
-            imageRepository.save(image);
-            
-            long processingTime = System.currentTimeMillis() - startTime;
-            
-            // 성공 이벤트 발행
-            ThumbnailGenerationCompletedEvent completedEvent = ThumbnailGenerationCompletedEvent.of(
-                event.getImageId(),
-                thumbnailKey,
-                processingTime
-            );
-            eventPublisher.publishThumbnailGenerationCompleted(completedEvent);
-            
-            logger.info("Thumbnail generation completed for image: {} in {}ms", 
-                       event.getImageId().value(), processingTime);
-            
         } catch (ThumbnailGenerationService.ThumbnailGenerationException e) {
             logger.error("Thumbnail generation failed for image: {}, retry count: {}, error: {}", 
                         event.getImageId().value(), event.getRetryCount(), e.getMessage(), e);
             
             handleThumbnailGenerationFailure(event, e);
+            return CompletableFuture.completedFuture(null);
             
         } catch (Exception e) {
             logger.error("Unexpected error during thumbnail generation for image: {}, retry count: {}", 
@@ -123,8 +121,35 @@ public class AsyncThumbnailGenerationService {
                         "Unexpected error: " + e.getMessage(), e, true);
             
             handleThumbnailGenerationFailure(event, retryableException);
+            return CompletableFuture.completedFuture(null);
         }
         
+        // 성공 시 이미지 상태 반영 (다른 작업의 결과와 함께 배치로 기록됨)
+        boolean applied = applyStatus(ThumbnailStatusUpdate.completed(
+            event.getImageId(), thumbnail.thumbnailKey(), thumbnail.placeholder(), thumbnail.perceptualHash()));
+        if (!applied) {
+            thumbnailMetrics.recordOutcome(ThumbnailOutcome.DISCARDED, event.getRetryCount());
+            logger.info("Thumbnail result not applied (image deleted or already finished), image: {}", 
+                       event.getImageId().value());
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        long processingTime = System.currentTimeMillis() - startTime;
+        
+        // 성공 이벤트 발행
+        ThumbnailGenerationCompletedEvent completedEvent = ThumbnailGenerationCompletedEvent.of(
+            event.getImageId(),
+            event.getProjectId(),
+            thumbnail.thumbnailKey(),
+            thumbnail.perceptualHash(),
+            processingTime
+        );
+        eventPublisher.publishThumbnailGenerationCompleted(completedEvent);
+        thumbnailMetrics.recordOutcome(ThumbnailOutcome.COMPLETED, event.getRetryCount());
+        
+        logger.info("Thumbnail generation completed for image: {} in {}ms", 
+                   event.getImageId().value(), processingTime);
+        
         return CompletableFuture.completedFuture(null);
     }
     
@@ -135,34 +160,33 @@ public class AsyncThumbnailGenerationService {
                                                  ThumbnailGenerationService.ThumbnailGenerationException exception) {
         
         boolean canRetry = exception.isRetryable() && retryStrategy.canRetry(event.getRetryCount());
+        long delayMillis = canRetry ? retryStrategy.calculateDelayMillis(event.getRetryCount()) : 0L;
         
-        Optional<Image> imageOpt = imageRepository.findById(event.getImageId());
-        if (imageOpt.isEmpty()) {
-            logger.warn("Image not found during failure handling: {}", event.getImageId().value());
+        boolean applied = canRetry
+                ? scheduleRetry(event, delayMillis)
+                : applyStatus(ThumbnailStatusUpdate.failed(event.getImageId(), false));
+        if (!applied) {
+            thumbnailMetrics.recordOutcome(ThumbnailOutcome.DISCARDED, event.getRetryCount());
+            logger.warn("Thumbnail failure not applied (image deleted or already finished), image: {}", 
+                       event.getImageId().value());
             return;
         }
         
-        Image image = imageOpt.get();
-        
         if (canRetry) {
-            // 재시도 가능한 경우
-            image.updateThumbnailProcessingStatus(ThumbnailProcessingStatus.FAILED_RETRYABLE);
-            imageRepository.save(image);
-            
-            // 지연 후 재시도 이벤트 발행
-            long delayMillis = retryStrategy.calculateDelayMillis(event.getRetryCount());
-            scheduleRetry(event, delayMillis);
+            thumbnailMetrics.recordOutcome(ThumbnailOutcome.RETRY_SCHEDULED, event.getRetryCount());
             
             logger.info("Scheduled retry for image: {} after {}ms, retry count: {}", 
                        event.getImageId().value(), delayMillis, event.getRetryCount() + 1);
             
         } else {
-            // 재시도 불가능한 경우
-            image.updateThumbnailProcessingStatus(ThumbnailProcessingStatus.FAILED_PERMANENT);
-            imageRepository.save(image);
-            
-            logger.error("Thumbnail generation permanently failed for image: {}, retry count: {}", 
-                        event.getImageId().value(), event.getRetryCount());
+            ThumbnailFailureReason reason = exception.isRetryable()
+                    ? ThumbnailFailureReason.RETRIES_EXHAUSTED
+                    : exception.getFailureReason();
+            thumbnailMetrics.recordOutcome(ThumbnailOutcome.FAILED_PERMANENT, event.getRetryCount());
+            thumbnailMetrics.recordPermanentFailure(reason);
+            
+            logger.error("Thumbnail generation permanently failed for image: {}, retry count: {}, reason: {}", 
+                        event.getImageId().value(), event.getRetryCount(), reason.getValue());
         }
         
         // 실패 이벤트 발행
@@ -176,35 +200,27 @@ public class AsyncThumbnailGenerationService {
     }
     
     /**
-     * 지연 후 재시도 이벤트 발행
+     * 상태 싱크에 결과를 반영하고 배치 기록까지 걸린 시간을 기록
      */
-    private void scheduleRetry(ThumbnailGenerationRequestedEvent originalEvent, long delayMillis) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                Thread.sleep(delayMillis);
-                
-                ThumbnailGenerationRequestedEvent retryEvent = originalEvent.withRetry();
-                eventPublisher.publishThumbnailGenerationRequested(retryEvent);
-                
-                logger.info("Retry event published for image: {}, retry count: {}", 
-                           originalEvent.getImageId().value(), retryEvent.getRetryCount());
-                
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                logger.warn("Retry scheduling interrupted for image: {}", originalEvent.getImageId().value());
-            }
-        });
+    private boolean applyStatus(ThumbnailStatusUpdate update) {
+        long start = System.nanoTime();
+        try {
+            return thumbnailStatusSink.submit(update).join();
+        } finally {
+            thumbnailMetrics.recordStage(ThumbnailStage.DB_UPDATE, Duration.ofNanos(System.nanoTime() - start));
+        }
     }
     
     /**
-     * 주기적으로 실패한 썸네일 생성 작업 재시도 (데드레터 처리)
+     * FAILED_RETRYABLE 반영과 지연 후 재시도 요청 기록 (상태 싱크 배치를 거치지 않고 한 트랜잭션으로 기록)
+     * 대기 중인 재시도는 아웃박스 행의 처리 가능 시각으로만 유지되므로 스레드를 점유하지 않고 재시작 후에도 유실되지 않음
      */
-    @Scheduled(fixedRate = 300000) // 5분마다 실행
-    @Transactional
-    public void retryFailedThumbnailGeneration() {
-        logger.debug("Checking for failed thumbnail generation tasks to retry...");
-        
-        // 구현 시 필요에 따라 데이터베이스에서 재시도 가능한 실패 상태의 이미지들을 조회하여 재시도
-        // 현재는 이벤트 기반 재시도가 주된 메커니즘이므로 단순 로깅만 수행
+    private boolean scheduleRetry(ThumbnailGenerationRequestedEvent event, long delayMillis) {
+        long start = System.nanoTime();
+        try {
+            return thumbnailProcessingService.scheduleRetry(event, Duration.ofMillis(delayMillis));
+        } finally {
+            thumbnailMetrics.recordStage(ThumbnailStage.DB_UPDATE, Duration.ofNanos(System.nanoTime() - start));
+        }
     }
 }
\ No newline at end of file
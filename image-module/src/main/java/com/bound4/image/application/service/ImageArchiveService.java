@@ -0,0 +1,161 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.application.port.in.ImageArchiveQuery;
+import com.bound4.image.application.port.in.ImageArchiveUseCase;
+import com.bound4.image.application.port.out.FileStorageService;
+import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.domain.ImageArchiveEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 원본 이미지 압축 파일 다운로드
+ * 이미지를 ID 순으로 읽으며 다음 prefetch-window개의 원본 스트림을 미리 열어 두므로 저장소 응답 대기와 응답 쓰기가 겹침
+ * 원본은 스트림으로 복사하므로 메모리에는 열린 스트림의 버퍼만 유지
+ *
+ * 다운로드는 클라이언트 속도에 따라 오래 걸리므로 트랜잭션 없이 page-size개씩 ID 키셋 페이지를 짧은 쿼리로 읽음
+ * (페이지 사이에는 DB 연결을 잡지 않고, 페이지 사이에 삭제된 이미지는 원본을 열 수 없으면 제외)
+ */
+@Service
+public class ImageArchiveService implements ImageArchiveUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageArchiveService.class);
+
+    // 이미 압축된 형식은 다시 압축해도 줄지 않으므로 저장만 함
+    private static final Set<String> COMPRESSED_MIME_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/webp");
+
+    private final ImageRepository imageRepository;
+    private final FileStorageService fileStorageService;
+    private final Executor prefetchExecutor;
+    private final int prefetchWindow;
+    private final int pageSize;
+
+    public ImageArchiveService(ImageRepository imageRepository, FileStorageService fileStorageService,
+                               @Qualifier("archivePrefetchExecutor") Executor prefetchExecutor,
+                               @Value("${image.archive.prefetch-window:4}") int prefetchWindow,
+                               @Value("${image.archive.page-size:200}") int pageSize) {
+        this.imageRepository = imageRepository;
+        this.fileStorageService = fileStorageService;
+        this.prefetchExecutor = prefetchExecutor;
+        this.prefetchWindow = Math.max(prefetchWindow, 0);
+        this.pageSize = Math.max(pageSize, 1);
+    }
+
+    @Override
+    public long writeArchive(ImageArchiveQuery query, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+        ZipOutputStream zip = new ZipOutputStream(out);
+        Deque<PendingEntry> window = new ArrayDeque<>();
+        long written = 0;
+
+        try {
+            long afterId = 0L;
+            List<ImageArchiveEntry> page;
+            do {
+                page = imageRepository.findArchiveEntries(query, afterId, pageSize);
+                for (ImageArchiveEntry entry : page) {
+                    window.addLast(prefetch(entry));
+                    if (window.size() > prefetchWindow) {
+                        written += writeEntry(zip, window.removeFirst());
+                    }
+                }
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).id().value();
+                }
+            } while (page.size() == pageSize);
+            while (!window.isEmpty()) {
+                written += writeEntry(zip, window.removeFirst());
+            }
+            // 응답 스트림은 컨테이너가 닫으므로 중앙 디렉터리만 기록
+            zip.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            // 중단된 경우 미리 연 스트림 정리
+            window.forEach(PendingEntry::discard);
+        }
+
+        logger.info("Archived {} images for project: {} in {}ms",
+                   written, query.getProjectId(), System.currentTimeMillis() - startTime);
+        return written;
+    }
+
+    private PendingEntry prefetch(ImageArchiveEntry entry) {
+        return new PendingEntry(entry,
+                CompletableFuture.supplyAsync(() -> fileStorageService.openStream(entry.storageKey()), prefetchExecutor));
+    }
+
+    /**
+     * @return 기록했으면 1, 원본을 열 수 없어 제외했으면 0
+     */
+    private int writeEntry(ZipOutputStream zip, PendingEntry pending) {
+        ImageArchiveEntry entry = pending.entry();
+        InputStream in;
+        try {
+            in = pending.stream().join();
+        } catch (CompletionException e) {
+            // 이미 응답을 쓰는 중이므로 실패 응답 대신 해당 이미지만 제외
+            logger.warn("Skipping image {} in archive, original not readable: {}", entry.id().value(), entry.storageKey(),
+                    e.getCause());
+            return 0;
+        }
+
+        try (in) {
+            zip.setLevel(isCompressed(entry.mimeType()) ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION);
+            zip.putNextEntry(new ZipEntry(entryName(entry)));
+            in.transferTo(zip);
+            zip.closeEntry();
+            return 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 압축 파일 안의 이름 ({id}_{원본 파일명}, 같은 파일명도 구분되고 경로 구분자는 제거)
+     */
+    static String entryName(ImageArchiveEntry entry) {
+        String filename = entry.originalFilename();
+        if (filename == null || filename.isBlank()) {
+            filename = "image";
+        }
+        return entry.id().value() + "_" + filename.replaceAll("[/\\\\:]", "_");
+    }
+
+    private static boolean isCompressed(String mimeType) {
+        return mimeType != null && COMPRESSED_MIME_TYPES.contains(mimeType.toLowerCase());
+    }
+
+    private record PendingEntry(ImageArchiveEntry entry, CompletableFuture<InputStream> stream) {
+
+        void discard() {
+            stream.whenComplete((in, e) -> {
+                if (in != null) {
+                    try {
+                        in.close();
+                    } catch (IOException ignored) {
+                        // 버리는 스트림
+                    }
+                }
+            });
+        }
+    }
+}
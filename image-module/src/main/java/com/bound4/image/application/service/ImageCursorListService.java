@@ -6,7 +6,7 @@ import com.bound4.image.application.port.in.ImageCursorListUseCase;
 import com.bound4.image.application.port.in.ImageListQuery;
 import com.bound4.image.application.port.in.ImageListUseCase;
 import com.bound4.image.application.port.out.ImageRepository;
-import com.bound4.image.domain.Image;
+import com.bound4.image.domain.ImageSummary;
 import org.springframework.data.domain.Page;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,15 +31,15 @@ public class ImageCursorListService implements ImageCursorListUseCase {
     }
     
     @Override
-    public CursorPageResult<Image> getImagesCursorBased(ImageCursorListQuery query) {
+    public CursorPageResult<ImageSummary> getImagesCursorBased(ImageCursorListQuery query) {
         logger.info("Executing cursor-based pagination query for project: {}, size: {}, cursor: {}", 
                    query.getProjectId(), query.getSize(), 
-                   query.getCursor() != null ? query.getCursor().getEncodedValue() : "null");
+                   query.getCursor());
         
         Instant startTime = Instant.now();
         
         try {
-            CursorPageResult<Image> result = imageRepository.findImagesByCursor(query);
+            CursorPageResult<ImageSummary> result = imageRepository.findImagesByCursor(query);
             
             Instant endTime = Instant.now();
             Duration duration = Duration.between(startTime, endTime);
@@ -74,7 +74,7 @@ public class ImageCursorListService implements ImageCursorListUseCase {
         
         // Cursor 페이징 성능 측정
         Instant cursorStart = Instant.now();
-        CursorPageResult<Image> cursorResult;
+        CursorPageResult<ImageSummary> cursorResult;
         try {
             cursorResult = getImagesCursorBased(cursorQuery);
         } catch (Exception e) {
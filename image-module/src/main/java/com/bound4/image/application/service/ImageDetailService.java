@@ -1,6 +1,7 @@
 package com.bound4.image.application.service;
 
 import com.bound4.image.adapter.in.web.exception.ImageNotFoundException;
+import com.bound4.image.application.port.in.ImageBatchQuery;
 import com.bound4.image.application.port.in.ImageDetailQuery;
 import com.bound4.image.application.port.in.ImageDetailUseCase;
 import com.bound4.image.application.port.out.ImageRepository;
@@ -9,6 +10,10 @@ import com.bound4.image.domain.ImageId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @Transactional(readOnly = true)
 public class ImageDetailService implements ImageDetailUseCase {
@@ -26,4 +31,15 @@ public class ImageDetailService implements ImageDetailUseCase {
         return imageRepository.findById(imageId)
                 .orElseThrow(() -> new ImageNotFoundException(query.getImageId()));
     }
+    
+    @Override
+    public Map<Long, Image> getImageDetails(ImageBatchQuery query) {
+        List<ImageId> imageIds = query.getImageIds().stream().map(ImageId::of).toList();
+        
+        Map<Long, Image> images = new HashMap<>();
+        for (Image image : imageRepository.findAllByIds(imageIds)) {
+            images.put(image.getId().value(), image);
+        }
+        return images;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.application.port.in.ImageExportQuery;
+import com.bound4.image.application.port.in.ImageExportUseCase;
+import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.domain.ImageSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+/**
+ * 이미지 메타데이터 내보내기
+ * 조회 결과를 모으지 않고 consumer로 한 건씩 전달 (일부 드라이버는 트랜잭션 안에서만 fetch-size 단위로 스크롤)
+ */
+@Service
+@Transactional(readOnly = true)
+public class ImageExportService implements ImageExportUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ImageExportService.class);
+    
+    private final ImageRepository imageRepository;
+    
+    public ImageExportService(ImageRepository imageRepository) {
+        this.imageRepository = imageRepository;
+    }
+    
+    @Override
+    public long exportImages(ImageExportQuery query, Consumer<ImageSummary> consumer) {
+        long startTime = System.currentTimeMillis();
+        long exported = imageRepository.streamImages(query, consumer);
+        
+        logger.info("Exported {} images for project: {} in {}ms", 
+                   exported, query.getProjectId(), System.currentTimeMillis() - startTime);
+        return exported;
+    }
+}
@@ -28,6 +28,8 @@ public class ImageListService implements ImageListUseCase {
             query.getProjectId(),
             query.getStatus(),
             query.getTags(),
+            query.getTagMatch(),
+            query.getCountMode(),
             pageable
         );
     }
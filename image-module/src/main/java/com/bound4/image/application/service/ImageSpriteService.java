@@ -0,0 +1,129 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.adapter.in.web.exception.SpriteSheetNotFoundException;
+import com.bound4.image.application.port.in.ImageSpriteQuery;
+import com.bound4.image.application.port.in.ImageSpriteUseCase;
+import com.bound4.image.application.port.out.FileStorageService;
+import com.bound4.image.application.port.out.HashService;
+import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.application.port.out.SpriteComposer;
+import com.bound4.image.domain.Image;
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.SpriteSheet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 스프라이트 시트 서비스
+ * 스프라이트 키는 타일 크기와 멤버의 파일 해시/썸네일 키로 정해지므로 같은 페이지는 같은 키를 얻고,
+ * 저장소에 해당 키의 스프라이트가 없을 때만 썸네일을 내려받아 합성
+ */
+@Service
+@Transactional(readOnly = true)
+public class ImageSpriteService implements ImageSpriteUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ImageSpriteService.class);
+    
+    static final int MAX_COLUMNS = 10;
+    private static final String LAYOUT_VERSION = "v1";
+    private static final Pattern SPRITE_KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    
+    private final ImageRepository imageRepository;
+    private final FileStorageService fileStorageService;
+    private final HashService hashService;
+    private final SpriteComposer spriteComposer;
+    
+    public ImageSpriteService(ImageRepository imageRepository,
+                              FileStorageService fileStorageService,
+                              HashService hashService,
+                              SpriteComposer spriteComposer) {
+        this.imageRepository = imageRepository;
+        this.fileStorageService = fileStorageService;
+        this.hashService = hashService;
+        this.spriteComposer = spriteComposer;
+    }
+    
+    @Override
+    public SpriteSheet getSpriteSheet(ImageSpriteQuery query) {
+        List<ImageId> ids = query.getImageIds().stream().map(ImageId::of).toList();
+        Map<Long, Image> found = imageRepository.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(image -> image.getId().value(), Function.identity()));
+        
+        List<Image> members = new ArrayList<>();
+        List<Long> missingImageIds = new ArrayList<>();
+        for (Long imageId : query.getImageIds()) {
+            Image image = found.get(imageId);
+            if (image != null && hasThumbnail(image)) {
+                members.add(image);
+            } else {
+                missingImageIds.add(imageId);
+            }
+        }
+        
+        List<Long> memberIds = members.stream().map(image -> image.getId().value()).toList();
+        if (members.isEmpty()) {
+            return SpriteSheet.layout(null, query.getTileSize(), MAX_COLUMNS, memberIds, missingImageIds);
+        }
+        
+        String spriteKey = spriteKey(members, query.getTileSize());
+        SpriteSheet sheet = SpriteSheet.layout(spriteKey, query.getTileSize(), MAX_COLUMNS, memberIds, missingImageIds);
+        
+        String storageKey = storageKey(spriteKey);
+        if (!fileStorageService.fileExists(storageKey)) {
+            List<byte[]> thumbnails = members.stream()
+                    .map(image -> fileStorageService.downloadFile(image.getThumbnailKey()))
+                    .toList();
+            byte[] sprite = spriteComposer.compose(sheet, thumbnails);
+            fileStorageService.uploadFile(storageKey, sprite, "image/jpeg");
+            logger.info("Sprite sheet composed - key: {}, images: {}, {}x{}, {} bytes",
+                       spriteKey, members.size(), sheet.width(), sheet.height(), sprite.length);
+        }
+        return sheet;
+    }
+    
+    @Override
+    public byte[] getSpriteImage(String spriteKey) {
+        if (spriteKey == null || !SPRITE_KEY_PATTERN.matcher(spriteKey).matches()) {
+            throw new IllegalArgumentException("Invalid sprite key: " + spriteKey);
+        }
+        String storageKey = storageKey(spriteKey);
+        if (!fileStorageService.fileExists(storageKey)) {
+            throw new SpriteSheetNotFoundException(spriteKey);
+        }
+        return fileStorageService.downloadFile(storageKey);
+    }
+    
+    private boolean hasThumbnail(Image image) {
+        return image.getThumbnailKey() != null
+                && image.getThumbnailProcessingStatus().isCompleted();
+    }
+    
+    /**
+     * 배치 버전, 타일 크기, 멤버 순서와 각 멤버의 파일 해시/썸네일 키로 만든 결정적 키
+     */
+    private String spriteKey(List<Image> members, int tileSize) {
+        StringBuilder source = new StringBuilder()
+                .append(LAYOUT_VERSION).append('|')
+                .append(tileSize).append('|')
+                .append(MAX_COLUMNS);
+        for (Image image : members) {
+            source.append('|').append(image.getFileHash().value())
+                  .append(':').append(image.getThumbnailKey());
+        }
+        return hashService.calculateHash(source.toString().getBytes(StandardCharsets.UTF_8)).value();
+    }
+    
+    private String storageKey(String spriteKey) {
+        return "sprites/" + spriteKey + ".jpg";
+    }
+}
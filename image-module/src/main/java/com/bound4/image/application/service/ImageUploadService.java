@@ -7,6 +7,7 @@ import com.bound4.image.application.port.in.ThumbnailProcessingUseCase;
 import com.bound4.image.application.port.in.UploadImageCommand;
 import com.bound4.image.application.port.out.FileStorageService;
 import com.bound4.image.application.port.out.HashService;
+import com.bound4.image.application.port.out.ImageMetadataExtractor;
 import com.bound4.image.application.port.out.ImageRepository;
 import com.bound4.image.domain.FileHash;
 import com.bound4.image.domain.Image;
@@ -25,15 +26,18 @@ public class ImageUploadService implements ImageUploadUseCase {
     private final ThumbnailProcessingUseCase thumbnailProcessingUseCase;
     private final HashService hashService;
     private final FileStorageService fileStorageService;
+    private final ImageMetadataExtractor imageMetadataExtractor;
     
     public ImageUploadService(ImageRepository imageRepository, 
                              ThumbnailProcessingUseCase thumbnailProcessingUseCase,
                              HashService hashService,
-                             FileStorageService fileStorageService) {
+                             FileStorageService fileStorageService,
+                             ImageMetadataExtractor imageMetadataExtractor) {
         this.imageRepository = imageRepository;
         this.thumbnailProcessingUseCase = thumbnailProcessingUseCase;
         this.hashService = hashService;
         this.fileStorageService = fileStorageService;
+        this.imageMetadataExtractor = imageMetadataExtractor;
     }
     
     @Override
@@ -72,6 +76,9 @@ public class ImageUploadService implements ImageUploadUseCase {
             originalImageKey
         );
         
+        // 헤더만 읽어 크기/방향/프레임 수 기록 (픽셀 디코딩 없음, 지원하지 않는 형식은 생략)
+        imageMetadataExtractor.extract(command.data()).ifPresent(image::updateMetadata);
+        
         // 5. 이미지 저장 (썸네일은 비동기로 처리)
         Image savedImage = imageRepository.save(image);
         
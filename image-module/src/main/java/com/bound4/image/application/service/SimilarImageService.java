@@ -0,0 +1,185 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.adapter.in.web.exception.ImageNotFoundException;
+import com.bound4.image.application.port.in.SimilarImageQuery;
+import com.bound4.image.application.port.in.SimilarImageUseCase;
+import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.application.port.out.SimilarImageIndex;
+import com.bound4.image.domain.Image;
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.PerceptualHashEntry;
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.SimilarImage;
+import com.bound4.image.domain.event.ThumbnailGenerationCompletedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 유사 이미지 서비스
+ * 썸네일 완료 이벤트로 인덱스를 갱신하고, 시작 시 DB의 지각 해시로 프로젝트별 인덱스를 백그라운드에서 병렬 재구성
+ * 재구성 중에도 요청을 받으며, 끝나기 전의 검색 결과는 일부 프로젝트/이미지가 빠질 수 있음 (isIndexComplete로 표시)
+ * 인덱스는 노드별 메모리에 있으므로 검색 결과는 DB에서 다시 읽어 삭제된 이미지를 걸러냄
+ */
+@Service
+public class SimilarImageService implements SimilarImageUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SimilarImageService.class);
+    
+    private final ImageRepository imageRepository;
+    private final SimilarImageIndex similarImageIndex;
+    private final int nearDuplicateDistance;
+    private final int rebuildParallelism;
+    private final int rebuildBatchSize;
+    private volatile boolean indexComplete;
+    
+    public SimilarImageService(ImageRepository imageRepository,
+                               SimilarImageIndex similarImageIndex,
+                               @Value("${image.similarity.near-duplicate-distance:6}") int nearDuplicateDistance,
+                               @Value("${image.similarity.rebuild.parallelism:4}") int rebuildParallelism,
+                               @Value("${image.similarity.rebuild.batch-size:5000}") int rebuildBatchSize) {
+        this.imageRepository = imageRepository;
+        this.similarImageIndex = similarImageIndex;
+        this.nearDuplicateDistance = nearDuplicateDistance;
+        this.rebuildParallelism = Math.max(1, rebuildParallelism);
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<SimilarImageMatch> findSimilarImages(SimilarImageQuery query) {
+        Image image = imageRepository.findById(ImageId.of(query.getImageId()))
+                .orElseThrow(() -> new ImageNotFoundException(query.getImageId()));
+        if (image.getPerceptualHash() == null) {
+            return List.of();
+        }
+        
+        // 자기 자신이 포함되므로 하나 더 조회
+        List<SimilarImage> candidates = similarImageIndex.findSimilar(
+                image.getProjectId(), image.getPerceptualHash(), query.getMaxDistance(), query.getLimit() + 1).stream()
+                .filter(candidate -> !candidate.imageId().equals(image.getId()))
+                .toList();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<ImageId, Image> found = imageRepository.findAllByIds(
+                candidates.stream().map(SimilarImage::imageId).toList()).stream()
+                .collect(Collectors.toMap(Image::getId, Function.identity()));
+        
+        List<SimilarImageMatch> matches = new ArrayList<>();
+        for (SimilarImage candidate : candidates) {
+            Image similar = found.get(candidate.imageId());
+            if (similar == null) {
+                // 다른 노드에서 삭제된 이미지
+                similarImageIndex.remove(image.getProjectId(), candidate.imageId());
+                continue;
+            }
+            if (matches.size() < query.getLimit()) {
+                matches.add(new SimilarImageMatch(similar, candidate.distance()));
+            }
+        }
+        return matches;
+    }
+    
+    @Override
+    public boolean isIndexComplete() {
+        return indexComplete;
+    }
+    
+    /**
+     * 썸네일 완료 시 지각 해시를 인덱스에 등록하고 가까운 사본이 있으면 기록
+     */
+    @EventListener
+    public void onThumbnailGenerationCompleted(ThumbnailGenerationCompletedEvent event) {
+        if (event.getProjectId() == null || event.getPerceptualHash() == null) {
+            return;
+        }
+        List<SimilarImage> nearDuplicates = similarImageIndex.findSimilar(
+                event.getProjectId(), event.getPerceptualHash(), nearDuplicateDistance, 2).stream()
+                .filter(similar -> !similar.imageId().equals(event.getImageId()))
+                .toList();
+        similarImageIndex.put(event.getProjectId(), event.getImageId(), event.getPerceptualHash());
+        
+        if (!nearDuplicates.isEmpty()) {
+            SimilarImage closest = nearDuplicates.get(0);
+            logger.info("Near-duplicate image detected - image: {}, similar: {}, distance: {}", 
+                       event.getImageId().value(), closest.imageId().value(), closest.distance());
+        }
+    }
+    
+    /**
+     * 시작 시 인덱스 재구성을 백그라운드에서 시작
+     * 재구성 시간이 전체 해시 수에 비례하므로 준비 완료(ACCEPTING_TRAFFIC) 전환을 막지 않도록 기다리지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startIndexRebuild() {
+        Thread thread = new Thread(this::rebuildIndex, "similarity-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    /**
+     * 프로젝트별 인덱스 재구성 (프로젝트 단위로 병렬 처리, 끝날 때까지 대기)
+     * 모든 프로젝트를 읽으면 인덱스를 완료 상태로 표시하고, 실패한 프로젝트가 있으면 미완료로 유지
+     */
+    public void rebuildIndex() {
+        long startTime = System.currentTimeMillis();
+        List<ProjectId> projectIds = imageRepository.findProjectIdsWithPerceptualHash();
+        AtomicLong loaded = new AtomicLong();
+        AtomicInteger failedProjects = new AtomicInteger();
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(rebuildParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "similarity-rebuild-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        })) {
+            for (ProjectId projectId : projectIds) {
+                executor.submit(() -> {
+                    try {
+                        loaded.addAndGet(loadProject(projectId));
+                    } catch (RuntimeException e) {
+                        failedProjects.incrementAndGet();
+                        logger.error("Failed to rebuild similarity index for project: {}", projectId.value(), e);
+                    }
+                });
+            }
+        }
+        
+        indexComplete = failedProjects.get() == 0;
+        logger.info("Similarity index rebuilt - projects: {}, images: {}, failed projects: {}, {}ms", 
+                   projectIds.size(), loaded.get(), failedProjects.get(), System.currentTimeMillis() - startTime);
+    }
+    
+    private long loadProject(ProjectId projectId) {
+        long count = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<PerceptualHashEntry> entries = imageRepository.findPerceptualHashes(projectId, afterId, rebuildBatchSize);
+            if (entries.isEmpty()) {
+                return count;
+            }
+            similarImageIndex.load(projectId, entries);
+            count += entries.size();
+            afterId = entries.get(entries.size() - 1).imageId().value();
+            if (entries.size() < rebuildBatchSize) {
+                return count;
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.application.port.out.ThumbnailBackfillJobRepository;
+import com.bound4.image.application.port.out.ThumbnailOutbox;
+import com.bound4.image.domain.ThumbnailPriority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 썸네일 백필 피더
+ * 낮은 우선순위 대기열이 정해진 크기 아래로 줄어든 만큼만 실행 중인 백필 작업에서 이미지를 공급하여
+ * 수십만 건의 백필이 아웃박스를 한 번에 채우지 않도록 함
+ */
+@Service
+public class ThumbnailBackfillFeeder {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailBackfillFeeder.class);
+    
+    private final ThumbnailBackfillJobRepository backfillJobRepository;
+    private final ThumbnailBackfillService backfillService;
+    private final ThumbnailOutbox thumbnailOutbox;
+    private final int batchSize;
+    private final int maxPendingBacklog;
+    
+    public ThumbnailBackfillFeeder(ThumbnailBackfillJobRepository backfillJobRepository,
+                                   ThumbnailBackfillService backfillService,
+                                   ThumbnailOutbox thumbnailOutbox,
+                                   @Value("${thumbnail.backfill.batch-size:200}") int batchSize,
+                                   @Value("${thumbnail.backfill.max-pending-backlog:1000}") int maxPendingBacklog) {
+        this.backfillJobRepository = backfillJobRepository;
+        this.backfillService = backfillService;
+        this.thumbnailOutbox = thumbnailOutbox;
+        this.batchSize = batchSize;
+        this.maxPendingBacklog = maxPendingBacklog;
+    }
+    
+    /**
+     * 실행 중인 백필 작업에 대기열 여유만큼 배치 공급
+     * @return 이번 주기에 요청한 이미지 수
+     */
+    @Scheduled(fixedDelayString = "${thumbnail.backfill.feed-interval-ms:1000}")
+    public int feed() {
+        List<Long> runningJobIds = backfillJobRepository.findRunningJobIds();
+        if (runningJobIds.isEmpty()) {
+            return 0;
+        }
+        
+        long budget = maxPendingBacklog - thumbnailOutbox.countPending(ThumbnailPriority.LOW);
+        int fed = 0;
+        
+        for (Long jobId : runningJobIds) {
+            if (budget <= 0) {
+                break;
+            }
+            try {
+                int requested = backfillService.feedNextBatch(jobId, (int) Math.min(batchSize, budget));
+                budget -= requested;
+                fed += requested;
+            } catch (OptimisticLockingFailureException e) {
+                // 다른 노드가 같은 배치를 먼저 공급했거나 작업이 일시 정지된 경우
+                logger.debug("Thumbnail backfill job {} was updated concurrently, skipping this round", jobId);
+            } catch (Exception e) {
+                logger.error("Failed to feed thumbnail backfill job {}", jobId, e);
+            }
+        }
+        
+        return fed;
+    }
+}
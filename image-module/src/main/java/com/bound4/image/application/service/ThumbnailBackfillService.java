@@ -0,0 +1,149 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.adapter.in.web.exception.ThumbnailBackfillConflictException;
+import com.bound4.image.adapter.in.web.exception.ThumbnailBackfillJobNotFoundException;
+import com.bound4.image.application.port.in.ThumbnailBackfillUseCase;
+import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.application.port.out.ThumbnailBackfillJobRepository;
+import com.bound4.image.application.port.out.ThumbnailOutbox;
+import com.bound4.image.domain.*;
+import com.bound4.image.domain.event.ThumbnailGenerationRequestedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 썸네일 백필 서비스
+ * 프로젝트 이미지를 ID 키셋 순으로 순회하며 낮은 우선순위로 아웃박스에 기록하고,
+ * 배치마다 같은 트랜잭션에서 체크포인트를 저장하여 재시작 후에도 이어서 진행
+ * 작업을 반환할 때는 체크포인트까지 생성이 끝난 이미지 수를 채워 진행률/처리량을 완료 기준으로 계산
+ */
+@Service
+@Transactional
+public class ThumbnailBackfillService implements ThumbnailBackfillUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailBackfillService.class);
+    
+    private final ThumbnailBackfillJobRepository backfillJobRepository;
+    private final ImageRepository imageRepository;
+    private final ThumbnailOutbox thumbnailOutbox;
+    
+    public ThumbnailBackfillService(ThumbnailBackfillJobRepository backfillJobRepository,
+                                    ImageRepository imageRepository,
+                                    ThumbnailOutbox thumbnailOutbox) {
+        this.backfillJobRepository = backfillJobRepository;
+        this.imageRepository = imageRepository;
+        this.thumbnailOutbox = thumbnailOutbox;
+    }
+    
+    @Override
+    public ThumbnailBackfillJob start(ProjectId projectId) {
+        backfillJobRepository.findActiveByProject(projectId).ifPresent(active -> {
+            throw new ThumbnailBackfillConflictException(
+                "Thumbnail backfill already active for project: " + projectId.value() + ", job: " + active.getId());
+        });
+        
+        long totalCount = imageRepository.countByProject(projectId);
+        ThumbnailBackfillJob job = backfillJobRepository.save(ThumbnailBackfillJob.start(projectId, totalCount));
+        
+        logger.info("Thumbnail backfill job {} started for project: {}, total images: {}", 
+                   job.getId(), projectId.value(), totalCount);
+        return job;
+    }
+    
+    @Override
+    public ThumbnailBackfillJob pause(Long jobId) {
+        ThumbnailBackfillJob job = getJobOrThrow(jobId);
+        if (!job.isRunning()) {
+            throw new ThumbnailBackfillConflictException(
+                "Thumbnail backfill job is not running: " + jobId + ", current status: " + job.getStatus());
+        }
+        
+        job.pause();
+        logger.info("Thumbnail backfill job {} paused at image: {}", jobId, job.getLastImageId());
+        return withCompletedCount(backfillJobRepository.save(job));
+    }
+    
+    @Override
+    public ThumbnailBackfillJob resume(Long jobId) {
+        ThumbnailBackfillJob job = getJobOrThrow(jobId);
+        if (job.getStatus() != ThumbnailBackfillStatus.PAUSED) {
+            throw new ThumbnailBackfillConflictException(
+                "Thumbnail backfill job is not paused: " + jobId + ", current status: " + job.getStatus());
+        }
+        
+        job.resume(countFinished(job));
+        logger.info("Thumbnail backfill job {} resumed from image: {}", jobId, job.getLastImageId());
+        return withCompletedCount(backfillJobRepository.save(job));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ThumbnailBackfillJob getJob(Long jobId) {
+        return withCompletedCount(getJobOrThrow(jobId));
+    }
+    
+    /**
+     * 체크포인트 이후의 이미지 한 배치를 낮은 우선순위로 요청하고 체크포인트 갱신
+     * 다른 노드가 같은 배치를 먼저 처리했다면 버전 충돌로 전체가 롤백됨
+     * @param jobId 백필 작업 ID
+     * @param limit 최대 요청 개수
+     * @return 요청한 이미지 수 (이미 처리 중이어서 건너뛴 이미지 제외)
+     */
+    public int feedNextBatch(Long jobId, int limit) {
+        ThumbnailBackfillJob job = backfillJobRepository.findById(jobId).orElse(null);
+        if (job == null || !job.isRunning() || limit <= 0) {
+            return 0;
+        }
+        
+        List<Image> images = imageRepository.findByProjectAfterId(job.getProjectId(), job.getLastImageId(), limit);
+        if (images.isEmpty()) {
+            job.complete();
+            backfillJobRepository.save(job);
+            logger.info("Thumbnail backfill job {} completed, {} images requested", jobId, job.getProcessedCount());
+            return 0;
+        }
+        
+        Set<ImageId> marked = new HashSet<>(imageRepository.markThumbnailProcessing(
+            images.stream().map(Image::getId).toList()));
+        for (Image image : images) {
+            if (!marked.contains(image.getId())) {
+                continue;
+            }
+            ThumbnailGenerationRequestedEvent event = new ThumbnailGenerationRequestedEvent(
+                image.getId(),
+                image.getProjectId(),
+                image.getOriginalImageKey(),
+                image.getOriginalFilename(),
+                image.getMimeType()
+            );
+            thumbnailOutbox.enqueue(event, ThumbnailPriority.LOW);
+        }
+        
+        job.advance(images.get(images.size() - 1).getId().value(), marked.size());
+        backfillJobRepository.save(job);
+        
+        logger.debug("Thumbnail backfill job {} requested {} of {} images, checkpoint: {}", 
+                    jobId, marked.size(), images.size(), job.getLastImageId());
+        return marked.size();
+    }
+    
+    private ThumbnailBackfillJob withCompletedCount(ThumbnailBackfillJob job) {
+        job.updateCompletedCount(countFinished(job));
+        return job;
+    }
+    
+    private long countFinished(ThumbnailBackfillJob job) {
+        return imageRepository.countThumbnailsFinished(job.getProjectId(), job.getLastImageId());
+    }
+    
+    private ThumbnailBackfillJob getJobOrThrow(Long jobId) {
+        return backfillJobRepository.findById(jobId)
+                .orElseThrow(() -> new ThumbnailBackfillJobNotFoundException(jobId));
+    }
+}
@@ -0,0 +1,144 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.application.port.out.ThumbnailOutbox;
+import com.bound4.image.domain.ThumbnailOutboxMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 썸네일 아웃박스 릴레이 (리스 기반 워커)
+ * 여러 노드가 같은 아웃박스 테이블에서 조건부 UPDATE로 작업을 나눠 선점하고,
+ * 처리 중에는 리스를 연장하며, 리스가 만료된 작업(죽은 노드의 작업)은 다른 노드가 회수
+ */
+@Service
+public class ThumbnailOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailOutboxRelay.class);
+
+    private final ThumbnailOutbox thumbnailOutbox;
+    private final AsyncThumbnailGenerationService asyncThumbnailGenerationService;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final Duration leaseDuration;
+    private final String workerId;
+    private final Set<Long> inFlightMessageIds = ConcurrentHashMap.newKeySet();
+
+    public ThumbnailOutboxRelay(ThumbnailOutbox thumbnailOutbox,
+                               AsyncThumbnailGenerationService asyncThumbnailGenerationService,
+                               @Value("${thumbnail.outbox.batch-size:20}") int batchSize,
+                               @Value("${thumbnail.outbox.max-in-flight:30}") int maxInFlight,
+                               @Value("${thumbnail.outbox.lease-duration-ms:15000}") long leaseDurationMs,
+                               @Value("${thumbnail.outbox.worker-id:}") String workerId) {
+        this.thumbnailOutbox = thumbnailOutbox;
+        this.asyncThumbnailGenerationService = asyncThumbnailGenerationService;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+        this.leaseDuration = Duration.ofMillis(leaseDurationMs);
+        this.workerId = workerId == null || workerId.isBlank() ? generateWorkerId() : workerId;
+        logger.info("Thumbnail outbox worker started: {}", this.workerId);
+    }
+
+    /**
+     * 처리 여유만큼 아웃박스 메시지를 선점하여 전달
+     * @return 전달한 메시지 수
+     */
+    @Scheduled(fixedDelayString = "${thumbnail.outbox.poll-interval-ms:500}")
+    public int relay() {
+        // 노드별 처리 여유만큼만 선점하여 남은 작업은 다른 노드가 가져가도록 함
+        int capacity = Math.min(batchSize, maxInFlight - inFlightMessageIds.size());
+        if (capacity <= 0) {
+            return 0;
+        }
+
+        List<ThumbnailOutboxMessage> messages = thumbnailOutbox.claimBatch(workerId, capacity, leaseDuration);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        logger.debug("Worker {} claimed {} thumbnail outbox messages", workerId, messages.size());
+
+        int dispatched = 0;
+        for (ThumbnailOutboxMessage message : messages) {
+            if (!dispatch(message)) {
+                // 실행자가 포화 상태이면 남은 메시지를 돌려놓고 다음 주기에 다시 시도
+                messages.subList(dispatched + 1, messages.size())
+                        .forEach(remaining -> thumbnailOutbox.release(workerId, remaining.id()));
+                break;
+            }
+            dispatched++;
+        }
+
+        return dispatched;
+    }
+
+    /**
+     * 처리 중인 메시지의 리스 연장
+     * 리스 유지 시간보다 짧은 주기로 실행되어야 다른 노드에 회수되지 않음
+     */
+    @Scheduled(fixedDelayString = "${thumbnail.outbox.lease-renew-interval-ms:5000}")
+    public void renewLeases() {
+        if (inFlightMessageIds.isEmpty()) {
+            return;
+        }
+
+        Set<Long> messageIds = Set.copyOf(inFlightMessageIds);
+        int renewed = thumbnailOutbox.renewLeases(workerId, messageIds, leaseDuration);
+        if (renewed < messageIds.size()) {
+            // 이미 완료되었거나 리스 만료로 다른 노드가 회수한 경우
+            logger.warn("Worker {} renewed {}/{} thumbnail leases", workerId, renewed, messageIds.size());
+        }
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    public int getInFlightCount() {
+        return inFlightMessageIds.size();
+    }
+
+    private boolean dispatch(ThumbnailOutboxMessage message) {
+        inFlightMessageIds.add(message.id());
+        try {
+            asyncThumbnailGenerationService.handleThumbnailGenerationRequested(message.event(), message.availableAt())
+                    .whenComplete((ignored, throwable) -> {
+                        inFlightMessageIds.remove(message.id());
+                        if (throwable == null) {
+                            thumbnailOutbox.acknowledge(workerId, message.id());
+                        } else {
+                            logger.error("Thumbnail outbox message {} failed, releasing for redelivery",
+                                        message.id(), throwable);
+                            thumbnailOutbox.release(workerId, message.id());
+                        }
+                    });
+            return true;
+        } catch (RuntimeException e) {
+            inFlightMessageIds.remove(message.id());
+            logger.warn("Thumbnail executor rejected outbox message {}, releasing: {}",
+                       message.id(), e.getMessage());
+            thumbnailOutbox.release(workerId, message.id());
+            return false;
+        }
+    }
+
+    private static String generateWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -1,8 +1,9 @@
 package com.bound4.image.application.service;
 
+import com.bound4.image.application.port.in.ImageBatchQuery;
 import com.bound4.image.application.port.in.ThumbnailProcessingUseCase;
-import com.bound4.image.application.port.out.EventPublisher;
 import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.application.port.out.ThumbnailOutbox;
 import com.bound4.image.domain.*;
 import com.bound4.image.domain.event.ThumbnailGenerationRequestedEvent;
 import org.slf4j.Logger;
@@ -10,9 +11,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 썸네일 처리 서비스
- * 비동기 썸네일 생성을 위한 이벤트 발행과 상태 관리를 담당
+ * 비동기 썸네일 생성을 위한 요청 기록과 상태 관리를 담당
+ * 생성 요청은 이미지 상태 변경과 같은 트랜잭션에서 아웃박스에 기록되어 커밋 이후 릴레이가 처리
  */
 @Service
 @Transactional
@@ -21,11 +29,11 @@ public class ThumbnailProcessingService implements ThumbnailProcessingUseCase {
     private static final Logger logger = LoggerFactory.getLogger(ThumbnailProcessingService.class);
     
     private final ImageRepository imageRepository;
-    private final EventPublisher eventPublisher;
+    private final ThumbnailOutbox thumbnailOutbox;
     
-    public ThumbnailProcessingService(ImageRepository imageRepository, EventPublisher eventPublisher) {
+    public ThumbnailProcessingService(ImageRepository imageRepository, ThumbnailOutbox thumbnailOutbox) {
         this.imageRepository = imageRepository;
-        this.eventPublisher = eventPublisher;
+        this.thumbnailOutbox = thumbnailOutbox;
     }
     
     @Override
@@ -46,7 +54,7 @@ public class ThumbnailProcessingService implements ThumbnailProcessingUseCase {
         image.updateThumbnailProcessingStatus(ThumbnailProcessingStatus.PROCESSING);
         imageRepository.save(image);
         
-        // 썸네일 생성 요청 이벤트 발행
+        // 썸네일 생성 요청을 아웃박스에 기록
         ThumbnailGenerationRequestedEvent event = new ThumbnailGenerationRequestedEvent(
             image.getId(),
             image.getProjectId(),
@@ -55,9 +63,9 @@ public class ThumbnailProcessingService implements ThumbnailProcessingUseCase {
             image.getMimeType()
         );
         
-        eventPublisher.publishThumbnailGenerationRequested(event);
+        thumbnailOutbox.enqueue(event);
         
-        logger.info("Thumbnail generation event published for image: {}", imageId.value());
+        logger.info("Thumbnail generation request enqueued for image: {}", imageId.value());
     }
     
     @Override
@@ -69,6 +77,17 @@ public class ThumbnailProcessingService implements ThumbnailProcessingUseCase {
         return image.getThumbnailProcessingStatus();
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, ThumbnailProcessingStatus> getThumbnailProcessingStatuses(ImageBatchQuery query) {
+        List<ImageId> imageIds = query.getImageIds().stream().map(ImageId::of).toList();
+        
+        Map<Long, ThumbnailProcessingStatus> statuses = new HashMap<>();
+        imageRepository.findThumbnailStatuses(imageIds)
+                .forEach((imageId, status) -> statuses.put(imageId.value(), status));
+        return statuses;
+    }
+    
     @Override
     public void retryThumbnailGeneration(ImageId imageId) {
         logger.info("Retrying thumbnail generation for image: {}", imageId.value());
@@ -86,7 +105,38 @@ public class ThumbnailProcessingService implements ThumbnailProcessingUseCase {
         image.updateThumbnailProcessingStatus(ThumbnailProcessingStatus.PROCESSING);
         imageRepository.save(image);
         
-        // 재시도를 위한 썸네일 생성 요청 이벤트 발행
+        // 재시도를 위한 썸네일 생성 요청을 아웃박스에 기록
+        ThumbnailGenerationRequestedEvent event = new ThumbnailGenerationRequestedEvent(
+            image.getId(),
+            image.getProjectId(),
+            image.getOriginalImageKey(),
+            image.getOriginalFilename(),
+            image.getMimeType()
+        );
+        
+        thumbnailOutbox.enqueue(event);
+        
+        logger.info("Thumbnail generation retry request enqueued for image: {}", imageId.value());
+    }
+    
+    /**
+     * 멈춘 썸네일 작업을 다시 요청 (데드레터 스위퍼에서 호출)
+     * 상태 변경이 조건부 UPDATE로 이루어지므로 여러 노드가 동시에 스윕해도 한 번만 기록됨
+     * 재요청 횟수가 maxResubmits에 이른 이미지는 다시 요청하지 않고 FAILED_PERMANENT로 변경
+     * (처리 중 워커를 종료시키는 원본이 재요청을 무한히 반복하지 않도록 함)
+     * @return 다시 요청한 경우 true
+     */
+    public boolean resubmitStuckThumbnail(Image image, LocalDateTime staleBefore, int maxResubmits) {
+        if (!imageRepository.markThumbnailResubmitted(
+                image.getId(), image.getThumbnailProcessingStatus(), staleBefore, maxResubmits)) {
+            if (imageRepository.markThumbnailResubmitsExhausted(
+                    image.getId(), image.getThumbnailProcessingStatus(), staleBefore, maxResubmits)) {
+                logger.error("Thumbnail generation permanently failed for image: {} after {} resubmissions", 
+                            image.getId().value(), maxResubmits);
+            }
+            return false;
+        }
+        
         ThumbnailGenerationRequestedEvent event = new ThumbnailGenerationRequestedEvent(
             image.getId(),
             image.getProjectId(),
@@ -95,8 +145,28 @@ public class ThumbnailProcessingService implements ThumbnailProcessingUseCase {
             image.getMimeType()
         );
         
-        eventPublisher.publishThumbnailGenerationRequested(event);
+        thumbnailOutbox.enqueue(event);
+        
+        logger.info("Stuck thumbnail generation resubmitted for image: {}, previous status: {}", 
+                   image.getId().value(), image.getThumbnailProcessingStatus());
+        return true;
+    }
+    
+    /**
+     * 재시도 가능한 실패를 반영하고 지연 후 재시도 요청을 기록 (비동기 썸네일 생성에서 호출)
+     * FAILED_RETRYABLE 상태 변경과 아웃박스 기록이 같은 트랜잭션이므로 둘 중 하나만 남지 않음
+     * @return 이미지가 삭제되었거나 이미 완료/영구 실패하여 반영하지 않은 경우 false
+     */
+    public boolean scheduleRetry(ThumbnailGenerationRequestedEvent event, Duration delay) {
+        if (!imageRepository.markThumbnailRetryable(event.getImageId())) {
+            return false;
+        }
+        
+        ThumbnailGenerationRequestedEvent retryEvent = event.withRetry();
+        thumbnailOutbox.schedule(retryEvent, delay);
         
-        logger.info("Thumbnail generation retry event published for image: {}", imageId.value());
+        logger.debug("Retry request scheduled for image: {}, retry count: {}", 
+                    event.getImageId().value(), retryEvent.getRetryCount());
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,117 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.application.port.in.ThumbnailRecoveryUseCase;
+import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.domain.Image;
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.ThumbnailProcessingStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 썸네일 복구 서비스 (데드레터 스위퍼)
+ * 아웃박스에 요청이 남아있지 않은 채 FAILED_RETRYABLE 또는 PROCESSING 상태로 멈춘 이미지를
+ * ID 키셋 배치로 조회하여, 주기당 정해진 개수만큼만 다시 요청
+ * 이미지별 재요청 횟수가 max-resubmits-per-image에 이르면 더 요청하지 않고 FAILED_PERMANENT로 변경
+ */
+@Service
+public class ThumbnailRecoveryService implements ThumbnailRecoveryUseCase {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailRecoveryService.class);
+    
+    private static final Set<ThumbnailProcessingStatus> STUCK_STATUSES =
+            Set.of(ThumbnailProcessingStatus.FAILED_RETRYABLE, ThumbnailProcessingStatus.PROCESSING);
+    private static final int MAX_DEAD_LETTER_PAGE_SIZE = 100;
+    
+    private final ImageRepository imageRepository;
+    private final ThumbnailProcessingService thumbnailProcessingService;
+    private final int batchSize;
+    private final int maxResubmitsPerSweep;
+    private final int maxResubmitsPerImage;
+    private final Duration staleAfter;
+    
+    public ThumbnailRecoveryService(ImageRepository imageRepository,
+                                    ThumbnailProcessingService thumbnailProcessingService,
+                                    @Value("${thumbnail.sweeper.batch-size:100}") int batchSize,
+                                    @Value("${thumbnail.sweeper.max-resubmits-per-sweep:200}") int maxResubmitsPerSweep,
+                                    @Value("${thumbnail.sweeper.max-resubmits-per-image:3}") int maxResubmitsPerImage,
+                                    @Value("${thumbnail.sweeper.stale-after-ms:600000}") long staleAfterMs) {
+        this.imageRepository = imageRepository;
+        this.thumbnailProcessingService = thumbnailProcessingService;
+        this.batchSize = batchSize;
+        this.maxResubmitsPerSweep = maxResubmitsPerSweep;
+        this.maxResubmitsPerImage = maxResubmitsPerImage;
+        this.staleAfter = Duration.ofMillis(staleAfterMs);
+    }
+    
+    /**
+     * 주기적으로 멈춘 썸네일 작업을 다시 요청
+     * 재요청 속도는 max-resubmits-per-sweep / interval-ms 로 제한됨
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${thumbnail.sweeper.interval-ms:60000}")
+    public int sweepStuckThumbnails() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter);
+        long afterId = 0L;
+        int resubmitted = 0;
+        
+        while (resubmitted < maxResubmitsPerSweep) {
+            List<Image> batch = imageRepository.findStuckThumbnails(STUCK_STATUSES, staleBefore, afterId, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            
+            for (Image image : batch) {
+                if (resubmitted >= maxResubmitsPerSweep) {
+                    break;
+                }
+                if (resubmit(image, staleBefore)) {
+                    resubmitted++;
+                }
+            }
+            
+            afterId = batch.get(batch.size() - 1).getId().value();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        
+        if (resubmitted > 0) {
+            logger.info("Resubmitted {} stuck thumbnail generations", resubmitted);
+        }
+        return resubmitted;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public DeadLetterPage getDeadLetters(ProjectId projectId, Long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_DEAD_LETTER_PAGE_SIZE));
+        List<Image> images = imageRepository.findByThumbnailStatus(
+            ThumbnailProcessingStatus.FAILED_PERMANENT, projectId, afterId != null ? afterId : 0L, pageSize + 1);
+        
+        boolean hasNext = images.size() > pageSize;
+        List<Image> content = hasNext ? images.subList(0, pageSize) : images;
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getId().value() : null;
+        
+        return new DeadLetterPage(content, hasNext, nextCursor);
+    }
+    
+    private boolean resubmit(Image image, LocalDateTime staleBefore) {
+        try {
+            return thumbnailProcessingService.resubmitStuckThumbnail(image, staleBefore, maxResubmitsPerImage);
+        } catch (Exception e) {
+            // 한 건의 실패가 스윕 전체를 멈추지 않도록 다음 주기에 다시 시도
+            logger.warn("Failed to resubmit thumbnail generation for image: {}", image.getId().value(), e);
+            return false;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리를 위한 설정
@@ -45,4 +46,21 @@ public class AsyncConfig {
         
         return executor;
     }
+    
+    /**
+     * 압축 파일 다운로드에서 다음 원본 스트림을 미리 여는 실행자
+     * 포화되면 요청 스레드에서 열어 미리 읽기만 줄어들고 다운로드는 계속됨
+     */
+    @Bean(name = "archivePrefetchExecutor")
+    public Executor archivePrefetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(64);
+        executor.setThreadNamePrefix("archive-prefetch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        
+        return executor;
+    }
 }
\ No newline at end of file
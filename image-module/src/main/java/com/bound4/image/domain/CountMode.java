@@ -0,0 +1,34 @@
+package com.bound4.image.domain;
+
+/**
+ * 오프셋 목록의 전체 개수 계산 방식
+ */
+public enum CountMode {
+    EXACT("exact"),
+    ESTIMATE("estimate"),
+    NONE("none");
+
+    private final String value;
+
+    CountMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static CountMode fromString(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return EXACT; // 기본값은 정확한 개수
+        }
+        
+        for (CountMode mode : values()) {
+            if (mode.value.equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        
+        throw new IllegalArgumentException("Invalid count mode: " + value);
+    }
+}
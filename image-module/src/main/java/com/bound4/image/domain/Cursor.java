@@ -1,69 +1,263 @@
 package com.bound4.image.domain;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Base64;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeSet;
 
+/**
+ * 커서 페이징 위치 (정렬 값, id)
+ *
+ * 바이너리 형식 (v1)
+ * - [버전 1바이트][정렬 기준 tag 4비트 | ASC 여부 | 필터 지문 여부][id varint][정렬 값][필터 지문 8바이트]
+ * - 정렬 값: 시각은 epoch 마이크로초 zigzag varint, 파일명은 길이 varint + UTF-8, 파일 크기는 zigzag varint
+ * - 서명과 토큰 인코딩은 웹 어댑터의 CursorCodec이 담당
+ */
 public class Cursor {
+
+    static final int VERSION = 1;
+    private static final int SORT_KEY_MASK = 0x0F;
+    private static final int ASC_FLAG = 0x10;
+    private static final int FINGERPRINT_FLAG = 0x20;
+
     private final Long id;
-    private final LocalDateTime timestamp;
-    private final String encodedValue;
+    private final CursorSortKey sortKey;
+    private final SortDirection direction;
+    private final Comparable<?> sortValue;
+    private final Long filterFingerprint;
+    private final byte[] bytes;
 
-    private Cursor(Long id, LocalDateTime timestamp, String encodedValue) {
+    private Cursor(Long id, CursorSortKey sortKey, SortDirection direction, Comparable<?> sortValue,
+                   Long filterFingerprint, byte[] bytes) {
         this.id = id;
-        this.timestamp = timestamp;
-        this.encodedValue = encodedValue;
+        this.sortKey = sortKey;
+        this.direction = direction;
+        this.sortValue = sortValue;
+        this.filterFingerprint = filterFingerprint;
+        this.bytes = bytes;
     }
 
+    /**
+     * 생성 시각 내림차순 커서 (필터 지문 없음)
+     */
     public static Cursor of(Long id, LocalDateTime timestamp) {
         if (id == null || timestamp == null) {
             throw new IllegalArgumentException("ID and timestamp cannot be null");
         }
-        
-        String rawValue = id + ":" + timestamp.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        String encodedValue = Base64.getEncoder().encodeToString(rawValue.getBytes(StandardCharsets.UTF_8));
-        
-        return new Cursor(id, timestamp, encodedValue);
+        return of(CursorSortKey.CREATED_AT, SortDirection.DESC, id, timestamp, null);
+    }
+
+    /**
+     * 이미지 위치의 커서
+     */
+    public static Cursor of(ImageSummary image, CursorSortKey sortKey, SortDirection direction, Long filterFingerprint) {
+        return of(sortKey, direction, image.id().value(), sortKey.sortValue(image), filterFingerprint);
     }
 
-    public static Cursor fromEncoded(String encodedCursor) {
-        if (encodedCursor == null || encodedCursor.trim().isEmpty()) {
-            throw new IllegalArgumentException("Encoded cursor cannot be null or empty");
+    /**
+     * @param sortValue 정렬 기준의 값 타입 (CursorSortKey.getValueType)
+     * @param filterFingerprint 커서를 발급한 조회의 필터 지문 (없으면 null)
+     */
+    public static Cursor of(CursorSortKey sortKey, SortDirection direction, Long id, Comparable<?> sortValue,
+                            Long filterFingerprint) {
+        if (sortKey == null || direction == null || id == null || sortValue == null) {
+            throw new IllegalArgumentException("Sort key, direction, ID and sort value cannot be null");
+        }
+        if (id < 0) {
+            throw new IllegalArgumentException("ID cannot be negative");
+        }
+        if (!sortKey.getValueType().isInstance(sortValue)) {
+            throw new IllegalArgumentException("Sort value for " + sortKey.getValue() + " must be "
+                    + sortKey.getValueType().getSimpleName());
+        }
+        if (sortValue instanceof LocalDateTime timestamp) {
+            sortValue = timestamp.truncatedTo(ChronoUnit.MICROS);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32);
+        out.write(VERSION);
+        out.write(sortKey.getTag()
+                | (direction == SortDirection.ASC ? ASC_FLAG : 0)
+                | (filterFingerprint != null ? FINGERPRINT_FLAG : 0));
+        writeVarint(out, id);
+        switch (sortKey) {
+            case CREATED_AT, UPDATED_AT -> writeVarint(out, zigzag(toEpochMicros((LocalDateTime) sortValue)));
+            case FILENAME -> {
+                byte[] filename = ((String) sortValue).getBytes(StandardCharsets.UTF_8);
+                writeVarint(out, filename.length);
+                out.writeBytes(filename);
+            }
+            case FILE_SIZE -> writeVarint(out, zigzag((Long) sortValue));
+        }
+        if (filterFingerprint != null) {
+            out.writeBytes(ByteBuffer.allocate(Long.BYTES).putLong(filterFingerprint).array());
+        }
+
+        return new Cursor(id, sortKey, direction, sortValue, filterFingerprint, out.toByteArray());
+    }
+
+    /**
+     * 바이너리 형식에서 복원 (서명은 호출하는 쪽에서 먼저 검증)
+     */
+    public static Cursor fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < 2) {
+            throw new IllegalArgumentException("Invalid cursor format: too short");
         }
 
         try {
-            String decoded = new String(Base64.getDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
-            String[] parts = decoded.split(":", 2);
-            
-            if (parts.length != 2) {
-                throw new IllegalArgumentException("Invalid cursor format");
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            int version = buffer.get() & 0xFF;
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported cursor version: " + version);
+            }
+            int flags = buffer.get() & 0xFF;
+            CursorSortKey sortKey = CursorSortKey.fromTag(flags & SORT_KEY_MASK);
+            SortDirection direction = (flags & ASC_FLAG) != 0 ? SortDirection.ASC : SortDirection.DESC;
+            long id = readVarint(buffer);
+
+            Comparable<?> sortValue = switch (sortKey) {
+                case CREATED_AT, UPDATED_AT -> fromEpochMicros(unzigzag(readVarint(buffer)));
+                case FILENAME -> {
+                    long length = readVarint(buffer);
+                    if (length > buffer.remaining()) {
+                        throw new IllegalArgumentException("Invalid cursor format: filename length");
+                    }
+                    byte[] filename = new byte[(int) length];
+                    buffer.get(filename);
+                    yield new String(filename, StandardCharsets.UTF_8);
+                }
+                case FILE_SIZE -> unzigzag(readVarint(buffer));
+            };
+            Long filterFingerprint = (flags & FINGERPRINT_FLAG) != 0 ? buffer.getLong() : null;
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Invalid cursor format: trailing bytes");
             }
 
-            Long id = Long.parseLong(parts[0]);
-            LocalDateTime timestamp = LocalDateTime.parse(parts[1], DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-            
-            return new Cursor(id, timestamp, encodedCursor);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Invalid cursor format: " + e.getMessage(), e);
+            return new Cursor(id, sortKey, direction, sortValue, filterFingerprint, bytes.clone());
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Invalid cursor format: truncated", e);
         }
     }
 
+    /**
+     * 조회 필터 지문 (FNV-1a 64비트)
+     * 태그는 앞뒤 공백을 제거하고 정렬하므로 순서/중복이 달라도 같은 지문
+     */
+    public static long filterFingerprint(Long projectId, ImageStatus status, Collection<String> tags,
+                                         TagMatchMode tagMatch) {
+        TreeSet<String> tagNames = new TreeSet<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag != null && !tag.trim().isEmpty()) {
+                    tagNames.add(tag.trim());
+                }
+            }
+        }
+
+        StringBuilder canonical = new StringBuilder()
+                .append(projectId).append('\u0000')
+                .append(status != null ? status.name() : "").append('\u0000');
+        if (!tagNames.isEmpty()) {
+            canonical.append(tagMatch != null ? tagMatch.name() : TagMatchMode.ANY.name());
+            for (String tag : tagNames) {
+                canonical.append('\u0000').append(tag);
+            }
+        }
+
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : canonical.toString().getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
     public Long getId() {
         return id;
     }
 
+    /**
+     * 시각 정렬 커서의 정렬 값 (다른 정렬 기준이면 null)
+     */
     public LocalDateTime getTimestamp() {
-        return timestamp;
+        return sortValue instanceof LocalDateTime timestamp ? timestamp : null;
+    }
+
+    public CursorSortKey getSortKey() {
+        return sortKey;
+    }
+
+    public SortDirection getDirection() {
+        return direction;
+    }
+
+    public Comparable<?> getSortValue() {
+        return sortValue;
+    }
+
+    public Long getFilterFingerprint() {
+        return filterFingerprint;
+    }
+
+    /**
+     * 바이너리 형식 (서명 전)
+     */
+    public byte[] toBytes() {
+        return bytes.clone();
+    }
+
+    private static long toEpochMicros(LocalDateTime timestamp) {
+        return Math.addExact(Math.multiplyExact(timestamp.toEpochSecond(ZoneOffset.UTC), 1_000_000L),
+                timestamp.getNano() / 1_000L);
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
     }
 
-    public String getEncodedValue() {
-        return encodedValue;
+    private static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Invalid cursor format: varint too long");
     }
 
     @Override
     public String toString() {
-        return encodedValue;
+        return "Cursor{" +
+                "sortKey=" + sortKey +
+                ", direction=" + direction +
+                ", id=" + id +
+                ", sortValue=" + sortValue +
+                '}';
     }
 
     @Override
@@ -71,11 +265,11 @@ public class Cursor {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Cursor cursor = (Cursor) obj;
-        return encodedValue.equals(cursor.encodedValue);
+        return Arrays.equals(bytes, cursor.bytes);
     }
 
     @Override
     public int hashCode() {
-        return encodedValue.hashCode();
+        return Arrays.hashCode(bytes);
     }
-}
\ No newline at end of file
+}
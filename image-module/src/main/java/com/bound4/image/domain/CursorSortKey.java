@@ -0,0 +1,71 @@
+package com.bound4.image.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 커서 페이징 정렬 기준
+ * tag는 바이너리 커서에 기록되는 값이므로 기존 값을 바꾸지 말고 새 기준은 새 tag로 추가
+ */
+public enum CursorSortKey {
+    CREATED_AT("createdAt", 1, LocalDateTime.class),
+    UPDATED_AT("updatedAt", 2, LocalDateTime.class),
+    FILENAME("filename", 3, String.class),
+    FILE_SIZE("fileSize", 4, Long.class);
+
+    private final String value;
+    private final int tag;
+    private final Class<?> valueType;
+
+    CursorSortKey(String value, int tag, Class<?> valueType) {
+        this.value = value;
+        this.tag = tag;
+        this.valueType = valueType;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public int getTag() {
+        return tag;
+    }
+
+    public Class<?> getValueType() {
+        return valueType;
+    }
+
+    /**
+     * 이미지의 정렬 값
+     */
+    public Comparable<?> sortValue(ImageSummary image) {
+        return switch (this) {
+            case CREATED_AT -> image.createdAt();
+            case UPDATED_AT -> image.updatedAt();
+            case FILENAME -> image.originalFilename() != null ? image.originalFilename() : "";
+            case FILE_SIZE -> image.fileSize();
+        };
+    }
+
+    public static CursorSortKey fromString(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return CREATED_AT;
+        }
+
+        for (CursorSortKey sortKey : values()) {
+            if (sortKey.value.equalsIgnoreCase(value.trim())) {
+                return sortKey;
+            }
+        }
+
+        return CREATED_AT; // 유효하지 않은 값일 경우 기본값 (오프셋 목록과 동일)
+    }
+
+    public static CursorSortKey fromTag(int tag) {
+        for (CursorSortKey sortKey : values()) {
+            if (sortKey.tag == tag) {
+                return sortKey;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sort key tag: " + tag);
+    }
+}
@@ -0,0 +1,20 @@
+package com.bound4.image.domain;
+
+/**
+ * 생성된 썸네일
+ * @param thumbnailKey 썸네일 저장소 키
+ * @param placeholder 썸네일에서 계산한 BlurHash 자리표시자 (계산하지 않은 경우 null)
+ * @param perceptualHash 썸네일에서 계산한 지각 해시 (계산하지 않은 경우 null)
+ */
+public record GeneratedThumbnail(String thumbnailKey, String placeholder, PerceptualHash perceptualHash) {
+    
+    public GeneratedThumbnail {
+        if (thumbnailKey == null || thumbnailKey.isBlank()) {
+            throw new IllegalArgumentException("Thumbnail key cannot be null or empty");
+        }
+    }
+    
+    public static GeneratedThumbnail of(String thumbnailKey) {
+        return new GeneratedThumbnail(thumbnailKey, null, null);
+    }
+}
@@ -12,8 +12,11 @@ public class Image {
     private final String mimeType;
     private String originalImageKey;
     private String thumbnailKey;
+    private String placeholder;
+    private PerceptualHash perceptualHash;
     private ImageStatus status;
     private ThumbnailProcessingStatus thumbnailProcessingStatus;
+    private ImageMetadata metadata;
     private Map<String, Object> tags;
     private String memo;
     private final LocalDateTime createdAt;
@@ -41,11 +44,23 @@ public class Image {
         this.updatedAt = LocalDateTime.now();
     }
     
+    public void updatePlaceholder(String placeholder) {
+        this.placeholder = placeholder;
+    }
+    
+    public void updatePerceptualHash(PerceptualHash perceptualHash) {
+        this.perceptualHash = perceptualHash;
+    }
+    
     public void updateThumbnailProcessingStatus(ThumbnailProcessingStatus status) {
         this.thumbnailProcessingStatus = status;
         this.updatedAt = LocalDateTime.now();
     }
 
+    public void updateMetadata(ImageMetadata metadata) {
+        this.metadata = metadata;
+    }
+
     public void updateStatus(ImageStatus status) {
         this.status = status;
         this.updatedAt = LocalDateTime.now();
@@ -104,6 +119,20 @@ public class Image {
         return thumbnailKey;
     }
     
+    /**
+     * 썸네일에서 계산한 BlurHash 자리표시자 (썸네일 생성 전이면 null)
+     */
+    public String getPlaceholder() {
+        return placeholder;
+    }
+    
+    /**
+     * 썸네일에서 계산한 지각 해시 (썸네일 생성 전이면 null)
+     */
+    public PerceptualHash getPerceptualHash() {
+        return perceptualHash;
+    }
+    
     public ImageStatus getStatus() {
         return status;
     }
@@ -112,6 +141,13 @@ public class Image {
         return thumbnailProcessingStatus;
     }
     
+    /**
+     * 헤더에서 읽은 크기/방향/프레임 수 (지원하지 않는 형식이면 null)
+     */
+    public ImageMetadata getMetadata() {
+        return metadata;
+    }
+    
     public Map<String, Object> getTags() {
         return tags;
     }
@@ -0,0 +1,8 @@
+package com.bound4.image.domain;
+
+/**
+ * 압축 파일에 담을 원본 이미지 (원본 저장 키가 있는 이미지만)
+ */
+public record ImageArchiveEntry(ImageId id, String originalFilename, String mimeType, long fileSize,
+                                String storageKey) {
+}
@@ -0,0 +1,45 @@
+package com.bound4.image.domain;
+
+/**
+ * 이미지 헤더에서 읽은 메타데이터
+ * width/height는 저장된 픽셀 크기이며, EXIF 방향이 90도 회전(5~8)이면 표시 크기는 가로세로가 바뀜
+ */
+public record ImageMetadata(int width, int height, int orientation, int frameCount) {
+    
+    public static final int DEFAULT_ORIENTATION = 1;
+    
+    public ImageMetadata {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Image dimensions must be positive");
+        }
+        if (orientation < 1 || orientation > 8) {
+            throw new IllegalArgumentException("EXIF orientation must be between 1 and 8");
+        }
+        if (frameCount <= 0) {
+            throw new IllegalArgumentException("Frame count must be positive");
+        }
+    }
+    
+    public static ImageMetadata of(int width, int height) {
+        return new ImageMetadata(width, height, DEFAULT_ORIENTATION, 1);
+    }
+    
+    /**
+     * 방향을 적용해 표시할 때 가로/세로가 바뀌는지 여부
+     */
+    public boolean isRotated() {
+        return orientation >= 5;
+    }
+    
+    public int displayWidth() {
+        return isRotated() ? height : width;
+    }
+    
+    public int displayHeight() {
+        return isRotated() ? width : height;
+    }
+    
+    public boolean isAnimated() {
+        return frameCount > 1;
+    }
+}
@@ -0,0 +1,14 @@
+package com.bound4.image.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록 조회용 이미지 요약 (원본/썸네일 키, 파일 해시 등 목록에 필요 없는 값은 제외)
+ * @param tags 태그 이름 (태그가 없으면 null)
+ * @param metadata 헤더 메타데이터 (업로드 시 추출되지 않았으면 null)
+ */
+public record ImageSummary(ImageId id, ProjectId projectId, String originalFilename, long fileSize, String mimeType,
+                           ImageStatus status, List<String> tags, String memo, ImageMetadata metadata,
+                           String placeholder, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,25 @@
+package com.bound4.image.domain;
+
+/**
+ * 64비트 지각 해시 (dHash)
+ * 크기 변경이나 재인코딩된 사본은 해밍 거리가 작게 유지되므로 바이트 단위 해시(FileHash)로 찾지 못하는 유사 이미지 판별에 사용
+ */
+public record PerceptualHash(long value) {
+    
+    public static final int BITS = Long.SIZE;
+    
+    public static PerceptualHash of(long value) {
+        return new PerceptualHash(value);
+    }
+    
+    /**
+     * 해밍 거리 (서로 다른 비트 수, 0~64)
+     */
+    public int distanceTo(PerceptualHash other) {
+        return Long.bitCount(value ^ other.value);
+    }
+    
+    public String toHex() {
+        return String.format("%016x", value);
+    }
+}
@@ -0,0 +1,7 @@
+package com.bound4.image.domain;
+
+/**
+ * 유사 이미지 인덱스 재구성용 이미지별 지각 해시
+ */
+public record PerceptualHashEntry(ImageId imageId, PerceptualHash hash) {
+}
@@ -1,6 +1,7 @@
 package com.bound4.image.domain;
 
 import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 재시도 전략을 정의하는 값 객체
@@ -11,17 +12,24 @@ public class RetryStrategy {
     private static final Duration BASE_DELAY = Duration.ofSeconds(2);
     private static final double BACKOFF_MULTIPLIER = 2.0;
     private static final Duration MAX_DELAY = Duration.ofMinutes(5);
+    private static final double JITTER_RATIO = 0.2;
     
     private final int maxRetryCount;
     private final Duration baseDelay;
     private final double backoffMultiplier;
     private final Duration maxDelay;
+    private final double jitterRatio;
     
     public RetryStrategy() {
-        this(MAX_RETRY_COUNT, BASE_DELAY, BACKOFF_MULTIPLIER, MAX_DELAY);
+        this(MAX_RETRY_COUNT, BASE_DELAY, BACKOFF_MULTIPLIER, MAX_DELAY, JITTER_RATIO);
     }
     
     public RetryStrategy(int maxRetryCount, Duration baseDelay, double backoffMultiplier, Duration maxDelay) {
+        this(maxRetryCount, baseDelay, backoffMultiplier, maxDelay, 0.0);
+    }
+    
+    public RetryStrategy(int maxRetryCount, Duration baseDelay, double backoffMultiplier, Duration maxDelay,
+                         double jitterRatio) {
         if (maxRetryCount < 0) {
             throw new IllegalArgumentException("Max retry count must be non-negative");
         }
@@ -34,11 +42,15 @@ public class RetryStrategy {
         if (maxDelay.compareTo(baseDelay) < 0) {
             throw new IllegalArgumentException("Max delay must be greater than or equal to base delay");
         }
+        if (jitterRatio < 0.0 || jitterRatio >= 1.0) {
+            throw new IllegalArgumentException("Jitter ratio must be between 0.0 (inclusive) and 1.0 (exclusive)");
+        }
         
         this.maxRetryCount = maxRetryCount;
         this.baseDelay = baseDelay;
         this.backoffMultiplier = backoffMultiplier;
         this.maxDelay = maxDelay;
+        this.jitterRatio = jitterRatio;
     }
     
     /**
@@ -51,7 +63,8 @@ public class RetryStrategy {
     }
     
     /**
-     * 다음 재시도까지의 지연 시간 계산 (지수 백오프)
+     * 다음 재시도까지의 지연 시간 계산 (지수 백오프 + 지터)
+     * 같은 시점에 실패한 요청들의 재시도가 한꺼번에 몰리지 않도록 지연 시간을 최대 jitterRatio 만큼 무작위로 줄임
      * @param retryCount 재시도 횟수 (0부터 시작)
      * @return 지연 시간
      */
@@ -60,6 +73,16 @@ public class RetryStrategy {
             throw new IllegalArgumentException("Retry count must be non-negative");
         }
         
+        Duration delay = calculateBackoffDelay(retryCount);
+        if (jitterRatio == 0.0) {
+            return delay;
+        }
+        
+        long jitterMillis = (long) (delay.toMillis() * jitterRatio * ThreadLocalRandom.current().nextDouble());
+        return delay.minusMillis(jitterMillis);
+    }
+    
+    private Duration calculateBackoffDelay(int retryCount) {
         if (retryCount == 0) {
             return baseDelay;
         }
@@ -97,6 +120,10 @@ public class RetryStrategy {
         return maxDelay;
     }
     
+    public double getJitterRatio() {
+        return jitterRatio;
+    }
+    
     @Override
     public String toString() {
         return "RetryStrategy{" +
@@ -104,6 +131,7 @@ public class RetryStrategy {
                 ", baseDelay=" + baseDelay +
                 ", backoffMultiplier=" + backoffMultiplier +
                 ", maxDelay=" + maxDelay +
+                ", jitterRatio=" + jitterRatio +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.bound4.image.domain;
+
+/**
+ * 지각 해시 검색 결과
+ * @param imageId 유사 이미지 ID
+ * @param distance 기준 이미지와의 해밍 거리
+ */
+public record SimilarImage(ImageId imageId, int distance) {
+}
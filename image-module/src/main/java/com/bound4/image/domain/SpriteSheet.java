@@ -0,0 +1,56 @@
+package com.bound4.image.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 갤러리 그리드용 스프라이트 시트 배치
+ * 썸네일을 정사각형 타일로 잘라 행 우선으로 배치하며, 좌표는 타일 크기와 순서만으로 결정되므로
+ * 캐시된 스프라이트를 다시 디코딩하지 않고도 같은 좌표 맵을 만들 수 있음
+ *
+ * @param spriteKey 멤버 파일 해시로 만든 결정적 스프라이트 키 (멤버가 없으면 null)
+ * @param tileSize 타일 한 변의 크기 (픽셀)
+ * @param columns 열 수
+ * @param tiles 스프라이트에 포함된 이미지의 타일 좌표 (요청 순서)
+ * @param missingImageIds 썸네일이 없어 제외된 이미지 ID
+ */
+public record SpriteSheet(String spriteKey, int tileSize, int columns, List<Tile> tiles, List<Long> missingImageIds) {
+    
+    public SpriteSheet {
+        tiles = List.copyOf(tiles);
+        missingImageIds = List.copyOf(missingImageIds);
+    }
+    
+    /**
+     * 행 우선 배치 (열 수는 멤버 수와 최대 열 수 중 작은 값)
+     */
+    public static SpriteSheet layout(String spriteKey, int tileSize, int maxColumns,
+                                     List<Long> memberIds, List<Long> missingImageIds) {
+        int columns = Math.max(1, Math.min(maxColumns, memberIds.size()));
+        List<Tile> tiles = new ArrayList<>(memberIds.size());
+        for (int i = 0; i < memberIds.size(); i++) {
+            int x = (i % columns) * tileSize;
+            int y = (i / columns) * tileSize;
+            tiles.add(new Tile(memberIds.get(i), x, y, tileSize, tileSize));
+        }
+        return new SpriteSheet(spriteKey, tileSize, columns, tiles, missingImageIds);
+    }
+    
+    public boolean isEmpty() {
+        return tiles.isEmpty();
+    }
+    
+    public int width() {
+        return isEmpty() ? 0 : columns * tileSize;
+    }
+    
+    public int height() {
+        return isEmpty() ? 0 : ((tiles.size() + columns - 1) / columns) * tileSize;
+    }
+    
+    /**
+     * 스프라이트 안의 이미지 타일 영역
+     */
+    public record Tile(Long imageId, int x, int y, int width, int height) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.bound4.image.domain;
+
+/**
+ * 여러 태그로 필터링할 때의 일치 조건
+ */
+public enum TagMatchMode {
+    ANY("any"),
+    ALL("all");
+
+    private final String value;
+
+    TagMatchMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static TagMatchMode fromString(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return ANY; // 기본값은 하나라도 일치
+        }
+        
+        for (TagMatchMode mode : values()) {
+            if (mode.value.equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        
+        throw new IllegalArgumentException("Invalid tag match mode: " + value);
+    }
+}
@@ -0,0 +1,205 @@
+package com.bound4.image.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 단위 썸네일 백필 작업
+ * 이미지 ID 순으로 순회하며 마지막으로 요청한 이미지 ID를 체크포인트로 저장하여 재시작 시 이어서 진행
+ * 진행률/처리량/예상 남은 시간은 요청 수가 아니라 체크포인트까지의 이미지 중 생성이 끝난(완료 또는 영구 실패) 수 기준
+ */
+public class ThumbnailBackfillJob {
+    private Long id;
+    private final ProjectId projectId;
+    private ThumbnailBackfillStatus status;
+    private long lastImageId;
+    private long processedCount;
+    private final long totalCount;
+    private LocalDateTime resumedAt;
+    private long processedAtResume;
+    private long completedAtResume;
+    private long completedCount;
+    private final LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+    private Long version;
+    
+    public ThumbnailBackfillJob(Long id, ProjectId projectId, ThumbnailBackfillStatus status,
+                                long lastImageId, long processedCount, long totalCount,
+                                LocalDateTime resumedAt, long processedAtResume, long completedAtResume,
+                                LocalDateTime createdAt, LocalDateTime updatedAt,
+                                LocalDateTime completedAt, Long version) {
+        this.id = id;
+        this.projectId = projectId;
+        this.status = status;
+        this.lastImageId = lastImageId;
+        this.processedCount = processedCount;
+        this.totalCount = totalCount;
+        this.resumedAt = resumedAt;
+        this.processedAtResume = processedAtResume;
+        this.completedAtResume = completedAtResume;
+        this.completedCount = completedAtResume;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.completedAt = completedAt;
+        this.version = version;
+    }
+    
+    public static ThumbnailBackfillJob start(ProjectId projectId, long totalCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return new ThumbnailBackfillJob(null, projectId, ThumbnailBackfillStatus.RUNNING,
+                0L, 0L, totalCount, now, 0L, 0L, now, now, null, null);
+    }
+    
+    public void pause() {
+        if (status != ThumbnailBackfillStatus.RUNNING) {
+            throw new IllegalStateException("Backfill job is not running: " + id + ", current status: " + status);
+        }
+        this.status = ThumbnailBackfillStatus.PAUSED;
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * @param completedCount 재개 시점에 생성이 끝난 이미지 수 (이후 처리량의 기준)
+     */
+    public void resume(long completedCount) {
+        if (status != ThumbnailBackfillStatus.PAUSED) {
+            throw new IllegalStateException("Backfill job is not paused: " + id + ", current status: " + status);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        this.status = ThumbnailBackfillStatus.RUNNING;
+        this.resumedAt = now;
+        this.processedAtResume = processedCount;
+        this.completedAtResume = completedCount;
+        this.completedCount = completedCount;
+        this.updatedAt = now;
+    }
+    
+    /**
+     * 한 배치를 요청한 뒤 체크포인트 갱신
+     * @param lastImageId 배치의 마지막 이미지 ID
+     * @param count 배치에서 실제로 요청한 이미지 수 (이미 처리 중이어서 건너뛴 이미지 제외)
+     */
+    public void advance(long lastImageId, int count) {
+        this.lastImageId = lastImageId;
+        this.processedCount += count;
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    public void complete() {
+        LocalDateTime now = LocalDateTime.now();
+        this.status = ThumbnailBackfillStatus.COMPLETED;
+        this.completedAt = now;
+        this.updatedAt = now;
+    }
+    
+    public boolean isRunning() {
+        return status == ThumbnailBackfillStatus.RUNNING;
+    }
+    
+    /**
+     * 체크포인트까지의 이미지 중 생성이 끝난 수 반영 (조회 시점에 이미지 상태로 계산)
+     */
+    public void updateCompletedCount(long completedCount) {
+        this.completedCount = completedCount;
+    }
+    
+    /**
+     * 마지막으로 시작/재개한 이후 초당 생성 완료 수
+     */
+    public double getThroughputPerSecond(LocalDateTime now) {
+        if (resumedAt == null) {
+            return 0.0;
+        }
+        LocalDateTime end = status == ThumbnailBackfillStatus.RUNNING ? now : updatedAt;
+        long elapsedMillis = Duration.between(resumedAt, end).toMillis();
+        if (elapsedMillis <= 0) {
+            return 0.0;
+        }
+        return Math.max(0L, completedCount - completedAtResume) * 1000.0 / elapsedMillis;
+    }
+    
+    /**
+     * 현재 처리량 기준 예상 남은 시간 (실행 중이 아니거나 처리량을 알 수 없으면 null)
+     */
+    public Duration getEstimatedRemaining(LocalDateTime now) {
+        if (status != ThumbnailBackfillStatus.RUNNING) {
+            return null;
+        }
+        double throughput = getThroughputPerSecond(now);
+        if (throughput <= 0.0) {
+            return null;
+        }
+        long remaining = Math.max(0L, totalCount - completedCount);
+        return Duration.ofMillis((long) (remaining * 1000.0 / throughput));
+    }
+    
+    public double getProgressPercent() {
+        if (totalCount == 0) {
+            return status == ThumbnailBackfillStatus.COMPLETED ? 100.0 : 0.0;
+        }
+        return Math.min(100.0, completedCount * 100.0 / totalCount);
+    }
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public ProjectId getProjectId() {
+        return projectId;
+    }
+    
+    public ThumbnailBackfillStatus getStatus() {
+        return status;
+    }
+    
+    public long getLastImageId() {
+        return lastImageId;
+    }
+    
+    public long getProcessedCount() {
+        return processedCount;
+    }
+    
+    public long getTotalCount() {
+        return totalCount;
+    }
+    
+    public LocalDateTime getResumedAt() {
+        return resumedAt;
+    }
+    
+    public long getProcessedAtResume() {
+        return processedAtResume;
+    }
+    
+    public long getCompletedAtResume() {
+        return completedAtResume;
+    }
+    
+    public long getCompletedCount() {
+        return completedCount;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    // For persistence
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
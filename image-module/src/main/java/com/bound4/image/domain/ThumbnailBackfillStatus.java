@@ -0,0 +1,26 @@
+package com.bound4.image.domain;
+
+/**
+ * 썸네일 백필 작업 상태
+ */
+public enum ThumbnailBackfillStatus {
+    
+    /**
+     * 이미지를 순회하며 썸네일 생성 요청 중
+     */
+    RUNNING,
+    
+    /**
+     * 일시 정지 (체크포인트 유지)
+     */
+    PAUSED,
+    
+    /**
+     * 프로젝트의 모든 이미지 요청 완료
+     */
+    COMPLETED;
+    
+    public boolean isActive() {
+        return this == RUNNING || this == PAUSED;
+    }
+}
@@ -0,0 +1,42 @@
+package com.bound4.image.domain;
+
+/**
+ * 썸네일 영구 실패(FAILED_PERMANENT) 사유
+ */
+public enum ThumbnailFailureReason {
+    
+    /**
+     * 썸네일 생성을 지원하지 않는 MIME 타입
+     */
+    UNSUPPORTED_MIME_TYPE("unsupported_mime_type"),
+    
+    /**
+     * 원본 이미지를 디코딩할 수 없음
+     */
+    UNREADABLE_IMAGE("unreadable_image"),
+    
+    /**
+     * 디코딩 허용 픽셀 수를 초과 (압축 폭탄 등)
+     */
+    IMAGE_TOO_LARGE("image_too_large"),
+    
+    /**
+     * 재시도 가능한 실패가 최대 재시도 횟수를 초과
+     */
+    RETRIES_EXHAUSTED("retries_exhausted"),
+    
+    /**
+     * 그 밖의 재시도 불가능한 오류
+     */
+    NON_RETRYABLE_ERROR("non_retryable_error");
+    
+    private final String value;
+    
+    ThumbnailFailureReason(String value) {
+        this.value = value;
+    }
+    
+    public String getValue() {
+        return value;
+    }
+}
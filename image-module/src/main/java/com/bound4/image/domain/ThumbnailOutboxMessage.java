@@ -0,0 +1,26 @@
+package com.bound4.image.domain;
+
+import com.bound4.image.domain.event.ThumbnailGenerationRequestedEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스에서 가져온 썸네일 생성 요청 메시지
+ * 처리 완료 후 확인(acknowledge)할 수 있도록 아웃박스 ID를 함께 보관
+ * availableAt은 메시지가 처리 가능해진 시각으로, 재시도 지연을 제외한 대기 시간 측정에 사용
+ */
+public record ThumbnailOutboxMessage(Long id, ThumbnailGenerationRequestedEvent event, LocalDateTime availableAt) {
+    
+    public ThumbnailOutboxMessage(Long id, ThumbnailGenerationRequestedEvent event) {
+        this(id, event, event == null ? null : event.getRequestedAt());
+    }
+    
+    public ThumbnailOutboxMessage {
+        if (id == null) {
+            throw new IllegalArgumentException("Outbox message id cannot be null");
+        }
+        if (event == null) {
+            throw new IllegalArgumentException("Outbox message event cannot be null");
+        }
+    }
+}
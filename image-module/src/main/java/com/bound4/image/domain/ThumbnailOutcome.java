@@ -0,0 +1,37 @@
+package com.bound4.image.domain;
+
+/**
+ * 썸네일 생성 요청 1건의 처리 결과
+ */
+public enum ThumbnailOutcome {
+    
+    /**
+     * 썸네일 생성 및 상태 반영 완료
+     */
+    COMPLETED("completed"),
+    
+    /**
+     * 실패 후 재시도 예약
+     */
+    RETRY_SCHEDULED("retry_scheduled"),
+    
+    /**
+     * 영구 실패
+     */
+    FAILED_PERMANENT("failed_permanent"),
+    
+    /**
+     * 이미지가 삭제되었거나 이미 처리되어 결과가 반영되지 않음
+     */
+    DISCARDED("discarded");
+    
+    private final String value;
+    
+    ThumbnailOutcome(String value) {
+        this.value = value;
+    }
+    
+    public String getValue() {
+        return value;
+    }
+}
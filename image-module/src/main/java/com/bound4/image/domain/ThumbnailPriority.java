@@ -0,0 +1,18 @@
+package com.bound4.image.domain;
+
+/**
+ * 썸네일 생성 요청 우선순위
+ * 사용자 요청(NORMAL)이 먼저 선점되고, 백필 등 대량 작업(LOW)은 남은 처리 여유만 사용
+ */
+public enum ThumbnailPriority {
+    
+    /**
+     * 업로드/재시도 등 사용자 요청
+     */
+    NORMAL,
+    
+    /**
+     * 백필 등 대량 재생성 요청
+     */
+    LOW
+}
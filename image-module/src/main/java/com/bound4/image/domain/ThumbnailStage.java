@@ -0,0 +1,52 @@
+package com.bound4.image.domain;
+
+/**
+ * 썸네일 생성 파이프라인 단계 (단계별 소요 시간 측정용)
+ */
+public enum ThumbnailStage {
+    
+    /**
+     * 아웃박스에서 처리 가능해진 시점부터 워커가 처리를 시작할 때까지 대기
+     */
+    QUEUE_WAIT("queue_wait"),
+    
+    /**
+     * 저장소에서 원본 이미지 읽기
+     */
+    STORAGE_READ("storage_read"),
+    
+    /**
+     * 원본 이미지 디코딩
+     */
+    DECODE("decode"),
+    
+    /**
+     * 썸네일 크기로 축소
+     */
+    RESIZE("resize"),
+    
+    /**
+     * 썸네일 인코딩
+     */
+    ENCODE("encode"),
+    
+    /**
+     * 저장소에 썸네일 쓰기
+     */
+    STORAGE_WRITE("storage_write"),
+    
+    /**
+     * 이미지 상태 반영 (배치 대기 포함)
+     */
+    DB_UPDATE("db_update");
+    
+    private final String value;
+    
+    ThumbnailStage(String value) {
+        this.value = value;
+    }
+    
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,45 @@
+package com.bound4.image.domain;
+
+/**
+ * 썸네일 생성 결과에 따른 이미지 상태 변경
+ * 이미지가 아직 처리 중(PROCESSING 또는 FAILED_RETRYABLE)인 경우에만 적용됨
+ */
+public record ThumbnailStatusUpdate(ImageId imageId, ThumbnailProcessingStatus status, String thumbnailKey,
+                                    String placeholder, PerceptualHash perceptualHash) {
+    
+    public ThumbnailStatusUpdate {
+        if (imageId == null) {
+            throw new IllegalArgumentException("Image id cannot be null");
+        }
+        if (status == ThumbnailProcessingStatus.COMPLETED && thumbnailKey == null) {
+            throw new IllegalArgumentException("Thumbnail key is required for completed status");
+        }
+        if (status != ThumbnailProcessingStatus.COMPLETED && !status.isFailed()) {
+            throw new IllegalArgumentException("Unsupported thumbnail outcome status: " + status);
+        }
+    }
+    
+    public static ThumbnailStatusUpdate completed(ImageId imageId, String thumbnailKey) {
+        return completed(imageId, thumbnailKey, null);
+    }
+    
+    public static ThumbnailStatusUpdate completed(ImageId imageId, String thumbnailKey, String placeholder) {
+        return completed(imageId, thumbnailKey, placeholder, null);
+    }
+    
+    public static ThumbnailStatusUpdate completed(ImageId imageId, String thumbnailKey, String placeholder,
+                                                  PerceptualHash perceptualHash) {
+        return new ThumbnailStatusUpdate(imageId, ThumbnailProcessingStatus.COMPLETED, thumbnailKey, placeholder,
+                perceptualHash);
+    }
+    
+    public static ThumbnailStatusUpdate failed(ImageId imageId, boolean retryable) {
+        return new ThumbnailStatusUpdate(imageId,
+                retryable ? ThumbnailProcessingStatus.FAILED_RETRYABLE : ThumbnailProcessingStatus.FAILED_PERMANENT,
+                null, null, null);
+    }
+    
+    public boolean isCompleted() {
+        return status == ThumbnailProcessingStatus.COMPLETED;
+    }
+}
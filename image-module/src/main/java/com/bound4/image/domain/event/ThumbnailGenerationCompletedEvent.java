@@ -1,6 +1,8 @@
 package com.bound4.image.domain.event;
 
 import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.PerceptualHash;
+import com.bound4.image.domain.ProjectId;
 
 import java.time.LocalDateTime;
 
@@ -11,14 +13,24 @@ import java.time.LocalDateTime;
 public class ThumbnailGenerationCompletedEvent {
     
     private final ImageId imageId;
+    private final ProjectId projectId;
     private final String thumbnailKey;
+    private final PerceptualHash perceptualHash;
     private final long processingTimeMs;
     private final LocalDateTime completedAt;
     
     public ThumbnailGenerationCompletedEvent(ImageId imageId, String thumbnailKey, 
                                            long processingTimeMs, LocalDateTime completedAt) {
+        this(imageId, null, thumbnailKey, null, processingTimeMs, completedAt);
+    }
+    
+    public ThumbnailGenerationCompletedEvent(ImageId imageId, ProjectId projectId, String thumbnailKey,
+                                           PerceptualHash perceptualHash, long processingTimeMs,
+                                           LocalDateTime completedAt) {
         this.imageId = imageId;
+        this.projectId = projectId;
         this.thumbnailKey = thumbnailKey;
+        this.perceptualHash = perceptualHash;
         this.processingTimeMs = processingTimeMs;
         this.completedAt = completedAt;
     }
@@ -27,10 +39,27 @@ public class ThumbnailGenerationCompletedEvent {
         return new ThumbnailGenerationCompletedEvent(imageId, thumbnailKey, processingTimeMs, LocalDateTime.now());
     }
     
+    public static ThumbnailGenerationCompletedEvent of(ImageId imageId, ProjectId projectId, String thumbnailKey,
+                                                       PerceptualHash perceptualHash, long processingTimeMs) {
+        return new ThumbnailGenerationCompletedEvent(imageId, projectId, thumbnailKey, perceptualHash,
+                processingTimeMs, LocalDateTime.now());
+    }
+    
     public ImageId getImageId() {
         return imageId;
     }
     
+    public ProjectId getProjectId() {
+        return projectId;
+    }
+    
+    /**
+     * 썸네일에서 계산한 지각 해시 (계산하지 않은 경우 null)
+     */
+    public PerceptualHash getPerceptualHash() {
+        return perceptualHash;
+    }
+    
     public String getThumbnailKey() {
         return thumbnailKey;
     }
@@ -1,10 +1,20 @@
 CREATE TABLE images (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     project_id BIGINT NOT NULL,
-    original_filename VARCHAR(255),
+    original_filename VARCHAR(255) NOT NULL DEFAULT '',
     file_hash VARCHAR(64) UNIQUE,
-    file_size BIGINT,
+    file_size BIGINT NOT NULL DEFAULT 0,
     mime_type VARCHAR(100),
+    original_image_key VARCHAR(500),
+    thumbnail_key VARCHAR(500),
+    placeholder VARCHAR(200),
+    perceptual_hash BIGINT,
+    thumbnail_processing_status VARCHAR(20) DEFAULT 'PENDING',
+    thumbnail_resubmit_count INT NOT NULL DEFAULT 0,
+    width INT,
+    height INT,
+    orientation SMALLINT,
+    frame_count INT,
     image_data BLOB,
     thumbnail_data BLOB,
     status VARCHAR(20) DEFAULT 'READY',
@@ -12,8 +22,76 @@ CREATE TABLE images (
     memo TEXT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    deleted_at TIMESTAMP NULL
+    deleted_at TIMESTAMP NULL,
+    version BIGINT DEFAULT 0
+);
+
+CREATE INDEX idx_images_cursor_created ON images (project_id, deleted_at, created_at, id);
+CREATE INDEX idx_images_cursor_updated ON images (project_id, deleted_at, updated_at, id);
+CREATE INDEX idx_images_cursor_filename ON images (project_id, deleted_at, original_filename, id);
+CREATE INDEX idx_images_cursor_size ON images (project_id, deleted_at, file_size, id);
+CREATE INDEX idx_hash ON images (file_hash);
+CREATE INDEX idx_thumbnail_status ON images (thumbnail_processing_status, id);
+CREATE INDEX idx_project_id ON images (project_id, id);
+
+CREATE TABLE image_tags (
+    image_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    tag VARCHAR(100) NOT NULL,
+    PRIMARY KEY (image_id, tag)
+);
+
+CREATE INDEX idx_image_tags_project_tag ON image_tags (project_id, tag, image_id);
+
+CREATE TABLE project_write_versions (
+    project_id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    filter_version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE data_migrations (
+    name VARCHAR(100) PRIMARY KEY,
+    completed_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE thumbnail_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    image_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    original_image_key VARCHAR(500),
+    original_filename VARCHAR(255),
+    mime_type VARCHAR(100),
+    retry_count INT NOT NULL DEFAULT 0,
+    requested_at TIMESTAMP,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    priority VARCHAR(10) NOT NULL DEFAULT 'NORMAL',
+    claim_token VARCHAR(36),
+    lease_owner VARCHAR(100),
+    lease_until TIMESTAMP NULL,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_outbox_dispatch ON thumbnail_outbox (status, priority, available_at, id);
+CREATE INDEX idx_outbox_claim_token ON thumbnail_outbox (claim_token);
+CREATE INDEX idx_outbox_lease ON thumbnail_outbox (status, lease_until);
+CREATE INDEX idx_outbox_image ON thumbnail_outbox (image_id);
+
+CREATE TABLE thumbnail_backfill_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    last_image_id BIGINT NOT NULL DEFAULT 0,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    total_count BIGINT NOT NULL DEFAULT 0,
+    resumed_at TIMESTAMP NULL,
+    processed_at_resume BIGINT NOT NULL DEFAULT 0,
+    completed_at_resume BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP NULL,
+    version BIGINT DEFAULT 0
 );
 
-CREATE INDEX idx_project_created ON images (project_id, created_at);
-CREATE INDEX idx_hash ON images (file_hash);
\ No newline at end of file
+CREATE INDEX idx_backfill_project_status ON thumbnail_backfill_jobs (project_id, status);
+CREATE INDEX idx_backfill_status ON thumbnail_backfill_jobs (status);
@@ -0,0 +1,78 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.domain.Cursor;
+import com.bound4.image.domain.CursorSortKey;
+import com.bound4.image.domain.SortDirection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("커서 토큰 서명 테스트")
+class CursorCodecTest {
+
+    private static final String SECRET = "test-cursor-signing-secret-0123456789";
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 1, 1, 12, 30, 15);
+
+    private final CursorCodec codec = new CursorCodec(SECRET);
+
+    @Test
+    @DisplayName("서명한 토큰은 URL-safe 문자열이고 같은 커서로 복원")
+    void roundTrip() {
+        // Given
+        Cursor cursor = Cursor.of(CursorSortKey.FILENAME, SortDirection.ASC, 300L, "고양이 사진.jpg", -1L);
+
+        // When
+        String token = codec.encode(cursor);
+
+        // Then
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(codec.decode(token)).isEqualTo(cursor);
+        assertThat(codec.encode(Cursor.of(1L, TIMESTAMP)).length()).isLessThan(40);
+    }
+
+    @Test
+    @DisplayName("변조된 토큰과 예전 문자열 커서는 거부")
+    void decode_RejectsTamperedToken() {
+        // Given
+        byte[] token = Base64.getUrlDecoder().decode(codec.encode(Cursor.of(42L, TIMESTAMP)));
+        token[2] ^= 0x01;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+        String legacy = Base64.getEncoder().encodeToString("42:2025-01-01T12:30:15".getBytes());
+
+        // When & Then
+        assertThatThrownBy(() -> codec.decode(tampered))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor signature");
+        assertThatThrownBy(() -> codec.decode(legacy)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode("a")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다른 서명 키로 발급된 커서는 거부")
+    void decode_RejectsOtherSecret() {
+        // Given
+        String token = new CursorCodec("other-node-cursor-signing-secret-0123").encode(Cursor.of(42L, TIMESTAMP));
+
+        // When & Then
+        assertThatThrownBy(() -> codec.decode(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor signature");
+    }
+
+    @Test
+    @DisplayName("서명 키가 없거나 짧으면 생성 실패")
+    void constructor_RejectsMissingOrShortSecret() {
+        assertThatThrownBy(() -> new CursorCodec(""))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new CursorCodec(null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new CursorCodec("short-secret"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("at least " + CursorCodec.MIN_SECRET_BYTES + " bytes");
+    }
+}
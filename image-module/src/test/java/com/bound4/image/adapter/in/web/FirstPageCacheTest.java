@@ -0,0 +1,133 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.adapter.out.persistence.ProjectWriteVersions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("첫 페이지 응답 캐시 테스트")
+class FirstPageCacheTest {
+
+    private static final Long PROJECT_ID = 10L;
+
+    private final Map<Long, Long> versions = new HashMap<>();
+    private final ProjectWriteVersions writeVersions = new ProjectWriteVersions(null) {
+        @Override
+        public Versions current(Long projectId) {
+            return new Versions(versions.getOrDefault(projectId, 0L), 0L);
+        }
+    };
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 버전/조건의 첫 페이지는 다시 조회하지 않고 같은 ETag로 응답")
+    void respond_CachesUntilVersionBump() {
+        // Given
+        FirstPageCache cache = new FirstPageCache(writeVersions, objectMapper, true, 60_000L, 100);
+        String variant = FirstPageCache.variant("offset", 20, "createdAt", "desc", null);
+
+        // When
+        ResponseEntity<?> first = cache.respond(PROJECT_ID, variant, loader(HttpStatus.OK));
+        ResponseEntity<?> second = cache.respond(PROJECT_ID, variant, loader(HttpStatus.OK));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(first.getHeaders().getETag()).startsWith("W/\"");
+        assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+        assertThat((byte[]) second.getBody()).isEqualTo((byte[]) first.getBody());
+
+        // When: 프로젝트 쓰기
+        bump(PROJECT_ID);
+        cache.respond(PROJECT_ID, variant, loader(HttpStatus.OK));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 프로젝트의 쓰기와 다른 조회 조건은 서로 영향 없음")
+    void respond_KeyedByProjectAndVariant() {
+        // Given
+        FirstPageCache cache = new FirstPageCache(writeVersions, objectMapper, true, 60_000L, 100);
+        cache.respond(PROJECT_ID, FirstPageCache.variant("offset", 20), loader(HttpStatus.OK));
+
+        // When
+        bump(20L);
+        cache.respond(PROJECT_ID, FirstPageCache.variant("offset", 20), loader(HttpStatus.OK));
+        cache.respond(PROJECT_ID, FirstPageCache.variant("offset", 50), loader(HttpStatus.OK));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패 응답은 캐시하지 않고 그대로 반환")
+    void respond_DoesNotCacheErrors() {
+        // Given
+        FirstPageCache cache = new FirstPageCache(writeVersions, objectMapper, true, 60_000L, 100);
+
+        // When
+        ResponseEntity<?> response = cache.respond(PROJECT_ID, "bad", loader(HttpStatus.BAD_REQUEST));
+        cache.respond(PROJECT_ID, "bad", loader(HttpStatus.BAD_REQUEST));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getHeaders().getETag()).isNull();
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("ETag는 응답 본문으로 계산하므로 캐시 만료 후에도 본문이 같으면 같은 값")
+    void etag_DependsOnBodyOnly() {
+        // Given
+        FirstPageCache expiring = new FirstPageCache(writeVersions, objectMapper, true, 0L, 100);
+
+        // When
+        ResponseEntity<?> first = expiring.respond(PROJECT_ID, "v", loader(HttpStatus.OK));
+        ResponseEntity<?> second = expiring.respond(PROJECT_ID, "v", loader(HttpStatus.OK));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+        assertThat(FirstPageCache.etag("a".getBytes())).isNotEqualTo(FirstPageCache.etag("b".getBytes()));
+    }
+
+    @Test
+    @DisplayName("비활성화하면 응답을 그대로 반환하고 항목 수는 max-entries로 제한")
+    void disabledAndBounded() {
+        // Given
+        FirstPageCache disabled = new FirstPageCache(writeVersions, objectMapper, false, 60_000L, 100);
+        FirstPageCache bounded = new FirstPageCache(writeVersions, objectMapper, true, 60_000L, 2);
+        ResponseEntity<Map<String, Object>> original = ResponseEntity.ok(Map.of("success", true));
+
+        // When & Then
+        assertThat(disabled.respond(PROJECT_ID, "v", () -> original)).isSameAs(original);
+        for (long projectId = 1; projectId <= 3; projectId++) {
+            bounded.respond(projectId, "v", loader(HttpStatus.OK));
+        }
+        assertThat(bounded.size()).isEqualTo(2);
+    }
+
+    private void bump(Long projectId) {
+        versions.merge(projectId, 1L, Long::sum);
+    }
+
+    private Supplier<ResponseEntity<?>> loader(HttpStatus status) {
+        return () -> {
+            loads.incrementAndGet();
+            return ResponseEntity.status(status).body(Map.of("success", status.is2xxSuccessful()));
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.RestDocsConfiguration;
+import com.bound4.image.application.port.in.ImageArchiveQuery;
+import com.bound4.image.application.port.in.ImageArchiveUseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ImageArchiveController.class)
+@AutoConfigureRestDocs
+@Import({RestDocsConfiguration.class, GlobalExceptionHandler.class})
+class ImageArchiveControllerRestDocsTest {
+    
+    private static final byte[] ARCHIVE = {'P', 'K', 5, 6};
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockitoBean
+    private ImageArchiveUseCase imageArchiveUseCase;
+    
+    @Test
+    void downloadArchive_Success() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(ARCHIVE);
+            return 2L;
+        }).when(imageArchiveUseCase).writeArchive(any(), any());
+        
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v2/images/projects/{projectId}/archive", 1L)
+                        .param("ids", "1,2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"project-1-images.zip\""))
+                .andExpect(content().bytes(ARCHIVE))
+                .andDo(document("download-image-archive",
+                    preprocessRequest(prettyPrint()),
+                    pathParameters(
+                        parameterWithName("projectId").description("프로젝트 ID")
+                    ),
+                    queryParameters(
+                        parameterWithName("ids").description("담을 이미지 ID 목록 (쉼표 구분, 최대 1000개, 생략하면 프로젝트 전체)").optional()
+                    )
+                ));
+        
+        verify(imageArchiveUseCase).writeArchive(argThat((ImageArchiveQuery query) ->
+                query.getProjectId().equals(1L) && query.getImageIds().equals(List.of(1L, 2L))), any());
+    }
+    
+    @Test
+    void downloadArchive_TooManyImages() throws Exception {
+        // Given
+        String ids = String.join(",", LongStream.rangeClosed(1, ImageArchiveQuery.MAX_IMAGES + 1)
+                .mapToObj(String::valueOf).toList());
+        
+        // When & Then
+        mockMvc.perform(get("/api/v2/images/projects/{projectId}/archive", 1L)
+                        .param("ids", ids))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Archive cannot contain more than 1000 selected images"));
+        
+        verifyNoInteractions(imageArchiveUseCase);
+    }
+}
@@ -1,6 +1,7 @@
 package com.bound4.image.adapter.in.web;
 
 import com.bound4.image.RestDocsConfiguration;
+import com.bound4.image.adapter.out.persistence.ProjectWriteVersions;
 import com.bound4.image.application.port.in.ImageListUseCase;
 import com.bound4.image.application.port.in.ImageUploadUseCase;
 import com.bound4.image.domain.*;
@@ -12,6 +13,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -29,7 +31,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(ImageController.class)
 @AutoConfigureRestDocs
-@Import(RestDocsConfiguration.class)
+@Import({RestDocsConfiguration.class, FirstPageCache.class})
+@TestPropertySource(properties = "image.first-page-cache.enabled=false")
 class ImageControllerRestDocsTest {
     
     @Autowired
@@ -41,6 +44,9 @@ class ImageControllerRestDocsTest {
     @MockitoBean
     private ImageListUseCase imageListUseCase;
 
+    @MockitoBean
+    private ProjectWriteVersions writeVersions;
+
     @Test
     void uploadImages_Success() throws Exception {
         // Given
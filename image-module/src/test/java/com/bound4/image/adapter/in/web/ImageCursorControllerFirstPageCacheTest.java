@@ -0,0 +1,95 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.adapter.out.persistence.ProjectWriteVersions;
+import com.bound4.image.application.port.in.ImageCursorListUseCase;
+import com.bound4.image.domain.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 첫 페이지 캐시를 켠 상태에서 컨트롤러 응답 확인 (다른 웹 테스트는 캐시를 끄고 실행)
+ */
+@WebMvcTest(ImageCursorController.class)
+@Import({FirstPageCache.class, CursorCodec.class})
+@TestPropertySource(properties = {"image.first-page-cache.enabled=true", "image.cursor.secret=test-cursor-signing-secret-0123456789"})
+@DisplayName("이미지 Cursor 목록 첫 페이지 캐시 테스트")
+class ImageCursorControllerFirstPageCacheTest {
+
+    private static final Long PROJECT_ID = 100L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ImageCursorListUseCase imageCursorListUseCase;
+
+    @MockitoBean
+    private ProjectWriteVersions writeVersions;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        ImageSummary image = new ImageSummary(ImageId.of(1L), ProjectId.of(PROJECT_ID), "test1.jpg", 1024L, "image/jpeg",
+                ImageStatus.READY, null, "Test image 1", null, null, now, now);
+        when(imageCursorListUseCase.getImagesCursorBased(any())).thenReturn(
+                new ImageCursorListUseCase.CursorPageResult<>(List.of(image), PageInfo.of(false, false, null, null, 20, 1)));
+        when(writeVersions.current(PROJECT_ID)).thenReturn(new ProjectWriteVersions.Versions(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("같은 쓰기 버전의 첫 페이지는 다시 조회하지 않고 ETag가 일치하면 304")
+    void firstPage_ServedFromCache() throws Exception {
+        // When
+        String etag = mockMvc.perform(get("/api/v2/images/projects/{projectId}", PROJECT_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v2/images/projects/{projectId}", PROJECT_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(jsonPath("$.data.content[0].id").value(1));
+
+        mockMvc.perform(get("/api/v2/images/projects/{projectId}", PROJECT_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Then
+        verify(imageCursorListUseCase, times(1)).getImagesCursorBased(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 쓰기로 공유 버전이 바뀌면 다시 조회")
+    void firstPage_ReloadedAfterVersionChange() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/v2/images/projects/{projectId}", PROJECT_ID))
+                .andExpect(status().isOk());
+
+        // When
+        when(writeVersions.current(PROJECT_ID)).thenReturn(new ProjectWriteVersions.Versions(2L, 1L));
+        mockMvc.perform(get("/api/v2/images/projects/{projectId}", PROJECT_ID))
+                .andExpect(status().isOk());
+
+        // Then
+        verify(imageCursorListUseCase, times(2)).getImagesCursorBased(any());
+    }
+}
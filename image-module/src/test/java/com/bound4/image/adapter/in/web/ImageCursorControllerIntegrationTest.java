@@ -1,5 +1,6 @@
 package com.bound4.image.adapter.in.web;
 
+import com.bound4.image.adapter.out.persistence.ProjectWriteVersions;
 import com.bound4.image.application.port.in.ImageCursorListUseCase;
 import com.bound4.image.domain.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -8,7 +9,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -17,57 +20,47 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ImageCursorController.class)
+@Import({FirstPageCache.class, CursorCodec.class})
+@TestPropertySource(properties = {"image.first-page-cache.enabled=false", "image.cursor.secret=test-cursor-signing-secret-0123456789"})
 @DisplayName("이미지 Cursor 페이징 컨트롤러 통합 테스트")
 class ImageCursorControllerIntegrationTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private CursorCodec cursorCodec;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     @MockitoBean
     private ImageCursorListUseCase imageCursorListUseCase;
 
-    private Image sampleImage1;
-    private Image sampleImage2;
+    @MockitoBean
+    private ProjectWriteVersions writeVersions;
+
+    private ImageSummary sampleImage1;
+    private ImageSummary sampleImage2;
     private Cursor sampleCursor;
 
     @BeforeEach
     void setUp() {
         LocalDateTime now = LocalDateTime.now();
         
-        sampleImage1 = new Image(
-                ProjectId.of(100L),
-                "test1.jpg",
-                FileHash.of("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855"),
-                1024L,
-                "image/jpeg",
-                "original1.jpg");
-        sampleImage1.setId(ImageId.of(1L));
-        sampleImage1.setThumbnailKey("thumb1.jpg");
-        sampleImage1.updateStatus(ImageStatus.READY);
-        sampleImage1.updateMemo("Test image 1");
-        sampleImage1.setVersion(1L);
-
-        sampleImage2 = new Image(
-                ProjectId.of(100L),
-                "test2.jpg",
-                FileHash.of("2c26b46b68ffc68ff99b453c1d30413413422d706483bfa0f98a5e886266e7ae"),
-                2048L,
-                "image/jpeg",
-                "original2.jpg");
-        sampleImage2.setId(ImageId.of(2L));
-        sampleImage2.setThumbnailKey("thumb2.jpg");
-        sampleImage2.updateStatus(ImageStatus.READY);
-        sampleImage2.updateMemo("Test image 2");
-        sampleImage2.setVersion(1L);
+        sampleImage1 = new ImageSummary(ImageId.of(1L), ProjectId.of(100L), "test1.jpg", 1024L, "image/jpeg",
+                ImageStatus.READY, null, "Test image 1", null, null, now.minusMinutes(2), now.minusMinutes(2));
+
+        sampleImage2 = new ImageSummary(ImageId.of(2L), ProjectId.of(100L), "test2.jpg", 2048L, "image/jpeg",
+                ImageStatus.READY, null, "Test image 2", null, null, now.minusMinutes(1), now.minusMinutes(1));
 
         sampleCursor = Cursor.of(1L, now.minusHours(1));
     }
@@ -76,10 +69,10 @@ class ImageCursorControllerIntegrationTest {
     @DisplayName("커서 기반 이미지 목록 조회 - 성공")
     void getImagesCursorBased_Success() throws Exception {
         // Given
-        List<Image> images = Arrays.asList(sampleImage1, sampleImage2);
+        List<ImageSummary> images = Arrays.asList(sampleImage1, sampleImage2);
         PageInfo pageInfo = PageInfo.of(true, false, 
                 Cursor.of(2L, LocalDateTime.now()), null, 20, 2);
-        ImageCursorListUseCase.CursorPageResult<Image> result = 
+        ImageCursorListUseCase.CursorPageResult<ImageSummary> result = 
                 new ImageCursorListUseCase.CursorPageResult<>(images, pageInfo);
 
         when(imageCursorListUseCase.getImagesCursorBased(any())).thenReturn(result);
@@ -104,17 +97,17 @@ class ImageCursorControllerIntegrationTest {
     @DisplayName("커서 기반 이미지 목록 조회 - 커서 포함")
     void getImagesCursorBased_WithCursor() throws Exception {
         // Given
-        List<Image> images = Arrays.asList(sampleImage2);
+        List<ImageSummary> images = Arrays.asList(sampleImage2);
         PageInfo pageInfo = PageInfo.of(false, true, null, 
                 Cursor.of(1L, LocalDateTime.now()), 20, 1);
-        ImageCursorListUseCase.CursorPageResult<Image> result = 
+        ImageCursorListUseCase.CursorPageResult<ImageSummary> result = 
                 new ImageCursorListUseCase.CursorPageResult<>(images, pageInfo);
 
         when(imageCursorListUseCase.getImagesCursorBased(any())).thenReturn(result);
 
         // When & Then
         mockMvc.perform(get("/api/v2/images/projects/100")
-                .param("cursor", sampleCursor.getEncodedValue())
+                .param("cursor", cursorCodec.encode(sampleCursor))
                 .param("size", "20")
                 .param("direction", "desc")
                 .param("sortBy", "createdAt"))
@@ -131,9 +124,9 @@ class ImageCursorControllerIntegrationTest {
     @DisplayName("커서 기반 이미지 목록 조회 - 필터 조건 포함")
     void getImagesCursorBased_WithFilters() throws Exception {
         // Given
-        List<Image> images = Arrays.asList(sampleImage1);
+        List<ImageSummary> images = Arrays.asList(sampleImage1);
         PageInfo pageInfo = PageInfo.of(false, false, null, null, 20, 1);
-        ImageCursorListUseCase.CursorPageResult<Image> result = 
+        ImageCursorListUseCase.CursorPageResult<ImageSummary> result = 
                 new ImageCursorListUseCase.CursorPageResult<>(images, pageInfo);
 
         when(imageCursorListUseCase.getImagesCursorBased(any())).thenReturn(result);
@@ -151,6 +144,29 @@ class ImageCursorControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.content.length()").value(1));
     }
 
+    @Test
+    @DisplayName("커서 기반 이미지 목록 조회 - 모든 태그 일치 조건")
+    void getImagesCursorBased_TagMatchAll() throws Exception {
+        // Given
+        PageInfo pageInfo = PageInfo.of(false, false, null, null, 20, 0);
+        when(imageCursorListUseCase.getImagesCursorBased(argThat(query ->
+                query.getTagMatch() == TagMatchMode.ALL && query.getTags().equals(List.of("cat", "dog")))))
+                .thenReturn(new ImageCursorListUseCase.CursorPageResult<>(List.of(), pageInfo));
+
+        // When & Then
+        mockMvc.perform(get("/api/v2/images/projects/100")
+                .param("tags", "cat,dog")
+                .param("tagMatch", "all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        mockMvc.perform(get("/api/v2/images/projects/100")
+                .param("tags", "cat")
+                .param("tagMatch", "some"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
     @Test
     @DisplayName("커서 기반 이미지 목록 조회 - 잘못된 커서 형식")
     void getImagesCursorBased_InvalidCursor() throws Exception {
@@ -164,6 +180,24 @@ class ImageCursorControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").value("Invalid cursor format"));
     }
 
+    @Test
+    @DisplayName("커서 기반 이미지 목록 조회 - 다른 정렬 기준으로 발급된 커서")
+    void getImagesCursorBased_CursorForDifferentSort() throws Exception {
+        // Given: 생성 시각 내림차순 커서로 파일명 정렬 요청
+        String cursor = cursorCodec.encode(Cursor.of(1L, LocalDateTime.now()));
+
+        // When & Then
+        mockMvc.perform(get("/api/v2/images/projects/100")
+                .param("cursor", cursor)
+                .param("sortBy", "filename")
+                .param("direction", "asc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Cursor was issued for a different sort order"));
+
+        verifyNoInteractions(imageCursorListUseCase);
+    }
+
     @Test
     @DisplayName("커서 기반 이미지 목록 조회 - 잘못된 상태값")
     void getImagesCursorBased_InvalidStatus() throws Exception {
@@ -1,6 +1,7 @@
 package com.bound4.image.adapter.in.web;
 
 import com.bound4.image.RestDocsConfiguration;
+import com.bound4.image.adapter.out.persistence.ProjectWriteVersions;
 import com.bound4.image.application.port.in.ImageCursorListUseCase;
 import com.bound4.image.domain.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,6 +12,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -32,35 +34,38 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(ImageCursorController.class)
 @AutoConfigureRestDocs
-@Import({RestDocsConfiguration.class, GlobalExceptionHandler.class})
+@Import({RestDocsConfiguration.class, GlobalExceptionHandler.class, FirstPageCache.class, CursorCodec.class})
+@TestPropertySource(properties = {"image.first-page-cache.enabled=false", "image.cursor.secret=test-cursor-signing-secret-0123456789"})
 class ImageCursorControllerRestDocsTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private CursorCodec cursorCodec;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     @MockitoBean
     private ImageCursorListUseCase imageCursorListUseCase;
 
+    @MockitoBean
+    private ProjectWriteVersions writeVersions;
+
     @Test
     void getImagesCursorBased_Success() throws Exception {
         // Given
-        Image sampleImage = new Image(
-                ProjectId.of(100L),
-                "test.jpg",
-                FileHash.of("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855"),
-                1024L,
-                "image/jpeg",
-                "original.jpg");
-        sampleImage.setId(ImageId.of(1L));
-
-        List<Image> images = Arrays.asList(sampleImage);
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
+        ImageSummary sampleImage = new ImageSummary(ImageId.of(1L), ProjectId.of(100L), "test.jpg", 1024L, "image/jpeg",
+                ImageStatus.READY, List.of("cat", "outdoor"), null, ImageMetadata.of(1920, 1080),
+                "LEHV6nWB2yk8pyo0adR*.7kCMdnj", createdAt, createdAt);
+
+        List<ImageSummary> images = Arrays.asList(sampleImage);
         PageInfo pageInfo = PageInfo.of(true, false, 
                 Cursor.of(1L, LocalDateTime.now()), null, 20, 1);
         
-        ImageCursorListUseCase.CursorPageResult<Image> result = 
+        ImageCursorListUseCase.CursorPageResult<ImageSummary> result = 
                 new ImageCursorListUseCase.CursorPageResult<>(images, pageInfo);
 
         when(imageCursorListUseCase.getImagesCursorBased(any())).thenReturn(result);
@@ -80,7 +85,7 @@ class ImageCursorControllerRestDocsTest {
                         queryParameters(
                                 parameterWithName("size").description("페이지 크기 (1-100, 기본값: 20)").optional(),
                                 parameterWithName("direction").description("정렬 방향 (asc/desc, 기본값: desc)").optional(),
-                                parameterWithName("sortBy").description("정렬 기준 (createdAt/updatedAt, 기본값: createdAt)").optional()
+                                parameterWithName("sortBy").description("정렬 기준 (createdAt/updatedAt/filename/fileSize, 기본값: createdAt)").optional()
                         ),
                         responseFields(
                                 fieldWithPath("success").type(JsonFieldType.BOOLEAN).description("요청 성공 여부"),
@@ -94,6 +99,11 @@ class ImageCursorControllerRestDocsTest {
                                 fieldWithPath("data.content[].status").type(JsonFieldType.STRING).description("이미지 상태"),
                                 fieldWithPath("data.content[].tags").type(JsonFieldType.ARRAY).description("태그 목록").optional(),
                                 fieldWithPath("data.content[].memo").type(JsonFieldType.STRING).description("메모").optional(),
+                                fieldWithPath("data.content[].width").type(JsonFieldType.NUMBER).description("표시 가로 크기 (EXIF 방향 적용, 픽셀)").optional(),
+                                fieldWithPath("data.content[].height").type(JsonFieldType.NUMBER).description("표시 세로 크기 (EXIF 방향 적용, 픽셀)").optional(),
+                                fieldWithPath("data.content[].orientation").type(JsonFieldType.NUMBER).description("EXIF 방향 (1~8)").optional(),
+                                fieldWithPath("data.content[].frameCount").type(JsonFieldType.NUMBER).description("프레임 수 (애니메이션이면 2 이상)").optional(),
+                                fieldWithPath("data.content[].placeholder").type(JsonFieldType.STRING).description("BlurHash 자리표시자 (썸네일 생성 전이면 null)").optional(),
                                 fieldWithPath("data.content[].cursor").type(JsonFieldType.STRING).description("커서 토큰"),
                                 fieldWithPath("data.content[].createdAt").type(JsonFieldType.STRING).description("생성 시간"),
                                 fieldWithPath("data.content[].updatedAt").type(JsonFieldType.STRING).description("수정 시간"),
@@ -112,25 +122,20 @@ class ImageCursorControllerRestDocsTest {
     @Test
     void getImagesCursorBased_WithCursor() throws Exception {
         // Given
-        Image sampleImage = new Image(
-                ProjectId.of(100L),
-                "test.jpg",
-                FileHash.of("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855"),
-                1024L,
-                "image/jpeg",
-                "original.jpg");
-        sampleImage.setId(ImageId.of(2L));
-
-        List<Image> images = Arrays.asList(sampleImage);
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(2);
+        ImageSummary sampleImage = new ImageSummary(ImageId.of(2L), ProjectId.of(100L), "test.jpg", 1024L, "image/jpeg",
+                ImageStatus.READY, null, null, null, null, createdAt, createdAt);
+
+        List<ImageSummary> images = Arrays.asList(sampleImage);
         PageInfo pageInfo = PageInfo.of(false, true, null, 
                 Cursor.of(1L, LocalDateTime.now()), 20, 1);
         
-        ImageCursorListUseCase.CursorPageResult<Image> result = 
+        ImageCursorListUseCase.CursorPageResult<ImageSummary> result = 
                 new ImageCursorListUseCase.CursorPageResult<>(images, pageInfo);
 
         when(imageCursorListUseCase.getImagesCursorBased(any())).thenReturn(result);
 
-        String cursorToken = Cursor.of(1L, LocalDateTime.now()).getEncodedValue();
+        String cursorToken = cursorCodec.encode(Cursor.of(1L, LocalDateTime.now()));
 
         mockMvc.perform(get("/api/v2/images/projects/{projectId}", 100L)
                         .param("cursor", cursorToken)
@@ -162,6 +167,11 @@ class ImageCursorControllerRestDocsTest {
                                 fieldWithPath("data.content[].status").type(JsonFieldType.STRING).description("이미지 상태"),
                                 fieldWithPath("data.content[].tags").type(JsonFieldType.ARRAY).description("태그 목록").optional(),
                                 fieldWithPath("data.content[].memo").type(JsonFieldType.STRING).description("메모").optional(),
+                                fieldWithPath("data.content[].width").type(JsonFieldType.NUMBER).description("표시 가로 크기 (EXIF 방향 적용, 픽셀)").optional(),
+                                fieldWithPath("data.content[].height").type(JsonFieldType.NUMBER).description("표시 세로 크기 (EXIF 방향 적용, 픽셀)").optional(),
+                                fieldWithPath("data.content[].orientation").type(JsonFieldType.NUMBER).description("EXIF 방향 (1~8)").optional(),
+                                fieldWithPath("data.content[].frameCount").type(JsonFieldType.NUMBER).description("프레임 수 (애니메이션이면 2 이상)").optional(),
+                                fieldWithPath("data.content[].placeholder").type(JsonFieldType.STRING).description("BlurHash 자리표시자 (썸네일 생성 전이면 null)").optional(),
                                 fieldWithPath("data.content[].cursor").type(JsonFieldType.STRING).description("커서 토큰"),
                                 fieldWithPath("data.content[].createdAt").type(JsonFieldType.STRING).description("생성 시간"),
                                 fieldWithPath("data.content[].updatedAt").type(JsonFieldType.STRING).description("수정 시간"),
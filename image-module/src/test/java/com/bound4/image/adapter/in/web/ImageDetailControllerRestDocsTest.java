@@ -18,15 +18,21 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -65,6 +71,8 @@ class ImageDetailControllerRestDocsTest {
                 .andExpect(jsonPath("$.data.filename").value("sample.jpg"))
                 .andExpect(jsonPath("$.data.originalImageUrl").value("/images/1/original"))
                 .andExpect(jsonPath("$.data.thumbnailUrl").value("/images/1/thumbnail"))
+                .andExpect(jsonPath("$.data.width").value(3000))
+                .andExpect(jsonPath("$.data.height").value(4000))
                 .andDo(document("get-image-detail",
                     preprocessRequest(prettyPrint()),
                     preprocessResponse(prettyPrint()),
@@ -82,6 +90,10 @@ class ImageDetailControllerRestDocsTest {
                         fieldWithPath("data.status").type(JsonFieldType.STRING).description("이미지 상태"),
                         fieldWithPath("data.tags").type(JsonFieldType.ARRAY).description("태그 목록"),
                         fieldWithPath("data.memo").type(JsonFieldType.STRING).description("메모"),
+                        fieldWithPath("data.width").type(JsonFieldType.NUMBER).description("표시 가로 크기 (EXIF 방향 적용, 픽셀)").optional(),
+                        fieldWithPath("data.height").type(JsonFieldType.NUMBER).description("표시 세로 크기 (EXIF 방향 적용, 픽셀)").optional(),
+                        fieldWithPath("data.orientation").type(JsonFieldType.NUMBER).description("EXIF 방향 (1~8)").optional(),
+                        fieldWithPath("data.frameCount").type(JsonFieldType.NUMBER).description("프레임 수 (애니메이션이면 2 이상)").optional(),
                         fieldWithPath("data.originalImageUrl").type(JsonFieldType.STRING).description("원본 이미지 URL"),
                         fieldWithPath("data.thumbnailUrl").type(JsonFieldType.STRING).description("썸네일 이미지 URL"),
                         fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("생성 시간 (ISO 8601 형식)"),
@@ -91,6 +103,49 @@ class ImageDetailControllerRestDocsTest {
                 ));
     }
     
+    @Test
+    void getImageDetails_Batch() throws Exception {
+        // Given: 2번 이미지는 없거나 삭제됨
+        when(imageDetailUseCase.getImageDetails(any())).thenReturn(Map.of(1L, createMockImage()));
+        
+        // When & Then
+        mockMvc.perform(get("/images/batch")
+                        .param("ids", "2,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.items[0].id").value(2))
+                .andExpect(jsonPath("$.data.items[0].found").value(false))
+                .andExpect(jsonPath("$.data.items[1].id").value(1))
+                .andExpect(jsonPath("$.data.items[1].found").value(true))
+                .andExpect(jsonPath("$.data.items[1].image.filename").value("sample.jpg"))
+                .andDo(document("get-image-details-batch",
+                    preprocessRequest(prettyPrint()),
+                    preprocessResponse(prettyPrint()),
+                    queryParameters(
+                        parameterWithName("ids").description("이미지 ID 목록 (쉼표 구분, 최대 200개, 중복은 한 번만 응답)")
+                    ),
+                    responseFields(
+                        fieldWithPath("success").type(JsonFieldType.BOOLEAN).description("API 호출 성공 여부"),
+                        fieldWithPath("data").type(JsonFieldType.OBJECT).description("일괄 조회 결과"),
+                        fieldWithPath("data.items").type(JsonFieldType.ARRAY).description("요청 순서대로의 이미지별 결과"),
+                        fieldWithPath("data.items[].id").type(JsonFieldType.NUMBER).description("이미지 ID"),
+                        fieldWithPath("data.items[].found").type(JsonFieldType.BOOLEAN).description("이미지 존재 여부 (없거나 삭제된 이미지는 false)"),
+                        subsectionWithPath("data.items[].image").type(JsonFieldType.OBJECT).description("이미지 상세 정보 (단건 상세 조회의 data와 같음, 없는 이미지는 null)").optional(),
+                        fieldWithPath("message").type(JsonFieldType.NULL).description("메시지 (성공 시 null)")
+                    )
+                ));
+        
+        verify(imageDetailUseCase).getImageDetails(argThat(query -> query.getImageIds().equals(List.of(2L, 1L))));
+    }
+    
+    @Test
+    void getImageDetails_EmptyIds() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/images/batch")
+                        .param("ids", ""))
+                .andExpect(status().isBadRequest());
+    }
+    
     @Test
     void getImageDetail_NotFound() throws Exception {
         // Given
@@ -178,6 +233,7 @@ class ImageDetailControllerRestDocsTest {
         image.setThumbnailKey("projects/123/images/thumbnail/" + fileHash.value() + "_thumbnail");
         image.updateTags(new HashMap<>());
         image.updateMemo("Test memo");
+        image.updateMetadata(new ImageMetadata(4000, 3000, 6, 1));
         
         return image;
     }
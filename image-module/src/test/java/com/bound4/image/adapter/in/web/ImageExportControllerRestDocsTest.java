@@ -0,0 +1,148 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.RestDocsConfiguration;
+import com.bound4.image.application.port.in.ImageExportQuery;
+import com.bound4.image.application.port.in.ImageExportUseCase;
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.ImageMetadata;
+import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.ImageSummary;
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.TagMatchMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ImageExportController.class)
+@AutoConfigureRestDocs
+@Import({RestDocsConfiguration.class, GlobalExceptionHandler.class})
+class ImageExportControllerRestDocsTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ImageExportUseCase imageExportUseCase;
+
+    @Test
+    void exportImages_Ndjson() throws Exception {
+        // Given
+        givenExportedImages(
+                image(1L, "cat.jpg", List.of("cat", "pet"), new ImageMetadata(640, 480, 1, 1)),
+                image(2L, "note.png", null, null));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v2/images/projects/{projectId}/export", 1L)
+                        .param("format", "ndjson")
+                        .param("status", "ready")
+                        .param("tags", "cat,pet")
+                        .param("tagMatch", "all"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"project-1-images.ndjson\""))
+                .andExpect(content().string(
+                        "{\"id\":1,\"projectId\":1,\"filename\":\"cat.jpg\",\"fileSize\":1024,\"mimeType\":\"image/jpeg\"," +
+                        "\"status\":\"READY\",\"tags\":[\"cat\",\"pet\"],\"memo\":null,\"width\":640,\"height\":480," +
+                        "\"orientation\":1,\"frameCount\":1,\"placeholder\":null," +
+                        "\"createdAt\":\"2025-01-01T12:00\",\"updatedAt\":\"2025-01-01T12:00\"}\n" +
+                        "{\"id\":2,\"projectId\":1,\"filename\":\"note.png\",\"fileSize\":2048,\"mimeType\":\"image/jpeg\"," +
+                        "\"status\":\"READY\",\"tags\":[],\"memo\":null,\"placeholder\":null," +
+                        "\"createdAt\":\"2025-01-01T12:00\",\"updatedAt\":\"2025-01-01T12:00\"}\n"))
+                .andDo(document("export-images",
+                    preprocessRequest(prettyPrint()),
+                    pathParameters(
+                        parameterWithName("projectId").description("프로젝트 ID")
+                    ),
+                    queryParameters(
+                        parameterWithName("format").description("내보내기 형식 (ndjson, csv, 기본값: ndjson)").optional(),
+                        parameterWithName("status").description("상태 필터 (READY, PROCESSING 등)").optional(),
+                        parameterWithName("tags").description("태그 필터 (쉼표 구분)").optional(),
+                        parameterWithName("tagMatch").description("태그 일치 방식 (any, all, 기본값: any)").optional()
+                    )
+                ));
+
+        verify(imageExportUseCase).exportImages(argThat((ImageExportQuery query) ->
+                query.getProjectId().equals(1L)
+                        && query.getStatus() == ImageStatus.READY
+                        && query.getTags().equals(List.of("cat", "pet"))
+                        && query.getTagMatch() == TagMatchMode.ALL), any());
+    }
+
+    @Test
+    void exportImages_Csv() throws Exception {
+        // Given
+        givenExportedImages(image(3L, "a,\"b\".jpg", List.of("cat", "pet"), null));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v2/images/projects/{projectId}/export", 1L)
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"project-1-images.csv\""))
+                .andExpect(content().string(
+                        "id,projectId,filename,fileSize,mimeType,status,tags,memo,width,height,orientation,frameCount," +
+                        "placeholder,createdAt,updatedAt\r\n" +
+                        "3,1,\"a,\"\"b\"\".jpg\",3072,image/jpeg,READY,cat;pet,,,,,,,2025-01-01T12:00,2025-01-01T12:00\r\n"));
+    }
+
+    @Test
+    void exportImages_InvalidFormat() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v2/images/projects/{projectId}/export", 1L)
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Invalid export format: xml"));
+
+        verifyNoInteractions(imageExportUseCase);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenExportedImages(ImageSummary... images) {
+        doAnswer(invocation -> {
+            Consumer<ImageSummary> consumer = invocation.getArgument(1);
+            for (ImageSummary image : images) {
+                consumer.accept(image);
+            }
+            return (long) images.length;
+        }).when(imageExportUseCase).exportImages(any(), any(Consumer.class));
+    }
+
+    private static ImageSummary image(Long id, String filename, List<String> tags, ImageMetadata metadata) {
+        return new ImageSummary(ImageId.of(id), ProjectId.of(1L), filename, 1024L * id, "image/jpeg",
+                ImageStatus.READY, tags, null, metadata, null, CREATED_AT, CREATED_AT);
+    }
+}
@@ -2,6 +2,7 @@ package com.bound4.image.adapter.in.web;
 
 import com.bound4.image.RestDocsConfiguration;
 import com.bound4.image.adapter.out.persistence.ImageQueryRepository;
+import com.bound4.image.adapter.out.persistence.ProjectWriteVersions;
 import com.bound4.image.application.port.in.ImageListUseCase;
 import com.bound4.image.application.port.in.ImageUploadUseCase;
 import com.bound4.image.domain.ImageStatus;
@@ -15,6 +16,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -34,7 +36,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(ImageController.class)
 @AutoConfigureRestDocs
-@Import(RestDocsConfiguration.class)
+@Import({RestDocsConfiguration.class, FirstPageCache.class})
+@TestPropertySource(properties = "image.first-page-cache.enabled=false")
 class ImageListControllerRestDocsTest {
     
     @Autowired
@@ -45,7 +48,10 @@ class ImageListControllerRestDocsTest {
     
     @MockitoBean
     private ImageUploadUseCase imageUploadUseCase;
-    
+
+    @MockitoBean
+    private ProjectWriteVersions writeVersions;
+
     @Test
     void getImages_Success() throws Exception {
         // Given
@@ -53,8 +59,8 @@ class ImageListControllerRestDocsTest {
             createProjection(1L, "sample1.jpg", ImageStatus.READY, "nature,landscape"),
             createProjection(2L, "sample2.png", ImageStatus.PROCESSING, "portrait,indoor")
         );
-        Page<ImageQueryRepository.ImageListProjection> page = new PageImpl<>(
-            projections, PageRequest.of(0, 20), 150L
+        Page<ImageQueryRepository.ImageListProjection> page = new ImageQueryRepository.ImageListPage(
+            projections, PageRequest.of(0, 20), 150L, false
         );
         
         when(imageListUseCase.getImageList(any())).thenReturn(page);
@@ -65,6 +71,8 @@ class ImageListControllerRestDocsTest {
                 .param("size", "20")
                 .param("status", "READY")
                 .param("tags", "nature,landscape")
+                .param("tagMatch", "any")
+                .param("count", "estimate")
                 .param("sort", "createdAt")
                 .param("direction", "desc"))
                 .andExpect(status().isOk())
@@ -79,6 +87,7 @@ class ImageListControllerRestDocsTest {
                 .andExpect(jsonPath("$.data.pageable.size").value(20))
                 .andExpect(jsonPath("$.data.pageable.totalElements").value(150))
                 .andExpect(jsonPath("$.data.pageable.totalPages").value(8))
+                .andExpect(jsonPath("$.data.pageable.totalExact").value(false))
                 .andDo(document("get-images-list",
                     preprocessRequest(prettyPrint()),
                     preprocessResponse(prettyPrint()),
@@ -89,8 +98,10 @@ class ImageListControllerRestDocsTest {
                         parameterWithName("page").description("페이지 번호 (기본값: 0)").optional(),
                         parameterWithName("size").description("페이지 크기 (기본값: 20, 최대: 100)").optional(),
                         parameterWithName("status").description("이미지 상태 필터 (READY, PROCESSING, FAILED)").optional(),
-                        parameterWithName("tags").description("태그 필터 (콤마로 구분된 문자열)").optional(),
-                        parameterWithName("sort").description("정렬 기준 (createdAt, updatedAt, filename)").optional(),
+                        parameterWithName("tags").description("태그 필터 (콤마로 구분된 문자열, 태그 이름 완전 일치)").optional(),
+                        parameterWithName("tagMatch").description("태그 일치 조건 (any: 하나라도 일치, all: 모두 일치, 기본값: any)").optional(),
+                        parameterWithName("count").description("전체 개수 계산 방식 (exact: 정확한 개수, estimate: 프로젝트 카운터 추정치, none: 계산 안 함, 기본값: exact)").optional(),
+                        parameterWithName("sort").description("정렬 기준 (createdAt, updatedAt, filename, fileSize)").optional(),
                         parameterWithName("direction").description("정렬 방향 (asc, desc)").optional()
                     ),
                     responseFields(
@@ -105,12 +116,18 @@ class ImageListControllerRestDocsTest {
                         fieldWithPath("data.content[].status").type(JsonFieldType.STRING).description("이미지 상태"),
                         fieldWithPath("data.content[].tags").type(JsonFieldType.ARRAY).description("태그 목록"),
                         fieldWithPath("data.content[].memo").type(JsonFieldType.STRING).description("메모").optional(),
+                        fieldWithPath("data.content[].width").type(JsonFieldType.NUMBER).description("표시 가로 크기 (EXIF 방향 적용, 픽셀)").optional(),
+                        fieldWithPath("data.content[].height").type(JsonFieldType.NUMBER).description("표시 세로 크기 (EXIF 방향 적용, 픽셀)").optional(),
+                        fieldWithPath("data.content[].orientation").type(JsonFieldType.NUMBER).description("EXIF 방향 (1~8)").optional(),
+                        fieldWithPath("data.content[].frameCount").type(JsonFieldType.NUMBER).description("프레임 수 (애니메이션이면 2 이상)").optional(),
+                        fieldWithPath("data.content[].placeholder").type(JsonFieldType.STRING).description("BlurHash 자리표시자 (썸네일 생성 전이면 null)").optional(),
                         fieldWithPath("data.content[].createdAt").type(JsonFieldType.STRING).description("생성 시간 (ISO 8601 형식)"),
                         fieldWithPath("data.pageable").type(JsonFieldType.OBJECT).description("페이징 정보"),
                         fieldWithPath("data.pageable.page").type(JsonFieldType.NUMBER).description("현재 페이지 번호"),
                         fieldWithPath("data.pageable.size").type(JsonFieldType.NUMBER).description("페이지 크기"),
                         fieldWithPath("data.pageable.totalElements").type(JsonFieldType.NUMBER).description("전체 요소 수"),
-                        fieldWithPath("data.pageable.totalPages").type(JsonFieldType.NUMBER).description("전체 페이지 수")
+                        fieldWithPath("data.pageable.totalPages").type(JsonFieldType.NUMBER).description("전체 페이지 수"),
+                        fieldWithPath("data.pageable.totalExact").type(JsonFieldType.BOOLEAN).description("전체 개수가 정확한지 (추정치나 하한이면 false)")
                     )
                 ));
     }
@@ -153,12 +170,18 @@ class ImageListControllerRestDocsTest {
                         fieldWithPath("data.content[].status").type(JsonFieldType.STRING).description("이미지 상태"),
                         fieldWithPath("data.content[].tags").type(JsonFieldType.ARRAY).description("태그 목록"),
                         fieldWithPath("data.content[].memo").type(JsonFieldType.STRING).description("메모").optional(),
+                        fieldWithPath("data.content[].width").type(JsonFieldType.NUMBER).description("표시 가로 크기 (EXIF 방향 적용, 픽셀)").optional(),
+                        fieldWithPath("data.content[].height").type(JsonFieldType.NUMBER).description("표시 세로 크기 (EXIF 방향 적용, 픽셀)").optional(),
+                        fieldWithPath("data.content[].orientation").type(JsonFieldType.NUMBER).description("EXIF 방향 (1~8)").optional(),
+                        fieldWithPath("data.content[].frameCount").type(JsonFieldType.NUMBER).description("프레임 수 (애니메이션이면 2 이상)").optional(),
+                        fieldWithPath("data.content[].placeholder").type(JsonFieldType.STRING).description("BlurHash 자리표시자 (썸네일 생성 전이면 null)").optional(),
                         fieldWithPath("data.content[].createdAt").type(JsonFieldType.STRING).description("생성 시간 (ISO 8601 형식)"),
                         fieldWithPath("data.pageable").type(JsonFieldType.OBJECT).description("페이징 정보"),
                         fieldWithPath("data.pageable.page").type(JsonFieldType.NUMBER).description("현재 페이지 번호"),
                         fieldWithPath("data.pageable.size").type(JsonFieldType.NUMBER).description("페이지 크기"),
                         fieldWithPath("data.pageable.totalElements").type(JsonFieldType.NUMBER).description("전체 요소 수"),
-                        fieldWithPath("data.pageable.totalPages").type(JsonFieldType.NUMBER).description("전체 페이지 수")
+                        fieldWithPath("data.pageable.totalPages").type(JsonFieldType.NUMBER).description("전체 페이지 수"),
+                        fieldWithPath("data.pageable.totalExact").type(JsonFieldType.BOOLEAN).description("전체 개수가 정확한지 (추정치나 하한이면 false)")
                     )
                 ));
     }
@@ -195,7 +218,8 @@ class ImageListControllerRestDocsTest {
                         fieldWithPath("data.pageable.page").type(JsonFieldType.NUMBER).description("현재 페이지 번호"),
                         fieldWithPath("data.pageable.size").type(JsonFieldType.NUMBER).description("페이지 크기"),
                         fieldWithPath("data.pageable.totalElements").type(JsonFieldType.NUMBER).description("전체 요소 수 (0)"),
-                        fieldWithPath("data.pageable.totalPages").type(JsonFieldType.NUMBER).description("전체 페이지 수")
+                        fieldWithPath("data.pageable.totalPages").type(JsonFieldType.NUMBER).description("전체 페이지 수"),
+                        fieldWithPath("data.pageable.totalExact").type(JsonFieldType.BOOLEAN).description("전체 개수가 정확한지 (추정치나 하한이면 false)")
                     )
                 ));
     }
@@ -205,7 +229,8 @@ class ImageListControllerRestDocsTest {
         return new ImageQueryRepository.ImageListProjection(
             id, 123L, filename, 1024000L, "image/jpeg", 
             status, tags, "Beautiful sunset", 
-            LocalDateTime.of(2024, 1, 1, 0, 0, 0)
+            LocalDateTime.of(2024, 1, 1, 0, 0, 0),
+            4000, 3000, 6, 1, "LEHV6nWB2yk8pyo0adR*.7kCMdnj"
         );
     }
 }
\ No newline at end of file
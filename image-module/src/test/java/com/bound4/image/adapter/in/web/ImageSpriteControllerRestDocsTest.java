@@ -0,0 +1,120 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.RestDocsConfiguration;
+import com.bound4.image.adapter.in.web.exception.SpriteSheetNotFoundException;
+import com.bound4.image.application.port.in.ImageSpriteUseCase;
+import com.bound4.image.domain.SpriteSheet;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ImageSpriteController.class)
+@AutoConfigureRestDocs
+@Import({RestDocsConfiguration.class, GlobalExceptionHandler.class})
+class ImageSpriteControllerRestDocsTest {
+    
+    private static final String SPRITE_KEY = "c".repeat(64);
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockitoBean
+    private ImageSpriteUseCase imageSpriteUseCase;
+    
+    @Test
+    void getSpriteSheet_Success() throws Exception {
+        // Given
+        SpriteSheet sheet = SpriteSheet.layout(SPRITE_KEY, 100, 10, List.of(1L, 2L, 3L), List.of(4L));
+        when(imageSpriteUseCase.getSpriteSheet(any())).thenReturn(sheet);
+        
+        // When & Then
+        mockMvc.perform(get("/images/sprites")
+                        .param("ids", "1,2,3,4")
+                        .param("tileSize", "100"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.spriteUrl").value("/images/sprites/" + SPRITE_KEY))
+                .andExpect(jsonPath("$.data.width").value(300))
+                .andExpect(jsonPath("$.data.height").value(100))
+                .andExpect(jsonPath("$.data.tiles[2].imageId").value(3))
+                .andExpect(jsonPath("$.data.tiles[2].x").value(200))
+                .andExpect(jsonPath("$.data.missingImageIds[0]").value(4))
+                .andDo(document("get-sprite-sheet",
+                    preprocessRequest(prettyPrint()),
+                    preprocessResponse(prettyPrint()),
+                    queryParameters(
+                        parameterWithName("ids").description("이미지 ID 목록 (쉼표 구분, 최대 100개, 요청 순서대로 배치)"),
+                        parameterWithName("tileSize").description("타일 한 변의 크기 (16~200, 기본값: 100)").optional()
+                    ),
+                    responseFields(
+                        fieldWithPath("success").type(JsonFieldType.BOOLEAN).description("API 호출 성공 여부"),
+                        fieldWithPath("data").type(JsonFieldType.OBJECT).description("스프라이트 시트 정보"),
+                        fieldWithPath("data.spriteKey").type(JsonFieldType.STRING).description("멤버 파일 해시로 만든 스프라이트 키 (썸네일이 하나도 없으면 null)").optional(),
+                        fieldWithPath("data.spriteUrl").type(JsonFieldType.STRING).description("스프라이트 이미지 URL").optional(),
+                        fieldWithPath("data.width").type(JsonFieldType.NUMBER).description("스프라이트 가로 크기 (픽셀)"),
+                        fieldWithPath("data.height").type(JsonFieldType.NUMBER).description("스프라이트 세로 크기 (픽셀)"),
+                        fieldWithPath("data.tileSize").type(JsonFieldType.NUMBER).description("타일 한 변의 크기 (픽셀)"),
+                        fieldWithPath("data.tiles").type(JsonFieldType.ARRAY).description("이미지별 타일 좌표"),
+                        fieldWithPath("data.tiles[].imageId").type(JsonFieldType.NUMBER).description("이미지 ID"),
+                        fieldWithPath("data.tiles[].x").type(JsonFieldType.NUMBER).description("타일 왼쪽 좌표"),
+                        fieldWithPath("data.tiles[].y").type(JsonFieldType.NUMBER).description("타일 위쪽 좌표"),
+                        fieldWithPath("data.tiles[].width").type(JsonFieldType.NUMBER).description("타일 가로 크기"),
+                        fieldWithPath("data.tiles[].height").type(JsonFieldType.NUMBER).description("타일 세로 크기"),
+                        fieldWithPath("data.missingImageIds").type(JsonFieldType.ARRAY).description("썸네일이 없거나 존재하지 않아 제외된 이미지 ID"),
+                        fieldWithPath("message").type(JsonFieldType.NULL).description("메시지 (성공 시 null)")
+                    )
+                ));
+    }
+    
+    @Test
+    void getSpriteImage_Success() throws Exception {
+        // Given
+        byte[] spriteData = "sprite image data".getBytes();
+        when(imageSpriteUseCase.getSpriteImage(SPRITE_KEY)).thenReturn(spriteData);
+        
+        // When & Then
+        mockMvc.perform(get("/images/sprites/{spriteKey}", SPRITE_KEY))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_JPEG))
+                .andExpect(content().bytes(spriteData))
+                .andExpect(header().string("ETag", "\"" + SPRITE_KEY + "\""))
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public"))
+                .andDo(document("get-sprite-image",
+                    preprocessRequest(prettyPrint()),
+                    pathParameters(
+                        parameterWithName("spriteKey").description("스프라이트 키")
+                    )
+                ));
+    }
+    
+    @Test
+    void getSpriteImage_NotFound() throws Exception {
+        // Given
+        when(imageSpriteUseCase.getSpriteImage(SPRITE_KEY)).thenThrow(new SpriteSheetNotFoundException(SPRITE_KEY));
+        
+        // When & Then
+        mockMvc.perform(get("/images/sprites/{spriteKey}", SPRITE_KEY))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Sprite sheet not found with key: " + SPRITE_KEY));
+    }
+}
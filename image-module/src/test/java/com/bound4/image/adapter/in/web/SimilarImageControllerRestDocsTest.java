@@ -0,0 +1,106 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.RestDocsConfiguration;
+import com.bound4.image.application.port.in.SimilarImageUseCase;
+import com.bound4.image.domain.FileHash;
+import com.bound4.image.domain.Image;
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.ProjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SimilarImageController.class)
+@AutoConfigureRestDocs
+@Import({RestDocsConfiguration.class, GlobalExceptionHandler.class})
+class SimilarImageControllerRestDocsTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockitoBean
+    private SimilarImageUseCase similarImageUseCase;
+    
+    @Test
+    void getSimilarImages_Success() throws Exception {
+        // Given
+        Image resized = image(2L, "sample_small.jpg");
+        resized.updatePlaceholder("LEHV6nWB2yk8pyo0adR*.7kCMdnj");
+        when(similarImageUseCase.findSimilarImages(any())).thenReturn(List.of(
+            new SimilarImageUseCase.SimilarImageMatch(resized, 2),
+            new SimilarImageUseCase.SimilarImageMatch(image(3L, "sample_edit.jpg"), 7)
+        ));
+        when(similarImageUseCase.isIndexComplete()).thenReturn(true);
+        
+        // When & Then
+        mockMvc.perform(get("/images/{id}/similar", 1L)
+                        .param("maxDistance", "10")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.imageId").value(1))
+                .andExpect(jsonPath("$.data.items[0].id").value(2))
+                .andExpect(jsonPath("$.data.items[0].distance").value(2))
+                .andExpect(jsonPath("$.data.items[1].thumbnailUrl").value("/images/3/thumbnail"))
+                .andExpect(jsonPath("$.data.indexComplete").value(true))
+                .andDo(document("get-similar-images",
+                    preprocessRequest(prettyPrint()),
+                    preprocessResponse(prettyPrint()),
+                    pathParameters(
+                        parameterWithName("id").description("기준 이미지 ID")
+                    ),
+                    queryParameters(
+                        parameterWithName("maxDistance").description("최대 해밍 거리 (0~32, 기본값: 10)").optional(),
+                        parameterWithName("limit").description("최대 결과 수 (1~100, 기본값: 20)").optional()
+                    ),
+                    responseFields(
+                        fieldWithPath("success").type(JsonFieldType.BOOLEAN).description("API 호출 성공 여부"),
+                        fieldWithPath("data").type(JsonFieldType.OBJECT).description("유사 이미지 정보"),
+                        fieldWithPath("data.imageId").type(JsonFieldType.NUMBER).description("기준 이미지 ID"),
+                        fieldWithPath("data.items").type(JsonFieldType.ARRAY).description("유사 이미지 목록 (거리 순, 기준 이미지의 썸네일이 없으면 빈 목록)"),
+                        fieldWithPath("data.items[].id").type(JsonFieldType.NUMBER).description("이미지 ID"),
+                        fieldWithPath("data.items[].filename").type(JsonFieldType.STRING).description("원본 파일명"),
+                        fieldWithPath("data.items[].distance").type(JsonFieldType.NUMBER).description("지각 해시(dHash) 해밍 거리 (0이면 사실상 같은 이미지)"),
+                        fieldWithPath("data.items[].thumbnailUrl").type(JsonFieldType.STRING).description("썸네일 이미지 URL"),
+                        fieldWithPath("data.items[].placeholder").type(JsonFieldType.STRING).description("BlurHash 자리표시자").optional(),
+                        fieldWithPath("data.indexComplete").type(JsonFieldType.BOOLEAN).description("시작 시 인덱스 재구성 완료 여부 (false이면 일부 유사 이미지가 빠질 수 있음)"),
+                        fieldWithPath("message").type(JsonFieldType.NULL).description("메시지 (성공 시 null)")
+                    )
+                ));
+    }
+    
+    @Test
+    void getSimilarImages_InvalidDistance() throws Exception {
+        mockMvc.perform(get("/images/{id}/similar", 1L)
+                        .param("maxDistance", "40"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Max distance must be between 0 and 32"));
+    }
+    
+    private Image image(Long id, String filename) {
+        Image image = new Image(ProjectId.of(123L), filename, FileHash.of(String.format("%064x", id)), 1024L,
+                "image/jpeg", "originals/" + id + ".jpg");
+        image.setId(ImageId.of(id));
+        return image;
+    }
+}
@@ -0,0 +1,187 @@
+package com.bound4.image.adapter.in.web;
+
+import com.bound4.image.RestDocsConfiguration;
+import com.bound4.image.adapter.in.web.exception.ThumbnailBackfillConflictException;
+import com.bound4.image.adapter.in.web.exception.ThumbnailBackfillJobNotFoundException;
+import com.bound4.image.application.port.in.ThumbnailBackfillUseCase;
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.ThumbnailBackfillJob;
+import com.bound4.image.domain.ThumbnailBackfillStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.FieldDescriptor;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ThumbnailBackfillController.class)
+@AutoConfigureRestDocs
+@Import({RestDocsConfiguration.class, GlobalExceptionHandler.class})
+class ThumbnailBackfillControllerRestDocsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private ThumbnailBackfillUseCase thumbnailBackfillUseCase;
+
+    @Test
+    void startBackfill_Success() throws Exception {
+        when(thumbnailBackfillUseCase.start(ProjectId.of(100L)))
+                .thenReturn(job(ThumbnailBackfillStatus.RUNNING, 0L, 0L));
+
+        mockMvc.perform(post("/api/thumbnails/backfills")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ThumbnailBackfillRequest(100L))))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.status").value("RUNNING"))
+                .andDo(document("thumbnail-backfill-start",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestFields(
+                                fieldWithPath("projectId").description("썸네일을 재생성할 프로젝트 ID")
+                        ),
+                        responseFields(jobFields("응답 메시지"))
+                ));
+    }
+
+    @Test
+    void startBackfill_AlreadyActive() throws Exception {
+        when(thumbnailBackfillUseCase.start(any()))
+                .thenThrow(new ThumbnailBackfillConflictException(
+                        "Thumbnail backfill already active for project: 100, job: 1"));
+
+        mockMvc.perform(post("/api/thumbnails/backfills")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ThumbnailBackfillRequest(100L))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andDo(document("thumbnail-backfill-start-conflict",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        responseFields(
+                                fieldWithPath("success").type(JsonFieldType.BOOLEAN).description("요청 성공 여부"),
+                                fieldWithPath("data").type(JsonFieldType.NULL).description("데이터 (실패 시 null)"),
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("오류 메시지")
+                        )
+                ));
+    }
+
+    @Test
+    void getBackfill_Running() throws Exception {
+        when(thumbnailBackfillUseCase.getJob(1L))
+                .thenReturn(job(ThumbnailBackfillStatus.RUNNING, 4000L, 4000L));
+
+        mockMvc.perform(get("/api/thumbnails/backfills/{jobId}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.processedCount").value(4000))
+                .andExpect(jsonPath("$.data.completedCount").value(2000))
+                .andExpect(jsonPath("$.data.progressPercent").value(20.0))
+                .andExpect(jsonPath("$.data.lastImageId").value(4000))
+                .andDo(document("thumbnail-backfill-status",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("jobId").description("백필 작업 ID")
+                        ),
+                        responseFields(jobFields("메시지 (성공 시 null)"))
+                ));
+    }
+
+    @Test
+    void getBackfill_NotFound() throws Exception {
+        when(thumbnailBackfillUseCase.getJob(999L))
+                .thenThrow(new ThumbnailBackfillJobNotFoundException(999L));
+
+        mockMvc.perform(get("/api/thumbnails/backfills/{jobId}", 999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void pauseBackfill_Success() throws Exception {
+        when(thumbnailBackfillUseCase.pause(1L))
+                .thenReturn(job(ThumbnailBackfillStatus.PAUSED, 2000L, 2000L));
+
+        mockMvc.perform(post("/api/thumbnails/backfills/{jobId}/pause", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("PAUSED"))
+                .andDo(document("thumbnail-backfill-pause",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("jobId").description("일시 정지할 백필 작업 ID")
+                        ),
+                        responseFields(jobFields("응답 메시지"))
+                ));
+    }
+
+    @Test
+    void resumeBackfill_Success() throws Exception {
+        when(thumbnailBackfillUseCase.resume(1L))
+                .thenReturn(job(ThumbnailBackfillStatus.RUNNING, 2000L, 2000L));
+
+        mockMvc.perform(post("/api/thumbnails/backfills/{jobId}/resume", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("RUNNING"))
+                .andDo(document("thumbnail-backfill-resume",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("jobId").description("재개할 백필 작업 ID")
+                        ),
+                        responseFields(jobFields("응답 메시지"))
+                ));
+    }
+
+    private ThumbnailBackfillJob job(ThumbnailBackfillStatus status, long lastImageId, long processedCount) {
+        LocalDateTime startedAt = LocalDateTime.now().minusMinutes(2);
+        ThumbnailBackfillJob job = new ThumbnailBackfillJob(1L, ProjectId.of(100L), status, lastImageId, processedCount, 10000L,
+                startedAt, 0L, 0L, startedAt, LocalDateTime.now(), null, 3L);
+        job.updateCompletedCount(processedCount / 2);
+        return job;
+    }
+
+    private FieldDescriptor[] jobFields(String messageDescription) {
+        return new FieldDescriptor[]{
+                fieldWithPath("success").type(JsonFieldType.BOOLEAN).description("요청 성공 여부"),
+                fieldWithPath("data.jobId").type(JsonFieldType.NUMBER).description("백필 작업 ID"),
+                fieldWithPath("data.projectId").type(JsonFieldType.NUMBER).description("프로젝트 ID"),
+                fieldWithPath("data.status").type(JsonFieldType.STRING).description("작업 상태 (RUNNING, PAUSED, COMPLETED)"),
+                fieldWithPath("data.processedCount").type(JsonFieldType.NUMBER).description("썸네일 생성을 요청한 이미지 수"),
+                fieldWithPath("data.completedCount").type(JsonFieldType.NUMBER).description("체크포인트까지의 이미지 중 생성이 끝난(완료 또는 영구 실패) 수"),
+                fieldWithPath("data.totalCount").type(JsonFieldType.NUMBER).description("작업 시작 시점의 프로젝트 이미지 수"),
+                fieldWithPath("data.progressPercent").type(JsonFieldType.NUMBER).description("진행률 (%, 생성이 끝난 이미지 수 기준)"),
+                fieldWithPath("data.lastImageId").type(JsonFieldType.NUMBER).description("체크포인트 (마지막으로 요청한 이미지 ID)"),
+                fieldWithPath("data.throughputPerSecond").type(JsonFieldType.NUMBER).description("시작/재개 이후 초당 생성 완료 수"),
+                fieldWithPath("data.estimatedSecondsRemaining").type(JsonFieldType.VARIES).description("예상 남은 시간(초), 실행 중이 아니면 null").optional(),
+                fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("작업 생성일시"),
+                fieldWithPath("data.updatedAt").type(JsonFieldType.STRING).description("마지막 갱신일시"),
+                fieldWithPath("data.completedAt").type(JsonFieldType.VARIES).description("완료일시").optional(),
+                fieldWithPath("message").type(JsonFieldType.VARIES).description(messageDescription).optional()
+        };
+    }
+}
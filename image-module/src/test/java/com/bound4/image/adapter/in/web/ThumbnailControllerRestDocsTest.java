@@ -2,7 +2,8 @@ package com.bound4.image.adapter.in.web;
 
 import com.bound4.image.RestDocsConfiguration;
 import com.bound4.image.application.port.in.ThumbnailProcessingUseCase;
-import com.bound4.image.domain.ThumbnailProcessingStatus;
+import com.bound4.image.application.port.in.ThumbnailRecoveryUseCase;
+import com.bound4.image.domain.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,15 +14,25 @@ import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -41,6 +52,9 @@ class ThumbnailControllerRestDocsTest {
     @MockitoBean
     private ThumbnailProcessingUseCase thumbnailProcessingUseCase;
 
+    @MockitoBean
+    private ThumbnailRecoveryUseCase thumbnailRecoveryUseCase;
+
     @Test
     void requestThumbnailGeneration_Success() throws Exception {
         mockMvc.perform(post("/api/thumbnails/images/{imageId}/generate", 1L))
@@ -108,6 +122,56 @@ class ThumbnailControllerRestDocsTest {
                 ));
     }
 
+    @Test
+    void getThumbnailStatuses_Batch() throws Exception {
+        when(thumbnailProcessingUseCase.getThumbnailProcessingStatuses(any()))
+                .thenReturn(Map.of(1L, ThumbnailProcessingStatus.COMPLETED, 3L, ThumbnailProcessingStatus.PROCESSING));
+
+        mockMvc.perform(get("/api/thumbnails/images/status")
+                        .param("ids", "3,1,2,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].imageId").value(3))
+                .andExpect(jsonPath("$.data[0].status.status").value("processing"))
+                .andExpect(jsonPath("$.data[1].imageId").value(1))
+                .andExpect(jsonPath("$.data[1].status.completed").value(true))
+                .andExpect(jsonPath("$.data[2].imageId").value(2))
+                .andExpect(jsonPath("$.data[2].found").value(false))
+                .andExpect(jsonPath("$.data[2].status").doesNotExist())
+                .andDo(document("thumbnail-status-batch",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        queryParameters(
+                                parameterWithName("ids").description("상태를 조회할 이미지 ID 목록 (쉼표 구분, 최대 200개, 중복은 한 번만 응답)")
+                        ),
+                        responseFields(
+                                fieldWithPath("success").type(JsonFieldType.BOOLEAN).description("요청 성공 여부"),
+                                fieldWithPath("data").type(JsonFieldType.ARRAY).description("요청 순서대로의 이미지별 상태"),
+                                fieldWithPath("data[].imageId").type(JsonFieldType.NUMBER).description("이미지 ID"),
+                                fieldWithPath("data[].found").type(JsonFieldType.BOOLEAN).description("이미지 존재 여부 (없거나 삭제된 이미지는 false)"),
+                                subsectionWithPath("data[].status").type(JsonFieldType.OBJECT).description("썸네일 처리 상태 정보 (단건 상태 조회의 data와 같음, 없는 이미지는 null)").optional(),
+                                fieldWithPath("message").type(JsonFieldType.NULL).description("메시지 (성공 시 null)")
+                        )
+                ));
+
+        verify(thumbnailProcessingUseCase).getThumbnailProcessingStatuses(
+                argThat(query -> query.getImageIds().equals(List.of(3L, 1L, 2L))));
+    }
+
+    @Test
+    void getThumbnailStatuses_TooManyIds() throws Exception {
+        String ids = String.join(",", LongStream.rangeClosed(1, 201).mapToObj(String::valueOf).toList());
+
+        mockMvc.perform(get("/api/thumbnails/images/status")
+                        .param("ids", ids))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Cannot request more than 200 images at once"));
+
+        verifyNoInteractions(thumbnailProcessingUseCase);
+    }
+
     @Test
     void getThumbnailStatus_Completed() throws Exception {
         when(thumbnailProcessingUseCase.getThumbnailProcessingStatus(any()))
@@ -174,4 +238,44 @@ class ThumbnailControllerRestDocsTest {
                         )
                 ));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getDeadLetters_Success() throws Exception {
+        Image image = new Image(ProjectId.of(100L), "broken.jpg", FileHash.of("a".repeat(64)),
+                1024L, "image/jpeg", "original/broken.jpg");
+        image.setId(ImageId.of(42L));
+        image.updateThumbnailProcessingStatus(ThumbnailProcessingStatus.FAILED_PERMANENT);
+        when(thumbnailRecoveryUseCase.getDeadLetters(eq(ProjectId.of(100L)), eq(null), eq(20)))
+                .thenReturn(new ThumbnailRecoveryUseCase.DeadLetterPage(List.of(image), true, 42L));
+
+        mockMvc.perform(get("/api/thumbnails/dead-letters")
+                        .param("projectId", "100")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.items[0].imageId").value(42))
+                .andExpect(jsonPath("$.data.nextCursor").value(42))
+                .andDo(document("thumbnail-dead-letters",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        queryParameters(
+                                parameterWithName("projectId").description("프로젝트 ID (생략 시 전체)").optional(),
+                                parameterWithName("cursor").description("이전 페이지의 nextCursor").optional(),
+                                parameterWithName("size").description("페이지 크기 (기본 20, 최대 100)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("success").type(JsonFieldType.BOOLEAN).description("요청 성공 여부"),
+                                fieldWithPath("data").type(JsonFieldType.OBJECT).description("데드레터 목록"),
+                                fieldWithPath("data.items[].imageId").type(JsonFieldType.NUMBER).description("이미지 ID"),
+                                fieldWithPath("data.items[].projectId").type(JsonFieldType.NUMBER).description("프로젝트 ID"),
+                                fieldWithPath("data.items[].originalFilename").type(JsonFieldType.STRING).description("원본 파일명"),
+                                fieldWithPath("data.items[].mimeType").type(JsonFieldType.STRING).description("MIME 타입"),
+                                fieldWithPath("data.items[].status").type(JsonFieldType.STRING).description("썸네일 처리 상태 (failed_permanent)"),
+                                fieldWithPath("data.items[].updatedAt").type(JsonFieldType.STRING).description("마지막 상태 변경 시각"),
+                                fieldWithPath("data.hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("data.nextCursor").type(JsonFieldType.NUMBER).description("다음 페이지 커서").optional(),
+                                fieldWithPath("message").type(JsonFieldType.NULL).description("메시지 (성공 시 null)")
+                        )
+                ));
+    }
+}
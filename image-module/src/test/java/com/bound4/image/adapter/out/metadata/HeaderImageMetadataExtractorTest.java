@@ -0,0 +1,172 @@
+package com.bound4.image.adapter.out.metadata;
+
+import com.bound4.image.domain.ImageMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("이미지 헤더 메타데이터 추출 테스트")
+class HeaderImageMetadataExtractorTest {
+
+    private final HeaderImageMetadataExtractor extractor = new HeaderImageMetadataExtractor();
+
+    @Test
+    @DisplayName("JPEG 크기와 EXIF 방향")
+    void jpegWithExifOrientation() throws Exception {
+        // Given: SOI 바로 뒤에 방향 6(시계 방향 90도)인 APP1 EXIF 삽입
+        byte[] jpeg = encode(640, 480, "jpeg");
+        byte[] withExif = concat(Arrays.copyOf(jpeg, 2), exifSegment(6), Arrays.copyOfRange(jpeg, 2, jpeg.length));
+
+        // When
+        ImageMetadata metadata = extractor.extract(withExif).orElseThrow();
+
+        // Then
+        assertThat(metadata).isEqualTo(new ImageMetadata(640, 480, 6, 1));
+        assertThat(metadata.displayWidth()).isEqualTo(480);
+        assertThat(metadata.displayHeight()).isEqualTo(640);
+    }
+
+    @Test
+    @DisplayName("PNG 크기와 APNG 프레임 수")
+    void pngAndAnimatedPng() throws Exception {
+        // Given
+        byte[] png = encode(300, 200, "png");
+        byte[] actl = ByteBuffer.allocate(8).putInt(12).putInt(0).array();
+        byte[] apng = concat(Arrays.copyOf(png, 33), pngChunk("acTL", actl), Arrays.copyOfRange(png, 33, png.length));
+
+        // When & Then
+        assertThat(extractor.extract(png)).contains(ImageMetadata.of(300, 200));
+        assertThat(extractor.extract(apng)).contains(new ImageMetadata(300, 200, 1, 12));
+    }
+
+    @Test
+    @DisplayName("GIF 크기와 프레임 수")
+    void animatedGif() {
+        // Given
+        byte[] gif = gif(120, 80, 3);
+
+        // When
+        ImageMetadata metadata = extractor.extract(gif).orElseThrow();
+
+        // Then
+        assertThat(metadata).isEqualTo(new ImageMetadata(120, 80, 1, 3));
+        assertThat(metadata.isAnimated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("WebP 무손실(VP8L) 및 확장 형식(VP8X) 애니메이션")
+    void webp() {
+        // Given
+        int bits = (1023 - 1) | (767 - 1) << 14;
+        byte[] lossless = riff(webpChunk("VP8L", concat(new byte[]{0x2F}, le32(bits))));
+
+        byte[] canvas = concat(new byte[]{0x02, 0, 0, 0}, le24(800 - 1), le24(600 - 1));
+        byte[] animated = riff(webpChunk("VP8X", canvas), webpChunk("ANIM", new byte[6]),
+                webpChunk("ANMF", new byte[17]), webpChunk("ANMF", new byte[17]));
+
+        // When & Then
+        assertThat(extractor.extract(lossless)).contains(ImageMetadata.of(1023, 767));
+        assertThat(extractor.extract(animated)).contains(new ImageMetadata(800, 600, 1, 2));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이나 잘린 헤더는 빈 값")
+    void unsupportedOrTruncated() throws Exception {
+        byte[] jpeg = encode(64, 64, "jpeg");
+
+        assertThat(extractor.extract("test image data".getBytes(StandardCharsets.US_ASCII))).isEmpty();
+        assertThat(extractor.extract(Arrays.copyOf(jpeg, 20))).isEmpty();
+        assertThat(extractor.extract(new byte[]{(byte) 0xFF, (byte) 0xD8})).isEmpty();
+    }
+
+    private byte[] encode(int width, int height, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, out);
+        return out.toByteArray();
+    }
+
+    private byte[] exifSegment(int orientation) {
+        // 빅 엔디언 TIFF, IFD0에 방향 태그 하나
+        ByteBuffer tiff = ByteBuffer.allocate(26);
+        tiff.put("MM".getBytes(StandardCharsets.US_ASCII)).putShort((short) 42).putInt(8);
+        tiff.putShort((short) 1);
+        tiff.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        tiff.putInt(0);
+        byte[] payload = concat("Exif\0\0".getBytes(StandardCharsets.US_ASCII), tiff.array());
+        ByteBuffer segment = ByteBuffer.allocate(4 + payload.length);
+        segment.put((byte) 0xFF).put((byte) 0xE1).putShort((short) (payload.length + 2)).put(payload);
+        return segment.array();
+    }
+
+    private byte[] pngChunk(String type, byte[] data) {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+        return ByteBuffer.allocate(12 + data.length)
+                .putInt(data.length).put(typeBytes).put(data).putInt((int) crc.getValue())
+                .array();
+    }
+
+    private byte[] gif(int width, int height, int frames) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes("GIF89a".getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(le16(width));
+        out.writeBytes(le16(height));
+        out.writeBytes(new byte[]{0, 0, 0});
+        for (int i = 0; i < frames; i++) {
+            // 그래픽 제어 확장 + 이미지 디스크립터 + 최소 LZW 데이터
+            out.writeBytes(new byte[]{0x21, (byte) 0xF9, 4, 0, 10, 0, 0, 0});
+            out.write(0x2C);
+            out.writeBytes(new byte[]{0, 0, 0, 0});
+            out.writeBytes(le16(width));
+            out.writeBytes(le16(height));
+            out.write(0);
+            out.writeBytes(new byte[]{2, 2, 0x44, 0x01, 0});
+        }
+        out.write(0x3B);
+        return out.toByteArray();
+    }
+
+    private byte[] riff(byte[]... chunks) {
+        byte[] body = concat(chunks);
+        return concat("RIFF".getBytes(StandardCharsets.US_ASCII), le32(4 + body.length),
+                "WEBP".getBytes(StandardCharsets.US_ASCII), body);
+    }
+
+    private byte[] webpChunk(String type, byte[] data) {
+        byte[] padding = new byte[data.length & 1];
+        return concat(type.getBytes(StandardCharsets.US_ASCII), le32(data.length), data, padding);
+    }
+
+    private byte[] le16(int value) {
+        return new byte[]{(byte) value, (byte) (value >> 8)};
+    }
+
+    private byte[] le24(int value) {
+        return new byte[]{(byte) value, (byte) (value >> 8), (byte) (value >> 16)};
+    }
+
+    private byte[] le32(int value) {
+        return ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(value).array();
+    }
+
+    private byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}
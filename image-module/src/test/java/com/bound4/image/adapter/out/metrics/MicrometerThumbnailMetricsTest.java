@@ -0,0 +1,81 @@
+package com.bound4.image.adapter.out.metrics;
+
+import com.bound4.image.domain.ThumbnailFailureReason;
+import com.bound4.image.domain.ThumbnailOutcome;
+import com.bound4.image.domain.ThumbnailStage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Micrometer 썸네일 지표 테스트")
+class MicrometerThumbnailMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MicrometerThumbnailMetrics thumbnailMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        thumbnailMetrics = new MicrometerThumbnailMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("모든 단계 타이머를 미리 등록")
+    void registersAllStageTimers() {
+        // Then
+        assertThat(meterRegistry.find("thumbnail.stage.duration").timers())
+                .hasSize(ThumbnailStage.values().length);
+        assertThat(meterRegistry.find("thumbnail.failure.permanent").counters())
+                .hasSize(ThumbnailFailureReason.values().length);
+    }
+
+    @Test
+    @DisplayName("단계별 소요 시간을 단계 태그로 기록")
+    void recordStage() {
+        // When
+        thumbnailMetrics.recordStage(ThumbnailStage.DECODE, Duration.ofMillis(40));
+        thumbnailMetrics.recordStage(ThumbnailStage.DECODE, Duration.ofMillis(60));
+
+        // Then
+        var timer = meterRegistry.get("thumbnail.stage.duration").tag("stage", "decode").timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(100.0);
+        assertThat(meterRegistry.get("thumbnail.stage.duration").tag("stage", "resize").timer().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("처리 결과와 재시도 횟수, 영구 실패 사유 기록")
+    void recordOutcomeAndFailureReason() {
+        // When
+        thumbnailMetrics.recordOutcome(ThumbnailOutcome.FAILED_PERMANENT, 5);
+        thumbnailMetrics.recordPermanentFailure(ThumbnailFailureReason.RETRIES_EXHAUSTED);
+
+        // Then
+        assertThat(meterRegistry.get("thumbnail.outcome").tag("outcome", "failed_permanent").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("thumbnail.attempts").tag("outcome", "failed_permanent").summary().totalAmount())
+                .isEqualTo(5.0);
+        assertThat(meterRegistry.get("thumbnail.failure.permanent").tag("reason", "retries_exhausted").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("원본 프레임 수 분포 기록")
+    void recordSourceFrames() {
+        // When
+        thumbnailMetrics.recordSourceFrames(1);
+        thumbnailMetrics.recordSourceFrames(24);
+
+        // Then
+        var summary = meterRegistry.get("thumbnail.source.frames").summary();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.max()).isEqualTo(24.0);
+    }
+}
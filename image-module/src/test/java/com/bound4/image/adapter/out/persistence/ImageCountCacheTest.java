@@ -0,0 +1,150 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.TagMatchMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이미지 개수 캐시 테스트")
+class ImageCountCacheTest {
+
+    private static final Long PROJECT_ID = 10L;
+    private static final long VERSION = 3L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("정확한 개수는 프로젝트 무효화 전까지 캐시")
+    void exact_CachedUntilInvalidated() {
+        // Given
+        ImageCountCache cache = new ImageCountCache(jdbcTemplate, true, 60_000L, 100, 300_000L);
+        ImageCountCache.CountKey key = key(ImageStatus.READY, Set.of("cat"), TagMatchMode.ANY);
+        ImageCountCache.CountKey otherProject = new ImageCountCache.CountKey(20L, null, Set.of(), TagMatchMode.ANY);
+        cache.putExact(key, VERSION, 42L);
+        cache.putExact(otherProject, VERSION, 7L);
+
+        // When
+        Long cached = cache.exact(key, VERSION).orElseThrow();
+        cache.invalidate(PROJECT_ID);
+
+        // Then
+        assertThat(cached).isEqualTo(42L);
+        assertThat(cache.exact(key, VERSION)).isEmpty();
+        assertThat(cache.exact(otherProject, VERSION)).contains(7L);
+    }
+
+    @Test
+    @DisplayName("다른 필터 버전으로 센 개수는 사용하지 않고 무효화 후 늦게 도착한 이전 버전 개수는 저장하지 않음")
+    void exact_VersionedByFilterVersion() {
+        // Given
+        ImageCountCache cache = new ImageCountCache(jdbcTemplate, true, 60_000L, 100, 300_000L);
+        ImageCountCache.CountKey key = key(null, Set.of(), TagMatchMode.ANY);
+        cache.putExact(key, VERSION, 42L);
+
+        // When & Then: 다른 노드의 쓰기로 필터 버전 증가
+        assertThat(cache.exact(key, VERSION + 1)).isEmpty();
+
+        // 새 버전으로 센 개수 저장 후 이전 버전으로 센 개수가 늦게 도착
+        cache.putExact(key, VERSION + 1, 43L);
+        cache.putExact(key, VERSION, 42L);
+        assertThat(cache.exact(key, VERSION + 1)).contains(43L);
+
+        // 무효화 후 이전 버전으로 센 개수가 늦게 도착해도 현재 버전 조회에는 쓰이지 않음
+        cache.invalidate(PROJECT_ID);
+        cache.putExact(key, VERSION + 1, 43L);
+        assertThat(cache.exact(key, VERSION + 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ttl이 지났거나 비활성화하면 캐시하지 않음")
+    void exact_ExpiredOrDisabled() {
+        // Given
+        ImageCountCache expiring = new ImageCountCache(jdbcTemplate, true, 0L, 100, 300_000L);
+        ImageCountCache disabled = new ImageCountCache(jdbcTemplate, false, 60_000L, 100, 300_000L);
+        ImageCountCache.CountKey key = key(null, Set.of(), TagMatchMode.ANY);
+
+        // When
+        expiring.putExact(key, VERSION, 42L);
+        disabled.putExact(key, VERSION, 42L);
+
+        // Then
+        assertThat(expiring.exact(key, VERSION)).isEmpty();
+        assertThat(disabled.exact(key, VERSION)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("추정 개수는 프로젝트 상태/태그 카운터로 계산")
+    void estimate_FromProjectCounters() {
+        // Given: READY 80, PROCESSING 20 / cat 30, dog 10
+        givenCounters();
+        ImageCountCache cache = new ImageCountCache(jdbcTemplate, true, 60_000L, 100, 300_000L);
+
+        // When & Then
+        assertThat(cache.estimate(key(null, Set.of(), TagMatchMode.ANY))).isEqualTo(100L);
+        assertThat(cache.estimate(key(ImageStatus.READY, Set.of(), TagMatchMode.ANY))).isEqualTo(80L);
+        assertThat(cache.estimate(key(null, Set.of("cat", "dog"), TagMatchMode.ANY))).isEqualTo(40L);
+        assertThat(cache.estimate(key(null, Set.of("cat", "dog"), TagMatchMode.ALL))).isEqualTo(10L);
+        assertThat(cache.estimate(key(ImageStatus.READY, Set.of("cat"), TagMatchMode.ANY))).isEqualTo(24L);
+        assertThat(cache.estimate(key(null, Set.of("cat", "unknown"), TagMatchMode.ALL))).isZero();
+
+        // 카운터는 refresh 주기 동안 한 번만 적재
+        verify(jdbcTemplate, times(1)).query(eq(ImageCountCache.STATUS_COUNTS_SQL), any(RowCallbackHandler.class), eq(PROJECT_ID));
+    }
+
+    @Test
+    @DisplayName("새 이미지 저장은 적재된 카운터를 증가")
+    void onInserted_IncrementsCounters() {
+        // Given
+        givenCounters();
+        ImageCountCache cache = new ImageCountCache(jdbcTemplate, true, 60_000L, 100, 300_000L);
+        cache.estimate(key(null, Set.of(), TagMatchMode.ANY));
+
+        // When
+        cache.onInserted(PROJECT_ID, ImageStatus.READY, Set.of("dog"));
+        cache.onInserted(20L, ImageStatus.READY, Set.of("dog"));
+
+        // Then
+        assertThat(cache.estimate(key(ImageStatus.READY, Set.of(), TagMatchMode.ANY))).isEqualTo(81L);
+        assertThat(cache.estimate(key(null, Set.of("dog"), TagMatchMode.ANY))).isEqualTo(11L);
+    }
+
+    private ImageCountCache.CountKey key(ImageStatus status, Set<String> tags, TagMatchMode tagMatch) {
+        return new ImageCountCache.CountKey(PROJECT_ID, status, tags, tagMatch);
+    }
+
+    private void givenCounters() {
+        doAnswer(rows(new Object[]{"READY", 80L}, new Object[]{"PROCESSING", 20L}))
+                .when(jdbcTemplate).query(eq(ImageCountCache.STATUS_COUNTS_SQL), any(RowCallbackHandler.class), eq(PROJECT_ID));
+        doAnswer(rows(new Object[]{"cat", 30L}, new Object[]{"dog", 10L}))
+                .when(jdbcTemplate).query(eq(ImageCountCache.TAG_COUNTS_SQL), any(RowCallbackHandler.class), eq(PROJECT_ID));
+    }
+
+    private Answer<Void> rows(Object[]... rows) {
+        return invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString(1)).thenReturn((String) row[0]);
+                when(rs.getLong(2)).thenReturn((Long) row[1]);
+                handler.processRow(rs);
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.bound4.image.adapter.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커서 페이징 쿼리가 schema.sql의 커서 인덱스를 쓰는지 H2 EXPLAIN으로 확인
+ * (ImageQueryRepository.findImagesByCursor가 만드는 SQL과 같은 모양)
+ */
+@JdbcTest
+@DisplayName("커서 페이징 인덱스 실행 계획 테스트")
+class ImageCursorIndexExplainTest {
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, project_id, original_filename, file_size, mime_type, status, memo, width, height, " +
+            "orientation, frame_count, placeholder, created_at, updated_at FROM images " +
+            "WHERE project_id = 100 AND deleted_at IS NULL ";
+
+    private static final String CURSOR_TIMESTAMP = "TIMESTAMP '2025-01-01 12:00:00'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 50; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO images (project_id, original_filename, created_at, updated_at, deleted_at) " +
+                    "VALUES (?, ?, DATEADD('MINUTE', ?, " + CURSOR_TIMESTAMP + "), " + CURSOR_TIMESTAMP + ", " +
+                    (i % 10 == 0 ? "CURRENT_TIMESTAMP" : "NULL") + ")",
+                    i % 2 == 0 ? 100L : 200L, "image" + i + ".jpg", -i);
+        }
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 프로젝트/삭제 여부 조건을 커서 인덱스로 처리")
+    void firstPage_UsesCursorIndex() {
+        // When
+        String plan = explain(SELECT_COLUMNS + "ORDER BY created_at DESC, id DESC FETCH FIRST 21 ROWS ONLY");
+
+        // Then
+        assertThat(plan).containsPattern("IDX_IMAGES_CURSOR_(CREATED|UPDATED)");
+    }
+
+    @Test
+    @DisplayName("생성 시각 커서는 (project_id, deleted_at, created_at, id) 인덱스로 범위 조회")
+    void createdAtCursor_UsesCreatedIndex() {
+        // When
+        String plan = explain(SELECT_COLUMNS +
+                "AND created_at <= " + CURSOR_TIMESTAMP +
+                " AND (created_at < " + CURSOR_TIMESTAMP + " OR id < 25) " +
+                "ORDER BY created_at DESC, id DESC FETCH FIRST 21 ROWS ONLY");
+
+        // Then
+        assertThat(plan).contains("IDX_IMAGES_CURSOR_CREATED");
+    }
+
+    @Test
+    @DisplayName("수정 시각 커서는 (project_id, deleted_at, updated_at, id) 인덱스로 범위 조회")
+    void updatedAtCursor_UsesUpdatedIndex() {
+        // When
+        String plan = explain(SELECT_COLUMNS +
+                "AND updated_at >= " + CURSOR_TIMESTAMP +
+                " AND (updated_at > " + CURSOR_TIMESTAMP + " OR id > 25) " +
+                "ORDER BY updated_at ASC, id ASC FETCH FIRST 21 ROWS ONLY");
+
+        // Then
+        assertThat(plan).contains("IDX_IMAGES_CURSOR_UPDATED");
+    }
+
+    @Test
+    @DisplayName("파일명 커서는 (project_id, deleted_at, original_filename, id) 인덱스로 범위 조회")
+    void filenameCursor_UsesFilenameIndex() {
+        // When
+        String plan = explain(SELECT_COLUMNS +
+                "AND original_filename >= 'image25.jpg'" +
+                " AND (original_filename > 'image25.jpg' OR id > 25) " +
+                "ORDER BY original_filename ASC, id ASC FETCH FIRST 21 ROWS ONLY");
+
+        // Then
+        assertThat(plan).contains("IDX_IMAGES_CURSOR_FILENAME");
+    }
+
+    @Test
+    @DisplayName("페이지 태그는 image_tags 기본 키로 조회")
+    void pageTags_UsePrimaryKey() {
+        // When
+        String plan = explain("SELECT image_id, tag FROM image_tags WHERE image_id IN (2, 4, 6) ORDER BY image_id, tag");
+
+        // Then
+        assertThat(plan).contains("PRIMARY_KEY");
+    }
+
+    private String explain(String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        return plan.replace("\"", "").toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,108 @@
+package com.bound4.image.adapter.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 파일명/파일 크기가 없는 이미지가 섞여 있어도 키셋 페이지를 끝까지 넘기면 모든 행을 한 번씩 읽는지 H2로 확인
+ * (ImageQueryRepository.addKeysetCondition과 같은 조건 모양)
+ */
+@JdbcTest
+@DisplayName("커서 키셋 페이징 테스트")
+class ImageCursorKeysetPagingTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 파일명/파일 크기를 생략한 업로드 5건과 값이 있는 업로드 5건
+        for (int i = 1; i <= 10; i++) {
+            if (i % 2 == 0) {
+                jdbcTemplate.update("INSERT INTO images (project_id) VALUES (100)");
+            } else {
+                jdbcTemplate.update("INSERT INTO images (project_id, original_filename, file_size) VALUES (100, ?, ?)",
+                        "image" + i + ".jpg", 1024L * i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("파일명 오름차순 페이지는 빈 파일명 행을 빠짐없이 한 번씩 반환")
+    void filenamePages_VisitEveryRowOnce() {
+        // When
+        List<Long> visited = walk("original_filename", true);
+
+        // Then
+        assertThat(visited).hasSize(10).doesNotHaveDuplicates();
+        assertThat(visited.subList(0, 5)).containsExactly(2L, 4L, 6L, 8L, 10L);
+    }
+
+    @Test
+    @DisplayName("파일 크기 내림차순 페이지는 크기 0인 행을 빠짐없이 한 번씩 반환")
+    void fileSizePages_VisitEveryRowOnce() {
+        // When
+        List<Long> visited = walk("file_size", false);
+
+        // Then
+        assertThat(visited).hasSize(10).doesNotHaveDuplicates();
+        assertThat(visited.subList(5, 10)).containsExactly(10L, 8L, 6L, 4L, 2L);
+    }
+
+    @Test
+    @DisplayName("정렬 컬럼에 NULL은 저장할 수 없음")
+    void sortColumns_RejectNull() {
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO images (project_id, original_filename) VALUES (100, NULL)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO images (project_id, file_size) VALUES (100, NULL)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private List<Long> walk(String column, boolean ascending) {
+        String order = ascending ? " ASC" : " DESC";
+        String after = ascending ? " > " : " < ";
+        List<Long> visited = new ArrayList<>();
+        Object lastKey = null;
+        Long lastId = null;
+
+        while (true) {
+            String sql = "SELECT id, " + column + " AS sort_key FROM images WHERE project_id = 100 AND deleted_at IS NULL ";
+            List<Map<String, Object>> rows;
+            if (lastId == null) {
+                rows = jdbcTemplate.queryForList(sql + "ORDER BY " + column + order + ", id" + order +
+                        " FETCH FIRST " + PAGE_SIZE + " ROWS ONLY");
+            } else {
+                rows = jdbcTemplate.queryForList(sql +
+                        "AND " + column + (ascending ? " >= ?" : " <= ?") +
+                        " AND (" + column + after + "? OR id" + after + "?) " +
+                        "ORDER BY " + column + order + ", id" + order + " FETCH FIRST " + PAGE_SIZE + " ROWS ONLY",
+                        lastKey, lastKey, lastId);
+            }
+            if (rows.isEmpty()) {
+                return visited;
+            }
+            for (Map<String, Object> row : rows) {
+                visited.add(((Number) row.get("ID")).longValue());
+            }
+            Map<String, Object> last = rows.get(rows.size() - 1);
+            lastKey = last.get("SORT_KEY");
+            lastId = ((Number) last.get("ID")).longValue();
+        }
+    }
+}
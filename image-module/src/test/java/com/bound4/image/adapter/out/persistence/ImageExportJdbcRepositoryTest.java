@@ -0,0 +1,120 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ImageArchiveEntry;
+import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.ImageSummary;
+import com.bound4.image.domain.TagMatchMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * fetch size보다 많은 (이미지, 태그) 행을 id 순으로 스크롤하며 이미지 단위로 전달하는지 H2로 확인
+ */
+@JdbcTest
+@DisplayName("이미지 내보내기 JDBC 조회 테스트")
+class ImageExportJdbcRepositoryTest {
+
+    private static final long PROJECT_ID = 100L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ImageExportJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ImageExportJdbcRepository(jdbcTemplate, 2);
+
+        insertImage(1L, PROJECT_ID, "READY", false, "dog", "cat");
+        insertImage(2L, PROJECT_ID, "PROCESSING", false);
+        insertImage(3L, PROJECT_ID, "READY", false, "cat");
+        insertImage(4L, PROJECT_ID, "READY", true, "cat");
+        insertImage(5L, 200L, "READY", false, "cat");
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 프로젝트 이미지를 id 순으로 한 건씩 전달하고 태그는 정렬")
+    void stream_GroupsTagsPerImage() {
+        // Given
+        List<ImageSummary> exported = new ArrayList<>();
+
+        // When
+        long count = repository.stream(PROJECT_ID, null, null, TagMatchMode.ANY, exported::add);
+
+        // Then
+        assertThat(count).isEqualTo(3);
+        assertThat(exported).extracting(image -> image.id().value()).containsExactly(1L, 2L, 3L);
+        assertThat(exported.get(0).tags()).containsExactly("cat", "dog");
+        assertThat(exported.get(1).tags()).isNull();
+        assertThat(exported.get(0).metadata().width()).isEqualTo(640);
+        assertThat(exported.get(0).originalFilename()).isEqualTo("image1.jpg");
+    }
+
+    @Test
+    @DisplayName("상태/태그 조건은 목록 API와 같게 적용 (ALL은 모든 태그 일치)")
+    void stream_AppliesFilters() {
+        // Given
+        List<Long> ready = new ArrayList<>();
+        List<Long> all = new ArrayList<>();
+        List<Long> any = new ArrayList<>();
+
+        // When
+        repository.stream(PROJECT_ID, ImageStatus.READY, null, TagMatchMode.ANY, image -> ready.add(image.id().value()));
+        repository.stream(PROJECT_ID, null, List.of("cat", " dog"), TagMatchMode.ALL, image -> all.add(image.id().value()));
+        repository.stream(PROJECT_ID, null, List.of("cat", "dog"), TagMatchMode.ANY, image -> any.add(image.id().value()));
+
+        // Then
+        assertThat(ready).containsExactly(1L, 3L);
+        assertThat(all).containsExactly(1L);
+        assertThat(any).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("압축 파일 항목은 원본 저장 키가 있는 이미지만 id 순으로 조회하고 선택한 이미지로 제한")
+    void findArchiveEntries_SkipsImagesWithoutOriginal() {
+        // Given
+        jdbcTemplate.update("UPDATE images SET original_image_key = NULL WHERE id = 2");
+
+        // When
+        List<ImageArchiveEntry> whole = repository.findArchiveEntries(PROJECT_ID, List.of(), 0L, 10);
+        List<ImageArchiveEntry> selected = repository.findArchiveEntries(PROJECT_ID, List.of(3L, 2L, 5L), 0L, 10);
+
+        // Then
+        assertThat(whole).extracting(entry -> entry.id().value()).containsExactly(1L, 3L);
+        assertThat(whole.get(0).storageKey()).isEqualTo("originals/1.jpg");
+        assertThat(whole.get(0).mimeType()).isEqualTo("image/jpeg");
+        assertThat(selected).extracting(entry -> entry.id().value()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("압축 파일 항목은 마지막 id 이후부터 limit건씩 페이지로 조회")
+    void findArchiveEntries_PagesByIdKeyset() {
+        // When
+        List<ImageArchiveEntry> first = repository.findArchiveEntries(PROJECT_ID, List.of(), 0L, 2);
+        List<ImageArchiveEntry> second = repository.findArchiveEntries(PROJECT_ID, List.of(), 2L, 2);
+
+        // Then
+        assertThat(first).extracting(entry -> entry.id().value()).containsExactly(1L, 2L);
+        assertThat(second).extracting(entry -> entry.id().value()).containsExactly(3L);
+    }
+
+    private void insertImage(Long id, Long projectId, String status, boolean deleted, String... tags) {
+        jdbcTemplate.update(
+                "INSERT INTO images (id, project_id, original_filename, file_size, mime_type, original_image_key, " +
+                "status, width, height, created_at, updated_at, deleted_at) VALUES (?, ?, ?, ?, 'image/jpeg', ?, ?, " +
+                "640, 480, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, " + (deleted ? "CURRENT_TIMESTAMP" : "NULL") + ")",
+                id, projectId, "image" + id + ".jpg", 1024L * id, "originals/" + id + ".jpg", status);
+        for (String tag : tags) {
+            jdbcTemplate.update("INSERT INTO image_tags (image_id, project_id, tag) VALUES (?, ?, ?)", id, projectId, tag);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.bound4.image.adapter.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("커서 정렬 컬럼 백필 마이그레이션 테스트")
+class ImageSortKeyBackfillMigrationTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ImageSortKeyBackfillMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        migration = new ImageSortKeyBackfillMigration(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("NULL 파일명/파일 크기를 채우고 완료 표시")
+    void migrate_FillsNullsAndMarksCompleted() {
+        // Given
+        when(jdbcTemplate.queryForObject(ImageTagBackfillMigration.COMPLETED_SQL, Integer.class,
+                ImageSortKeyBackfillMigration.MIGRATION_NAME)).thenReturn(0);
+        when(jdbcTemplate.update(ImageSortKeyBackfillMigration.FILENAME_SQL)).thenReturn(2);
+        when(jdbcTemplate.update(ImageSortKeyBackfillMigration.FILE_SIZE_SQL)).thenReturn(1);
+
+        // When
+        long updated = migration.migrate();
+
+        // Then
+        assertThat(updated).isEqualTo(3);
+        verify(jdbcTemplate).update(eq(ImageTagBackfillMigration.MARK_COMPLETED_SQL),
+                eq(ImageSortKeyBackfillMigration.MIGRATION_NAME), any());
+    }
+
+    @Test
+    @DisplayName("완료 표시가 있으면 UPDATE 없이 종료")
+    void migrate_SkipsWhenCompleted() {
+        // Given
+        when(jdbcTemplate.queryForObject(ImageTagBackfillMigration.COMPLETED_SQL, Integer.class,
+                ImageSortKeyBackfillMigration.MIGRATION_NAME)).thenReturn(1);
+
+        // When
+        long updated = migration.migrate();
+
+        // Then
+        assertThat(updated).isZero();
+        verify(jdbcTemplate, never()).update(anyString());
+    }
+}
@@ -0,0 +1,126 @@
+package com.bound4.image.adapter.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이미지 태그 백필 마이그레이션 테스트")
+class ImageTagBackfillMigrationTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ImageTagJdbcRepository imageTagRepository;
+
+    @Mock
+    private ProjectWriteVersions writeVersions;
+
+    private ImageTagBackfillMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        migration = new ImageTagBackfillMigration(jdbcTemplate, imageTagRepository, writeVersions, true, 2);
+    }
+
+    @Test
+    @DisplayName("태그 JSON을 키셋 페이지로 읽어 태그 행 추가 (읽을 수 없는 JSON은 건너뜀)")
+    void migrate_BackfillsFromJson() {
+        // Given: 배치 크기 2
+        when(jdbcTemplate.query(eq(ImageTagBackfillMigration.SELECT_SQL), any(RowMapper.class), eq(0L), eq(2)))
+                .thenAnswer(rows(new Object[]{1L, 10L, "{\"cat\":true,\"dog\":true}"}, new Object[]{2L, 10L, "not json"}));
+        when(jdbcTemplate.query(eq(ImageTagBackfillMigration.SELECT_SQL), any(RowMapper.class), eq(2L), eq(2)))
+                .thenAnswer(rows(new Object[]{3L, 20L, "{\" sky \":true}"}));
+        when(imageTagRepository.insertTags(anyList())).thenReturn(2, 1);
+
+        // When
+        long inserted = migration.migrate();
+
+        // Then
+        assertThat(inserted).isEqualTo(3);
+        verify(jdbcTemplate).update(eq(ImageTagBackfillMigration.MARK_COMPLETED_SQL),
+                eq(ImageTagBackfillMigration.MIGRATION_NAME), any());
+        verify(imageTagRepository).insertTags(List.of(
+                new ImageTagJdbcRepository.TaggedImage(1L, 10L, Set.of("cat", "dog"))));
+        verify(imageTagRepository).insertTags(List.of(
+                new ImageTagJdbcRepository.TaggedImage(3L, 20L, Set.of("sky"))));
+        verify(writeVersions).bump(10L, true);
+        verify(writeVersions).bump(20L, true);
+    }
+
+    @Test
+    @DisplayName("조회 후 태그 행이 먼저 생긴 이미지는 이미지별로 맞춤")
+    void migrate_FallsBackOnDuplicate() {
+        // Given
+        when(jdbcTemplate.query(eq(ImageTagBackfillMigration.SELECT_SQL), any(RowMapper.class), eq(0L), eq(2)))
+                .thenAnswer(rows(new Object[]{1L, 10L, "{\"cat\":true}"}));
+        when(imageTagRepository.insertTags(anyList())).thenThrow(new DuplicateKeyException("image_tags"));
+
+        // When
+        migration.migrate();
+
+        // Then
+        verify(imageTagRepository).replaceTags(1L, 10L, Set.of("cat"));
+    }
+
+    @Test
+    @DisplayName("완료 표시가 있으면 이미지를 다시 읽지 않음")
+    void migrate_SkipsWhenCompleted() {
+        // Given
+        when(jdbcTemplate.queryForObject(ImageTagBackfillMigration.COMPLETED_SQL, Integer.class,
+                ImageTagBackfillMigration.MIGRATION_NAME)).thenReturn(1);
+
+        // When
+        long inserted = migration.migrate();
+
+        // Then
+        assertThat(inserted).isZero();
+        verify(jdbcTemplate, never()).query(eq(ImageTagBackfillMigration.SELECT_SQL), any(RowMapper.class), any(), any());
+        verifyNoInteractions(imageTagRepository);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 실행하지 않음")
+    void onApplicationReady_Disabled() {
+        new ImageTagBackfillMigration(jdbcTemplate, imageTagRepository, writeVersions, false, 2).onApplicationReady();
+
+        verifyNoInteractions(jdbcTemplate, imageTagRepository);
+    }
+
+    /**
+     * 주어진 (id, project_id, tags) 행을 RowMapper로 변환해 반환
+     */
+    private Answer<List<Object>> rows(Object[]... rows) {
+        return invocation -> {
+            RowMapper<?> mapper = invocation.getArgument(1);
+            List<Object> mapped = new ArrayList<>();
+            for (Object[] row : rows) {
+                ResultSet resultSet = mock(ResultSet.class);
+                when(resultSet.getLong(1)).thenReturn((Long) row[0]);
+                when(resultSet.getLong(2)).thenReturn((Long) row[1]);
+                when(resultSet.getString(3)).thenReturn((String) row[2]);
+                mapped.add(mapper.mapRow(resultSet, mapped.size()));
+            }
+            return mapped;
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.bound4.image.adapter.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이미지 태그 JDBC 저장소 테스트")
+class ImageTagJdbcRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ImageTagJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ImageTagJdbcRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("바뀐 태그만 삭제/추가")
+    void replaceTags_AppliesDiff() {
+        // Given
+        when(jdbcTemplate.queryForList(ImageTagJdbcRepository.SELECT_SQL, String.class, 1L))
+                .thenReturn(List.of("cat", "dog"));
+
+        // When
+        repository.replaceTags(1L, 10L, Set.of("dog", "sky"));
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(eq(ImageTagJdbcRepository.DELETE_SQL),
+                argThat((List<Object[]> args) -> args.size() == 1 && Arrays.equals(args.get(0), new Object[]{1L, "cat"})));
+        verify(jdbcTemplate).batchUpdate(eq(ImageTagJdbcRepository.INSERT_SQL),
+                argThat((List<Object[]> args) -> args.size() == 1 && Arrays.equals(args.get(0), new Object[]{1L, 10L, "sky"})));
+    }
+
+    @Test
+    @DisplayName("태그가 그대로면 쓰기 없음")
+    void replaceTags_Unchanged() {
+        // Given
+        when(jdbcTemplate.queryForList(ImageTagJdbcRepository.SELECT_SQL, String.class, 1L))
+                .thenReturn(List.of("cat"));
+
+        // When
+        repository.replaceTags(1L, 10L, Set.of("cat"));
+
+        // Then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("태그 이름 정규화 - 공백 제거, 빈 값/중복/길이 초과 제외")
+    void tagNames_Normalizes() {
+        // Given
+        String tooLong = "x".repeat(ImageTagEntity.MAX_TAG_LENGTH + 1);
+
+        // When & Then
+        assertThat(ImageTagJdbcRepository.tagNames(Arrays.asList(" cat", "dog ", "", null, "cat", tooLong)))
+                .containsExactly("cat", "dog");
+        assertThat(ImageTagJdbcRepository.tagNames(Map.of("category", true))).containsExactly("category");
+        assertThat(ImageTagJdbcRepository.tagNames((Map<String, Object>) null)).isEmpty();
+    }
+}
@@ -0,0 +1,102 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.ThumbnailStatusUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상태 싱크 배치의 조건부 UPDATE가 삭제되었거나 이미 끝난 이미지를 건드리지 않는지 H2로 확인
+ */
+@JdbcTest
+@DisplayName("JDBC 썸네일 상태 싱크 배치 테스트")
+class JdbcThumbnailStatusSinkBatchTest {
+
+    private static final long PROJECT_ID = 100L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ProjectWriteVersions writeVersions;
+    private JdbcThumbnailStatusSink sink;
+
+    @BeforeEach
+    void setUp() {
+        writeVersions = new ProjectWriteVersions(jdbcTemplate);
+        sink = new JdbcThumbnailStatusSink(jdbcTemplate, writeVersions, 20, 200);
+    }
+
+    @Test
+    @DisplayName("처리 중인 이미지에만 적용하고 삭제되었거나 완료/영구 실패한 행은 그대로 둠")
+    void flush_SkipsDeletedAndFinishedImages() {
+        // Given
+        insertImage(1L, "PROCESSING", false);
+        insertImage(2L, "PROCESSING", true);
+        insertImage(3L, "COMPLETED", false);
+        insertImage(4L, "FAILED_RETRYABLE", false);
+        insertImage(5L, "FAILED_RETRYABLE", true);
+        insertImage(6L, "COMPLETED", false);
+        insertImage(7L, "FAILED_PERMANENT", false);
+        Map<String, Object> deletedBefore = row(2L);
+        Map<String, Object> completedBefore = row(3L);
+        Map<String, Object> deletedFailedBefore = row(5L);
+        Map<String, Object> completedFailedBefore = row(6L);
+        Map<String, Object> permanentBefore = row(7L);
+
+        List<JdbcThumbnailStatusSink.PendingUpdate> batch = List.of(
+                pending(ThumbnailStatusUpdate.completed(ImageId.of(1L), "thumbnails/1_thumb.jpg")),
+                pending(ThumbnailStatusUpdate.completed(ImageId.of(2L), "thumbnails/2_thumb.jpg")),
+                pending(ThumbnailStatusUpdate.completed(ImageId.of(3L), "thumbnails/3_new.jpg")),
+                pending(ThumbnailStatusUpdate.failed(ImageId.of(4L), false)),
+                pending(ThumbnailStatusUpdate.failed(ImageId.of(5L), false)),
+                pending(ThumbnailStatusUpdate.failed(ImageId.of(6L), true)),
+                pending(ThumbnailStatusUpdate.completed(ImageId.of(7L), "thumbnails/7_thumb.jpg")));
+
+        // When
+        sink.flush(batch);
+
+        // Then
+        assertThat(batch.stream().map(pending -> pending.result().join()).toList())
+                .containsExactly(true, false, false, true, false, false, false);
+        assertThat(row(1L)).containsEntry("THUMBNAIL_PROCESSING_STATUS", "COMPLETED")
+                .containsEntry("THUMBNAIL_KEY", "thumbnails/1_thumb.jpg");
+        assertThat(row(4L)).containsEntry("THUMBNAIL_PROCESSING_STATUS", "FAILED_PERMANENT");
+        assertThat(row(2L)).isEqualTo(deletedBefore);
+        assertThat(row(3L)).isEqualTo(completedBefore);
+        assertThat(row(5L)).isEqualTo(deletedFailedBefore);
+        assertThat(row(6L)).isEqualTo(completedFailedBefore);
+        assertThat(row(7L)).isEqualTo(permanentBefore);
+        assertThat(writeVersions.current(PROJECT_ID).version()).isEqualTo(1L);
+    }
+
+    private JdbcThumbnailStatusSink.PendingUpdate pending(ThumbnailStatusUpdate update) {
+        return new JdbcThumbnailStatusSink.PendingUpdate(update, new CompletableFuture<>());
+    }
+
+    private Map<String, Object> row(Long id) {
+        return jdbcTemplate.queryForMap(
+                "SELECT thumbnail_processing_status, thumbnail_key, updated_at, version FROM images WHERE id = ?", id);
+    }
+
+    private void insertImage(Long id, String thumbnailStatus, boolean deleted) {
+        jdbcTemplate.update(
+                "INSERT INTO images (id, project_id, original_filename, file_size, mime_type, original_image_key, " +
+                "thumbnail_key, thumbnail_processing_status, status, width, height, created_at, updated_at, deleted_at) " +
+                "VALUES (?, ?, ?, 1024, 'image/jpeg', ?, ?, ?, 'READY', 640, 480, TIMESTAMP '2024-01-01 00:00:00', " +
+                "TIMESTAMP '2024-01-01 00:00:00', ?)",
+                id, PROJECT_ID, "image" + id + ".jpg", "originals/" + id + ".jpg",
+                "COMPLETED".equals(thumbnailStatus) ? "thumbnails/" + id + "_thumb.jpg" : null, thumbnailStatus,
+                deleted ? Timestamp.valueOf("2024-01-02 00:00:00") : null);
+    }
+}
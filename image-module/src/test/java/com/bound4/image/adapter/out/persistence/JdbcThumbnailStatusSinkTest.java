@@ -0,0 +1,100 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.ThumbnailStatusUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JDBC 썸네일 상태 싱크 테스트")
+class JdbcThumbnailStatusSinkTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ProjectWriteVersions writeVersions;
+
+    private JdbcThumbnailStatusSink sink;
+
+    @BeforeEach
+    void setUp() {
+        sink = new JdbcThumbnailStatusSink(jdbcTemplate, writeVersions, 20, 200);
+    }
+
+    @Test
+    @DisplayName("여러 작업의 완료 결과를 하나의 배치 UPDATE로 기록")
+    void flush_CoalescesCompletedUpdates() {
+        // Given
+        JdbcThumbnailStatusSink.PendingUpdate first = pending(ThumbnailStatusUpdate.completed(ImageId.of(1L), "t/1.jpg"));
+        JdbcThumbnailStatusSink.PendingUpdate second = pending(ThumbnailStatusUpdate.completed(ImageId.of(2L), "t/2.jpg"));
+        when(jdbcTemplate.batchUpdate(eq(JdbcThumbnailStatusSink.COMPLETE_SQL), anyList()))
+                .thenReturn(new int[]{1, 0});
+
+        // When
+        sink.flush(List.of(first, second));
+
+        // Then
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(JdbcThumbnailStatusSink.COMPLETE_SQL),
+                argThat((List<Object[]> args) -> args.size() == 2));
+        verify(jdbcTemplate, never()).batchUpdate(eq(JdbcThumbnailStatusSink.FAIL_SQL), anyList());
+        assertThat(first.result()).isCompletedWithValue(true);
+        assertThat(second.result()).isCompletedWithValue(false);
+        verify(writeVersions).bumpForImages(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("완료와 실패 결과는 문장별로 나누어 기록")
+    void flush_SplitsByOutcome() {
+        // Given
+        JdbcThumbnailStatusSink.PendingUpdate completed = pending(ThumbnailStatusUpdate.completed(ImageId.of(1L), "t/1.jpg"));
+        JdbcThumbnailStatusSink.PendingUpdate failed = pending(ThumbnailStatusUpdate.failed(ImageId.of(2L), true));
+        when(jdbcTemplate.batchUpdate(eq(JdbcThumbnailStatusSink.COMPLETE_SQL), anyList())).thenReturn(new int[]{1});
+        when(jdbcTemplate.batchUpdate(eq(JdbcThumbnailStatusSink.FAIL_SQL), anyList()))
+                .thenReturn(new int[]{Statement.SUCCESS_NO_INFO});
+
+        // When
+        sink.flush(List.of(completed, failed));
+
+        // Then
+        assertThat(completed.result()).isCompletedWithValue(true);
+        assertThat(failed.result()).isCompletedWithValue(true);
+        verify(writeVersions).bumpForImages(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("배치 실행 실패 시 모든 요청이 예외로 완료")
+    void flush_FailsAllOnError() {
+        // Given
+        JdbcThumbnailStatusSink.PendingUpdate first = pending(ThumbnailStatusUpdate.failed(ImageId.of(1L), false));
+        when(jdbcTemplate.batchUpdate(eq(JdbcThumbnailStatusSink.FAIL_SQL), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+        // When
+        sink.flush(List.of(first));
+
+        // Then
+        assertThat(first.result()).isCompletedExceptionally();
+        verify(writeVersions, never()).bumpForImages(anyList());
+    }
+
+    private JdbcThumbnailStatusSink.PendingUpdate pending(ThumbnailStatusUpdate update) {
+        return new JdbcThumbnailStatusSink.PendingUpdate(update, new CompletableFuture<>());
+    }
+}
@@ -0,0 +1,128 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.TagMatchMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("오프셋 앵커 캐시 테스트")
+class OffsetAnchorCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final long VERSION = 7L;
+
+    private final OffsetAnchorCache.QueryKey key =
+            new OffsetAnchorCache.QueryKey(10L, ImageStatus.READY, Set.of("cat"), TagMatchMode.ANY, "createdAt", false);
+
+    @Test
+    @DisplayName("오프셋 이하에서 가장 가까운 앵커")
+    void floor_ReturnsNearestAnchor() {
+        // Given
+        OffsetAnchorCache cache = new OffsetAnchorCache(true, 1000, 60_000L, 10);
+        cache.put(key, VERSION, List.of(new OffsetAnchorCache.Anchor(1000, BASE.minusHours(1), 900L)));
+        cache.put(key, VERSION, List.of(new OffsetAnchorCache.Anchor(2000, BASE.minusHours(2), 800L)));
+
+        // When & Then
+        assertThat(cache.floor(key, VERSION, 999)).isEmpty();
+        assertThat(cache.floor(key, VERSION, 1999).map(OffsetAnchorCache.Anchor::id)).contains(900L);
+        assertThat(cache.floor(key, VERSION, 100_000).map(OffsetAnchorCache.Anchor::offset)).contains(2000L);
+        assertThat(cache.floor(new OffsetAnchorCache.QueryKey(10L, null, Set.of(), TagMatchMode.ANY, "createdAt", false),
+                VERSION, 2000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 쓰기 버전으로 계산한 앵커는 사용하지 않고 이전 버전의 늦은 계산은 저장하지 않음")
+    void floor_RejectsOtherVersion() {
+        // Given
+        OffsetAnchorCache cache = new OffsetAnchorCache(true, 1000, 60_000L, 10);
+        cache.put(key, VERSION, List.of(new OffsetAnchorCache.Anchor(1000, BASE, 1L)));
+
+        // When & Then: 다른 노드의 쓰기로 버전이 바뀜
+        assertThat(cache.floor(key, VERSION + 1, 1000)).isEmpty();
+        assertThat(cache.floor(key, VERSION, 1000)).isEmpty();
+
+        cache.put(key, VERSION + 1, List.of(new OffsetAnchorCache.Anchor(1000, BASE, 2L)));
+        cache.put(key, VERSION, List.of(new OffsetAnchorCache.Anchor(2000, BASE, 3L)));
+        assertThat(cache.floor(key, VERSION + 1, 5000).map(OffsetAnchorCache.Anchor::id)).contains(2L);
+    }
+
+    @Test
+    @DisplayName("앵커 계산은 백그라운드에서 조회마다 하나만 실행하고 빈 결과는 저장하지 않음")
+    void scheduleBuild_RunsOncePerQuery() {
+        // Given
+        List<Runnable> queued = new ArrayList<>();
+        OffsetAnchorCache cache = new OffsetAnchorCache(true, 1000, 60_000L, 10, queued::add);
+        OffsetAnchorCache.QueryKey otherKey =
+                new OffsetAnchorCache.QueryKey(10L, null, Set.of(), TagMatchMode.ANY, "createdAt", false);
+
+        // When
+        cache.scheduleBuild(key, VERSION, () -> Optional.of(List.of(new OffsetAnchorCache.Anchor(1000, BASE, 1L))));
+        cache.scheduleBuild(key, VERSION, () -> Optional.of(List.of(new OffsetAnchorCache.Anchor(1000, BASE, 2L))));
+        cache.scheduleBuild(otherKey, VERSION, Optional::empty);
+
+        // Then
+        assertThat(queued).hasSize(2);
+        assertThat(cache.floor(key, VERSION, 1000)).isEmpty();
+        queued.forEach(Runnable::run);
+        assertThat(cache.floor(key, VERSION, 1000).map(OffsetAnchorCache.Anchor::id)).contains(1L);
+        assertThat(cache.floor(otherKey, VERSION, 1000)).isEmpty();
+
+        cache.scheduleBuild(key, VERSION, Optional::empty);
+        assertThat(queued).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("앵커 간격보다 얕은 오프셋이나 비활성화 상태는 적용 안 함")
+    void appliesTo() {
+        assertThat(new OffsetAnchorCache(true, 1000, 60_000L, 10).appliesTo(999)).isFalse();
+        assertThat(new OffsetAnchorCache(true, 1000, 60_000L, 10).appliesTo(1000)).isTrue();
+        assertThat(new OffsetAnchorCache(false, 1000, 60_000L, 10).appliesTo(100_000)).isFalse();
+        assertThatThrownBy(() -> new OffsetAnchorCache(true, 0, 60_000L, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("프로젝트 무효화는 해당 프로젝트의 모든 조회 앵커 제거")
+    void invalidate_RemovesProjectQueries() {
+        // Given
+        OffsetAnchorCache cache = new OffsetAnchorCache(true, 1000, 60_000L, 10);
+        OffsetAnchorCache.QueryKey otherProject =
+                new OffsetAnchorCache.QueryKey(20L, null, Set.of(), TagMatchMode.ANY, "createdAt", false);
+        cache.put(key, VERSION, List.of(new OffsetAnchorCache.Anchor(1000, BASE, 1L)));
+        cache.put(otherProject, VERSION, List.of(new OffsetAnchorCache.Anchor(1000, BASE, 2L)));
+
+        // When
+        cache.invalidate(10L);
+
+        // Then
+        assertThat(cache.floor(key, VERSION, 1000)).isEmpty();
+        assertThat(cache.floor(otherProject, VERSION, 1000)).isPresent();
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 앵커는 버리고 조회 수는 최근 사용 순으로 제한")
+    void expiresAndBoundsQueries() {
+        // Given
+        OffsetAnchorCache expiring = new OffsetAnchorCache(true, 1000, 0L, 10);
+        OffsetAnchorCache bounded = new OffsetAnchorCache(true, 1000, 60_000L, 2);
+        expiring.put(key, VERSION, List.of(new OffsetAnchorCache.Anchor(1000, BASE, 1L)));
+        for (long projectId = 1; projectId <= 3; projectId++) {
+            bounded.put(new OffsetAnchorCache.QueryKey(projectId, null, Set.of(), TagMatchMode.ANY, "createdAt", false),
+                    VERSION, List.of(new OffsetAnchorCache.Anchor(1000, BASE, projectId)));
+        }
+
+        // When & Then
+        assertThat(expiring.floor(key, VERSION, 1000)).isEmpty();
+        assertThat(bounded.size()).isEqualTo(2);
+        assertThat(bounded.floor(new OffsetAnchorCache.QueryKey(1L, null, Set.of(), TagMatchMode.ANY, "createdAt", false),
+                VERSION, 1000)).isEmpty();
+    }
+}
@@ -0,0 +1,233 @@
+package com.bound4.image.adapter.out.persistence;
+
+import com.bound4.image.domain.ImageStatus;
+import com.bound4.image.domain.TagMatchMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("프로젝트 필터 비트맵 색인 테스트")
+class ProjectBitmapIndexTest {
+
+    private static final Long PROJECT_ID = 10L;
+    private static final long VERSION = 5L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ProjectWriteVersions writeVersions;
+
+    private final List<Runnable> loads = new ArrayList<>();
+    private final Executor queuedLoader = loads::add;
+
+    @Test
+    @DisplayName("첫 조회는 빈 값으로 DB에 맡기고 적재 후 상태/태그 ANY/ALL을 비트맵으로 계산")
+    void match_LoadsLazilyAndFilters() {
+        // Given
+        givenProject();
+        ProjectBitmapIndex index = index(Long.MAX_VALUE, 600_000L);
+
+        // When
+        boolean coldHit = index.match(PROJECT_ID, null, Set.of(), TagMatchMode.ANY, VERSION).isPresent();
+        runLoads();
+
+        // Then
+        assertThat(coldHit).isFalse();
+        assertThat(match(index, null, Set.of(), TagMatchMode.ANY).imageIds()).containsExactly(1L, 2L, 3L, 5L);
+        assertThat(match(index, ImageStatus.READY, Set.of(), TagMatchMode.ANY).count()).isEqualTo(3);
+        assertThat(match(index, null, Set.of("cat", "sky"), TagMatchMode.ANY).imageIds()).containsExactly(1L, 2L, 5L);
+        assertThat(match(index, null, Set.of("cat", "dog"), TagMatchMode.ALL).imageIds()).containsExactly(1L);
+        assertThat(match(index, ImageStatus.READY, Set.of("cat"), TagMatchMode.ANY).imageIds()).containsExactly(1L);
+        assertThat(match(index, null, Set.of("cat", "unknown"), TagMatchMode.ALL).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("색인 버전과 현재 필터 버전이 다르면 빈 값으로 DB에 맡기고 뒤처진 색인은 다시 적재")
+    void match_RequiresCurrentVersion() {
+        // Given
+        givenProject();
+        ProjectBitmapIndex index = index(Long.MAX_VALUE, 600_000L);
+        index.match(PROJECT_ID, null, Set.of(), TagMatchMode.ANY, VERSION);
+        runLoads();
+
+        // When & Then: 조회 중 커밋된 쓰기로 색인이 앞선 경우
+        assertThat(index.match(PROJECT_ID, null, Set.of(), TagMatchMode.ANY, VERSION - 1)).isEmpty();
+        assertThat(loads).isEmpty();
+
+        // 다른 노드의 쓰기로 현재 버전이 앞선 경우
+        assertThat(index.match(PROJECT_ID, null, Set.of(), TagMatchMode.ANY, VERSION + 1)).isEmpty();
+        assertThat(loads).hasSize(1);
+        when(writeVersions.current(PROJECT_ID)).thenReturn(new ProjectWriteVersions.Versions(9L, VERSION + 1));
+        runLoads();
+        assertThat(index.match(PROJECT_ID, null, Set.of(), TagMatchMode.ANY, VERSION + 1)).isPresent();
+    }
+
+    @Test
+    @DisplayName("저장 시 새 이미지 추가, 태그/상태 변경, 삭제를 해당 비트만 갱신")
+    void onSaved_UpdatesIncrementally() {
+        // Given
+        givenProject();
+        ProjectBitmapIndex index = index(Long.MAX_VALUE, 600_000L);
+        index.match(PROJECT_ID, null, Set.of(), TagMatchMode.ANY, VERSION);
+        runLoads();
+
+        // When
+        index.onSaved(PROJECT_ID, 8L, ImageStatus.PROCESSING, Set.of("cat"), false, VERSION + 1);
+        index.onSaved(PROJECT_ID, 1L, ImageStatus.FAILED, Set.of("sky"), false, VERSION + 2);
+        index.onSaved(PROJECT_ID, 2L, ImageStatus.PROCESSING, Set.of("cat"), true, VERSION + 3);
+
+        // Then
+        assertThat(match(index, null, Set.of("cat"), TagMatchMode.ANY, VERSION + 3).imageIds()).containsExactly(8L);
+        assertThat(match(index, null, Set.of("sky"), TagMatchMode.ANY, VERSION + 3).imageIds()).containsExactly(1L, 5L);
+        assertThat(match(index, ImageStatus.FAILED, Set.of(), TagMatchMode.ANY, VERSION + 3).imageIds()).containsExactly(1L);
+        assertThat(match(index, null, Set.of(), TagMatchMode.ANY, VERSION + 3).count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 저장으로 버전을 건너뛴 변경이 오면 색인을 버리고 다시 적재")
+    void onSaved_VersionGapInvalidates() {
+        // Given
+        givenProject();
+        ProjectBitmapIndex index = index(Long.MAX_VALUE, 600_000L);
+        index.match(PROJECT_ID, null, Set.of(), TagMatchMode.ANY, VERSION);
+        runLoads();
+
+        // When
+        index.onSaved(PROJECT_ID, 8L, ImageStatus.READY, Set.of(), false, VERSION + 2);
+
+        // Then
+        assertThat(index.projectCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("적재 중 들어온 변경은 적재 후 재적용")
+    void onSaved_ReplaysPendingMutations() {
+        // Given
+        givenProject();
+        ProjectBitmapIndex index = index(Long.MAX_VALUE, 600_000L);
+        index.match(PROJECT_ID, null, Set.of(), TagMatchMode.ANY, VERSION);
+
+        // When: 적재 작업이 실행되기 전에 저장 (읽은 버전 이전의 변경은 행에 이미 반영되어 있으므로 건너뜀)
+        index.onSaved(PROJECT_ID, 2L, ImageStatus.FAILED, Set.of(), false, VERSION);
+        index.onSaved(PROJECT_ID, 3L, ImageStatus.READY, Set.of("dog"), false, VERSION + 1);
+        runLoads();
+
+        // Then
+        assertThat(match(index, null, Set.of("dog"), TagMatchMode.ANY, VERSION + 1).imageIds()).containsExactly(1L, 3L);
+        assertThat(match(index, ImageStatus.FAILED, Set.of(), TagMatchMode.ANY, VERSION + 1).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("순번 순서보다 앞선 새 ID가 오면 색인을 버리고 다시 적재")
+    void onSaved_OutOfOrderIdInvalidates() {
+        // Given
+        givenProject();
+        ProjectBitmapIndex index = index(Long.MAX_VALUE, 600_000L);
+        index.match(PROJECT_ID, null, Set.of(), TagMatchMode.ANY, VERSION);
+        runLoads();
+
+        // When
+        index.onSaved(PROJECT_ID, 4L, ImageStatus.READY, Set.of(), false, VERSION + 1);
+
+        // Then
+        assertThat(index.projectCount()).isZero();
+        assertThat(index.match(PROJECT_ID, null, Set.of(), TagMatchMode.ANY, VERSION + 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("메모리 한도를 넘거나 유휴 시간이 지나면 프로젝트 색인 제거")
+    void evictIdleProjects() {
+        // Given
+        givenProject();
+        ProjectBitmapIndex bounded = index(1L, 600_000L);
+        ProjectBitmapIndex idle = index(Long.MAX_VALUE, 0L);
+
+        // When
+        bounded.match(PROJECT_ID, null, Set.of(), TagMatchMode.ANY, VERSION);
+        idle.match(PROJECT_ID, null, Set.of(), TagMatchMode.ANY, VERSION);
+        runLoads();
+        int loadedIdle = idle.projectCount();
+        idle.evictIdleProjects();
+
+        // Then
+        assertThat(bounded.projectCount()).isZero();
+        assertThat(loadedIdle).isEqualTo(1);
+        assertThat(idle.projectCount()).isZero();
+        assertThat(idle.estimatedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 적재하지 않음")
+    void match_Disabled() {
+        // Given
+        ProjectBitmapIndex index = new ProjectBitmapIndex(jdbcTemplate, writeVersions, queuedLoader, false,
+                Long.MAX_VALUE, 600_000L, 600_000L);
+
+        // When & Then
+        assertThat(index.match(PROJECT_ID, null, Set.of(), TagMatchMode.ANY, VERSION)).isEmpty();
+        assertThat(loads).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private ProjectBitmapIndex index(long maxBytes, long idleTimeoutMs) {
+        return new ProjectBitmapIndex(jdbcTemplate, writeVersions, queuedLoader, true, maxBytes, idleTimeoutMs, 600_000L);
+    }
+
+    /**
+     * 필터 버전 VERSION의 이미지 1(READY, cat/dog), 2(PROCESSING, cat), 3(READY), 5(READY, sky)
+     */
+    private void givenProject() {
+        when(writeVersions.current(PROJECT_ID)).thenReturn(new ProjectWriteVersions.Versions(8L, VERSION));
+        doAnswer(rows(new Object[]{1L, "READY"}, new Object[]{2L, "PROCESSING"},
+                      new Object[]{3L, "READY"}, new Object[]{5L, "READY"}))
+                .when(jdbcTemplate).query(eq(ProjectBitmapIndex.LOAD_IMAGES_SQL), any(RowCallbackHandler.class), eq(PROJECT_ID));
+        doAnswer(rows(new Object[]{1L, "cat"}, new Object[]{1L, "dog"}, new Object[]{2L, "cat"}, new Object[]{5L, "sky"}))
+                .when(jdbcTemplate).query(eq(ProjectBitmapIndex.LOAD_TAGS_SQL), any(RowCallbackHandler.class), eq(PROJECT_ID));
+    }
+
+    private ProjectBitmapIndex.Match match(ProjectBitmapIndex index, ImageStatus status, Set<String> tags, TagMatchMode mode) {
+        return match(index, status, tags, mode, VERSION);
+    }
+
+    private ProjectBitmapIndex.Match match(ProjectBitmapIndex index, ImageStatus status, Set<String> tags, TagMatchMode mode,
+                                           long version) {
+        return index.match(PROJECT_ID, status, tags, mode, version).orElseThrow();
+    }
+
+    private void runLoads() {
+        List<Runnable> queued = new ArrayList<>(loads);
+        loads.clear();
+        queued.forEach(Runnable::run);
+    }
+
+    private Answer<Void> rows(Object[]... rows) {
+        return invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong(1)).thenReturn((Long) row[0]);
+                when(rs.getString(2)).thenReturn((String) row[1]);
+                handler.processRow(rs);
+            }
+            return null;
+        };
+    }
+}
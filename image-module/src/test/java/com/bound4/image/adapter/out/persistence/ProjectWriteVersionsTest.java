@@ -0,0 +1,74 @@
+package com.bound4.image.adapter.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공유 쓰기 버전 행 생성/증가를 H2로 확인
+ */
+@JdbcTest
+@DisplayName("프로젝트 쓰기 버전 테스트")
+class ProjectWriteVersionsTest {
+
+    private static final long PROJECT_ID = 100L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ProjectWriteVersions writeVersions;
+
+    @BeforeEach
+    void setUp() {
+        writeVersions = new ProjectWriteVersions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("쓰기가 없던 프로젝트는 0에서 시작하고 첫 증가에서 행을 생성")
+    void bump_CreatesRowOnFirstWrite() {
+        // Given
+        assertThat(writeVersions.current(PROJECT_ID)).isEqualTo(new ProjectWriteVersions.Versions(0L, 0L));
+
+        // When
+        ProjectWriteVersions.Versions first = writeVersions.bump(PROJECT_ID, true);
+        ProjectWriteVersions.Versions second = writeVersions.bump(PROJECT_ID, false);
+
+        // Then
+        assertThat(first).isEqualTo(new ProjectWriteVersions.Versions(1L, 1L));
+        assertThat(second).isEqualTo(new ProjectWriteVersions.Versions(2L, 1L));
+        assertThat(writeVersions.current(PROJECT_ID)).isEqualTo(second);
+        assertThat(writeVersions.current(200L)).isEqualTo(new ProjectWriteVersions.Versions(0L, 0L));
+    }
+
+    @Test
+    @DisplayName("이미지 상태 변경은 이미지가 속한 프로젝트마다 version만 한 번 증가")
+    void bumpForImages_BumpsEachProjectOnce() {
+        // Given
+        insertImage(1L, PROJECT_ID);
+        insertImage(2L, PROJECT_ID);
+        insertImage(3L, 200L);
+
+        // When
+        writeVersions.bumpForImages(List.of(1L, 2L, 3L, 99L));
+        writeVersions.bumpForImages(List.of());
+
+        // Then
+        assertThat(writeVersions.current(PROJECT_ID)).isEqualTo(new ProjectWriteVersions.Versions(1L, 0L));
+        assertThat(writeVersions.current(200L)).isEqualTo(new ProjectWriteVersions.Versions(1L, 0L));
+    }
+
+    private void insertImage(Long id, Long projectId) {
+        jdbcTemplate.update(
+                "INSERT INTO images (id, project_id, original_filename, file_size, mime_type, original_image_key, " +
+                "status, width, height, created_at, updated_at) VALUES (?, ?, ?, 1024, 'image/jpeg', ?, 'READY', " +
+                "640, 480, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                id, projectId, "image" + id + ".jpg", "originals/" + id + ".jpg");
+    }
+}
@@ -0,0 +1,106 @@
+package com.bound4.image.adapter.out.similarity;
+
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.PerceptualHash;
+import com.bound4.image.domain.PerceptualHashEntry;
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.SimilarImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BK-트리 유사 이미지 인덱스 테스트")
+class BkTreeSimilarImageIndexTest {
+
+    private static final ProjectId PROJECT = ProjectId.of(100L);
+
+    private final BkTreeSimilarImageIndex index = new BkTreeSimilarImageIndex();
+
+    @Test
+    @DisplayName("반경 안의 이미지를 거리, ID 순으로 조회하고 다른 프로젝트는 제외")
+    void findsWithinRadiusOrderedByDistance() {
+        // Given
+        index.put(PROJECT, ImageId.of(1L), PerceptualHash.of(0b0000L));
+        index.put(PROJECT, ImageId.of(2L), PerceptualHash.of(0b0111L));
+        index.put(PROJECT, ImageId.of(3L), PerceptualHash.of(0b0001L));
+        index.put(PROJECT, ImageId.of(4L), PerceptualHash.of(0b0000L));
+        index.put(ProjectId.of(200L), ImageId.of(5L), PerceptualHash.of(0b0000L));
+
+        // When
+        List<SimilarImage> similar = index.findSimilar(PROJECT, PerceptualHash.of(0L), 2, 10);
+
+        // Then
+        assertThat(similar).containsExactly(
+                new SimilarImage(ImageId.of(1L), 0),
+                new SimilarImage(ImageId.of(4L), 0),
+                new SimilarImage(ImageId.of(3L), 1));
+    }
+
+    @Test
+    @DisplayName("다시 등록하면 해시를 교체하고 삭제된 이미지는 조회되지 않음")
+    void replaceAndRemove() {
+        // Given
+        index.put(PROJECT, ImageId.of(1L), PerceptualHash.of(0L));
+        index.put(PROJECT, ImageId.of(2L), PerceptualHash.of(0L));
+
+        // When
+        index.put(PROJECT, ImageId.of(1L), PerceptualHash.of(-1L));
+        index.remove(PROJECT, ImageId.of(2L));
+
+        // Then
+        assertThat(index.findSimilar(PROJECT, PerceptualHash.of(0L), 5, 10)).isEmpty();
+        assertThat(index.findSimilar(PROJECT, PerceptualHash.of(-1L), 0, 10))
+                .containsExactly(new SimilarImage(ImageId.of(1L), 0));
+        assertThat(index.size(PROJECT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 등록은 이미 등록된 최신 해시를 덮어쓰지 않음")
+    void loadKeepsLiveEntries() {
+        // Given: 재구성 중 썸네일이 다시 생성되어 새 해시가 먼저 등록됨
+        index.put(PROJECT, ImageId.of(1L), PerceptualHash.of(0xFFL));
+
+        // When
+        index.load(PROJECT, List.of(
+                new PerceptualHashEntry(ImageId.of(1L), PerceptualHash.of(0L)),
+                new PerceptualHashEntry(ImageId.of(2L), PerceptualHash.of(0L))));
+
+        // Then
+        assertThat(index.findSimilar(PROJECT, PerceptualHash.of(0L), 0, 10))
+                .containsExactly(new SimilarImage(ImageId.of(2L), 0));
+        assertThat(index.size(PROJECT)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무작위 해시에서 전체 비교와 같은 결과")
+    void matchesBruteForce() {
+        // Given: 일부는 기준 해시 몇 비트만 뒤집은 근접 사본
+        Random random = new Random(42);
+        List<PerceptualHashEntry> entries = new ArrayList<>();
+        long base = random.nextLong();
+        for (long id = 1; id <= 5_000; id++) {
+            long hash = id % 50 == 0 ? base ^ (1L << random.nextInt(64)) ^ (1L << random.nextInt(64)) : random.nextLong();
+            entries.add(new PerceptualHashEntry(ImageId.of(id), PerceptualHash.of(hash)));
+        }
+        index.load(PROJECT, entries);
+
+        // When
+        List<SimilarImage> similar = index.findSimilar(PROJECT, PerceptualHash.of(base), 8, 1_000);
+
+        // Then
+        List<SimilarImage> expected = entries.stream()
+                .map(entry -> new SimilarImage(entry.imageId(), entry.hash().distanceTo(PerceptualHash.of(base))))
+                .filter(candidate -> candidate.distance() <= 8)
+                .sorted((a, b) -> a.distance() != b.distance()
+                        ? Integer.compare(a.distance(), b.distance())
+                        : Long.compare(a.imageId().value(), b.imageId().value()))
+                .toList();
+        assertThat(similar).isEqualTo(expected);
+        assertThat(similar).hasSize(100);
+    }
+}
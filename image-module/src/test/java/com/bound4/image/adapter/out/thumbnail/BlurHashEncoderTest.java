@@ -0,0 +1,100 @@
+package com.bound4.image.adapter.out.thumbnail;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BlurHash 인코더 테스트")
+class BlurHashEncoderTest {
+
+    private static final String BASE83 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    private final BlurHashEncoder encoder = new BlurHashEncoder(4, 3);
+
+    @Test
+    @DisplayName("단색 이미지는 평균색이 그대로 남고 AC 성분은 최소 단계로 양자화")
+    void solidColor() {
+        // Given
+        BufferedImage image = filled(200, 150, 0x3366CC, BufferedImage.TYPE_INT_RGB);
+
+        // When
+        String hash = encoder.encode(image);
+
+        // Then: 크기 플래그(4x3) + 최대 AC + DC 4자 + AC 11개 x 2자
+        assertThat(hash).hasSize(28);
+        assertThat(hash.charAt(0)).isEqualTo('L');
+        assertThat(decode83(hash.substring(2, 6))).isEqualTo(0x3366CC);
+        assertThat(hash.charAt(1)).isEqualTo('0');
+    }
+
+    @Test
+    @DisplayName("재사용 캔버스의 부분 이미지와 일반 이미지가 같은 결과")
+    void subimageMatchesCopy() {
+        // Given: 썸네일 캔버스처럼 큰 정수 RGB 버퍼의 일부 영역
+        BufferedImage canvas = new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB);
+        BufferedImage copy = new BufferedImage(120, 80, BufferedImage.TYPE_3BYTE_BGR);
+        for (int y = 0; y < 80; y++) {
+            for (int x = 0; x < 120; x++) {
+                int rgb = (x * 2) << 16 | (y * 3) << 8 | ((x + y) & 0xFF);
+                canvas.setRGB(x, y, rgb);
+                copy.setRGB(x, y, rgb);
+            }
+        }
+
+        // When & Then
+        assertThat(encoder.encode(canvas.getSubimage(0, 0, 120, 80))).isEqualTo(encoder.encode(copy));
+    }
+
+    @Test
+    @DisplayName("가로/세로 방향의 변화가 서로 다른 성분으로 인코딩")
+    void distinguishesGradientDirection() {
+        // Given
+        BufferedImage horizontal = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+        BufferedImage vertical = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 100; y++) {
+            for (int x = 0; x < 100; x++) {
+                horizontal.setRGB(x, y, x < 50 ? 0x000000 : 0xFFFFFF);
+                vertical.setRGB(x, y, y < 50 ? 0x000000 : 0xFFFFFF);
+            }
+        }
+
+        // When
+        String horizontalHash = encoder.encode(horizontal);
+        String verticalHash = encoder.encode(vertical);
+
+        // Then: 평균색은 같고 AC 성분만 다름
+        assertThat(horizontalHash.substring(2, 6)).isEqualTo(verticalHash.substring(2, 6));
+        assertThat(horizontalHash).isNotEqualTo(verticalHash);
+        assertThat(horizontalHash.charAt(1)).isNotEqualTo('0');
+    }
+
+    @Test
+    @DisplayName("성분 수 범위 검증")
+    void rejectsInvalidComponents() {
+        assertThatThrownBy(() -> new BlurHashEncoder(0, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BlurHashEncoder(4, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private BufferedImage filled(int width, int height, int rgb, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+        return image;
+    }
+
+    private int decode83(String value) {
+        int result = 0;
+        for (char c : value.toCharArray()) {
+            result = result * 83 + BASE83.indexOf(c);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+package com.bound4.image.adapter.out.thumbnail;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("디코딩 픽셀 예산 테스트")
+class DecodeGuardTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "4000, 3000, 1",
+            "4096, 4096, 1",
+            "8000, 6000, 2",
+            "20000, 12000, 4",
+            "15000, 1, 1"
+    })
+    @DisplayName("디코딩 결과가 기준 픽셀 수 이하가 되는 가장 작은 샘플링 간격")
+    void subsamplingKeepsDecodedPixelsUnderThreshold(int width, int height, int expected) {
+        // Given
+        DecodeGuard guard = new DecodeGuard(250_000_000L, 16_777_216L, 100_000_000, 1_000L);
+
+        // When
+        int period = guard.subsamplingFor(width, height);
+
+        // Then
+        assertThat(period).isEqualTo(expected);
+        assertThat(DecodeGuard.decodedPixels(width, height, period)).isLessThanOrEqualTo(16_777_216L);
+    }
+
+    @Test
+    @DisplayName("허용 픽셀 수를 넘거나 크기가 잘못된 이미지는 거부")
+    void rejectsOversizedOrInvalidDimensions() {
+        // Given
+        DecodeGuard guard = new DecodeGuard(250_000_000L, 16_777_216L, 100_000_000, 1_000L);
+
+        // When & Then
+        assertThatThrownBy(() -> guard.subsamplingFor(65_535, 65_535))
+                .isInstanceOf(DecodeGuard.ImageTooLargeException.class);
+        assertThatThrownBy(() -> guard.subsamplingFor(0, 100))
+                .isInstanceOf(DecodeGuard.ImageTooLargeException.class);
+    }
+
+    @Test
+    @DisplayName("예산이 모두 사용 중이면 대기 후 시간 초과")
+    void acquireTimesOutWhenBudgetExhausted() {
+        // Given
+        DecodeGuard guard = new DecodeGuard(1_000_000L, 1_000L, 1_000, 50L);
+        DecodeGuard.Permit held = guard.acquire(800);
+
+        // When & Then
+        assertThatThrownBy(() -> guard.acquire(300))
+                .isInstanceOf(DecodeGuard.BudgetTimeoutException.class);
+        assertThat(guard.getInFlightPixels()).isEqualTo(800);
+        held.close();
+    }
+
+    @Test
+    @DisplayName("허가를 닫으면 대기 중인 디코딩이 진행되고 중복 반환되지 않음")
+    void closingPermitUnblocksWaiter() throws Exception {
+        // Given
+        DecodeGuard guard = new DecodeGuard(1_000_000L, 1_000L, 1_000, 5_000L);
+        DecodeGuard.Permit held = guard.acquire(1_000);
+        CompletableFuture<DecodeGuard.Permit> waiting = CompletableFuture.supplyAsync(() -> guard.acquire(600));
+
+        // When
+        held.close();
+        held.close();
+
+        // Then
+        DecodeGuard.Permit acquired = waiting.get(5, TimeUnit.SECONDS);
+        assertThat(guard.getInFlightPixels()).isEqualTo(600);
+        acquired.close();
+        assertThat(guard.getInFlightPixels()).isZero();
+    }
+
+    @Test
+    @DisplayName("서브샘플링 기준이 전체 예산보다 크면 설정 오류")
+    void rejectsThresholdAboveBudget() {
+        assertThatThrownBy(() -> new DecodeGuard(1_000_000L, 2_000L, 1_000, 1_000L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.bound4.image.adapter.out.thumbnail;
+
+import com.bound4.image.domain.PerceptualHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("차이 해시(dHash) 테스트")
+class DifferenceHasherTest {
+
+    private final DifferenceHasher hasher = new DifferenceHasher();
+
+    @Test
+    @DisplayName("크기 변경과 재인코딩된 사본은 해밍 거리가 작음")
+    void resizedAndReencodedCopyIsClose() throws Exception {
+        // Given
+        BufferedImage original = pattern(400, 300, 0);
+        BufferedImage copy = reencode(resize(original, 180, 135), 0.5f);
+
+        // When
+        PerceptualHash originalHash = hasher.hash(original);
+        PerceptualHash copyHash = hasher.hash(copy);
+
+        // Then
+        assertThat(originalHash.distanceTo(copyHash)).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("다른 이미지는 해밍 거리가 큼")
+    void differentImagesAreFar() {
+        // Given
+        PerceptualHash first = hasher.hash(pattern(200, 150, 0));
+        PerceptualHash second = hasher.hash(pattern(200, 150, 7));
+
+        // When & Then
+        assertThat(first.distanceTo(second)).isGreaterThan(16);
+    }
+
+    @Test
+    @DisplayName("단색 이미지는 모든 비트가 0")
+    void solidColorHasNoGradient() {
+        BufferedImage solid = new BufferedImage(50, 50, BufferedImage.TYPE_INT_RGB);
+
+        assertThat(hasher.hash(solid).value()).isEqualTo(0L);
+    }
+
+    /**
+     * seed에 따라 밝기 기울기 방향이 달라지는 합성 이미지
+     */
+    private BufferedImage pattern(int width, int height, int seed) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                double fx = (double) x / width;
+                double fy = (double) y / height;
+                double value = Math.sin((fx * (3 + seed) + fy * (2 + seed * seed % 5)) * Math.PI)
+                        + Math.cos((fx * fy * (5 + seed)) * Math.PI);
+                int luma = (int) Math.max(0, Math.min(255, 128 + value * 60));
+                image.setRGB(x, y, luma << 16 | luma << 8 | luma);
+            }
+        }
+        return image;
+    }
+
+    private BufferedImage resize(BufferedImage source, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+        return resized;
+    }
+
+    private BufferedImage reencode(BufferedImage image, float quality) throws IOException {
+        DecodeGuard guard = new DecodeGuard(250_000_000L, 16_777_216L, 100_000_000, 1_000L);
+        ThumbnailCodec codec = new ThumbnailCodec(quality, false, 4_194_304L, guard);
+        return ImageIO.read(new ByteArrayInputStream(codec.encode(image)));
+    }
+}
@@ -0,0 +1,170 @@
+package com.bound4.image.adapter.out.thumbnail;
+
+import com.bound4.image.adapter.out.metadata.HeaderImageMetadataExtractor;
+import com.bound4.image.application.port.out.FileStorageService;
+import com.bound4.image.application.port.out.ThumbnailGenerationService.ThumbnailGenerationException;
+import com.bound4.image.application.port.out.ThumbnailMetrics;
+import com.bound4.image.domain.GeneratedThumbnail;
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.ThumbnailFailureReason;
+import com.bound4.image.domain.ThumbnailStage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("저장소 기반 썸네일 생성 서비스 테스트")
+class StorageThumbnailGenerationServiceTest {
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private ThumbnailMetrics thumbnailMetrics;
+
+    private StorageThumbnailGenerationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StorageThumbnailGenerationService(
+                fileStorageService, new ThumbnailCodec(0.85f, true, 4_194_304L,
+                        new DecodeGuard(250_000_000L, 16_777_216L, 100_000_000, 1_000L)),
+                new BlurHashEncoder(4, 3), new DifferenceHasher(), new HeaderImageMetadataExtractor(),
+                thumbnailMetrics, 0);
+    }
+
+    @Test
+    @DisplayName("썸네일 생성 시 파이프라인 단계별 소요 시간 기록")
+    void generateThumbnail_RecordsEachStage() throws Exception {
+        // Given
+        when(fileStorageService.downloadFile("original.png")).thenReturn(png(800, 600));
+
+        // When
+        GeneratedThumbnail thumbnail = service.generateThumbnail(ImageId.of(1L), "original.png", "image/png");
+
+        // Then
+        assertThat(thumbnail.thumbnailKey()).isEqualTo("thumbnails/1_thumb.jpg");
+        assertThat(thumbnail.placeholder()).hasSize(28);
+        assertThat(thumbnail.perceptualHash()).isNotNull();
+        verify(fileStorageService).uploadFile(eq(thumbnail.thumbnailKey()), any(byte[].class), eq("image/jpeg"));
+        for (ThumbnailStage stage : new ThumbnailStage[]{ThumbnailStage.STORAGE_READ, ThumbnailStage.DECODE,
+                ThumbnailStage.RESIZE, ThumbnailStage.ENCODE, ThumbnailStage.STORAGE_WRITE}) {
+            verify(thumbnailMetrics).recordStage(eq(stage), any(Duration.class));
+        }
+        verify(thumbnailMetrics).recordSourceFrames(1);
+    }
+
+    @Test
+    @DisplayName("애니메이션 GIF는 헤더의 프레임 수를 기록하고 포스터 프레임만 디코딩")
+    void generateThumbnail_AnimatedGifUsesPosterFrame() throws Exception {
+        // Given: 빨강/초록/파랑 3프레임, 포스터 프레임 1
+        StorageThumbnailGenerationService posterService = new StorageThumbnailGenerationService(
+                fileStorageService, new ThumbnailCodec(0.95f, false, 4_194_304L,
+                        new DecodeGuard(250_000_000L, 16_777_216L, 100_000_000, 1_000L)),
+                new BlurHashEncoder(4, 3), new DifferenceHasher(), new HeaderImageMetadataExtractor(),
+                thumbnailMetrics, 1);
+        when(fileStorageService.downloadFile("animated.gif"))
+                .thenReturn(ThumbnailCodecTest.animatedGif(300, 200, Color.RED, Color.GREEN, Color.BLUE));
+
+        // When
+        posterService.generateThumbnail(ImageId.of(1L), "animated.gif", "image/gif");
+
+        // Then
+        ArgumentCaptor<byte[]> thumbnailBytes = ArgumentCaptor.forClass(byte[].class);
+        verify(fileStorageService).uploadFile(eq("thumbnails/1_thumb.jpg"), thumbnailBytes.capture(), eq("image/jpeg"));
+        Color center = new Color(ImageIO.read(new ByteArrayInputStream(thumbnailBytes.getValue())).getRGB(100, 66));
+        assertThat(center.getGreen()).isGreaterThan(200);
+        assertThat(center.getRed()).isLessThan(50);
+        verify(thumbnailMetrics).recordSourceFrames(3);
+    }
+
+    @Test
+    @DisplayName("WebP는 ImageIO 리더가 등록된 경우에만 지원")
+    void isSupported_WebpDependsOnReader() {
+        assertThat(service.isSupported("image/gif")).isTrue();
+        assertThat(service.isSupported("image/webp"))
+                .isEqualTo(ImageIO.getImageReadersByMIMEType("image/webp").hasNext());
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 원본은 재시도 불가능한 실패")
+    void generateThumbnail_UnreadableImage() {
+        // Given
+        when(fileStorageService.downloadFile("broken.png")).thenReturn(new byte[]{1, 2, 3});
+
+        // When & Then
+        assertThatThrownBy(() -> service.generateThumbnail(ImageId.of(1L), "broken.png", "image/png"))
+                .isInstanceOfSatisfying(ThumbnailGenerationException.class, e -> {
+                    assertThat(e.isRetryable()).isFalse();
+                    assertThat(e.getFailureReason()).isEqualTo(ThumbnailFailureReason.UNREADABLE_IMAGE);
+                });
+        verify(fileStorageService, never()).uploadFile(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("헤더 크기가 허용 한도를 넘는 원본은 디코딩하지 않고 재시도 불가능한 실패")
+    void generateThumbnail_DecompressionBomb() throws Exception {
+        // Given: 실제 데이터는 작지만 헤더는 50000x50000으로 선언된 PNG
+        when(fileStorageService.downloadFile("bomb.png")).thenReturn(withDeclaredSize(png(10, 10), 50_000, 50_000));
+
+        // When & Then
+        assertThatThrownBy(() -> service.generateThumbnail(ImageId.of(1L), "bomb.png", "image/png"))
+                .isInstanceOfSatisfying(ThumbnailGenerationException.class, e -> {
+                    assertThat(e.isRetryable()).isFalse();
+                    assertThat(e.getFailureReason()).isEqualTo(ThumbnailFailureReason.IMAGE_TOO_LARGE);
+                });
+        verify(fileStorageService, never()).uploadFile(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("저장소 읽기 실패는 재시도 가능한 실패")
+    void generateThumbnail_StorageReadFailure() {
+        // Given
+        when(fileStorageService.downloadFile("original.png")).thenThrow(new IllegalStateException("timeout"));
+
+        // When & Then
+        assertThatThrownBy(() -> service.generateThumbnail(ImageId.of(1L), "original.png", "image/png"))
+                .isInstanceOfSatisfying(ThumbnailGenerationException.class,
+                        e -> assertThat(e.isRetryable()).isTrue());
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * PNG IHDR의 가로/세로 값을 바꾸고 CRC를 다시 계산
+     */
+    private byte[] withDeclaredSize(byte[] png, int width, int height) {
+        ByteBuffer buffer = ByteBuffer.wrap(png);
+        buffer.putInt(16, width);
+        buffer.putInt(20, height);
+        CRC32 crc = new CRC32();
+        crc.update(png, 12, 17);
+        buffer.putInt(29, (int) crc.getValue());
+        return png;
+    }
+}
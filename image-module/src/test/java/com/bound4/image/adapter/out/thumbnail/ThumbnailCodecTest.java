@@ -0,0 +1,229 @@
+package com.bound4.image.adapter.out.thumbnail;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("썸네일 코덱 테스트")
+class ThumbnailCodecTest {
+
+    private final DecodeGuard decodeGuard = new DecodeGuard(250_000_000L, 16_777_216L, 100_000_000, 1_000L);
+    private final ThumbnailCodec codec = new ThumbnailCodec(0.85f, true, 4_194_304L, decodeGuard);
+
+    @Test
+    @DisplayName("비율을 유지한 JPEG 썸네일 생성")
+    void generatesAspectPreservingJpeg() throws Exception {
+        // Given
+        byte[] original = image(800, 400, Color.RED, "png");
+
+        // When
+        byte[] thumbnail = thumbnail(codec, original);
+
+        // Then
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertThat(result.getWidth()).isEqualTo(200);
+        assertThat(result.getHeight()).isEqualTo(100);
+        assertThat(thumbnail[0]).isEqualTo((byte) 0xFF);
+        assertThat(thumbnail[1]).isEqualTo((byte) 0xD8);
+    }
+
+    @Test
+    @DisplayName("재사용 버퍼에 이전 썸네일이 남지 않음")
+    void reusedBuffersDoNotLeakPreviousImage() throws Exception {
+        // Given
+        thumbnail(codec, image(400, 400, Color.WHITE, "png"));
+
+        // When: 같은 스레드에서 투명 배경의 작은 이미지를 이어서 처리
+        byte[] thumbnail = thumbnail(codec, transparentPng(400, 200));
+
+        // Then: 흰색이 아니라 새 이미지와 같은 검은 배경
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertThat(result.getHeight()).isEqualTo(100);
+        Color center = new Color(result.getRGB(100, 50));
+        assertThat(center.getRed()).isLessThan(30);
+    }
+
+    @Test
+    @DisplayName("JPEG 품질 설정이 출력 크기에 반영")
+    void jpegQualityAffectsSize() throws Exception {
+        // Given
+        byte[] original = noise(600, 600);
+        ThumbnailCodec lowQuality = new ThumbnailCodec(0.3f, false, 4_194_304L, decodeGuard);
+
+        // When
+        byte[] high = thumbnail(codec, original);
+        byte[] low = thumbnail(lowQuality, original);
+
+        // Then
+        assertThat(low.length).isLessThan(high.length);
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 데이터는 예외")
+    void rejectsUnreadableData() {
+        assertThatThrownBy(() -> codec.decode(new byte[]{1, 2, 3}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("서브샘플링 기준을 넘는 이미지는 축소 디코딩하고 예산을 반환")
+    void subsamplesLargeImageAndReleasesBudget() throws Exception {
+        // Given: 기준 10,000 픽셀, 원본 300x200 = 60,000 픽셀
+        DecodeGuard smallGuard = new DecodeGuard(1_000_000L, 10_000L, 20_000, 1_000L);
+        ThumbnailCodec guarded = new ThumbnailCodec(0.85f, true, 4_194_304L, smallGuard);
+        byte[] original = image(300, 200, Color.BLUE, "png");
+
+        // When
+        try (ThumbnailCodec.DecodedImage decoded = guarded.decode(original)) {
+            // Then
+            assertThat(decoded.subsampling()).isEqualTo(3);
+            assertThat(decoded.image().getWidth()).isEqualTo(100);
+            assertThat(decoded.image().getHeight()).isEqualTo(67);
+            assertThat(smallGuard.getInFlightPixels()).isEqualTo(100L * 67);
+        }
+        assertThat(smallGuard.getInFlightPixels()).isZero();
+    }
+
+    @Test
+    @DisplayName("허용 픽셀 수를 넘는 이미지는 디코딩하지 않음")
+    void rejectsImageAboveDecodeLimit() throws Exception {
+        // Given
+        DecodeGuard smallGuard = new DecodeGuard(10_000L, 10_000L, 20_000, 1_000L);
+        ThumbnailCodec guarded = new ThumbnailCodec(0.85f, true, 4_194_304L, smallGuard);
+        byte[] original = image(300, 200, Color.BLUE, "png");
+
+        // When & Then
+        assertThatThrownBy(() -> guarded.decode(original))
+                .isInstanceOf(DecodeGuard.ImageTooLargeException.class);
+        assertThat(smallGuard.getInFlightPixels()).isZero();
+    }
+
+    @Test
+    @DisplayName("애니메이션 GIF는 요청한 프레임 하나만 디코딩")
+    void decodesRequestedFrameOfAnimatedGif() throws Exception {
+        // Given
+        byte[] gif = animatedGif(120, 80, Color.RED, Color.GREEN, Color.BLUE);
+
+        // When & Then
+        try (ThumbnailCodec.DecodedImage first = codec.decode(gif)) {
+            assertThat(first.frameIndex()).isZero();
+            assertThat(new Color(first.image().getRGB(60, 40)).getRed()).isGreaterThan(200);
+        }
+        try (ThumbnailCodec.DecodedImage third = codec.decode(gif, 2)) {
+            assertThat(third.frameIndex()).isEqualTo(2);
+            assertThat(third.image().getWidth()).isEqualTo(120);
+            assertThat(new Color(third.image().getRGB(60, 40)).getBlue()).isGreaterThan(200);
+        }
+        assertThat(decodeGuard.getInFlightPixels()).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 프레임이나 부분 프레임을 요청하면 첫 프레임으로 대체")
+    void fallsBackToFirstFrame() throws Exception {
+        // Given: 두 번째 프레임은 변경 영역(40x20)만 담은 부분 프레임
+        byte[] gif = gif(frame(120, 80, Color.RED), frame(40, 20, Color.BLUE));
+
+        // When & Then
+        try (ThumbnailCodec.DecodedImage partial = codec.decode(gif, 1)) {
+            assertThat(partial.frameIndex()).isZero();
+            assertThat(partial.image().getWidth()).isEqualTo(120);
+        }
+        try (ThumbnailCodec.DecodedImage missing = codec.decode(gif, 5)) {
+            assertThat(missing.frameIndex()).isZero();
+        }
+        try (ThumbnailCodec.DecodedImage still = codec.decode(image(60, 60, Color.RED, "png"), 3)) {
+            assertThat(still.frameIndex()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("JPEG 품질 범위 검증")
+    void rejectsInvalidQuality() {
+        assertThatThrownBy(() -> new ThumbnailCodec(1.5f, true, 0L, decodeGuard))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private byte[] thumbnail(ThumbnailCodec target, byte[] original) throws IOException {
+        try (ThumbnailCodec.DecodedImage decoded = target.decode(original)) {
+            return target.encode(target.resize(decoded.image()));
+        }
+    }
+
+    private byte[] image(int width, int height, Color color, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        return write(image, format);
+    }
+
+    /**
+     * 같은 크기의 단색 프레임으로 구성된 애니메이션 GIF
+     */
+    static byte[] animatedGif(int width, int height, Color... colors) throws IOException {
+        BufferedImage[] frames = new BufferedImage[colors.length];
+        for (int i = 0; i < colors.length; i++) {
+            frames[i] = frame(width, height, colors[i]);
+        }
+        return gif(frames);
+    }
+
+    private static BufferedImage frame(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] gif(BufferedImage... frames) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            writer.prepareWriteSequence(null);
+            for (BufferedImage frame : frames) {
+                writer.writeToSequence(new IIOImage(frame, null, null), null);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] transparentPng(int width, int height) throws IOException {
+        return write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png");
+    }
+
+    private byte[] noise(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        java.util.Random random = new java.util.Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0xFFFFFF));
+            }
+        }
+        return write(image, "png");
+    }
+
+    private byte[] write(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,98 @@
+package com.bound4.image.adapter.out.thumbnail;
+
+import com.bound4.image.domain.SpriteSheet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("썸네일 스프라이트 합성 테스트")
+class ThumbnailSpriteComposerTest {
+
+    private final DecodeGuard decodeGuard = new DecodeGuard(250_000_000L, 16_777_216L, 100_000_000, 1_000L);
+    private final ThumbnailCodec codec = new ThumbnailCodec(0.95f, false, 4_194_304L, decodeGuard);
+    private final ThumbnailSpriteComposer composer = new ThumbnailSpriteComposer(codec);
+
+    @Test
+    @DisplayName("썸네일을 배치 좌표의 타일에 그림")
+    void composesTilesAtLayoutCoordinates() throws Exception {
+        // Given: 빨강/초록/파랑 썸네일 3개를 2열로 배치
+        SpriteSheet sheet = SpriteSheet.layout("key", 50, 2, List.of(1L, 2L, 3L), List.of());
+        List<byte[]> thumbnails = List.of(
+                jpeg(200, 150, Color.RED), jpeg(150, 200, Color.GREEN), jpeg(200, 200, Color.BLUE));
+
+        // When
+        BufferedImage sprite = ImageIO.read(new ByteArrayInputStream(composer.compose(sheet, thumbnails)));
+
+        // Then
+        assertThat(sprite.getWidth()).isEqualTo(100);
+        assertThat(sprite.getHeight()).isEqualTo(100);
+        assertThat(dominant(sprite.getRGB(25, 25))).isEqualTo('R');
+        assertThat(dominant(sprite.getRGB(75, 25))).isEqualTo('G');
+        assertThat(dominant(sprite.getRGB(25, 75))).isEqualTo('B');
+        assertThat(decodeGuard.getInFlightPixels()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("가로로 긴 썸네일은 가운데 정사각형 영역만 그림")
+    void cropsCenterSquare() throws Exception {
+        // Given: 왼쪽/오른쪽 끝은 검정, 가운데는 흰색인 300x100 썸네일
+        BufferedImage wide = new BufferedImage(300, 100, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = wide.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(100, 0, 100, 100);
+        graphics.dispose();
+        SpriteSheet sheet = SpriteSheet.layout("key", 40, 10, List.of(1L), List.of());
+
+        // When
+        BufferedImage sprite = ImageIO.read(new ByteArrayInputStream(composer.compose(sheet, List.of(encode(wide)))));
+
+        // Then: 타일 가장자리도 흰색 (검정 영역은 잘림)
+        assertThat(sprite.getRGB(2, 20) & 0xFF).isGreaterThan(200);
+        assertThat(sprite.getRGB(37, 20) & 0xFF).isGreaterThan(200);
+    }
+
+    @Test
+    @DisplayName("썸네일 수가 타일 수와 다르면 거부")
+    void rejectsMismatchedThumbnails() {
+        SpriteSheet sheet = SpriteSheet.layout("key", 50, 10, List.of(1L, 2L), List.of());
+
+        assertThatThrownBy(() -> composer.compose(sheet, List.of(new byte[0])))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private byte[] jpeg(int width, int height, Color color) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        return encode(image);
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    private char dominant(int rgb) {
+        int r = (rgb >> 16) & 0xFF;
+        int g = (rgb >> 8) & 0xFF;
+        int b = rgb & 0xFF;
+        if (r > g && r > b) {
+            return 'R';
+        }
+        return g > b ? 'G' : 'B';
+    }
+}
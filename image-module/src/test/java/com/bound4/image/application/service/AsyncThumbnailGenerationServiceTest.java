@@ -1,10 +1,10 @@
 package com.bound4.image.application.service;
 
 import com.bound4.image.application.port.out.EventPublisher;
-import com.bound4.image.application.port.out.ImageRepository;
 import com.bound4.image.application.port.out.ThumbnailGenerationService;
+import com.bound4.image.application.port.out.ThumbnailMetrics;
+import com.bound4.image.application.port.out.ThumbnailStatusSink;
 import com.bound4.image.domain.*;
-import com.bound4.image.domain.event.ThumbnailGenerationCompletedEvent;
 import com.bound4.image.domain.event.ThumbnailGenerationRequestedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,45 +13,43 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("비동기 썸네일 생성 서비스 테스트")
 class AsyncThumbnailGenerationServiceTest {
 
-    @Mock
-    private ImageRepository imageRepository;
-
     @Mock
     private ThumbnailGenerationService thumbnailGenerationService;
 
     @Mock
     private EventPublisher eventPublisher;
 
+    @Mock
+    private ThumbnailProcessingService thumbnailProcessingService;
+
+    @Mock
+    private ThumbnailStatusSink thumbnailStatusSink;
+
+    @Mock
+    private ThumbnailMetrics thumbnailMetrics;
+
     private AsyncThumbnailGenerationService asyncThumbnailGenerationService;
 
-    private Image sampleImage;
     private ThumbnailGenerationRequestedEvent sampleEvent;
 
     @BeforeEach
     void setUp() {
         asyncThumbnailGenerationService = new AsyncThumbnailGenerationService(
-                imageRepository, thumbnailGenerationService, eventPublisher);
-
-        sampleImage = new Image(
-                ProjectId.of(100L),
-                "test.jpg",
-                FileHash.of("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855"),
-                1024L,
-                "image/jpeg",
-                "original.jpg");
-        sampleImage.setId(ImageId.of(1L));
-        sampleImage.updateThumbnailProcessingStatus(ThumbnailProcessingStatus.PROCESSING);
+                thumbnailGenerationService, eventPublisher, thumbnailProcessingService, thumbnailStatusSink, thumbnailMetrics);
 
         sampleEvent = new ThumbnailGenerationRequestedEvent(
                 ImageId.of(1L),
@@ -66,10 +64,13 @@ class AsyncThumbnailGenerationServiceTest {
     void handleThumbnailGenerationRequested_Success() throws Exception {
         // Given
         String thumbnailKey = "thumbnails/1_thumb.jpg";
+        String placeholder = "LEHV6nWB2yk8pyo0adR*.7kCMdnj";
+        PerceptualHash perceptualHash = PerceptualHash.of(0x0f1e2d3c4b5a6978L);
         
-        when(imageRepository.findById(any(ImageId.class))).thenReturn(Optional.of(sampleImage));
+        when(thumbnailStatusSink.submit(any())).thenReturn(CompletableFuture.completedFuture(true));
         when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
-        when(thumbnailGenerationService.generateThumbnail(any(), any(), any())).thenReturn(thumbnailKey);
+        when(thumbnailGenerationService.generateThumbnail(any(), any(), any()))
+                .thenReturn(new GeneratedThumbnail(thumbnailKey, placeholder, perceptualHash));
 
         // When
         CompletableFuture<Void> result = asyncThumbnailGenerationService
@@ -79,10 +80,12 @@ class AsyncThumbnailGenerationServiceTest {
         // Then
         verify(thumbnailGenerationService).generateThumbnail(
                 ImageId.of(1L), "original.jpg", "image/jpeg");
-        verify(imageRepository).save(argThat(image -> 
-                image.getThumbnailKey().equals(thumbnailKey) &&
-                image.getThumbnailProcessingStatus() == ThumbnailProcessingStatus.COMPLETED));
-        verify(eventPublisher).publishThumbnailGenerationCompleted(any(ThumbnailGenerationCompletedEvent.class));
+        verify(thumbnailStatusSink).submit(
+                ThumbnailStatusUpdate.completed(ImageId.of(1L), thumbnailKey, placeholder, perceptualHash));
+        verify(eventPublisher).publishThumbnailGenerationCompleted(argThat(event ->
+                event.getProjectId().equals(ProjectId.of(100L)) && perceptualHash.equals(event.getPerceptualHash())));
+        verify(thumbnailMetrics).recordOutcome(ThumbnailOutcome.COMPLETED, 0);
+        verify(thumbnailMetrics).recordStage(eq(ThumbnailStage.DB_UPDATE), any(Duration.class));
     }
 
     @Test
@@ -92,7 +95,7 @@ class AsyncThumbnailGenerationServiceTest {
         ThumbnailGenerationRequestedEvent unsupportedEvent = new ThumbnailGenerationRequestedEvent(
                 ImageId.of(1L), ProjectId.of(100L), "original.bmp", "test.bmp", "image/bmp");
         
-        when(imageRepository.findById(any(ImageId.class))).thenReturn(Optional.of(sampleImage));
+        when(thumbnailStatusSink.submit(any())).thenReturn(CompletableFuture.completedFuture(true));
         when(thumbnailGenerationService.isSupported("image/bmp")).thenReturn(false);
 
         // When
@@ -101,18 +104,19 @@ class AsyncThumbnailGenerationServiceTest {
         result.get();
 
         // Then
-        verify(imageRepository).save(argThat(image -> 
-                image.getThumbnailProcessingStatus() == ThumbnailProcessingStatus.FAILED_PERMANENT));
+        verify(thumbnailStatusSink).submit(argThat(update -> 
+                update.status() == ThumbnailProcessingStatus.FAILED_PERMANENT));
         verify(eventPublisher).publishThumbnailGenerationFailed(
                 argThat(event -> !event.canRetry()));
         verify(thumbnailGenerationService, never()).generateThumbnail(any(), any(), any());
+        verify(thumbnailMetrics).recordPermanentFailure(ThumbnailFailureReason.UNSUPPORTED_MIME_TYPE);
     }
 
     @Test
-    @DisplayName("재시도 가능한 실패")
+    @DisplayName("재시도 가능한 실패는 상태 싱크를 거치지 않고 상태와 재시도 요청을 함께 기록")
     void handleThumbnailGenerationRequested_RetryableFailure() throws Exception {
         // Given
-        when(imageRepository.findById(any(ImageId.class))).thenReturn(Optional.of(sampleImage));
+        when(thumbnailProcessingService.scheduleRetry(eq(sampleEvent), any())).thenReturn(true);
         when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
         when(thumbnailGenerationService.generateThumbnail(any(), any(), any()))
                 .thenThrow(new ThumbnailGenerationService.ThumbnailGenerationException(
@@ -124,17 +128,20 @@ class AsyncThumbnailGenerationServiceTest {
         result.get();
 
         // Then
-        verify(imageRepository).save(argThat(image -> 
-                image.getThumbnailProcessingStatus() == ThumbnailProcessingStatus.FAILED_RETRYABLE));
+        verify(thumbnailStatusSink, never()).submit(any());
         verify(eventPublisher).publishThumbnailGenerationFailed(
                 argThat(event -> event.canRetry()));
+        verify(thumbnailProcessingService).scheduleRetry(eq(sampleEvent),
+                argThat(delay -> !delay.isNegative() && delay.compareTo(Duration.ofSeconds(2)) <= 0));
+        verify(thumbnailMetrics).recordOutcome(ThumbnailOutcome.RETRY_SCHEDULED, 0);
+        verify(thumbnailMetrics).recordStage(eq(ThumbnailStage.DB_UPDATE), any(Duration.class));
     }
 
     @Test
     @DisplayName("재시도 불가능한 실패")
     void handleThumbnailGenerationRequested_PermanentFailure() throws Exception {
         // Given
-        when(imageRepository.findById(any(ImageId.class))).thenReturn(Optional.of(sampleImage));
+        when(thumbnailStatusSink.submit(any())).thenReturn(CompletableFuture.completedFuture(true));
         when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
         when(thumbnailGenerationService.generateThumbnail(any(), any(), any()))
                 .thenThrow(new ThumbnailGenerationService.ThumbnailGenerationException(
@@ -146,10 +153,11 @@ class AsyncThumbnailGenerationServiceTest {
         result.get();
 
         // Then
-        verify(imageRepository).save(argThat(image -> 
-                image.getThumbnailProcessingStatus() == ThumbnailProcessingStatus.FAILED_PERMANENT));
+        verify(thumbnailStatusSink).submit(argThat(update -> 
+                update.status() == ThumbnailProcessingStatus.FAILED_PERMANENT));
         verify(eventPublisher).publishThumbnailGenerationFailed(
                 argThat(event -> !event.canRetry()));
+        verify(thumbnailMetrics).recordPermanentFailure(ThumbnailFailureReason.NON_RETRYABLE_ERROR);
     }
 
     @Test
@@ -160,7 +168,7 @@ class AsyncThumbnailGenerationServiceTest {
                 ImageId.of(1L), ProjectId.of(100L), "original.jpg", "test.jpg", "image/jpeg",
                 LocalDateTime.now(), 5); // 최대 재시도 횟수 초과
         
-        when(imageRepository.findById(any(ImageId.class))).thenReturn(Optional.of(sampleImage));
+        when(thumbnailStatusSink.submit(any())).thenReturn(CompletableFuture.completedFuture(true));
         when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
         when(thumbnailGenerationService.generateThumbnail(any(), any(), any()))
                 .thenThrow(new ThumbnailGenerationService.ThumbnailGenerationException(
@@ -172,17 +180,21 @@ class AsyncThumbnailGenerationServiceTest {
         result.get();
 
         // Then
-        verify(imageRepository).save(argThat(image -> 
-                image.getThumbnailProcessingStatus() == ThumbnailProcessingStatus.FAILED_PERMANENT));
+        verify(thumbnailStatusSink).submit(argThat(update -> 
+                update.status() == ThumbnailProcessingStatus.FAILED_PERMANENT));
         verify(eventPublisher).publishThumbnailGenerationFailed(
                 argThat(event -> !event.canRetry()));
+        verify(thumbnailMetrics).recordOutcome(ThumbnailOutcome.FAILED_PERMANENT, 5);
+        verify(thumbnailMetrics).recordPermanentFailure(ThumbnailFailureReason.RETRIES_EXHAUSTED);
     }
 
     @Test
-    @DisplayName("이미지가 존재하지 않는 경우")
-    void handleThumbnailGenerationRequested_ImageNotFound() throws Exception {
+    @DisplayName("삭제되었거나 이미 완료된 이미지에 대한 결과는 적용되지 않음")
+    void handleThumbnailGenerationRequested_ResultNotApplied() throws Exception {
         // Given
-        when(imageRepository.findById(any(ImageId.class))).thenReturn(Optional.empty());
+        when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
+        when(thumbnailGenerationService.generateThumbnail(any(), any(), any())).thenReturn(GeneratedThumbnail.of("thumbnails/1_thumb.jpg"));
+        when(thumbnailStatusSink.submit(any())).thenReturn(CompletableFuture.completedFuture(false));
 
         // When
         CompletableFuture<Void> result = asyncThumbnailGenerationService
@@ -190,8 +202,80 @@ class AsyncThumbnailGenerationServiceTest {
         result.get();
 
         // Then
-        verify(thumbnailGenerationService, never()).generateThumbnail(any(), any(), any());
+        verify(thumbnailStatusSink).submit(any());
         verify(eventPublisher, never()).publishThumbnailGenerationCompleted(any());
         verify(eventPublisher, never()).publishThumbnailGenerationFailed(any());
+        verify(thumbnailMetrics).recordOutcome(ThumbnailOutcome.DISCARDED, 0);
+    }
+
+    @Test
+    @DisplayName("삭제되었거나 이미 완료된 이미지의 재시도 가능한 실패는 버림")
+    void handleThumbnailGenerationRequested_FailureNotApplied() throws Exception {
+        // Given
+        when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
+        when(thumbnailGenerationService.generateThumbnail(any(), any(), any()))
+                .thenThrow(new ThumbnailGenerationService.ThumbnailGenerationException(
+                        "Temporary failure", true));
+        when(thumbnailProcessingService.scheduleRetry(eq(sampleEvent), any())).thenReturn(false);
+
+        // When
+        CompletableFuture<Void> result = asyncThumbnailGenerationService
+                .handleThumbnailGenerationRequested(sampleEvent);
+        result.get();
+
+        // Then
+        verify(eventPublisher, never()).publishThumbnailGenerationFailed(any());
+        verify(thumbnailMetrics).recordOutcome(ThumbnailOutcome.DISCARDED, 0);
+        verify(thumbnailMetrics, never()).recordOutcome(ThumbnailOutcome.RETRY_SCHEDULED, 0);
+    }
+
+    @Test
+    @DisplayName("재시도 기록 트랜잭션 실패 시 예외가 전파되어 메시지가 다시 전달됨")
+    void handleThumbnailGenerationRequested_RetryScheduleFailure() {
+        // Given
+        when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
+        when(thumbnailGenerationService.generateThumbnail(any(), any(), any()))
+                .thenThrow(new ThumbnailGenerationService.ThumbnailGenerationException(
+                        "Temporary failure", true));
+        when(thumbnailProcessingService.scheduleRetry(eq(sampleEvent), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        // When & Then
+        assertThatThrownBy(() -> asyncThumbnailGenerationService.handleThumbnailGenerationRequested(sampleEvent))
+                .isInstanceOf(IllegalStateException.class);
+        verify(eventPublisher, never()).publishThumbnailGenerationFailed(any());
+    }
+
+    @Test
+    @DisplayName("아웃박스에서 처리 가능해진 시각부터 대기 시간 기록")
+    void handleThumbnailGenerationRequested_RecordsQueueWait() throws Exception {
+        // Given
+        when(thumbnailStatusSink.submit(any())).thenReturn(CompletableFuture.completedFuture(true));
+        when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
+        when(thumbnailGenerationService.generateThumbnail(any(), any(), any())).thenReturn(GeneratedThumbnail.of("thumbnails/1_thumb.jpg"));
+
+        // When
+        asyncThumbnailGenerationService
+                .handleThumbnailGenerationRequested(sampleEvent, LocalDateTime.now().minusSeconds(3))
+                .get();
+
+        // Then
+        verify(thumbnailMetrics).recordStage(eq(ThumbnailStage.QUEUE_WAIT),
+                argThat(wait -> wait.compareTo(Duration.ofSeconds(3)) >= 0));
+    }
+
+    @Test
+    @DisplayName("상태 반영 실패 시 예외가 전파되어 메시지가 다시 전달됨")
+    void handleThumbnailGenerationRequested_SinkFailure() {
+        // Given
+        when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
+        when(thumbnailGenerationService.generateThumbnail(any(), any(), any())).thenReturn(GeneratedThumbnail.of("thumbnails/1_thumb.jpg"));
+        when(thumbnailStatusSink.submit(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("db down")));
+
+        // When & Then
+        assertThatThrownBy(() -> asyncThumbnailGenerationService.handleThumbnailGenerationRequested(sampleEvent))
+                .isInstanceOf(CompletionException.class);
+        verify(eventPublisher, never()).publishThumbnailGenerationCompleted(any());
     }
-}
\ No newline at end of file
+}
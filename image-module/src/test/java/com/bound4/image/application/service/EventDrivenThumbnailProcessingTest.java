@@ -3,6 +3,9 @@ package com.bound4.image.application.service;
 import com.bound4.image.application.port.out.EventPublisher;
 import com.bound4.image.application.port.out.ImageRepository;
 import com.bound4.image.application.port.out.ThumbnailGenerationService;
+import com.bound4.image.application.port.out.ThumbnailMetrics;
+import com.bound4.image.application.port.out.ThumbnailOutbox;
+import com.bound4.image.application.port.out.ThumbnailStatusSink;
 import com.bound4.image.domain.*;
 import com.bound4.image.domain.event.ThumbnailGenerationCompletedEvent;
 import com.bound4.image.domain.event.ThumbnailGenerationFailedEvent;
@@ -37,6 +40,15 @@ class EventDrivenThumbnailProcessingTest {
     @Mock
     private EventPublisher eventPublisher;
 
+    @Mock
+    private ThumbnailOutbox thumbnailOutbox;
+
+    @Mock
+    private ThumbnailStatusSink thumbnailStatusSink;
+
+    @Mock
+    private ThumbnailMetrics thumbnailMetrics;
+
     private ThumbnailProcessingService thumbnailProcessingService;
     private AsyncThumbnailGenerationService asyncThumbnailGenerationService;
 
@@ -45,9 +57,9 @@ class EventDrivenThumbnailProcessingTest {
 
     @BeforeEach
     void setUp() {
-        thumbnailProcessingService = new ThumbnailProcessingService(imageRepository, eventPublisher);
+        thumbnailProcessingService = new ThumbnailProcessingService(imageRepository, thumbnailOutbox);
         asyncThumbnailGenerationService = new AsyncThumbnailGenerationService(
-                imageRepository, thumbnailGenerationService, eventPublisher);
+                thumbnailGenerationService, eventPublisher, thumbnailProcessingService, thumbnailStatusSink, thumbnailMetrics);
 
         sampleImage = new Image(
                 ProjectId.of(100L),
@@ -72,16 +84,17 @@ class EventDrivenThumbnailProcessingTest {
         // Given
         String thumbnailKey = "thumbnails/1_thumb.jpg";
         when(imageRepository.findById(ImageId.of(1L))).thenReturn(Optional.of(sampleImage));
+        when(thumbnailStatusSink.submit(any())).thenReturn(CompletableFuture.completedFuture(true));
         when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
-        when(thumbnailGenerationService.generateThumbnail(any(), any(), any())).thenReturn(thumbnailKey);
+        when(thumbnailGenerationService.generateThumbnail(any(), any(), any())).thenReturn(GeneratedThumbnail.of(thumbnailKey));
 
         // When 1: 썸네일 생성 요청
         thumbnailProcessingService.requestThumbnailGeneration(ImageId.of(1L));
 
-        // Then 1: 요청 이벤트 발행 검증
+        // Then 1: 아웃박스 요청 기록 검증
         ArgumentCaptor<ThumbnailGenerationRequestedEvent> requestEventCaptor = 
                 ArgumentCaptor.forClass(ThumbnailGenerationRequestedEvent.class);
-        verify(eventPublisher).publishThumbnailGenerationRequested(requestEventCaptor.capture());
+        verify(thumbnailOutbox).enqueue(requestEventCaptor.capture());
         
         ThumbnailGenerationRequestedEvent capturedEvent = requestEventCaptor.getValue();
         assertThat(capturedEvent.getImageId()).isEqualTo(ImageId.of(1L));
@@ -97,7 +110,8 @@ class EventDrivenThumbnailProcessingTest {
         verify(thumbnailGenerationService).generateThumbnail(
                 ImageId.of(1L), "original.jpg", "image/jpeg");
         
-        verify(imageRepository, atLeast(1)).save(any(Image.class));
+        verify(imageRepository).save(any(Image.class)); // PROCESSING 상태 변경만 엔티티 저장
+        verify(thumbnailStatusSink).submit(ThumbnailStatusUpdate.completed(ImageId.of(1L), thumbnailKey));
 
         ArgumentCaptor<ThumbnailGenerationCompletedEvent> completedEventCaptor = 
                 ArgumentCaptor.forClass(ThumbnailGenerationCompletedEvent.class);
@@ -112,7 +126,7 @@ class EventDrivenThumbnailProcessingTest {
     @DisplayName("재시도 가능한 실패 후 지수 백오프 재시도")
     void retryableFailureWithExponentialBackoff() throws Exception {
         // Given
-        when(imageRepository.findById(ImageId.of(1L))).thenReturn(Optional.of(sampleImage));
+        when(imageRepository.markThumbnailRetryable(ImageId.of(1L))).thenReturn(true);
         when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
         when(thumbnailGenerationService.generateThumbnail(any(), any(), any()))
                 .thenThrow(new ThumbnailGenerationService.ThumbnailGenerationException(
@@ -123,9 +137,10 @@ class EventDrivenThumbnailProcessingTest {
                 .handleThumbnailGenerationRequested(sampleEvent);
         result.get();
 
-        // Then: 실패 이벤트 발행 및 재시도 스케줄링 검증
-        verify(imageRepository).save(argThat(image -> 
-                image.getThumbnailProcessingStatus() == ThumbnailProcessingStatus.FAILED_RETRYABLE));
+        // Then: 실패 이벤트 발행 및 재시도 스케줄링 검증 (상태 변경과 아웃박스 기록은 같은 서비스 트랜잭션)
+        verify(thumbnailStatusSink, never()).submit(any());
+        verify(imageRepository).markThumbnailRetryable(ImageId.of(1L));
+        verify(thumbnailOutbox).schedule(argThat(event -> event.getRetryCount() == 1), any());
 
         ArgumentCaptor<ThumbnailGenerationFailedEvent> failedEventCaptor = 
                 ArgumentCaptor.forClass(ThumbnailGenerationFailedEvent.class);
@@ -145,7 +160,7 @@ class EventDrivenThumbnailProcessingTest {
                 ImageId.of(1L), ProjectId.of(100L), "original.jpg", "test.jpg", "image/jpeg",
                 LocalDateTime.now(), 5); // 최대 재시도 횟수 초과
 
-        when(imageRepository.findById(ImageId.of(1L))).thenReturn(Optional.of(sampleImage));
+        when(thumbnailStatusSink.submit(any())).thenReturn(CompletableFuture.completedFuture(true));
         when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
         when(thumbnailGenerationService.generateThumbnail(any(), any(), any()))
                 .thenThrow(new ThumbnailGenerationService.ThumbnailGenerationException(
@@ -157,8 +172,8 @@ class EventDrivenThumbnailProcessingTest {
         result.get();
 
         // Then: 영구 실패로 처리
-        verify(imageRepository).save(argThat(image -> 
-                image.getThumbnailProcessingStatus() == ThumbnailProcessingStatus.FAILED_PERMANENT));
+        verify(thumbnailStatusSink).submit(argThat(update -> 
+                update.status() == ThumbnailProcessingStatus.FAILED_PERMANENT));
 
         ArgumentCaptor<ThumbnailGenerationFailedEvent> failedEventCaptor = 
                 ArgumentCaptor.forClass(ThumbnailGenerationFailedEvent.class);
@@ -176,7 +191,7 @@ class EventDrivenThumbnailProcessingTest {
         ThumbnailGenerationRequestedEvent unsupportedEvent = new ThumbnailGenerationRequestedEvent(
                 ImageId.of(1L), ProjectId.of(100L), "original.bmp", "test.bmp", "image/bmp");
 
-        when(imageRepository.findById(ImageId.of(1L))).thenReturn(Optional.of(sampleImage));
+        when(thumbnailStatusSink.submit(any())).thenReturn(CompletableFuture.completedFuture(true));
         when(thumbnailGenerationService.isSupported("image/bmp")).thenReturn(false);
 
         // When
@@ -185,8 +200,8 @@ class EventDrivenThumbnailProcessingTest {
         result.get();
 
         // Then: 지원하지 않는 포맷으로 영구 실패
-        verify(imageRepository).save(argThat(image -> 
-                image.getThumbnailProcessingStatus() == ThumbnailProcessingStatus.FAILED_PERMANENT));
+        verify(thumbnailStatusSink).submit(argThat(update -> 
+                update.status() == ThumbnailProcessingStatus.FAILED_PERMANENT));
 
         verify(thumbnailGenerationService, never()).generateThumbnail(any(), any(), any());
 
@@ -202,16 +217,17 @@ class EventDrivenThumbnailProcessingTest {
     @Test
     @DisplayName("이벤트 처리 중 이미지 삭제된 경우")
     void imageDeletedDuringProcessing() throws Exception {
-        // Given: 이미지가 삭제된 상태
-        when(imageRepository.findById(ImageId.of(1L))).thenReturn(Optional.empty());
+        // Given: 생성 중 이미지가 삭제되어 조건부 UPDATE가 적용되지 않음
+        when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
+        when(thumbnailGenerationService.generateThumbnail(any(), any(), any())).thenReturn(GeneratedThumbnail.of("thumbnails/1_thumb.jpg"));
+        when(thumbnailStatusSink.submit(any())).thenReturn(CompletableFuture.completedFuture(false));
 
         // When
         CompletableFuture<Void> result = asyncThumbnailGenerationService
                 .handleThumbnailGenerationRequested(sampleEvent);
         result.get();
 
-        // Then: 아무 처리 없이 종료
-        verify(thumbnailGenerationService, never()).generateThumbnail(any(), any(), any());
+        // Then: 결과 이벤트 없이 종료
         verify(eventPublisher, never()).publishThumbnailGenerationCompleted(any());
         verify(eventPublisher, never()).publishThumbnailGenerationFailed(any());
     }
@@ -221,12 +237,12 @@ class EventDrivenThumbnailProcessingTest {
     void performanceMetricsCollection() throws Exception {
         // Given
         String thumbnailKey = "thumbnails/1_thumb.jpg";
-        when(imageRepository.findById(ImageId.of(1L))).thenReturn(Optional.of(sampleImage));
+        when(thumbnailStatusSink.submit(any())).thenReturn(CompletableFuture.completedFuture(true));
         when(thumbnailGenerationService.isSupported("image/jpeg")).thenReturn(true);
         when(thumbnailGenerationService.generateThumbnail(any(), any(), any()))
                 .thenAnswer(invocation -> {
                     Thread.sleep(100); // 처리 시간 시뮬레이션
-                    return thumbnailKey;
+                    return GeneratedThumbnail.of(thumbnailKey);
                 });
 
         // When
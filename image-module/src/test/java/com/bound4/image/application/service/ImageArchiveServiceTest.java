@@ -0,0 +1,165 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.application.port.in.ImageArchiveQuery;
+import com.bound4.image.application.port.out.FileStorageService;
+import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.domain.ImageArchiveEntry;
+import com.bound4.image.domain.ImageId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("원본 이미지 압축 파일 서비스 테스트")
+class ImageArchiveServiceTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private ImageArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 스레드에서 미리 열기 (window 1), 페이지 크기 2
+        archiveService = new ImageArchiveService(imageRepository, fileStorageService, Runnable::run, 1, 2);
+    }
+
+    @Test
+    @DisplayName("원본을 ID 순으로 압축 파일에 기록하고 같은 파일명은 ID로 구분")
+    void writeArchive_WritesEntriesInOrder() throws IOException {
+        // Given
+        givenEntries(entry(1L, "cat.jpg", "image/jpeg"), entry(2L, "cat.jpg", "image/jpeg"), entry(3L, "a/b.bmp", "image/bmp"));
+        when(fileStorageService.openStream(any()))
+                .thenAnswer(invocation -> new ByteArrayInputStream(invocation.getArgument(0, String.class).getBytes()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long written = archiveService.writeArchive(new ImageArchiveQuery(PROJECT_ID, null), out);
+
+        // Then
+        assertThat(written).isEqualTo(3);
+        Map<String, String> entries = unzip(out.toByteArray());
+        assertThat(entries.keySet()).containsExactly("1_cat.jpg", "2_cat.jpg", "3_a_b.bmp");
+        assertThat(entries.get("2_cat.jpg")).isEqualTo("originals/2");
+        verify(fileStorageService, never()).downloadFile(any());
+        // 페이지 크기만큼 채워진 페이지 뒤에는 마지막 ID 이후를 다시 조회
+        verify(imageRepository).findArchiveEntries(any(), eq(0L), eq(2));
+        verify(imageRepository).findArchiveEntries(any(), eq(2L), eq(2));
+    }
+
+    @Test
+    @DisplayName("원본을 열 수 없는 이미지는 제외하고 나머지는 계속 기록")
+    void writeArchive_SkipsUnreadableOriginals() throws IOException {
+        // Given
+        givenEntries(entry(1L, "cat.jpg", "image/jpeg"), entry(2L, "dog.png", "image/png"));
+        when(fileStorageService.openStream("originals/1")).thenThrow(new RuntimeException("File not found: originals/1"));
+        when(fileStorageService.openStream("originals/2")).thenReturn(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long written = archiveService.writeArchive(new ImageArchiveQuery(PROJECT_ID, List.of(1L, 2L)), out);
+
+        // Then
+        assertThat(written).isEqualTo(1);
+        assertThat(unzip(out.toByteArray()).keySet()).containsExactly("2_dog.png");
+    }
+
+    @Test
+    @DisplayName("응답 쓰기가 실패하면 중단하고 미리 연 원본 스트림을 닫음")
+    void writeArchive_ClosesPrefetchedStreamsOnWriteFailure() {
+        // Given
+        givenEntries(entry(1L, "cat.jpg", "image/jpeg"), entry(2L, "dog.jpg", "image/jpeg"), entry(3L, "sky.jpg", "image/jpeg"));
+        AtomicInteger closed = new AtomicInteger();
+        when(fileStorageService.openStream(any())).thenAnswer(invocation -> new ByteArrayInputStream(new byte[]{1}) {
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+        });
+        OutputStream brokenPipe = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> archiveService.writeArchive(new ImageArchiveQuery(PROJECT_ID, null), brokenPipe))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+        verify(fileStorageService, times(2)).openStream(any());
+        assertThat(closed.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("선택한 이미지가 너무 많으면 예외")
+    void query_RejectsTooManyImages() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= ImageArchiveQuery.MAX_IMAGES + 1; id++) {
+            ids.add(id);
+        }
+
+        assertThatThrownBy(() -> new ImageArchiveQuery(PROJECT_ID, ids))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new ImageArchiveQuery(PROJECT_ID, List.of(1L, 1L)).getImageIds()).containsExactly(1L);
+        assertThat(new ImageArchiveQuery(PROJECT_ID, null).isWholeProject()).isTrue();
+    }
+
+    /**
+     * ID 키셋 페이지로 나누어 반환
+     */
+    private void givenEntries(ImageArchiveEntry... entries) {
+        when(imageRepository.findArchiveEntries(any(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            return Arrays.stream(entries)
+                    .filter(entry -> entry.id().value() > afterId)
+                    .limit(limit)
+                    .toList();
+        });
+    }
+
+    private static ImageArchiveEntry entry(Long id, String filename, String mimeType) {
+        return new ImageArchiveEntry(ImageId.of(id), filename, mimeType, 100L, "originals/" + id);
+    }
+
+    private static Map<String, String> unzip(byte[] archive) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes()));
+            }
+        }
+        return entries;
+    }
+}
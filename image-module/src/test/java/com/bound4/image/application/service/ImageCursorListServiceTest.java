@@ -36,39 +36,20 @@ class ImageCursorListServiceTest {
 
     private ImageCursorListService imageCursorListService;
 
-    private Image sampleImage1;
-    private Image sampleImage2;
+    private ImageSummary sampleImage1;
+    private ImageSummary sampleImage2;
     private ImageCursorListQuery sampleQuery;
 
     @BeforeEach
     void setUp() {
         imageCursorListService = new ImageCursorListService(imageRepository, imageListUseCase);
+        LocalDateTime now = LocalDateTime.now();
 
-        sampleImage1 = new Image(
-                ProjectId.of(100L),
-                "test1.jpg",
-                FileHash.of("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855"),
-                1024L,
-                "image/jpeg",
-                "original1.jpg");
-        sampleImage1.setId(ImageId.of(1L));
-        sampleImage1.setThumbnailKey("thumb1.jpg");
-        sampleImage1.updateStatus(ImageStatus.READY);
-        sampleImage1.updateMemo("Test image 1");
-        sampleImage1.setVersion(1L);
-
-        sampleImage2 = new Image(
-                ProjectId.of(100L),
-                "test2.jpg",
-                FileHash.of("2c26b46b68ffc68ff99b453c1d30413413422d706483bfa0f98a5e886266e7ae"),
-                2048L,
-                "image/jpeg",
-                "original2.jpg");
-        sampleImage2.setId(ImageId.of(2L));
-        sampleImage2.setThumbnailKey("thumb2.jpg");
-        sampleImage2.updateStatus(ImageStatus.READY);
-        sampleImage2.updateMemo("Test image 2");
-        sampleImage2.setVersion(1L);
+        sampleImage1 = new ImageSummary(ImageId.of(1L), ProjectId.of(100L), "test1.jpg", 1024L, "image/jpeg",
+                ImageStatus.READY, null, "Test image 1", null, null, now.minusMinutes(2), now.minusMinutes(2));
+
+        sampleImage2 = new ImageSummary(ImageId.of(2L), ProjectId.of(100L), "test2.jpg", 2048L, "image/jpeg",
+                ImageStatus.READY, null, "Test image 2", null, null, now.minusMinutes(1), now.minusMinutes(1));
 
         sampleQuery = ImageCursorListQuery.builder()
                 .projectId(100L)
@@ -82,17 +63,17 @@ class ImageCursorListServiceTest {
     @DisplayName("커서 기반 이미지 목록 조회 - 성공")
     void getImagesCursorBased_Success() {
         // Given
-        List<Image> images = Arrays.asList(sampleImage1, sampleImage2);
+        List<ImageSummary> images = Arrays.asList(sampleImage1, sampleImage2);
         PageInfo pageInfo = PageInfo.of(true, false, 
                 Cursor.of(2L, LocalDateTime.now()), null, 20, 2);
-        ImageCursorListUseCase.CursorPageResult<Image> expectedResult = 
+        ImageCursorListUseCase.CursorPageResult<ImageSummary> expectedResult = 
                 new ImageCursorListUseCase.CursorPageResult<>(images, pageInfo);
 
         when(imageRepository.findImagesByCursor(any(ImageCursorListQuery.class)))
                 .thenReturn(expectedResult);
 
         // When
-        ImageCursorListUseCase.CursorPageResult<Image> result = 
+        ImageCursorListUseCase.CursorPageResult<ImageSummary> result = 
                 imageCursorListService.getImagesCursorBased(sampleQuery);
 
         // Then
@@ -120,17 +101,17 @@ class ImageCursorListServiceTest {
                 .sortBy("createdAt")
                 .build();
 
-        List<Image> images = Arrays.asList(sampleImage2);
+        List<ImageSummary> images = Arrays.asList(sampleImage2);
         PageInfo pageInfo = PageInfo.of(false, true, null, 
                 Cursor.of(1L, LocalDateTime.now()), 20, 1);
-        ImageCursorListUseCase.CursorPageResult<Image> expectedResult = 
+        ImageCursorListUseCase.CursorPageResult<ImageSummary> expectedResult = 
                 new ImageCursorListUseCase.CursorPageResult<>(images, pageInfo);
 
         when(imageRepository.findImagesByCursor(any(ImageCursorListQuery.class)))
                 .thenReturn(expectedResult);
 
         // When
-        ImageCursorListUseCase.CursorPageResult<Image> result = 
+        ImageCursorListUseCase.CursorPageResult<ImageSummary> result = 
                 imageCursorListService.getImagesCursorBased(queryWithCursor);
 
         // Then
@@ -171,9 +152,9 @@ class ImageCursorListServiceTest {
                 .thenReturn(offsetResult);
 
         // Mock cursor pagination result
-        List<Image> images = Arrays.asList(sampleImage1, sampleImage2);
+        List<ImageSummary> images = Arrays.asList(sampleImage1, sampleImage2);
         PageInfo pageInfo = PageInfo.of(false, false, null, null, 20, 2);
-        ImageCursorListUseCase.CursorPageResult<Image> cursorResult = 
+        ImageCursorListUseCase.CursorPageResult<ImageSummary> cursorResult = 
                 new ImageCursorListUseCase.CursorPageResult<>(images, pageInfo);
         when(imageRepository.findImagesByCursor(any(ImageCursorListQuery.class)))
                 .thenReturn(cursorResult);
@@ -261,9 +242,9 @@ class ImageCursorListServiceTest {
         when(imageListUseCase.getImageList(any(ImageListQuery.class)))
                 .thenReturn(offsetResult);
 
-        List<Image> images = Arrays.asList(sampleImage1);
+        List<ImageSummary> images = Arrays.asList(sampleImage1);
         PageInfo pageInfo = PageInfo.of(false, false, null, null, 20, 1);
-        ImageCursorListUseCase.CursorPageResult<Image> cursorResult = 
+        ImageCursorListUseCase.CursorPageResult<ImageSummary> cursorResult = 
                 new ImageCursorListUseCase.CursorPageResult<>(images, pageInfo);
         when(imageRepository.findImagesByCursor(any(ImageCursorListQuery.class)))
                 .thenReturn(cursorResult);
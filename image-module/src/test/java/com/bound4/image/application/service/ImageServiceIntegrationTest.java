@@ -3,9 +3,9 @@ package com.bound4.image.application.service;
 import com.bound4.image.application.port.in.ImageDataQuery;
 import com.bound4.image.application.port.in.ImageDeleteCommand;
 import com.bound4.image.application.port.in.ImageDetailQuery;
-import com.bound4.image.application.port.out.EventPublisher;
 import com.bound4.image.application.port.out.FileStorageService;
 import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.application.port.out.ThumbnailOutbox;
 import com.bound4.image.domain.*;
 import com.bound4.image.domain.event.ThumbnailGenerationCompletedEvent;
 import com.bound4.image.domain.event.ThumbnailGenerationRequestedEvent;
@@ -31,7 +31,7 @@ class ImageServiceIntegrationTest {
     private ImageRepository imageRepository;
 
     @Mock
-    private EventPublisher eventPublisher;
+    private ThumbnailOutbox thumbnailOutbox;
 
     @Mock
     private FileStorageService fileStorageService;
@@ -44,7 +44,7 @@ class ImageServiceIntegrationTest {
 
     @BeforeEach
     void setUp() {
-        thumbnailProcessingService = new ThumbnailProcessingService(imageRepository, eventPublisher);
+        thumbnailProcessingService = new ThumbnailProcessingService(imageRepository, thumbnailOutbox);
         imageDetailService = new ImageDetailService(imageRepository);
         imageDataService = new ImageDataService(imageRepository, fileStorageService);
 
@@ -68,10 +68,10 @@ class ImageServiceIntegrationTest {
         // When 1: 썸네일 생성 요청
         thumbnailProcessingService.requestThumbnailGeneration(ImageId.of(1L));
 
-        // Then 1: 상태가 PROCESSING으로 변경되고 이벤트 발행
+        // Then 1: 상태가 PROCESSING으로 변경되고 아웃박스에 요청 기록
         verify(imageRepository).save(argThat(image -> 
                 image.getThumbnailProcessingStatus() == ThumbnailProcessingStatus.PROCESSING));
-        verify(eventPublisher).publishThumbnailGenerationRequested(any(ThumbnailGenerationRequestedEvent.class));
+        verify(thumbnailOutbox).enqueue(any(ThumbnailGenerationRequestedEvent.class));
 
         // Given 2: 썸네일 생성 완료 시뮬레이션
         sampleImage.updateThumbnailProcessingStatus(ThumbnailProcessingStatus.PROCESSING);
@@ -137,10 +137,10 @@ class ImageServiceIntegrationTest {
         // When: 재시도 요청
         thumbnailProcessingService.retryThumbnailGeneration(ImageId.of(1L));
 
-        // Then: 상태가 PROCESSING으로 변경되고 재시도 이벤트 발행
+        // Then: 상태가 PROCESSING으로 변경되고 재시도 요청 기록
         verify(imageRepository).save(argThat(image -> 
                 image.getThumbnailProcessingStatus() == ThumbnailProcessingStatus.PROCESSING));
-        verify(eventPublisher).publishThumbnailGenerationRequested(any(ThumbnailGenerationRequestedEvent.class));
+        verify(thumbnailOutbox).enqueue(any(ThumbnailGenerationRequestedEvent.class));
     }
 
     @Test
@@ -155,7 +155,7 @@ class ImageServiceIntegrationTest {
                 thumbnailProcessingService.retryThumbnailGeneration(ImageId.of(1L)));
 
         verify(imageRepository, never()).save(any());
-        verify(eventPublisher, never()).publishThumbnailGenerationRequested(any());
+        verify(thumbnailOutbox, never()).enqueue(any());
     }
 
     @Test
@@ -0,0 +1,153 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.adapter.in.web.exception.SpriteSheetNotFoundException;
+import com.bound4.image.application.port.in.ImageSpriteQuery;
+import com.bound4.image.application.port.out.FileStorageService;
+import com.bound4.image.application.port.out.HashService;
+import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.application.port.out.SpriteComposer;
+import com.bound4.image.domain.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("스프라이트 시트 서비스 테스트")
+class ImageSpriteServiceTest {
+
+    private static final String SPRITE_KEY = "b".repeat(64);
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private HashService hashService;
+
+    @Mock
+    private SpriteComposer spriteComposer;
+
+    private ImageSpriteService spriteService;
+
+    @BeforeEach
+    void setUp() {
+        spriteService = new ImageSpriteService(imageRepository, fileStorageService, hashService, spriteComposer);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 스프라이트는 썸네일로 합성해 저장하고 썸네일 없는 이미지는 제외")
+    void composesAndStoresOnMiss() {
+        // Given: 3번 이미지는 썸네일 처리 중, 4번 이미지는 존재하지 않음
+        when(imageRepository.findAllByIds(anyList())).thenReturn(List.of(
+                image(1L, true), image(2L, true), image(3L, false)));
+        when(hashService.calculateHash(any())).thenReturn(FileHash.of(SPRITE_KEY));
+        when(fileStorageService.fileExists("sprites/" + SPRITE_KEY + ".jpg")).thenReturn(false);
+        when(fileStorageService.downloadFile(any())).thenReturn(new byte[]{1});
+        when(spriteComposer.compose(any(), anyList())).thenReturn(new byte[]{9, 9});
+
+        // When
+        SpriteSheet sheet = spriteService.getSpriteSheet(new ImageSpriteQuery(List.of(2L, 1L, 3L, 4L), 100));
+
+        // Then: 요청 순서대로 배치
+        assertThat(sheet.spriteKey()).isEqualTo(SPRITE_KEY);
+        assertThat(sheet.tiles()).extracting(SpriteSheet.Tile::imageId).containsExactly(2L, 1L);
+        assertThat(sheet.tiles().get(1).x()).isEqualTo(100);
+        assertThat(sheet.missingImageIds()).containsExactly(3L, 4L);
+        verify(fileStorageService).downloadFile("thumbnails/2_thumb.jpg");
+        verify(fileStorageService).downloadFile("thumbnails/1_thumb.jpg");
+        verify(fileStorageService).uploadFile("sprites/" + SPRITE_KEY + ".jpg", new byte[]{9, 9}, "image/jpeg");
+    }
+
+    @Test
+    @DisplayName("같은 키의 스프라이트가 있으면 썸네일을 내려받지 않음")
+    void reusesStoredSprite() {
+        // Given
+        when(imageRepository.findAllByIds(anyList())).thenReturn(List.of(image(1L, true)));
+        when(hashService.calculateHash(any())).thenReturn(FileHash.of(SPRITE_KEY));
+        when(fileStorageService.fileExists("sprites/" + SPRITE_KEY + ".jpg")).thenReturn(true);
+
+        // When
+        SpriteSheet sheet = spriteService.getSpriteSheet(new ImageSpriteQuery(List.of(1L), 64));
+
+        // Then
+        assertThat(sheet.width()).isEqualTo(64);
+        verify(fileStorageService, never()).downloadFile(any());
+        verifyNoInteractions(spriteComposer);
+    }
+
+    @Test
+    @DisplayName("스프라이트 키는 타일 크기와 멤버 파일 해시로 결정")
+    void spriteKeyDependsOnTileSizeAndMembers() {
+        // Given
+        when(imageRepository.findAllByIds(anyList())).thenReturn(List.of(image(1L, true), image(2L, true)));
+        when(hashService.calculateHash(any())).thenReturn(FileHash.of(SPRITE_KEY));
+        when(fileStorageService.fileExists(any())).thenReturn(true);
+
+        // When
+        spriteService.getSpriteSheet(new ImageSpriteQuery(List.of(1L, 2L), 100));
+        spriteService.getSpriteSheet(new ImageSpriteQuery(List.of(1L, 2L), 100));
+        spriteService.getSpriteSheet(new ImageSpriteQuery(List.of(1L, 2L), 50));
+
+        // Then
+        ArgumentCaptor<byte[]> sources = ArgumentCaptor.forClass(byte[].class);
+        verify(hashService, times(3)).calculateHash(sources.capture());
+        assertThat(sources.getAllValues().get(0)).isEqualTo(sources.getAllValues().get(1));
+        assertThat(sources.getAllValues().get(0)).isNotEqualTo(sources.getAllValues().get(2));
+    }
+
+    @Test
+    @DisplayName("썸네일이 하나도 없으면 스프라이트 없이 누락 목록만 반환")
+    void noMembers() {
+        // Given
+        when(imageRepository.findAllByIds(anyList())).thenReturn(List.of(image(1L, false)));
+
+        // When
+        SpriteSheet sheet = spriteService.getSpriteSheet(new ImageSpriteQuery(List.of(1L), 100));
+
+        // Then
+        assertThat(sheet.spriteKey()).isNull();
+        assertThat(sheet.isEmpty()).isTrue();
+        assertThat(sheet.missingImageIds()).containsExactly(1L);
+        verifyNoInteractions(fileStorageService, spriteComposer);
+    }
+
+    @Test
+    @DisplayName("스프라이트 이미지 조회 - 잘못된 키와 없는 키")
+    void getSpriteImage() {
+        when(fileStorageService.fileExists("sprites/" + SPRITE_KEY + ".jpg")).thenReturn(false);
+
+        assertThatThrownBy(() -> spriteService.getSpriteImage("../secret"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> spriteService.getSpriteImage(SPRITE_KEY))
+                .isInstanceOf(SpriteSheetNotFoundException.class);
+        verify(fileStorageService, never()).downloadFile(eq("sprites/" + SPRITE_KEY + ".jpg"));
+    }
+
+    private Image image(Long id, boolean thumbnailCompleted) {
+        String hash = String.format("%064x", id);
+        Image image = new Image(ProjectId.of(100L), "image" + id + ".jpg", FileHash.of(hash), 1024L,
+                "image/jpeg", "originals/" + id + ".jpg");
+        image.setId(ImageId.of(id));
+        if (thumbnailCompleted) {
+            image.setThumbnailKey("thumbnails/" + id + "_thumb.jpg");
+        } else {
+            image.updateThumbnailProcessingStatus(ThumbnailProcessingStatus.PROCESSING);
+        }
+        return image;
+    }
+}
@@ -5,6 +5,7 @@ import com.bound4.image.application.port.in.ThumbnailProcessingUseCase;
 import com.bound4.image.application.port.in.UploadImageCommand;
 import com.bound4.image.application.port.out.FileStorageService;
 import com.bound4.image.application.port.out.HashService;
+import com.bound4.image.application.port.out.ImageMetadataExtractor;
 import com.bound4.image.application.port.out.ImageRepository;
 import com.bound4.image.domain.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +39,9 @@ class ImageUploadServiceIntegrationTest {
     @Mock
     private FileStorageService fileStorageService;
 
+    @Mock
+    private ImageMetadataExtractor imageMetadataExtractor;
+
     private ImageUploadService imageUploadService;
 
     private UploadImageCommand sampleCommand;
@@ -46,7 +50,8 @@ class ImageUploadServiceIntegrationTest {
     @BeforeEach
     void setUp() {
         imageUploadService = new ImageUploadService(
-                imageRepository, thumbnailProcessingUseCase, hashService, fileStorageService);
+                imageRepository, thumbnailProcessingUseCase, hashService, fileStorageService,
+                imageMetadataExtractor);
 
         byte[] imageData = "test image data".getBytes();
         sampleCommand = new UploadImageCommand(
@@ -100,6 +105,28 @@ class ImageUploadServiceIntegrationTest {
         verify(thumbnailProcessingUseCase).requestThumbnailGeneration(ImageId.of(1L));
     }
 
+    @Test
+    @DisplayName("이미지 업로드 시 헤더 메타데이터 저장")
+    void uploadImages_StoresHeaderMetadata() {
+        // Given
+        ImageMetadata metadata = new ImageMetadata(4000, 3000, 6, 1);
+        when(hashService.calculateHash(any())).thenReturn(sampleFileHash);
+        when(imageRepository.findByHash(sampleFileHash)).thenReturn(Optional.empty());
+        when(imageMetadataExtractor.extract(sampleCommand.data())).thenReturn(Optional.of(metadata));
+        when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> {
+            Image image = invocation.getArgument(0);
+            image.setId(ImageId.of(1L));
+            return image;
+        });
+
+        // When
+        List<Image> result = imageUploadService.uploadImages(List.of(sampleCommand));
+
+        // Then
+        assertThat(result.get(0).getMetadata()).isEqualTo(metadata);
+        assertThat(result.get(0).getMetadata().displayWidth()).isEqualTo(3000);
+    }
+
     @Test
     @DisplayName("이미지 업로드 실패 - 중복 이미지")
     void uploadImages_Failure_DuplicateImage() {
@@ -0,0 +1,154 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.adapter.in.web.exception.ImageNotFoundException;
+import com.bound4.image.application.port.in.SimilarImageQuery;
+import com.bound4.image.application.port.in.SimilarImageUseCase;
+import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.application.port.out.SimilarImageIndex;
+import com.bound4.image.domain.*;
+import com.bound4.image.domain.event.ThumbnailGenerationCompletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("유사 이미지 서비스 테스트")
+class SimilarImageServiceTest {
+
+    private static final ProjectId PROJECT = ProjectId.of(100L);
+    private static final PerceptualHash HASH = PerceptualHash.of(0x5555L);
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private SimilarImageIndex similarImageIndex;
+
+    private SimilarImageService similarImageService;
+
+    @BeforeEach
+    void setUp() {
+        similarImageService = new SimilarImageService(imageRepository, similarImageIndex, 6, 2, 2);
+    }
+
+    @Test
+    @DisplayName("유사 이미지 조회 - 자기 자신과 삭제된 이미지 제외")
+    void findSimilarImages_ExcludesSelfAndDeleted() {
+        // Given: 3번 이미지는 다른 노드에서 삭제되어 DB에 없음
+        when(imageRepository.findById(ImageId.of(1L))).thenReturn(Optional.of(image(1L, HASH)));
+        when(similarImageIndex.findSimilar(PROJECT, HASH, 10, 21)).thenReturn(List.of(
+                new SimilarImage(ImageId.of(1L), 0),
+                new SimilarImage(ImageId.of(2L), 1),
+                new SimilarImage(ImageId.of(3L), 2),
+                new SimilarImage(ImageId.of(4L), 5)));
+        when(imageRepository.findAllByIds(List.of(ImageId.of(2L), ImageId.of(3L), ImageId.of(4L))))
+                .thenReturn(List.of(image(4L, HASH), image(2L, HASH)));
+
+        // When
+        List<SimilarImageUseCase.SimilarImageMatch> matches =
+                similarImageService.findSimilarImages(new SimilarImageQuery(1L, 10, 20));
+
+        // Then
+        assertThat(matches).extracting(match -> match.getImage().getId().value()).containsExactly(2L, 4L);
+        assertThat(matches).extracting(SimilarImageUseCase.SimilarImageMatch::getDistance).containsExactly(1, 5);
+        verify(similarImageIndex).remove(PROJECT, ImageId.of(3L));
+    }
+
+    @Test
+    @DisplayName("썸네일이 아직 없는 이미지는 빈 목록")
+    void findSimilarImages_NoHashYet() {
+        when(imageRepository.findById(ImageId.of(1L))).thenReturn(Optional.of(image(1L, null)));
+
+        assertThat(similarImageService.findSimilarImages(new SimilarImageQuery(1L, 10, 20))).isEmpty();
+        verifyNoInteractions(similarImageIndex);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 이미지는 예외")
+    void findSimilarImages_NotFound() {
+        when(imageRepository.findById(ImageId.of(9L))).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> similarImageService.findSimilarImages(new SimilarImageQuery(9L, 10, 20)))
+                .isInstanceOf(ImageNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("썸네일 완료 이벤트로 지각 해시 등록")
+    void onThumbnailGenerationCompleted_PutsHash() {
+        // Given
+        ThumbnailGenerationCompletedEvent event = ThumbnailGenerationCompletedEvent.of(
+                ImageId.of(1L), PROJECT, "thumbnails/1_thumb.jpg", HASH, 120L);
+        when(similarImageIndex.findSimilar(PROJECT, HASH, 6, 2))
+                .thenReturn(List.of(new SimilarImage(ImageId.of(7L), 3)));
+
+        // When
+        similarImageService.onThumbnailGenerationCompleted(event);
+
+        // Then
+        verify(similarImageIndex).put(PROJECT, ImageId.of(1L), HASH);
+    }
+
+    @Test
+    @DisplayName("시작 시 프로젝트별로 키셋 페이지를 읽어 인덱스 재구성")
+    void rebuildIndex_LoadsAllPages() {
+        // Given: 배치 크기 2, 프로젝트 100은 3건
+        ProjectId other = ProjectId.of(200L);
+        List<PerceptualHashEntry> firstPage = List.of(entry(1L), entry(2L));
+        List<PerceptualHashEntry> secondPage = List.of(entry(3L));
+        when(imageRepository.findProjectIdsWithPerceptualHash()).thenReturn(List.of(PROJECT, other));
+        when(imageRepository.findPerceptualHashes(PROJECT, 0L, 2)).thenReturn(firstPage);
+        when(imageRepository.findPerceptualHashes(PROJECT, 2L, 2)).thenReturn(secondPage);
+        when(imageRepository.findPerceptualHashes(other, 0L, 2)).thenReturn(List.of());
+
+        // When
+        boolean completeBefore = similarImageService.isIndexComplete();
+        similarImageService.rebuildIndex();
+
+        // Then
+        assertThat(completeBefore).isFalse();
+        assertThat(similarImageService.isIndexComplete()).isTrue();
+        verify(similarImageIndex).load(PROJECT, firstPage);
+        verify(similarImageIndex).load(PROJECT, secondPage);
+        verify(similarImageIndex, never()).load(eq(other), any());
+        verify(imageRepository, never()).findPerceptualHashes(eq(PROJECT), eq(3L), anyInt());
+    }
+
+    @Test
+    @DisplayName("재구성에 실패한 프로젝트가 있으면 인덱스를 미완료로 유지")
+    void rebuildIndex_KeepsIncompleteOnFailure() {
+        // Given
+        when(imageRepository.findProjectIdsWithPerceptualHash()).thenReturn(List.of(PROJECT));
+        when(imageRepository.findPerceptualHashes(PROJECT, 0L, 2)).thenThrow(new IllegalStateException("db down"));
+
+        // When
+        similarImageService.rebuildIndex();
+
+        // Then
+        assertThat(similarImageService.isIndexComplete()).isFalse();
+    }
+
+    private Image image(Long id, PerceptualHash hash) {
+        Image image = new Image(PROJECT, "image" + id + ".jpg", FileHash.of(String.format("%064x", id)), 1024L,
+                "image/jpeg", "originals/" + id + ".jpg");
+        image.setId(ImageId.of(id));
+        image.updatePerceptualHash(hash);
+        return image;
+    }
+
+    private PerceptualHashEntry entry(Long id) {
+        return new PerceptualHashEntry(ImageId.of(id), HASH);
+    }
+}
@@ -0,0 +1,103 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.application.port.out.ThumbnailBackfillJobRepository;
+import com.bound4.image.application.port.out.ThumbnailOutbox;
+import com.bound4.image.domain.ThumbnailPriority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("썸네일 백필 피더 테스트")
+class ThumbnailBackfillFeederTest {
+
+    @Mock
+    private ThumbnailBackfillJobRepository backfillJobRepository;
+
+    @Mock
+    private ThumbnailBackfillService backfillService;
+
+    @Mock
+    private ThumbnailOutbox thumbnailOutbox;
+
+    private ThumbnailBackfillFeeder feeder;
+
+    @BeforeEach
+    void setUp() {
+        feeder = new ThumbnailBackfillFeeder(backfillJobRepository, backfillService, thumbnailOutbox, 100, 250);
+    }
+
+    @Test
+    @DisplayName("낮은 우선순위 대기열 여유만큼만 공급")
+    void feed_RespectsBacklogBudget() {
+        // Given
+        when(backfillJobRepository.findRunningJobIds()).thenReturn(List.of(1L, 2L));
+        when(thumbnailOutbox.countPending(ThumbnailPriority.LOW)).thenReturn(120L);
+        when(backfillService.feedNextBatch(1L, 100)).thenReturn(100);
+        when(backfillService.feedNextBatch(2L, 30)).thenReturn(30);
+
+        // When
+        int fed = feeder.feed();
+
+        // Then
+        assertThat(fed).isEqualTo(130);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 공급하지 않음")
+    void feed_SkipsWhenBacklogFull() {
+        // Given
+        when(backfillJobRepository.findRunningJobIds()).thenReturn(List.of(1L));
+        when(thumbnailOutbox.countPending(ThumbnailPriority.LOW)).thenReturn(250L);
+
+        // When
+        int fed = feeder.feed();
+
+        // Then
+        assertThat(fed).isZero();
+        verifyNoInteractions(backfillService);
+    }
+
+    @Test
+    @DisplayName("다른 노드와 버전 충돌 시 해당 작업만 건너뜀")
+    void feed_SkipsJobOnOptimisticLockFailure() {
+        // Given
+        when(backfillJobRepository.findRunningJobIds()).thenReturn(List.of(1L, 2L));
+        when(thumbnailOutbox.countPending(ThumbnailPriority.LOW)).thenReturn(0L);
+        when(backfillService.feedNextBatch(1L, 100))
+                .thenThrow(new OptimisticLockingFailureException("version mismatch"));
+        when(backfillService.feedNextBatch(2L, 100)).thenReturn(40);
+
+        // When
+        int fed = feeder.feed();
+
+        // Then
+        assertThat(fed).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업이 없으면 대기열을 조회하지 않음")
+    void feed_NoRunningJobs() {
+        // Given
+        when(backfillJobRepository.findRunningJobIds()).thenReturn(List.of());
+
+        // When
+        int fed = feeder.feed();
+
+        // Then
+        assertThat(fed).isZero();
+        verifyNoInteractions(thumbnailOutbox);
+        verify(backfillService, never()).feedNextBatch(anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,229 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.adapter.in.web.exception.ThumbnailBackfillConflictException;
+import com.bound4.image.adapter.in.web.exception.ThumbnailBackfillJobNotFoundException;
+import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.application.port.out.ThumbnailBackfillJobRepository;
+import com.bound4.image.application.port.out.ThumbnailOutbox;
+import com.bound4.image.domain.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("썸네일 백필 서비스 테스트")
+class ThumbnailBackfillServiceTest {
+
+    @Mock
+    private ThumbnailBackfillJobRepository backfillJobRepository;
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private ThumbnailOutbox thumbnailOutbox;
+
+    private ThumbnailBackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        backfillService = new ThumbnailBackfillService(backfillJobRepository, imageRepository, thumbnailOutbox);
+    }
+
+    @Test
+    @DisplayName("백필 시작 - 프로젝트 이미지 수를 기록하고 실행 상태로 생성")
+    void start_Success() {
+        // Given
+        when(backfillJobRepository.findActiveByProject(ProjectId.of(100L))).thenReturn(Optional.empty());
+        when(imageRepository.countByProject(ProjectId.of(100L))).thenReturn(500L);
+        when(backfillJobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ThumbnailBackfillJob job = backfillService.start(ProjectId.of(100L));
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(ThumbnailBackfillStatus.RUNNING);
+        assertThat(job.getTotalCount()).isEqualTo(500L);
+        assertThat(job.getLastImageId()).isZero();
+    }
+
+    @Test
+    @DisplayName("백필 시작 - 이미 진행 중인 작업이 있으면 충돌")
+    void start_AlreadyActive() {
+        // Given
+        when(backfillJobRepository.findActiveByProject(ProjectId.of(100L)))
+                .thenReturn(Optional.of(job(ThumbnailBackfillStatus.PAUSED, 0L)));
+
+        // When & Then
+        assertThatThrownBy(() -> backfillService.start(ProjectId.of(100L)))
+                .isInstanceOf(ThumbnailBackfillConflictException.class);
+        verify(backfillJobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("배치 공급 - 체크포인트 이후 이미지를 낮은 우선순위로 요청하고 체크포인트 갱신")
+    void feedNextBatch_EnqueuesAndCheckpoints() {
+        // Given
+        when(backfillJobRepository.findById(1L)).thenReturn(Optional.of(job(ThumbnailBackfillStatus.RUNNING, 10L)));
+        when(imageRepository.findByProjectAfterId(ProjectId.of(100L), 10L, 2))
+                .thenReturn(List.of(image(11L), image(15L)));
+        when(imageRepository.markThumbnailProcessing(List.of(ImageId.of(11L), ImageId.of(15L))))
+                .thenReturn(List.of(ImageId.of(11L), ImageId.of(15L)));
+
+        // When
+        int requested = backfillService.feedNextBatch(1L, 2);
+
+        // Then
+        assertThat(requested).isEqualTo(2);
+        verify(thumbnailOutbox, times(2)).enqueue(any(), eq(ThumbnailPriority.LOW));
+
+        ArgumentCaptor<ThumbnailBackfillJob> jobCaptor = ArgumentCaptor.forClass(ThumbnailBackfillJob.class);
+        verify(backfillJobRepository).save(jobCaptor.capture());
+        assertThat(jobCaptor.getValue().getLastImageId()).isEqualTo(15L);
+        assertThat(jobCaptor.getValue().getProcessedCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("배치 공급 - 이미 처리 중이거나 삭제되어 상태 변경이 적용되지 않은 이미지는 요청하지 않음")
+    void feedNextBatch_EnqueuesOnlyMarkedImages() {
+        // Given
+        when(backfillJobRepository.findById(1L)).thenReturn(Optional.of(job(ThumbnailBackfillStatus.RUNNING, 10L)));
+        when(imageRepository.findByProjectAfterId(ProjectId.of(100L), 10L, 3))
+                .thenReturn(List.of(image(11L), image(15L), image(17L)));
+        when(imageRepository.markThumbnailProcessing(List.of(ImageId.of(11L), ImageId.of(15L), ImageId.of(17L))))
+                .thenReturn(List.of(ImageId.of(15L)));
+
+        // When
+        int requested = backfillService.feedNextBatch(1L, 3);
+
+        // Then
+        assertThat(requested).isEqualTo(1);
+        verify(thumbnailOutbox).enqueue(argThat(event -> event.getImageId().equals(ImageId.of(15L))),
+                eq(ThumbnailPriority.LOW));
+        verifyNoMoreInteractions(thumbnailOutbox);
+
+        ArgumentCaptor<ThumbnailBackfillJob> jobCaptor = ArgumentCaptor.forClass(ThumbnailBackfillJob.class);
+        verify(backfillJobRepository).save(jobCaptor.capture());
+        assertThat(jobCaptor.getValue().getLastImageId()).isEqualTo(17L);
+        assertThat(jobCaptor.getValue().getProcessedCount()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("배치 공급 - 남은 이미지가 없으면 작업 완료")
+    void feedNextBatch_CompletesWhenExhausted() {
+        // Given
+        when(backfillJobRepository.findById(1L)).thenReturn(Optional.of(job(ThumbnailBackfillStatus.RUNNING, 15L)));
+        when(imageRepository.findByProjectAfterId(ProjectId.of(100L), 15L, 2)).thenReturn(List.of());
+
+        // When
+        int requested = backfillService.feedNextBatch(1L, 2);
+
+        // Then
+        assertThat(requested).isZero();
+        verify(backfillJobRepository).save(argThat(job -> job.getStatus() == ThumbnailBackfillStatus.COMPLETED));
+        verifyNoInteractions(thumbnailOutbox);
+    }
+
+    @Test
+    @DisplayName("배치 공급 - 일시 정지된 작업은 건너뜀")
+    void feedNextBatch_SkipsPausedJob() {
+        // Given
+        when(backfillJobRepository.findById(1L)).thenReturn(Optional.of(job(ThumbnailBackfillStatus.PAUSED, 15L)));
+
+        // When
+        int requested = backfillService.feedNextBatch(1L, 2);
+
+        // Then
+        assertThat(requested).isZero();
+        verifyNoInteractions(imageRepository, thumbnailOutbox);
+    }
+
+    @Test
+    @DisplayName("재개 - 체크포인트를 유지하고 처리량 측정 구간을 다시 시작")
+    void resume_KeepsCheckpoint() {
+        // Given
+        when(backfillJobRepository.findById(1L)).thenReturn(Optional.of(job(ThumbnailBackfillStatus.PAUSED, 42L)));
+        when(backfillJobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(imageRepository.countThumbnailsFinished(ProjectId.of(100L), 42L)).thenReturn(30L);
+
+        // When
+        ThumbnailBackfillJob resumed = backfillService.resume(1L);
+
+        // Then
+        assertThat(resumed.getStatus()).isEqualTo(ThumbnailBackfillStatus.RUNNING);
+        assertThat(resumed.getLastImageId()).isEqualTo(42L);
+        assertThat(resumed.getProcessedAtResume()).isEqualTo(resumed.getProcessedCount());
+        assertThat(resumed.getCompletedAtResume()).isEqualTo(30L);
+        assertThat(resumed.getCompletedCount()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("조회 - 진행률은 요청 수가 아니라 생성이 끝난 이미지 수 기준")
+    void getJob_ProgressFromCompletions() {
+        // Given: 42건 요청, 그중 21건 완료, 전체 100건
+        when(backfillJobRepository.findById(1L)).thenReturn(Optional.of(job(ThumbnailBackfillStatus.RUNNING, 42L)));
+        when(imageRepository.countThumbnailsFinished(ProjectId.of(100L), 42L)).thenReturn(21L);
+
+        // When
+        ThumbnailBackfillJob job = backfillService.getJob(1L);
+
+        // Then
+        assertThat(job.getProcessedCount()).isEqualTo(42L);
+        assertThat(job.getCompletedCount()).isEqualTo(21L);
+        assertThat(job.getProgressPercent()).isEqualTo(21.0);
+    }
+
+    @Test
+    @DisplayName("일시 정지 - 실행 중이 아니면 충돌")
+    void pause_NotRunning() {
+        // Given
+        when(backfillJobRepository.findById(1L)).thenReturn(Optional.of(job(ThumbnailBackfillStatus.COMPLETED, 42L)));
+
+        // When & Then
+        assertThatThrownBy(() -> backfillService.pause(1L))
+                .isInstanceOf(ThumbnailBackfillConflictException.class);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 작업 조회")
+    void getJob_NotFound() {
+        // Given
+        when(backfillJobRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> backfillService.getJob(999L))
+                .isInstanceOf(ThumbnailBackfillJobNotFoundException.class);
+    }
+
+    private ThumbnailBackfillJob job(ThumbnailBackfillStatus status, long lastImageId) {
+        LocalDateTime startedAt = LocalDateTime.now().minusMinutes(1);
+        return new ThumbnailBackfillJob(1L, ProjectId.of(100L), status, lastImageId, lastImageId, 100L,
+                startedAt, 0L, 0L, startedAt, startedAt, null, 0L);
+    }
+
+    private Image image(Long id) {
+        Image image = new Image(
+                ProjectId.of(100L),
+                "test.jpg",
+                FileHash.of("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855"),
+                1024L,
+                "image/jpeg",
+                "original.jpg");
+        image.setId(ImageId.of(id));
+        return image;
+    }
+}
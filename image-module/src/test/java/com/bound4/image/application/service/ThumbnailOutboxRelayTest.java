@@ -0,0 +1,189 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.application.port.out.ThumbnailOutbox;
+import com.bound4.image.domain.ImageId;
+import com.bound4.image.domain.ProjectId;
+import com.bound4.image.domain.ThumbnailOutboxMessage;
+import com.bound4.image.domain.event.ThumbnailGenerationRequestedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("썸네일 아웃박스 릴레이 테스트")
+class ThumbnailOutboxRelayTest {
+
+    @Mock
+    private ThumbnailOutbox thumbnailOutbox;
+
+    @Mock
+    private AsyncThumbnailGenerationService asyncThumbnailGenerationService;
+
+    private static final String WORKER_ID = "worker-1";
+    private static final Duration LEASE = Duration.ofMillis(15000L);
+
+    private ThumbnailOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new ThumbnailOutboxRelay(thumbnailOutbox, asyncThumbnailGenerationService, 10, 30, 15000L, WORKER_ID);
+    }
+
+    @Test
+    @DisplayName("선점한 메시지를 전달하고 처리 완료 후 확인")
+    void relay_DispatchesAndAcknowledges() {
+        // Given
+        ThumbnailOutboxMessage first = message(1L, 10L);
+        ThumbnailOutboxMessage second = message(2L, 20L);
+        when(thumbnailOutbox.claimBatch(WORKER_ID, 10, LEASE)).thenReturn(List.of(first, second));
+        when(asyncThumbnailGenerationService.handleThumbnailGenerationRequested(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        int dispatched = relay.relay();
+
+        // Then
+        assertThat(dispatched).isEqualTo(2);
+        verify(thumbnailOutbox).acknowledge(WORKER_ID, 1L);
+        verify(thumbnailOutbox).acknowledge(WORKER_ID, 2L);
+        verify(thumbnailOutbox, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 발생하면 메시지를 다시 대기 상태로 되돌림")
+    void relay_ReleasesOnFailure() {
+        // Given
+        ThumbnailOutboxMessage message = message(1L, 10L);
+        when(thumbnailOutbox.claimBatch(WORKER_ID, 10, LEASE)).thenReturn(List.of(message));
+        when(asyncThumbnailGenerationService.handleThumbnailGenerationRequested(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("DB unavailable")));
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(thumbnailOutbox).release(WORKER_ID, 1L);
+        verify(thumbnailOutbox, never()).acknowledge(any(), any());
+    }
+
+    @Test
+    @DisplayName("실행자가 포화 상태이면 남은 메시지를 모두 되돌림")
+    void relay_ReleasesRemainingWhenExecutorRejects() {
+        // Given
+        ThumbnailOutboxMessage first = message(1L, 10L);
+        ThumbnailOutboxMessage second = message(2L, 20L);
+        ThumbnailOutboxMessage third = message(3L, 30L);
+        when(thumbnailOutbox.claimBatch(WORKER_ID, 10, LEASE)).thenReturn(List.of(first, second, third));
+        when(asyncThumbnailGenerationService.handleThumbnailGenerationRequested(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenThrow(new RuntimeException("Thumbnail task queue is full"));
+
+        // When
+        int dispatched = relay.relay();
+
+        // Then
+        assertThat(dispatched).isEqualTo(1);
+        verify(thumbnailOutbox).acknowledge(WORKER_ID, 1L);
+        verify(thumbnailOutbox).release(WORKER_ID, 2L);
+        verify(thumbnailOutbox).release(WORKER_ID, 3L);
+        verify(asyncThumbnailGenerationService, times(2)).handleThumbnailGenerationRequested(any(), any());
+    }
+
+    @Test
+    @DisplayName("대기 중인 메시지가 없으면 아무것도 전달하지 않음")
+    void relay_NothingToDispatch() {
+        // Given
+        when(thumbnailOutbox.claimBatch(WORKER_ID, 10, LEASE)).thenReturn(List.of());
+
+        // When
+        int dispatched = relay.relay();
+
+        // Then
+        assertThat(dispatched).isZero();
+        verifyNoInteractions(asyncThumbnailGenerationService);
+    }
+
+    @Test
+    @DisplayName("처리 중인 메시지만큼 선점 개수를 줄여 다른 노드가 나머지를 가져가도록 함")
+    void relay_ClaimsOnlyRemainingCapacity() {
+        // Given
+        relay = new ThumbnailOutboxRelay(thumbnailOutbox, asyncThumbnailGenerationService, 10, 3, 15000L, WORKER_ID);
+        when(thumbnailOutbox.claimBatch(WORKER_ID, 3, LEASE)).thenReturn(List.of(message(1L, 10L), message(2L, 20L)));
+        when(asyncThumbnailGenerationService.handleThumbnailGenerationRequested(any(), any()))
+                .thenReturn(new CompletableFuture<>());
+        relay.relay();
+        when(thumbnailOutbox.claimBatch(WORKER_ID, 1, LEASE)).thenReturn(List.of(message(3L, 30L)));
+
+        // When
+        relay.relay();
+        int dispatched = relay.relay();
+
+        // Then
+        assertThat(dispatched).isZero();
+        assertThat(relay.getInFlightCount()).isEqualTo(3);
+        verify(thumbnailOutbox, times(1)).claimBatch(WORKER_ID, 1, LEASE);
+    }
+
+    @Test
+    @DisplayName("처리 중인 메시지의 리스를 연장")
+    void renewLeases_RenewsInFlightMessages() {
+        // Given
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        when(thumbnailOutbox.claimBatch(WORKER_ID, 10, LEASE)).thenReturn(List.of(message(1L, 10L)));
+        when(asyncThumbnailGenerationService.handleThumbnailGenerationRequested(any(), any())).thenReturn(pending);
+        relay.relay();
+
+        // When
+        relay.renewLeases();
+
+        // Then
+        verify(thumbnailOutbox).renewLeases(WORKER_ID, Set.of(1L), LEASE);
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 메시지는 리스 연장 대상에서 제외")
+    void renewLeases_SkipsCompletedMessages() {
+        // Given
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        when(thumbnailOutbox.claimBatch(WORKER_ID, 10, LEASE)).thenReturn(List.of(message(1L, 10L)));
+        when(asyncThumbnailGenerationService.handleThumbnailGenerationRequested(any(), any())).thenReturn(pending);
+        relay.relay();
+        pending.complete(null);
+
+        // When
+        relay.renewLeases();
+
+        // Then
+        verify(thumbnailOutbox).acknowledge(WORKER_ID, 1L);
+        verify(thumbnailOutbox, never()).renewLeases(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("워커 ID를 지정하지 않으면 자동 생성")
+    void generatesWorkerIdWhenBlank() {
+        // When
+        ThumbnailOutboxRelay generated = new ThumbnailOutboxRelay(
+                thumbnailOutbox, asyncThumbnailGenerationService, 10, 30, 15000L, "");
+
+        // Then
+        assertThat(generated.getWorkerId()).isNotBlank();
+    }
+
+    private ThumbnailOutboxMessage message(Long messageId, Long imageId) {
+        ThumbnailGenerationRequestedEvent event = new ThumbnailGenerationRequestedEvent(
+                ImageId.of(imageId), ProjectId.of(100L), "original.jpg", "test.jpg", "image/jpeg");
+        return new ThumbnailOutboxMessage(messageId, event);
+    }
+}
@@ -1,7 +1,8 @@
 package com.bound4.image.application.service;
 
-import com.bound4.image.application.port.out.EventPublisher;
+import com.bound4.image.application.port.in.ImageBatchQuery;
 import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.application.port.out.ThumbnailOutbox;
 import com.bound4.image.domain.*;
 import com.bound4.image.domain.event.ThumbnailGenerationRequestedEvent;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,7 +32,7 @@ class ThumbnailProcessingServiceTest {
     private ImageRepository imageRepository;
 
     @Mock
-    private EventPublisher eventPublisher;
+    private ThumbnailOutbox thumbnailOutbox;
 
     private ThumbnailProcessingService thumbnailProcessingService;
 
@@ -35,7 +40,7 @@ class ThumbnailProcessingServiceTest {
 
     @BeforeEach
     void setUp() {
-        thumbnailProcessingService = new ThumbnailProcessingService(imageRepository, eventPublisher);
+        thumbnailProcessingService = new ThumbnailProcessingService(imageRepository, thumbnailOutbox);
 
         sampleImage = new Image(
                 ProjectId.of(100L),
@@ -59,7 +64,7 @@ class ThumbnailProcessingServiceTest {
         // Then
         verify(imageRepository).save(argThat(image -> 
                 image.getThumbnailProcessingStatus() == ThumbnailProcessingStatus.PROCESSING));
-        verify(eventPublisher).publishThumbnailGenerationRequested(any(ThumbnailGenerationRequestedEvent.class));
+        verify(thumbnailOutbox).enqueue(any(ThumbnailGenerationRequestedEvent.class));
     }
 
     @Test
@@ -74,7 +79,7 @@ class ThumbnailProcessingServiceTest {
 
         // Then
         verify(imageRepository, never()).save(any());
-        verify(eventPublisher, never()).publishThumbnailGenerationRequested(any());
+        verify(thumbnailOutbox, never()).enqueue(any());
     }
 
     @Test
@@ -89,7 +94,7 @@ class ThumbnailProcessingServiceTest {
 
         // Then
         verify(imageRepository, never()).save(any());
-        verify(eventPublisher, never()).publishThumbnailGenerationRequested(any());
+        verify(thumbnailOutbox, never()).enqueue(any());
     }
 
     @Test
@@ -130,6 +135,22 @@ class ThumbnailProcessingServiceTest {
                 .hasMessage("Image not found: 1");
     }
 
+    @Test
+    @DisplayName("썸네일 처리 상태 일괄 조회 - 한 번의 조회로 찾은 이미지만 반환")
+    void getThumbnailProcessingStatuses_SingleLookup() {
+        // Given
+        when(imageRepository.findThumbnailStatuses(List.of(ImageId.of(1L), ImageId.of(2L))))
+                .thenReturn(Map.of(ImageId.of(1L), ThumbnailProcessingStatus.COMPLETED));
+
+        // When
+        Map<Long, ThumbnailProcessingStatus> statuses =
+                thumbnailProcessingService.getThumbnailProcessingStatuses(new ImageBatchQuery(List.of(1L, 2L, 1L)));
+
+        // Then
+        assertThat(statuses).containsExactlyEntriesOf(Map.of(1L, ThumbnailProcessingStatus.COMPLETED));
+        verify(imageRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("썸네일 생성 재시도 - 성공")
     void retryThumbnailGeneration_Success() {
@@ -143,7 +164,7 @@ class ThumbnailProcessingServiceTest {
         // Then
         verify(imageRepository).save(argThat(image -> 
                 image.getThumbnailProcessingStatus() == ThumbnailProcessingStatus.PROCESSING));
-        verify(eventPublisher).publishThumbnailGenerationRequested(any(ThumbnailGenerationRequestedEvent.class));
+        verify(thumbnailOutbox).enqueue(any(ThumbnailGenerationRequestedEvent.class));
     }
 
     @Test
@@ -170,4 +191,93 @@ class ThumbnailProcessingServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Image not found: 1");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("멈춘 썸네일 재요청 - 상태 선점에 성공하면 아웃박스에 기록")
+    void resubmitStuckThumbnail_Success() {
+        // Given
+        sampleImage.updateThumbnailProcessingStatus(ThumbnailProcessingStatus.FAILED_RETRYABLE);
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(10);
+        when(imageRepository.markThumbnailResubmitted(
+                ImageId.of(1L), ThumbnailProcessingStatus.FAILED_RETRYABLE, staleBefore, 3)).thenReturn(true);
+
+        // When
+        boolean resubmitted = thumbnailProcessingService.resubmitStuckThumbnail(sampleImage, staleBefore, 3);
+
+        // Then
+        assertThat(resubmitted).isTrue();
+        verify(thumbnailOutbox).enqueue(argThat(event ->
+                event.getImageId().equals(ImageId.of(1L)) && event.getRetryCount() == 0));
+        verify(imageRepository, never()).markThumbnailResubmitsExhausted(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("멈춘 썸네일 재요청 - 다른 노드가 먼저 처리한 경우 건너뜀")
+    void resubmitStuckThumbnail_AlreadyTaken() {
+        // Given
+        sampleImage.updateThumbnailProcessingStatus(ThumbnailProcessingStatus.PROCESSING);
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(10);
+        when(imageRepository.markThumbnailResubmitted(
+                ImageId.of(1L), ThumbnailProcessingStatus.PROCESSING, staleBefore, 3)).thenReturn(false);
+        when(imageRepository.markThumbnailResubmitsExhausted(
+                ImageId.of(1L), ThumbnailProcessingStatus.PROCESSING, staleBefore, 3)).thenReturn(false);
+
+        // When
+        boolean resubmitted = thumbnailProcessingService.resubmitStuckThumbnail(sampleImage, staleBefore, 3);
+
+        // Then
+        assertThat(resubmitted).isFalse();
+        verify(thumbnailOutbox, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("멈춘 썸네일 재요청 - 재요청 횟수가 한도에 이르면 다시 요청하지 않고 영구 실패")
+    void resubmitStuckThumbnail_ResubmitsExhausted() {
+        // Given: 처리 중 워커를 종료시켜 매번 PROCESSING으로 멈추는 원본
+        sampleImage.updateThumbnailProcessingStatus(ThumbnailProcessingStatus.PROCESSING);
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(10);
+        when(imageRepository.markThumbnailResubmitted(
+                ImageId.of(1L), ThumbnailProcessingStatus.PROCESSING, staleBefore, 3)).thenReturn(false);
+        when(imageRepository.markThumbnailResubmitsExhausted(
+                ImageId.of(1L), ThumbnailProcessingStatus.PROCESSING, staleBefore, 3)).thenReturn(true);
+
+        // When
+        boolean resubmitted = thumbnailProcessingService.resubmitStuckThumbnail(sampleImage, staleBefore, 3);
+
+        // Then
+        assertThat(resubmitted).isFalse();
+        verify(thumbnailOutbox, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("재시도 예약 - 상태 변경에 성공하면 재시도 횟수를 늘려 지연 요청 기록")
+    void scheduleRetry_Success() {
+        // Given
+        ThumbnailGenerationRequestedEvent event = new ThumbnailGenerationRequestedEvent(
+                ImageId.of(1L), ProjectId.of(100L), "original.jpg", "test.jpg", "image/jpeg");
+        when(imageRepository.markThumbnailRetryable(ImageId.of(1L))).thenReturn(true);
+
+        // When
+        boolean scheduled = thumbnailProcessingService.scheduleRetry(event, Duration.ofSeconds(1));
+
+        // Then
+        assertThat(scheduled).isTrue();
+        verify(thumbnailOutbox).schedule(argThat(retry -> retry.getRetryCount() == 1), eq(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("재시도 예약 - 삭제되었거나 이미 완료된 이미지는 요청을 기록하지 않음")
+    void scheduleRetry_NotApplied() {
+        // Given
+        ThumbnailGenerationRequestedEvent event = new ThumbnailGenerationRequestedEvent(
+                ImageId.of(1L), ProjectId.of(100L), "original.jpg", "test.jpg", "image/jpeg");
+        when(imageRepository.markThumbnailRetryable(ImageId.of(1L))).thenReturn(false);
+
+        // When
+        boolean scheduled = thumbnailProcessingService.scheduleRetry(event, Duration.ofSeconds(1));
+
+        // Then
+        assertThat(scheduled).isFalse();
+        verify(thumbnailOutbox, never()).schedule(any(), any());
+    }
+}
@@ -0,0 +1,146 @@
+package com.bound4.image.application.service;
+
+import com.bound4.image.application.port.in.ThumbnailRecoveryUseCase;
+import com.bound4.image.application.port.out.ImageRepository;
+import com.bound4.image.domain.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("썸네일 복구 서비스 테스트")
+class ThumbnailRecoveryServiceTest {
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private ThumbnailProcessingService thumbnailProcessingService;
+
+    private ThumbnailRecoveryService thumbnailRecoveryService;
+
+    @BeforeEach
+    void setUp() {
+        thumbnailRecoveryService = new ThumbnailRecoveryService(
+                imageRepository, thumbnailProcessingService, 2, 3, 5, 600000L);
+    }
+
+    @Test
+    @DisplayName("멈춘 이미지를 키셋 배치로 조회하며 다시 요청")
+    void sweepStuckThumbnails_PagesWithKeyset() {
+        // Given
+        when(imageRepository.findStuckThumbnails(any(), any(), eq(0L), eq(2)))
+                .thenReturn(List.of(image(1L), image(2L)));
+        when(imageRepository.findStuckThumbnails(any(), any(), eq(2L), eq(2)))
+                .thenReturn(List.of(image(5L)));
+        when(thumbnailProcessingService.resubmitStuckThumbnail(any(), any(), eq(5))).thenReturn(true);
+
+        // When
+        int resubmitted = thumbnailRecoveryService.sweepStuckThumbnails();
+
+        // Then
+        assertThat(resubmitted).isEqualTo(3);
+        verify(imageRepository, times(2)).findStuckThumbnails(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("한 주기당 최대 재요청 개수를 넘지 않음")
+    void sweepStuckThumbnails_LimitsResubmitsPerSweep() {
+        // Given
+        when(imageRepository.findStuckThumbnails(any(), any(), eq(0L), eq(2)))
+                .thenReturn(List.of(image(1L), image(2L)));
+        when(imageRepository.findStuckThumbnails(any(), any(), eq(2L), eq(2)))
+                .thenReturn(List.of(image(3L), image(4L)));
+        when(thumbnailProcessingService.resubmitStuckThumbnail(any(), any(), eq(5))).thenReturn(true);
+
+        // When
+        int resubmitted = thumbnailRecoveryService.sweepStuckThumbnails();
+
+        // Then
+        assertThat(resubmitted).isEqualTo(3);
+        verify(thumbnailProcessingService, times(3)).resubmitStuckThumbnail(any(), any(), eq(5));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 선점했거나 실패한 이미지는 건너뛰고 계속 진행")
+    void sweepStuckThumbnails_SkipsLostAndFailedResubmits() {
+        // Given
+        Image first = image(1L);
+        Image second = image(2L);
+        when(imageRepository.findStuckThumbnails(any(), any(), eq(0L), eq(2)))
+                .thenReturn(List.of(first, second));
+        when(imageRepository.findStuckThumbnails(any(), any(), eq(2L), eq(2)))
+                .thenReturn(List.of());
+        when(thumbnailProcessingService.resubmitStuckThumbnail(eq(first), any(), eq(5)))
+                .thenThrow(new IllegalStateException("DB unavailable"));
+        when(thumbnailProcessingService.resubmitStuckThumbnail(eq(second), any(), eq(5))).thenReturn(false);
+
+        // When
+        int resubmitted = thumbnailRecoveryService.sweepStuckThumbnails();
+
+        // Then
+        assertThat(resubmitted).isZero();
+    }
+
+    @Test
+    @DisplayName("데드레터 조회 - 다음 페이지가 있으면 마지막 ID를 커서로 반환")
+    void getDeadLetters_WithNextPage() {
+        // Given
+        List<Image> images = LongStream.rangeClosed(11L, 13L).mapToObj(this::image).toList();
+        when(imageRepository.findByThumbnailStatus(
+                ThumbnailProcessingStatus.FAILED_PERMANENT, ProjectId.of(100L), 10L, 3))
+                .thenReturn(images);
+
+        // When
+        ThumbnailRecoveryUseCase.DeadLetterPage page =
+                thumbnailRecoveryService.getDeadLetters(ProjectId.of(100L), 10L, 2);
+
+        // Then
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("데드레터 조회 - 마지막 페이지")
+    void getDeadLetters_LastPage() {
+        // Given
+        when(imageRepository.findByThumbnailStatus(
+                ThumbnailProcessingStatus.FAILED_PERMANENT, null, 0L, 21))
+                .thenReturn(List.of(image(1L)));
+
+        // When
+        ThumbnailRecoveryUseCase.DeadLetterPage page =
+                thumbnailRecoveryService.getDeadLetters(null, null, 20);
+
+        // Then
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    private Image image(Long id) {
+        Image image = new Image(
+                ProjectId.of(100L),
+                "test.jpg",
+                FileHash.of("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855"),
+                1024L,
+                "image/jpeg",
+                "original.jpg");
+        image.setId(ImageId.of(id));
+        image.updateThumbnailProcessingStatus(ThumbnailProcessingStatus.FAILED_RETRYABLE);
+        return image;
+    }
+}
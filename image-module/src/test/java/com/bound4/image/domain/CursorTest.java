@@ -0,0 +1,99 @@
+package com.bound4.image.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("커서 토큰 테스트")
+class CursorTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 1, 1, 12, 30, 15, 123_456_789);
+
+    @Test
+    @DisplayName("정렬 기준별 커서는 바이너리 형식에서 같은 값으로 복원")
+    void roundTrip_AllSortKeys() {
+        // Given
+        List<Cursor> cursors = List.of(
+                Cursor.of(CursorSortKey.CREATED_AT, SortDirection.DESC, 42L, TIMESTAMP, null),
+                Cursor.of(CursorSortKey.UPDATED_AT, SortDirection.ASC, 1L, LocalDateTime.of(1969, 12, 31, 23, 59), 7L),
+                Cursor.of(CursorSortKey.FILENAME, SortDirection.ASC, 300L, "고양이 사진.jpg", -1L),
+                Cursor.of(CursorSortKey.FILE_SIZE, SortDirection.DESC, Long.MAX_VALUE, 0L, null));
+
+        for (Cursor cursor : cursors) {
+            // When
+            Cursor decoded = Cursor.fromBytes(cursor.toBytes());
+
+            // Then
+            assertThat(decoded).isEqualTo(cursor);
+            assertThat(decoded.getId()).isEqualTo(cursor.getId());
+            assertThat(decoded.getSortKey()).isEqualTo(cursor.getSortKey());
+            assertThat(decoded.getDirection()).isEqualTo(cursor.getDirection());
+            assertThat(decoded.getSortValue()).isEqualTo(cursor.getSortValue());
+            assertThat(decoded.getFilterFingerprint()).isEqualTo(cursor.getFilterFingerprint());
+        }
+    }
+
+    @Test
+    @DisplayName("시각은 마이크로초 단위로 기록하고 기본 커서는 생성 시각 내림차순")
+    void of_DefaultsToCreatedAtDescending() {
+        // When
+        Cursor cursor = Cursor.fromBytes(Cursor.of(1L, TIMESTAMP).toBytes());
+
+        // Then
+        assertThat(cursor.getSortKey()).isEqualTo(CursorSortKey.CREATED_AT);
+        assertThat(cursor.getDirection()).isEqualTo(SortDirection.DESC);
+        assertThat(cursor.getTimestamp()).isEqualTo(LocalDateTime.of(2025, 1, 1, 12, 30, 15, 123_456_000));
+        assertThat(cursor.getFilterFingerprint()).isNull();
+        assertThat(cursor.toBytes().length).isLessThan(16);
+    }
+
+    @Test
+    @DisplayName("잘리거나 다른 버전인 바이너리는 거부")
+    void fromBytes_RejectsMalformedPayload() {
+        // Given
+        byte[] payload = Cursor.of(42L, TIMESTAMP).toBytes();
+        byte[] truncated = Arrays.copyOf(payload, payload.length - 1);
+        byte[] otherVersion = payload.clone();
+        otherVersion[0] = 2;
+
+        // When & Then
+        assertThatThrownBy(() -> Cursor.fromBytes(truncated))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor format: truncated");
+        assertThatThrownBy(() -> Cursor.fromBytes(otherVersion))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported cursor version: 2");
+        assertThatThrownBy(() -> Cursor.fromBytes(new byte[]{1})).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("정렬 값 타입이 정렬 기준과 다르면 예외")
+    void of_RejectsMismatchedSortValue() {
+        assertThatThrownBy(() -> Cursor.of(CursorSortKey.FILENAME, SortDirection.ASC, 1L, TIMESTAMP, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Cursor.of(null, TIMESTAMP))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("ID and timestamp cannot be null");
+    }
+
+    @Test
+    @DisplayName("필터 지문은 태그 순서/공백과 무관하고 필터가 다르면 달라짐")
+    void filterFingerprint() {
+        long fingerprint = Cursor.filterFingerprint(1L, ImageStatus.READY, List.of("cat", "dog"), TagMatchMode.ANY);
+
+        assertThat(Cursor.filterFingerprint(1L, ImageStatus.READY, List.of(" dog", "cat", "cat"), TagMatchMode.ANY))
+                .isEqualTo(fingerprint);
+        assertThat(Cursor.filterFingerprint(1L, ImageStatus.READY, List.of("cat", "dog"), TagMatchMode.ALL))
+                .isNotEqualTo(fingerprint);
+        assertThat(Cursor.filterFingerprint(1L, null, List.of("cat", "dog"), TagMatchMode.ANY))
+                .isNotEqualTo(fingerprint);
+        assertThat(Cursor.filterFingerprint(2L, ImageStatus.READY, List.of("cat", "dog"), TagMatchMode.ANY))
+                .isNotEqualTo(fingerprint);
+    }
+}
@@ -22,6 +22,7 @@ class RetryStrategyTest {
         assertThat(strategy.getBaseDelay()).isEqualTo(Duration.ofSeconds(2));
         assertThat(strategy.getBackoffMultiplier()).isEqualTo(2.0);
         assertThat(strategy.getMaxDelay()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(strategy.getJitterRatio()).isEqualTo(0.2);
     }
 
     @Test
@@ -95,6 +96,25 @@ class RetryStrategyTest {
         assertThatThrownBy(() -> new RetryStrategy(3, Duration.ofSeconds(10), 2.0, Duration.ofSeconds(5)))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Max delay must be greater than or equal to base delay");
+
+        assertThatThrownBy(() -> new RetryStrategy(3, Duration.ofSeconds(1), 2.0, Duration.ofMinutes(1), 1.0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Jitter ratio must be between 0.0 (inclusive) and 1.0 (exclusive)");
+    }
+
+    @Test
+    @DisplayName("지터 적용 시 지연 시간이 백오프 값 이하, 지터 하한 이상으로 분산")
+    void calculateDelay_WithJitter() {
+        // Given
+        RetryStrategy strategy = new RetryStrategy(5, Duration.ofSeconds(1), 2.0, Duration.ofMinutes(1), 0.5);
+
+        // When & Then
+        for (int i = 0; i < 100; i++) {
+            Duration delay = strategy.calculateDelay(2);
+            assertThat(delay).isLessThanOrEqualTo(Duration.ofSeconds(4));
+            assertThat(delay).isGreaterThanOrEqualTo(Duration.ofSeconds(2));
+        }
+        assertThat(strategy.calculateDelay(10)).isLessThanOrEqualTo(Duration.ofMinutes(1));
     }
 
     @Test
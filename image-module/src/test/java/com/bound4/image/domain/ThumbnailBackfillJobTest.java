@@ -0,0 +1,74 @@
+package com.bound4.image.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("썸네일 백필 작업 테스트")
+class ThumbnailBackfillJobTest {
+
+    @Test
+    @DisplayName("처리량과 예상 남은 시간은 요청 수가 아니라 생성 완료 수 기준")
+    void throughputAndEstimatedRemaining() {
+        // Given: 100초 동안 800건 요청, 그중 500건 완료, 전체 1500건
+        LocalDateTime resumedAt = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+        ThumbnailBackfillJob job = new ThumbnailBackfillJob(1L, ProjectId.of(1L), ThumbnailBackfillStatus.RUNNING,
+                800L, 800L, 1500L, resumedAt, 0L, 0L, resumedAt, resumedAt, null, 0L);
+        job.updateCompletedCount(500L);
+        LocalDateTime now = resumedAt.plusSeconds(100);
+
+        // When & Then
+        assertThat(job.getThroughputPerSecond(now)).isEqualTo(5.0);
+        assertThat(job.getEstimatedRemaining(now)).isEqualTo(Duration.ofSeconds(200));
+        assertThat(job.getProgressPercent()).isEqualTo(500 * 100.0 / 1500);
+    }
+
+    @Test
+    @DisplayName("재개 후에는 재개 시점부터 처리량을 다시 측정")
+    void resumeResetsThroughputWindow() {
+        // Given
+        ThumbnailBackfillJob job = ThumbnailBackfillJob.start(ProjectId.of(1L), 1000L);
+        job.advance(100L, 100);
+        job.pause();
+
+        // When
+        job.resume(60L);
+
+        // Then
+        assertThat(job.getProcessedAtResume()).isEqualTo(100L);
+        assertThat(job.getCompletedAtResume()).isEqualTo(60L);
+        assertThat(job.getLastImageId()).isEqualTo(100L);
+        assertThat(job.getEstimatedRemaining(LocalDateTime.now())).isNull();
+    }
+
+    @Test
+    @DisplayName("일시 정지 상태에서는 예상 남은 시간을 제공하지 않음")
+    void pausedJobHasNoEstimate() {
+        // Given
+        ThumbnailBackfillJob job = ThumbnailBackfillJob.start(ProjectId.of(1L), 1000L);
+        job.pause();
+
+        // When & Then
+        assertThat(job.getEstimatedRemaining(LocalDateTime.now())).isNull();
+        assertThatThrownBy(job::pause).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("완료 시 진행률 100%")
+    void completedProgress() {
+        // Given
+        ThumbnailBackfillJob job = ThumbnailBackfillJob.start(ProjectId.of(1L), 0L);
+
+        // When
+        job.complete();
+
+        // Then
+        assertThat(job.getProgressPercent()).isEqualTo(100.0);
+        assertThat(job.getCompletedAt()).isNotNull();
+    }
+}